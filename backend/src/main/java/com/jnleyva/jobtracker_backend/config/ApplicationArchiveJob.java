@@ -0,0 +1,32 @@
+package com.jnleyva.jobtracker_backend.config;
+
+import com.jnleyva.jobtracker_backend.service.ApplicationArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Archives closed applications on the {@code archive.cron} schedule, nightly by default.
+ * Disabled with {@code archive.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(value = "archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationArchiveJob {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationArchiveJob.class);
+
+    @Autowired
+    private ApplicationArchiveService archiveService;
+
+    @Scheduled(cron = "${archive.cron:0 30 3 * * *}")
+    public void archiveClosedApplications() {
+        try {
+            archiveService.archiveClosedApplications();
+        } catch (Exception e) {
+            // The chunks archived so far are committed; the rest is retried on the next run
+            logger.error("Archiving closed applications failed: {}", e.getMessage(), e);
+        }
+    }
+}
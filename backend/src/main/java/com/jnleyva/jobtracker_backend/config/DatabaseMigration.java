@@ -1,13 +1,21 @@
 package com.jnleyva.jobtracker_backend.config;
 
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.service.ApplicationProgressService;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 @Component
 @ConditionalOnProperty(value = "app.migration.enabled", havingValue = "true", matchIfMissing = true)
 public class DatabaseMigration {
@@ -15,6 +23,9 @@ public class DatabaseMigration {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private ApplicationProgressService applicationProgressService;
+
     @PostConstruct
     @Transactional
     public void migrate() {
@@ -70,6 +81,24 @@ public class DatabaseMigration {
             
             // Update application column lengths to handle longer job data
             updateApplicationColumnLengths();
+
+            // Replace status labels with their one-character codes
+            migrateApplicationStatusCodes();
+
+            // Drop statistics projections written before response times were tracked
+            resetStaleStatisticsProjections();
+
+            // Drop the index superseded by the keyset pagination indexes
+            dropSupersededApplicationIndexes();
+
+            // Add the columns and indexes of full-text search
+            addFullTextSearchColumns();
+
+            // Give contacts written before delta sync a modification time
+            backfillContactUpdatedAt();
+
+            // Compute the progression columns of applications written before they existed
+            backfillApplicationProgress();
             
         } catch (DataAccessException e) {
             System.err.println("Data access error during database migration: " + e.getMessage());
@@ -118,11 +147,6 @@ public class DatabaseMigration {
                 System.out.println("Updated experience_level column length to 100");
             }
             
-            if (shouldUpdateColumnLength("applications", "status", 100)) {
-                jdbcTemplate.execute("ALTER TABLE applications ALTER COLUMN status TYPE VARCHAR(100)");
-                System.out.println("Updated status column length to 100");
-            }
-            
             System.out.println("Application column length updates completed!");
             
         } catch (Exception e) {
@@ -131,6 +155,130 @@ public class DatabaseMigration {
         }
     }
     
+    void migrateApplicationStatusCodes() {
+        try {
+            int applications = migrateStatusCodes("applications", "application_id");
+            int history = migrateStatusCodes("application_status_history", "history_id");
+            if (applications > 0 || history > 0) {
+                System.out.println("Migrated status labels to codes: " + applications + " applications, "
+                        + history + " status history entries");
+            }
+        } catch (Exception e) {
+            System.err.println("Error migrating application status codes: " + e.getMessage());
+            // Don't rethrow - legacy labels are still readable
+        }
+    }
+
+    /**
+     * Rewrites every status label of a table with its code, mapping synonyms and unknown labels
+     * like {@link ApplicationStatus#fromLegacyLabel}. Rows whose label was not one of the four
+     * statuses are logged with their ids, so they can be checked by hand.
+     */
+    private int migrateStatusCodes(String table, String idColumn) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT " + idColumn + " AS id, status FROM " + table + " WHERE LENGTH(status) > 1");
+        Map<String, List<Object>> remapped = new TreeMap<>();
+        for (Map<String, Object> row : rows) {
+            String label = (String) row.get("status");
+            ApplicationStatus status = ApplicationStatus.fromLegacyLabel(label);
+            jdbcTemplate.update("UPDATE " + table + " SET status = ? WHERE " + idColumn + " = ?",
+                    String.valueOf(status.getCode()), row.get("id"));
+            if (!status.name().equalsIgnoreCase(label.trim()) && !status.getLabel().equalsIgnoreCase(label.trim())) {
+                remapped.computeIfAbsent(label + " -> " + status.getLabel(), key -> new ArrayList<>()).add(row.get("id"));
+            }
+        }
+        remapped.forEach((mapping, ids) ->
+                System.out.println("Migrated status '" + mapping + "' in " + table + " for ids " + ids));
+        return rows.size();
+    }
+
+    private void resetStaleStatisticsProjections() {
+        try {
+            // Every rebuilt projection has a FIRST_RESPONSE_MINUTES row; projections without it
+            // are removed and rebuilt from the status history on their next read
+            int removed = jdbcTemplate.update(
+                    "DELETE FROM user_statistics WHERE user_id NOT IN " +
+                            "(SELECT user_id FROM user_statistics WHERE metric = 'FIRST_RESPONSE_MINUTES')");
+            if (removed > 0) {
+                System.out.println("Removed " + removed + " outdated statistics counters");
+            }
+        } catch (Exception e) {
+            System.err.println("Error resetting statistics projections: " + e.getMessage());
+            // Don't rethrow - the table is created by Hibernate on first start
+        }
+    }
+
+    private void dropSupersededApplicationIndexes() {
+        try {
+            // (user_id, application_date, application_id) serves every query that used it
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_applications_user_application_date");
+        } catch (Exception e) {
+            System.err.println("Error dropping superseded application index: " + e.getMessage());
+            // Don't rethrow - a redundant index only costs write time
+        }
+    }
+
+    private void addFullTextSearchColumns() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                // Other databases are searched with an in-memory index
+                return;
+            }
+            // Generated columns, so every write keeps them current without triggers
+            jdbcTemplate.execute("ALTER TABLE applications ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('english', coalesce(company, '')), 'A') || " +
+                    "setweight(to_tsvector('english', coalesce(job_title, '')), 'A') || " +
+                    "setweight(to_tsvector('english', coalesce(location, '')), 'B') || " +
+                    "setweight(to_tsvector('english', coalesce(description, '')), 'D')) STORED");
+            jdbcTemplate.execute("ALTER TABLE interviews ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('english', coalesce(type, '')), 'B') || " +
+                    "setweight(to_tsvector('english', coalesce(notes, '')), 'C') || " +
+                    "setweight(to_tsvector('english', coalesce(interview_feedback, '')), 'C')) STORED");
+            jdbcTemplate.execute("ALTER TABLE contacts ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('english', coalesce(name, '')), 'A')) STORED");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_applications_search ON applications USING GIN (search_vector)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_interviews_search ON interviews USING GIN (search_vector)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_contacts_search ON contacts USING GIN (search_vector)");
+        } catch (Exception e) {
+            System.err.println("Error adding full-text search columns: " + e.getMessage());
+            // Don't rethrow - search falls back to the in-memory index without the columns
+        }
+    }
+
+    private void backfillContactUpdatedAt() {
+        try {
+            if (!columnExists("contacts", "updated_at")) {
+                // Hibernate adds the column on first start
+                return;
+            }
+            int updated = jdbcTemplate.update("UPDATE contacts SET updated_at = CURRENT_TIMESTAMP WHERE updated_at IS NULL");
+            if (updated > 0) {
+                System.out.println("Set updated_at of " + updated + " contacts");
+            }
+        } catch (Exception e) {
+            System.err.println("Error backfilling contact timestamps: " + e.getMessage());
+            // Don't rethrow - contacts without updated_at are only missing from deltas until next written
+        }
+    }
+
+    private void backfillApplicationProgress() {
+        try {
+            if (!columnExists("applications", "reached_status_mask")) {
+                // Hibernate adds the columns on first start
+                return;
+            }
+            int updated = applicationProgressService.backfill();
+            if (updated > 0) {
+                System.out.println("Computed the progression columns of " + updated + " applications");
+            }
+        } catch (Exception e) {
+            System.err.println("Error backfilling application progression columns: " + e.getMessage());
+            // Don't rethrow - the backfill is retried on the next start
+        }
+    }
+
     private boolean shouldUpdateColumnLength(String tableName, String columnName, int targetLength) {
         try {
             // Check current column length in PostgreSQL
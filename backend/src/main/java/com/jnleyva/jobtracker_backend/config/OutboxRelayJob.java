@@ -0,0 +1,31 @@
+package com.jnleyva.jobtracker_backend.config;
+
+import com.jnleyva.jobtracker_backend.service.OutboxRelay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Relays the domain event outbox every {@code outbox.relay.interval-ms}, one second by default.
+ * Disabled with {@code outbox.relay.enabled=false}; reads still apply a user's own pending events.
+ */
+@Component
+@ConditionalOnProperty(value = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayJob {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelayJob.class);
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relayPendingEvents() {
+        try {
+            outboxRelay.relayPendingEvents();
+        } catch (Exception e) {
+            logger.error("Relaying the outbox failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.jnleyva.jobtracker_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs, such as {@link ApplicationArchiveJob}.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
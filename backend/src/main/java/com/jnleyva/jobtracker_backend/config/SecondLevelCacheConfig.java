@@ -0,0 +1,78 @@
+package com.jnleyva.jobtracker_backend.config;
+
+import com.github.benmanes.caffeine.jcache.CacheManagerImpl;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.typesafe.config.ConfigFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Hibernate's second-level cache, kept in this process so repeat reads of users, profiles,
+ * applications, interviews and contacts do not take a connection from the small pool.
+ *
+ * <p>Hibernate reaches the cache through JCache; Caffeine provides it. The regions, their sizes
+ * and times to live are configured in {@code caffeine-cache.conf}. Every configured region is
+ * bound to Micrometer with Caffeine's binding, which publishes the {@code cache.gets} (hit and
+ * miss), {@code cache.puts}, {@code cache.evictions} and {@code cache.size} meters tagged with
+ * the region name.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String CONFIG_RESOURCE = "caffeine-cache.conf";
+    private static final String CACHES_PATH = "caffeine.jcache";
+
+    /**
+     * Built directly rather than through {@code CachingProvider.getCacheManager}, which hands out
+     * one shared manager per configuration: Hibernate closes its manager when the application
+     * shuts down, and that must not close the caches of another application context.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager() {
+        return new CacheManagerImpl(Caching.getCachingProvider(CaffeineCachingProvider.class.getName()), false,
+                URI.create("classpath:" + CONFIG_RESOURCE), getClass().getClassLoader(), new Properties());
+    }
+
+    /**
+     * Hands the cache manager to Hibernate, so it uses the same caches that are measured.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    /**
+     * Binds every configured region. Caffeine creates a region when it is first asked for, and
+     * Hibernate builds query result regions on first use, so they are created here rather than
+     * looked up.
+     */
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> {
+            for (String region : configuredRegions()) {
+                Cache<Object, Object> cache = entityCacheManager.getCache(region);
+                CaffeineCacheMetrics.monitor(registry,
+                        cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class), region);
+            }
+        };
+    }
+
+    private Set<String> configuredRegions() {
+        Set<String> regions = new TreeSet<>(ConfigFactory.parseResources(getClass().getClassLoader(), CONFIG_RESOURCE)
+                .getObject(CACHES_PATH).keySet());
+        regions.remove("default");
+        return regions;
+    }
+}
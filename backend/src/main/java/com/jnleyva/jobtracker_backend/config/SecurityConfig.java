@@ -1,10 +1,13 @@
 package com.jnleyva.jobtracker_backend.config;
 
 import com.jnleyva.jobtracker_backend.filter.JwtFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -22,6 +25,9 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.Http403ForbiddenEntryPoint;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,7 +78,17 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
+            // Anonymous actuator requests are answered 401, so monitoring clients can tell a
+            // missing login from a missing role; the API keeps answering 403 as before
+            .exceptionHandling(exceptions -> exceptions
+                .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                        request -> request.getRequestURI().startsWith(request.getContextPath() + "/actuator"))
+                .defaultAuthenticationEntryPointFor(new Http403ForbiddenEntryPoint(), AnyRequestMatcher.INSTANCE)
+            )
             .authorizeHttpRequests(auth -> auth
+                // Streamed responses (statistics SSE) complete in an async dispatch that carries
+                // no JWT; the request itself was authorized when the stream was opened
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Public endpoints
                 .requestMatchers("/api/users/login", "/api/users/register", "/api/users/token").permitAll()
                 // Debug endpoints (allow for testing)
@@ -83,8 +99,13 @@ public class SecurityConfig {
                 .requestMatchers("/", "/index.html", "/url-tester.html", "/static/**", "/css/**", "/js/**", "/images/**", "/favicon.ico").permitAll()
                 // WebJars (if using any)
                 .requestMatchers("/webjars/**").permitAll()
-                // Actuator endpoints (if enabled)
-                .requestMatchers("/actuator/**").permitAll()
+                // Actuator: health and info are public for probes; metrics carry per-user
+                // cache, stream and Hibernate meters, so they and anything else are admin only
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                // Interview calendar feeds subscribed to by URL: calendar clients cannot send a
+                // JWT, so the per-user feed token in the path authorizes the request
+                .requestMatchers(HttpMethod.GET, "/api/interviews/calendar/*.ics").permitAll()
                 // Admin endpoints - require ADMIN role
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 // Protected endpoints
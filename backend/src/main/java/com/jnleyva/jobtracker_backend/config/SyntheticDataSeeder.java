@@ -0,0 +1,58 @@
+package com.jnleyva.jobtracker_backend.config;
+
+import com.jnleyva.jobtracker_backend.service.SyntheticDataGenerator;
+import com.jnleyva.jobtracker_backend.service.UserStatisticsProjection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Loads a synthetic dataset into the configured database on startup, for sizing the statistics
+ * against a realistic volume of data. Only active with the {@code seed} profile, e.g.
+ * {@code mvn spring-boot:run -Dspring-boot.run.profiles=seed -Dspring-boot.run.arguments=--seed.applications=100000}.
+ *
+ * <p>Users are named after the seed, so loading twice needs a different {@code seed.random-seed}.
+ */
+@Component
+@Profile("seed")
+public class SyntheticDataSeeder {
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataSeeder.class);
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${seed.applications:10000}")
+    private int applications;
+
+    @Value("${seed.applications-per-user:100}")
+    private int applicationsPerUser;
+
+    @Value("${seed.rebuild-statistics:true}")
+    private boolean rebuildStatistics;
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        logger.info("Seeding {} synthetic applications ({} per user, seed {})", applications, applicationsPerUser, randomSeed);
+        SyntheticDataGenerator.SyntheticDataset dataset =
+                generator.generate(randomSeed, applications, applicationsPerUser, LocalDate.now());
+        logger.info("Seeded {}", dataset);
+
+        if (rebuildStatistics) {
+            // Otherwise the projection of each user is built on the first dashboard request
+            statisticsProjection.rebuildAll();
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.jnleyva.jobtracker_backend.controller;
 
 import com.jnleyva.jobtracker_backend.service.TokenBlacklistService;
+import com.jnleyva.jobtracker_backend.service.UserStatisticsProjection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +23,9 @@ public class AdminController {
     @Autowired
     private TokenBlacklistService tokenBlacklistService;
 
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
     @GetMapping("/blacklist/size")
     public ResponseEntity<Map<String, Object>> getBlacklistSize() {
         logger.info("Getting blacklist size");
@@ -39,4 +45,21 @@ public class AdminController {
         response.put("size", tokenBlacklistService.getBlacklistSize());
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Recomputes the statistics projection from the source tables, for one user or for all users.
+     */
+    @PostMapping("/statistics/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildStatistics(@RequestParam(required = false) Long userId) {
+        Map<String, Object> response = new HashMap<>();
+        if (userId != null) {
+            logger.info("Rebuilding statistics projection for user {}", userId);
+            statisticsProjection.rebuild(userId);
+            response.put("usersRebuilt", 1);
+        } else {
+            logger.info("Rebuilding statistics projection for all users");
+            response.put("usersRebuilt", statisticsProjection.rebuildAll());
+        }
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,15 +1,32 @@
 package com.jnleyva.jobtracker_backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationPage;
+import com.jnleyva.jobtracker_backend.model.ApplicationSummary;
+import com.jnleyva.jobtracker_backend.model.ImportResult;
 import com.jnleyva.jobtracker_backend.model.User;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.service.ApplicationArchiveService;
+import com.jnleyva.jobtracker_backend.service.ApplicationExportService;
+import com.jnleyva.jobtracker_backend.service.ApplicationImportService;
+import com.jnleyva.jobtracker_backend.service.ApplicationListQuery;
+import com.jnleyva.jobtracker_backend.service.ApplicationService;
+import com.jnleyva.jobtracker_backend.service.DataVersionService;
+import com.jnleyva.jobtracker_backend.service.MergePatch;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,31 +40,95 @@ public class ApplicationController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private ApplicationImportService applicationImportService;
+
+    @Autowired
+    private ApplicationExportService applicationExportService;
+
+    @Autowired
+    private ApplicationArchiveService applicationArchiveService;
+
+    /**
+     * Lists the applications of the current user, or of every user for an admin. Responses carry
+     * an ETag built from the data version; a matching {@code If-None-Match} is answered with
+     * 304 Not Modified before any application is loaded. Applications are listed as
+     * {@link ApplicationSummary summaries}: the full description, interviews and status history
+     * are only returned by {@code GET /api/applications/{id}}.
+     *
+     * <p>With any of {@code limit}, {@code cursor}, {@code sort}, {@code status}, {@code company},
+     * {@code from} or {@code to}, one keyset page is returned instead of the whole list:
+     * {@code {items, nextCursor, limit}}. {@code sort} is {@code -applicationDate} (the default),
+     * {@code applicationDate}, {@code company} or {@code -company}; {@code company} matches
+     * anywhere in the name, ignoring case; {@code from} and {@code to} bound the application date
+     * (inclusive, yyyy-MM-dd). Pass {@code nextCursor} back as {@code cursor}, with the same sort
+     * and filters, for the following page.
+     */
     @GetMapping
-    public ResponseEntity<List<Application>> getAllApplications() {
+    public ResponseEntity<?> getAllApplications(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            WebRequest webRequest) {
+        boolean paged = limit != null || cursor != null || sort != null || status != null
+                || company != null || from != null || to != null;
+        ApplicationListQuery query = paged ? ApplicationListQuery.parse(limit, cursor, sort, status, company, from, to) : null;
+
         // Get the current authenticated user
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String username = authentication.getName();
+        boolean isAdmin = authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+
+        // Read before the applications, so a concurrent write can only make the ETag older than the body.
+        // The ETag of a page only has to differ between data versions: caches keep it per URL.
+        String tag = isAdmin ? dataVersionService.allUsersTag() : dataVersionService.userTag(username);
+        if (tag != null && webRequest.checkNotModified("\"applications-" + tag + "\"")) {
+            return null;
+        }
+
         Optional<User> currentUser = userRepository.findByUsername(username);
         
         if (currentUser.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
+
+        if (paged) {
+            ApplicationPage page = applicationService.listApplications(isAdmin ? null : currentUser.get().getId(), query);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(page);
+        }
         
-        List<Application> applications;
+        List<ApplicationSummary> applications;
         // If admin, show all applications, otherwise filter by user
-        if (authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
-            applications = applicationRepository.findAll();
+        if (isAdmin) {
+            applications = applicationRepository.findAllSummaries();
         } else {
-            applications = applicationRepository.findByUserId(currentUser.get().getId());
+            applications = applicationRepository.findSummariesByUserId(currentUser.get().getId());
         }
         
-        return new ResponseEntity<>(applications, HttpStatus.OK);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(applications);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Optional<Application>> getApplicationById(@PathVariable Long id) {
-        Optional<Application> application = applicationRepository.findById(id);
+        Optional<Application> application = applicationRepository.findDetailById(id);
+        if (application.isEmpty()) {
+            // Archived applications stay readable here, with their archivedAt set
+            application = applicationArchiveService.findArchivedApplication(id);
+        }
         if (application.isPresent()) {
             // Get the current authenticated user
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -82,17 +163,59 @@ public class ApplicationController {
         }
         
         // Validate and truncate fields to prevent database constraint violations
-        truncateApplicationFields(application);
-        
-        // Set the user for this application
-        application.setUser(currentUser.get());
+        application.truncateToColumnLengths();
         
-        Application savedApplication = applicationRepository.save(application);
+        // Writes go through the service so status history and statistics are maintained
+        Application savedApplication = applicationService.createApplication(application, currentUser.get().getId());
         
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(savedApplication);
     }
 
+    /**
+     * Imports applications for the current user from a CSV ({@code text/csv}, with a header row)
+     * or NDJSON ({@code application/x-ndjson}, one JSON object per line) body, read as a stream.
+     * Invalid rows are skipped; the response counts the imported and rejected rows and lists the
+     * first errors by line.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportResult> importApplications(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                           InputStream body) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Optional<User> currentUser = userRepository.findByUsername(authentication.getName());
+        if (currentUser.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+
+        ApplicationImportService.Format format = ApplicationImportService.Format.of(MediaType.parseMediaType(contentType));
+        ImportResult result = applicationImportService.importApplications(currentUser.get().getId(), body, format);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Exports all applications of the current user, with their interviews and status history, as
+     * {@code csv} (the default) or {@code ndjson}. The rows are streamed to the response while
+     * they are read, so the export is never held in memory.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(@RequestParam(defaultValue = "csv") String format) {
+        ApplicationExportService.Format exportFormat = ApplicationExportService.Format.of(format);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Optional<User> currentUser = userRepository.findByUsername(authentication.getName());
+        if (currentUser.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+
+        Long userId = currentUser.get().getId();
+        StreamingResponseBody body = output -> applicationExportService.exportApplications(userId, exportFormat, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"applications." + exportFormat.getExtension() + "\"")
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Application> updateApplication(@PathVariable Long id, @RequestBody Application application) {
         Optional<Application> existingApplication = applicationRepository.findById(id);
@@ -115,27 +238,42 @@ public class ApplicationController {
             }
             
             // Validate and truncate fields to prevent database constraint violations
-            truncateApplicationFields(application);
+            application.truncateToColumnLengths();
             
-            updatedApplication.setCompany(application.getCompany());
-            updatedApplication.setJobTitle(application.getJobTitle());
-            updatedApplication.setLocation(application.getLocation());
-            updatedApplication.setUrl(application.getUrl());
-            updatedApplication.setDescription(application.getDescription());
-            updatedApplication.setCompensation(application.getCompensation());
-            updatedApplication.setCompensationType(application.getCompensationType());
-            updatedApplication.setExperienceLevel(application.getExperienceLevel());
-            updatedApplication.setStatus(application.getStatus());
-            updatedApplication.setApplicationDate(application.getApplicationDate());
-            // Keep the original user
-            // updatedApplication.setUser(application.getUser());
-            Application savedApplication = applicationRepository.save(updatedApplication);
+            // The service keeps the original user and records status changes
+            Application savedApplication = applicationService.updateApplication(id, application);
             return new ResponseEntity<>(savedApplication, HttpStatus.OK);
         } else {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
 
+    /**
+     * Changes only the fields present in a JSON Merge Patch body, e.g. {@code {"status": "Offered"}};
+     * a {@code null} member clears the field.
+     */
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Application> patchApplication(@PathVariable Long id, @RequestBody JsonNode patch) {
+        Optional<Application> existingApplication = applicationRepository.findById(id);
+        if (existingApplication.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Optional<User> currentUser = userRepository.findByUsername(authentication.getName());
+        if (currentUser.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+
+        // Verify the application belongs to the current user or user is admin
+        if (!existingApplication.get().getUser().getId().equals(currentUser.get().getId()) &&
+            !authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        return ResponseEntity.ok(applicationService.patchApplication(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteApplication(@PathVariable Long id) {
         Optional<Application> application = applicationRepository.findById(id);
@@ -155,37 +293,10 @@ public class ApplicationController {
                 return new ResponseEntity<>(HttpStatus.FORBIDDEN);
             }
             
-            applicationRepository.deleteById(id);
+            applicationService.deleteApplication(id);
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         } else {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
-
-    /**
-     * Validates and truncates application fields to prevent database constraint violations
-     */
-    private void truncateApplicationFields(Application application) {
-        if (application.getCompany() != null && application.getCompany().length() > 500) {
-            application.setCompany(application.getCompany().substring(0, 500));
-        }
-        if (application.getJobTitle() != null && application.getJobTitle().length() > 500) {
-            application.setJobTitle(application.getJobTitle().substring(0, 500));
-        }
-        if (application.getLocation() != null && application.getLocation().length() > 1000) {
-            application.setLocation(application.getLocation().substring(0, 1000));
-        }
-        if (application.getUrl() != null && application.getUrl().length() > 2000) {
-            application.setUrl(application.getUrl().substring(0, 2000));
-        }
-        if (application.getCompensationType() != null && application.getCompensationType().length() > 100) {
-            application.setCompensationType(application.getCompensationType().substring(0, 100));
-        }
-        if (application.getExperienceLevel() != null && application.getExperienceLevel().length() > 100) {
-            application.setExperienceLevel(application.getExperienceLevel().substring(0, 100));
-        }
-        if (application.getStatus() != null && application.getStatus().length() > 100) {
-            application.setStatus(application.getStatus().substring(0, 100));
-        }
-    }
 }
\ No newline at end of file
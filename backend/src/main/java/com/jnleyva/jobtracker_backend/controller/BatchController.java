@@ -0,0 +1,51 @@
+package com.jnleyva.jobtracker_backend.controller;
+
+import com.jnleyva.jobtracker_backend.model.BatchRequest;
+import com.jnleyva.jobtracker_backend.model.BatchResponse;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.service.BatchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+    @Autowired
+    private BatchService batchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Runs an ordered list of create, update, patch and delete operations on applications, interviews
+     * and contacts in one transaction:
+     * {@code {"operations": [{"op": "patch", "resource": "application", "id": 7, "body": {"status": "Offered"}},
+     * {"op": "delete", "resource": "interview", "applicationId": 7, "id": 3}]}}.
+     * Answers 200 with the result of every operation when the batch is committed. Otherwise
+     * nothing is stored, and the status is that of the failed operation, which is the last
+     * result.
+     */
+    @PostMapping
+    public ResponseEntity<BatchResponse> executeBatch(@RequestBody BatchRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Optional<User> currentUser = userRepository.findByUsername(authentication.getName());
+        if (currentUser.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        boolean isAdmin = authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+
+        BatchResponse response = batchService.execute(currentUser.get(), isAdmin, request.getOperations());
+        return ResponseEntity.status(response.status()).body(response);
+    }
+}
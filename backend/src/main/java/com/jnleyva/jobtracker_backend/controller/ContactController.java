@@ -1,9 +1,12 @@
 package com.jnleyva.jobtracker_backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jnleyva.jobtracker_backend.model.Contact;
 import com.jnleyva.jobtracker_backend.service.ContactService;
+import com.jnleyva.jobtracker_backend.service.MergePatch;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -43,6 +46,15 @@ public class ContactController {
         return ResponseEntity.ok(updatedContact);
     }
 
+    @PatchMapping(value = "/{contactId}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Contact> patchContact(
+            @PathVariable Long applicationId,
+            @PathVariable Long contactId,
+            @RequestBody JsonNode patch) {
+        Contact patchedContact = contactService.patchContact(applicationId, contactId, patch);
+        return ResponseEntity.ok(patchedContact);
+    }
+
     @DeleteMapping("/{contactId}")
     public ResponseEntity<Void> deleteContact(@PathVariable Long applicationId, @PathVariable Long contactId) {
         contactService.deleteContact(applicationId, contactId);
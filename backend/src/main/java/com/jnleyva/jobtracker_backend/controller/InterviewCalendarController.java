@@ -0,0 +1,164 @@
+package com.jnleyva.jobtracker_backend.controller;
+
+import com.jnleyva.jobtracker_backend.model.CalendarInterview;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.service.DataVersionService;
+import com.jnleyva.jobtracker_backend.service.InterviewCalendarService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The interviews of all of the current user's applications, for the calendar views. Admins get
+ * their own interviews here too; a calendar is personal.
+ */
+@RestController
+@RequestMapping("/api/interviews")
+public class InterviewCalendarController {
+
+    @Autowired
+    private InterviewCalendarService interviewCalendarService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Returns the interviews dated between {@code from} and {@code to} (inclusive, yyyy-MM-dd),
+     * or all of them when neither is given, ordered by date, each with the id, company and job
+     * title of its application. Answers a matching {@code If-None-Match} with 304 Not Modified
+     * like {@code GET /api/statistics}.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<CalendarInterview>> getInterviews(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            WebRequest webRequest) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String tag = dataVersionService.userTag(authentication.getName());
+        if (tag != null && webRequest.checkNotModified("\"interviews-" + tag + "\"")) {
+            return null;
+        }
+
+        Optional<User> currentUser = userRepository.findByUsername(authentication.getName());
+        if (currentUser.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(interviewCalendarService.getInterviews(currentUser.get().getId(), from, to));
+    }
+
+    /**
+     * Streams the interviews of the recent past and the future as an iCalendar feed. Calendar
+     * clients polling the feed with {@code If-None-Match} get 304 Not Modified until an
+     * interview or application changes, or the day changes and the window moves on.
+     */
+    @GetMapping("/calendar.ics")
+    public ResponseEntity<StreamingResponseBody> getCalendarFeed(WebRequest webRequest) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String tag = dataVersionService.userTag(authentication.getName());
+        if (tag != null && webRequest.checkNotModified(feedETag(tag))) {
+            return null;
+        }
+
+        Optional<User> currentUser = userRepository.findByUsername(authentication.getName());
+        if (currentUser.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+
+        return feedResponse(currentUser.get().getId());
+    }
+
+    /**
+     * The same feed for calendar clients, which subscribe by URL and cannot send a JWT: the URL
+     * carries the user's feed token instead, and is public. An unknown or revoked token is
+     * answered 404.
+     */
+    @GetMapping("/calendar/{token}.ics")
+    public ResponseEntity<StreamingResponseBody> getCalendarFeedByToken(@PathVariable String token,
+                                                                        WebRequest webRequest) {
+        Optional<User> user = interviewCalendarService.findFeedTokenUser(token).flatMap(userRepository::findById);
+        if (user.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String tag = dataVersionService.userTag(user.get().getUsername());
+        if (tag != null && webRequest.checkNotModified(feedETag(tag))) {
+            return null;
+        }
+        return feedResponse(user.get().getId());
+    }
+
+    /**
+     * Issues the current user a new feed token, revoking the previous one, and returns it with
+     * the path of the feed it opens. The token is only ever shown here.
+     */
+    @PostMapping("/calendar/token")
+    public ResponseEntity<Map<String, String>> createCalendarFeedToken() {
+        Optional<User> currentUser = currentUser();
+        if (currentUser.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+
+        String token = interviewCalendarService.createFeedToken(currentUser.get().getId());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .cacheControl(CacheControl.noStore())
+                .body(Map.of("token", token, "path", "/api/interviews/calendar/" + token + ".ics"));
+    }
+
+    /**
+     * Revokes the current user's feed token, so the subscribed feed URL stops working.
+     */
+    @DeleteMapping("/calendar/token")
+    public ResponseEntity<Void> revokeCalendarFeedToken() {
+        Optional<User> currentUser = currentUser();
+        if (currentUser.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+
+        interviewCalendarService.revokeFeedToken(currentUser.get().getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    private Optional<User> currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return userRepository.findByUsername(authentication.getName());
+    }
+
+    private static String feedETag(String tag) {
+        return "\"interviews-ics-" + tag + "-" + LocalDate.now() + "\"";
+    }
+
+    private ResponseEntity<StreamingResponseBody> feedResponse(Long userId) {
+        StreamingResponseBody body = output -> interviewCalendarService.writeFeed(userId, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/calendar;charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"interviews.ics\"")
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(body);
+    }
+}
@@ -1,5 +1,6 @@
 package com.jnleyva.jobtracker_backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jnleyva.jobtracker_backend.model.Application;
 import com.jnleyva.jobtracker_backend.model.Interview;
 import com.jnleyva.jobtracker_backend.model.InterviewDTO;
@@ -7,6 +8,7 @@ import com.jnleyva.jobtracker_backend.model.User;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import com.jnleyva.jobtracker_backend.repository.UserRepository;
 import com.jnleyva.jobtracker_backend.service.InterviewService;
+import com.jnleyva.jobtracker_backend.service.MergePatch;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -123,6 +125,20 @@ public class InterviewController {
         return ResponseEntity.ok(updatedInterview);
     }
 
+    @PatchMapping(value = "/{interviewId}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> patchInterview(
+            @PathVariable Long applicationId,
+            @PathVariable Long interviewId,
+            @RequestBody JsonNode patch) {
+        ResponseEntity<String> authCheck = checkApplicationOwnership(applicationId);
+        if (authCheck != null) {
+            return authCheck;
+        }
+        
+        Interview patchedInterview = interviewService.patchInterview(applicationId, interviewId, patch);
+        return ResponseEntity.ok(patchedInterview);
+    }
+
     @PutMapping(value = "/{interviewId}/legacy", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<?> updateInterviewLegacy(
             @PathVariable Long applicationId,
@@ -0,0 +1,50 @@
+package com.jnleyva.jobtracker_backend.controller;
+
+import com.jnleyva.jobtracker_backend.model.SearchResult;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Searches the current user's applications (company, job title, location and description),
+     * interviews (type, notes and feedback) and contacts (name) for {@code q}, best matches first.
+     * Every word of {@code q} has to match; {@code limit} caps the results (default 20, at most
+     * 100). Admins search their own data too.
+     */
+    @GetMapping
+    public ResponseEntity<List<SearchResult>> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer limit) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Optional<User> currentUser = userRepository.findByUsername(authentication.getName());
+        if (currentUser.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+
+        List<SearchResult> results = searchService.search(currentUser.get().getId(), q,
+                limit == null ? SearchService.DEFAULT_LIMIT : limit);
+        return ResponseEntity.ok(results);
+    }
+}
@@ -1,14 +1,23 @@
 package com.jnleyva.jobtracker_backend.controller;
 
+import com.jnleyva.jobtracker_backend.service.DataVersionService;
+import com.jnleyva.jobtracker_backend.service.StageStatisticsService;
 import com.jnleyva.jobtracker_backend.service.StatisticsService;
+import com.jnleyva.jobtracker_backend.service.StatisticsStreamService;
+import com.jnleyva.jobtracker_backend.service.StatisticsWindow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.Map;
 
 @RestController
@@ -20,10 +29,34 @@ public class StatisticsController {
     @Autowired
     private StatisticsService statisticsService;
 
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private StatisticsStreamService statisticsStreamService;
+
+    @Autowired
+    private StageStatisticsService stageStatisticsService;
+
+    /**
+     * Returns dashboard statistics, optionally restricted to applications and interviews dated
+     * between {@code from} and {@code to} (inclusive, yyyy-MM-dd) and bucketed by
+     * {@code day}, {@code week} or {@code month} (the default) in {@code byPeriod}.
+     *
+     * <p>Responses carry an ETag built from the user's data version and today's date (the
+     * upcoming/past interview split is relative to today); a matching {@code If-None-Match}
+     * is answered with 304 Not Modified without computing the statistics.
+     */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getStatistics() {
-        logger.info("=== Statistics endpoint called ===");
+    public ResponseEntity<Map<String, Object>> getStatistics(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String bucket,
+            WebRequest webRequest) {
+        logger.info("=== Statistics endpoint called (from: {}, to: {}, bucket: {}) ===", from, to, bucket);
         try {
+            StatisticsWindow window = StatisticsWindow.parse(from, to, bucket);
+
             // Get the current authenticated user
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             String username = authentication.getName();
@@ -33,15 +66,69 @@ public class StatisticsController {
             boolean isAdmin = authentication.getAuthorities().stream()
                     .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
             logger.info("User is admin: {}", isAdmin);
+
+            // The version is read before the statistics, so a concurrent write can only make the
+            // ETag older than the body, never newer
+            String tag = isAdmin ? dataVersionService.allUsersTag() : dataVersionService.userTag(username);
+            if (tag != null && webRequest.checkNotModified("\"statistics-" + tag + "-" + LocalDate.now() + "\"")) {
+                logger.info("Statistics not modified for user: {}", username);
+                return null;
+            }
             
             logger.info("Calling statistics service...");
-            Map<String, Object> statistics = statisticsService.getStatistics(username, isAdmin);
+            Map<String, Object> statistics = statisticsService.getStatistics(username, isAdmin, window);
             logger.info("Statistics retrieved successfully: {}", statistics);
             
-            return ResponseEntity.ok(statistics);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(statistics);
         } catch (Exception e) {
             logger.error("Error in statistics controller: {}", e.getMessage(), e);
             throw e; // Re-throw to let GlobalExceptionHandler handle it
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Returns how long applications stayed in each status, for the applications dated between
+     * {@code from} and {@code to} (inclusive, yyyy-MM-dd) if given; an admin gets the figures of
+     * every user. Answers a matching {@code If-None-Match} with 304 Not Modified like
+     * {@code GET /api/statistics}.
+     */
+    @GetMapping("/stages")
+    public ResponseEntity<Map<String, Object>> getStageDurations(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            WebRequest webRequest) {
+        StatisticsWindow window = StatisticsWindow.parse(from, to, null);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+        boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+
+        String tag = isAdmin ? dataVersionService.allUsersTag() : dataVersionService.userTag(username);
+        if (tag != null && webRequest.checkNotModified("\"stages-" + tag + "\"")) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(stageStatisticsService.getStageDurations(username, isAdmin, window));
+    }
+
+    /**
+     * Streams dashboard statistics as server-sent events: the full statistics first, then a
+     * {@code delta} event with the changed entries after every write to the user's data, and a
+     * heartbeat comment in between. Answers 429 Too Many Requests once the user has the maximum
+     * number of streams open.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatistics() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+        boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+        logger.info("Statistics stream requested by user: {} (admin: {})", username, isAdmin);
+        return statisticsStreamService.subscribe(username, isAdmin);
+    }
+}
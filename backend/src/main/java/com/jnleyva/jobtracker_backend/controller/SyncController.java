@@ -0,0 +1,47 @@
+package com.jnleyva.jobtracker_backend.controller;
+
+import com.jnleyva.jobtracker_backend.model.SyncResponse;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.service.SyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Returns the current user's applications, interviews, contacts and status history rows
+     * written since {@code since}, the ones deleted since then, and the token for the next call.
+     * Without {@code since}, or with a token too old to answer with a delta, the response is a
+     * full snapshot with {@code reset: true}.
+     */
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(@RequestParam(required = false) String since) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Optional<User> currentUser = userRepository.findByUsername(authentication.getName());
+        if (currentUser.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+
+        SyncResponse response = syncService.changesSince(currentUser.get().getId(), since);
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(response);
+    }
+}
@@ -1,8 +1,16 @@
 package com.jnleyva.jobtracker_backend.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,9 +19,27 @@ import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "applications")
+@DynamicUpdate // An update only writes the columns that changed
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "applications")
+@BatchSize(size = Application.FETCH_BATCH_SIZE)
+@NamedEntityGraph(name = Application.LIST_GRAPH, attributeNodes = @NamedAttributeNode("interviews"))
+@Table(name = "applications", indexes = {
+    @Index(name = "idx_applications_user_date_id", columnList = "user_id, application_date, application_id"),
+    @Index(name = "idx_applications_user_status_date_id", columnList = "user_id, status, application_date, application_id"),
+    @Index(name = "idx_applications_user_company_id", columnList = "user_id, company, application_id"),
+    @Index(name = "idx_applications_application_date", columnList = "application_date"),
+    @Index(name = "idx_applications_user_updated_at", columnList = "user_id, updated_at")
+})
 public class Application {
 
+    // Fetch plans, selected per repository method with @EntityGraph. A graph joins at most one
+    // of the two collections - joining both would multiply their rows - and the other one is
+    // loaded for up to FETCH_BATCH_SIZE applications per query when it is first touched, so
+    // walking a list of applications costs a fixed handful of queries instead of one per row.
+    public static final String LIST_GRAPH = "Application.list";
+    public static final int FETCH_BATCH_SIZE = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "application_id")
@@ -43,8 +69,9 @@ public class Application {
     @Column(name = "experience_level", length = 100)
     private String experienceLevel;
 
-    @Column(name = "status", nullable = false, length = 100)
-    private String status;
+    @Column(name = "status", nullable = false, length = 1)
+    @Convert(converter = ApplicationStatusConverter.class)
+    private ApplicationStatus status;
 
     @Column(name = "offer_status", length = 50)
     private String offerStatus; // "ACCEPTED", "DECLINED", "PENDING", null for no offer
@@ -59,10 +86,14 @@ public class Application {
 
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "application-interviews")
+    @BatchSize(size = FETCH_BATCH_SIZE)
     private List<Interview> interviews = new ArrayList<>();
 
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "application-status-history")
+    @BatchSize(size = FETCH_BATCH_SIZE)
     private List<ApplicationStatusHistory> statusHistory = new ArrayList<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -71,12 +102,43 @@ public class Application {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    // Progression summary, kept current by the service layer so reading it never loads the
+    // status history, interviews or contacts; see ApplicationProgressService for bulk writes
+    @Column(name = "reached_status_mask", nullable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    private int reachedStatusMask; // Bit per status ever reached, see ApplicationStatus.getBit()
+
+    @Column(name = "highest_status_reached", length = 1)
+    @Convert(converter = ApplicationStatusConverter.class)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private ApplicationStatus highestStatusReached;
+
+    @Column(name = "interview_count", nullable = false)
+    @ColumnDefault("0")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int interviewCount;
+
+    @Column(name = "contact_count", nullable = false)
+    @ColumnDefault("0")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int contactCount;
+
+    @Column(name = "last_status_change_at")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime lastStatusChangeAt;
+
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime archivedAt; // Set only on applications read back from the archive
+
     // Constructors, getters, and setters...
 
     public Application() {
     }
 
-    public Application(String company, String jobTitle, String location, String url, String description, Double compensation, String status, LocalDate applicationDate) {
+    public Application(String company, String jobTitle, String location, String url, String description, Double compensation, ApplicationStatus status, LocalDate applicationDate) {
         this.company = company;
         this.jobTitle = jobTitle;
         this.location = location;
@@ -159,11 +221,11 @@ public class Application {
         this.experienceLevel = experienceLevel;
     }
 
-    public String getStatus() {
+    public ApplicationStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(ApplicationStatus status) {
         this.status = status;
     }
 
@@ -231,53 +293,62 @@ public class Application {
      * Gets the highest status reached based on the progression:
      * Applied -> Interviewing -> Offered (or Rejected can happen at any point)
      */
-    public String getHighestStatusReached() {
-        if (statusHistory.isEmpty()) {
-            return status; // Return current status if no history
-        }
-        
-        // Status hierarchy (higher number = higher in progression)
-        java.util.Map<String, Integer> statusHierarchy = java.util.Map.of(
-            "Applied", 1,
-            "Interviewing", 2,
-            "Offered", 3,
-            "Rejected", 0 // Rejected can happen at any point, so we track it separately
-        );
-        
-        int highestLevel = statusHierarchy.getOrDefault(status, 0);
-        boolean hasBeenRejected = "Rejected".equals(status);
-        
-        for (ApplicationStatusHistory history : statusHistory) {
-            int historyLevel = statusHierarchy.getOrDefault(history.getStatus(), 0);
-            if (historyLevel > highestLevel) {
-                highestLevel = historyLevel;
-            }
-            if ("Rejected".equals(history.getStatus())) {
-                hasBeenRejected = true;
-            }
-        }
-        
-        // Return the status corresponding to the highest level reached
-        for (java.util.Map.Entry<String, Integer> entry : statusHierarchy.entrySet()) {
-            if (entry.getValue() == highestLevel && !entry.getKey().equals("Rejected")) {
-                return entry.getKey();
-            }
-        }
-        
-        // If rejected is the current status and nothing higher was reached
-        return hasBeenRejected ? "Rejected" : status;
+    public ApplicationStatus getHighestStatusReached() {
+        return highestStatusReached != null ? highestStatusReached : status;
     }
 
     /**
      * Checks if this application has ever reached a specific status
      */
-    public boolean hasReachedStatus(String targetStatus) {
-        if (targetStatus.equals(status)) {
-            return true;
+    public boolean hasReachedStatus(ApplicationStatus targetStatus) {
+        return targetStatus == status || (targetStatus != null && (reachedStatusMask & targetStatus.getBit()) != 0);
+    }
+
+    /**
+     * Records that the application entered a status, as a status history entry is written for it.
+     */
+    public void statusReached(ApplicationStatus reached, LocalDateTime changedAt) {
+        reachedStatusMask |= reached.getBit();
+        highestStatusReached = ApplicationStatus.highestReached(reachedStatusMask);
+        if (lastStatusChangeAt == null || (changedAt != null && changedAt.isAfter(lastStatusChangeAt))) {
+            lastStatusChangeAt = changedAt;
         }
-        
-        return statusHistory.stream()
-                .anyMatch(history -> targetStatus.equals(history.getStatus()));
+    }
+
+    public int getReachedStatusMask() {
+        return reachedStatusMask;
+    }
+
+    public void setReachedStatusMask(int reachedStatusMask) {
+        this.reachedStatusMask = reachedStatusMask;
+    }
+
+    public void setHighestStatusReached(ApplicationStatus highestStatusReached) {
+        this.highestStatusReached = highestStatusReached;
+    }
+
+    public int getInterviewCount() {
+        return interviewCount;
+    }
+
+    public void setInterviewCount(int interviewCount) {
+        this.interviewCount = interviewCount;
+    }
+
+    public int getContactCount() {
+        return contactCount;
+    }
+
+    public void setContactCount(int contactCount) {
+        this.contactCount = contactCount;
+    }
+
+    public LocalDateTime getLastStatusChangeAt() {
+        return lastStatusChangeAt;
+    }
+
+    public void setLastStatusChangeAt(LocalDateTime lastStatusChangeAt) {
+        this.lastStatusChangeAt = lastStatusChangeAt;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -296,10 +367,40 @@ public class Application {
         this.updatedAt = updatedAt;
     }
 
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    /**
+     * Truncates the bounded text fields to their column lengths to prevent database constraint violations
+     */
+    public void truncateToColumnLengths() {
+        company = truncate(company, 500);
+        jobTitle = truncate(jobTitle, 500);
+        location = truncate(location, 1000);
+        url = truncate(url, 2000);
+        compensationType = truncate(compensationType, 100);
+        experienceLevel = truncate(experienceLevel, 100);
+        offerStatus = truncate(offerStatus, 50);
+    }
+
+    private static String truncate(String value, int length) {
+        return value != null && value.length() > length ? value.substring(0, length) : value;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        // The current status counts as reached even before its history entry is written
+        if (status != null) {
+            reachedStatusMask |= status.getBit();
+            highestStatusReached = ApplicationStatus.highestReached(reachedStatusMask);
+        }
     }
 
     @PreUpdate
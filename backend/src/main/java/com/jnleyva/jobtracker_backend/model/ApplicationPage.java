@@ -0,0 +1,32 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import java.util.List;
+
+/**
+ * One page of application summaries. {@code nextCursor} is passed back as the {@code cursor} parameter
+ * to get the following page, and is null on the last page.
+ */
+public class ApplicationPage {
+
+    private final List<ApplicationSummary> items;
+    private final String nextCursor;
+    private final int limit;
+
+    public ApplicationPage(List<ApplicationSummary> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    public List<ApplicationSummary> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,137 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Status of a job application. Serialized to JSON as its label ("Applied", ...) and stored as a
+ * single character code.
+ */
+public enum ApplicationStatus {
+    APPLIED('A', "Applied", 1),
+    INTERVIEWING('I', "Interviewing", 2),
+    OFFERED('O', "Offered", 3),
+    REJECTED('R', "Rejected", 0); // Rejected can happen at any point, so it is not part of the progression
+
+    private static final ApplicationStatus[] VALUES = values();
+    // Highest progression first, Rejected last
+    private static final ApplicationStatus[] BY_PROGRESSION = {OFFERED, INTERVIEWING, APPLIED, REJECTED};
+
+    private final char code;
+    private final String label;
+    private final int progressionLevel;
+
+    ApplicationStatus(char code, String label, int progressionLevel) {
+        this.code = code;
+        this.label = label;
+        this.progressionLevel = progressionLevel;
+    }
+
+    public char getCode() {
+        return code;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * The bit of this status in {@code Application.reachedStatusMask}. Stored, so the order of the
+     * constants must not change.
+     */
+    public int getBit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Position in the Applied -> Interviewing -> Offered progression; 0 for Rejected.
+     */
+    public int getProgressionLevel() {
+        return progressionLevel;
+    }
+
+    /**
+     * Returns the highest status of a mask of reached statuses: the furthest one in the
+     * progression, or Rejected if none of the progression was reached. Null for an empty mask.
+     */
+    public static ApplicationStatus highestReached(int mask) {
+        for (ApplicationStatus status : BY_PROGRESSION) {
+            if ((mask & status.getBit()) != 0) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Statuses in the order {@link #highestReached(int)} checks them.
+     */
+    public static List<ApplicationStatus> byProgression() {
+        return List.of(BY_PROGRESSION);
+    }
+
+    /**
+     * Resolves a status from its stored code.
+     */
+    public static ApplicationStatus fromCode(char code) {
+        for (ApplicationStatus status : VALUES) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown application status code: " + code);
+    }
+
+    /**
+     * Resolves a status from its label or constant name, ignoring case. Returns null for a
+     * missing or blank value.
+     */
+    @JsonCreator
+    public static ApplicationStatus fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        for (ApplicationStatus status : VALUES) {
+            if (status.label.equalsIgnoreCase(trimmed) || status.name().equalsIgnoreCase(trimmed)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown application status: " + value
+                + " (expected Applied, Interviewing, Offered or Rejected)");
+    }
+
+    /**
+     * Resolves a label stored before statuses were coded. Besides the current labels, earlier
+     * clients wrote synonyms such as "Interview", "INTERVIEW_SCHEDULED", "Offer" or
+     * "OFFER_RECEIVED": a label mentioning a rejection, an offer or an interview maps to that
+     * status (checked in this order), and any other label falls back to Applied. Never throws, so
+     * one odd row cannot make a user's applications unreadable. The V9 migration applies the same
+     * rules in SQL.
+     */
+    public static ApplicationStatus fromLegacyLabel(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String upper = value.trim().toUpperCase(Locale.ROOT);
+        if (upper.contains("REJECT")) {
+            return REJECTED;
+        }
+        if (upper.contains("OFFER")) {
+            return OFFERED;
+        }
+        if (upper.contains("INTERVIEW")) {
+            return INTERVIEWING;
+        }
+        return APPLIED;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,29 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores an {@link ApplicationStatus} as its one-character code. Rows written before statuses
+ * were coded still hold the label and are read with {@link ApplicationStatus#fromLegacyLabel},
+ * until {@code DatabaseMigration} rewrites them.
+ */
+@Converter
+public class ApplicationStatusConverter implements AttributeConverter<ApplicationStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ApplicationStatus status) {
+        return status == null ? null : String.valueOf(status.getCode());
+    }
+
+    @Override
+    public ApplicationStatus convertToEntityAttribute(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        if (value.length() == 1) {
+            return ApplicationStatus.fromCode(value.charAt(0));
+        }
+        return ApplicationStatus.fromLegacyLabel(value);
+    }
+}
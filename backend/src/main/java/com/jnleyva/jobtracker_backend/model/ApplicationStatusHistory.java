@@ -2,12 +2,19 @@ package com.jnleyva.jobtracker_backend.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "application_status_history")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "status-history")
+@Table(name = "application_status_history", indexes = {
+    @Index(name = "idx_application_status_history_changed_at", columnList = "changed_at"),
+    @Index(name = "idx_application_status_history_application_changed_at", columnList = "application_id, changed_at")
+})
 public class ApplicationStatusHistory {
 
     @Id
@@ -20,8 +27,9 @@ public class ApplicationStatusHistory {
     @JsonBackReference
     private Application application;
 
-    @Column(name = "status", nullable = false, length = 100)
-    private String status;
+    @Column(name = "status", nullable = false, length = 1)
+    @Convert(converter = ApplicationStatusConverter.class)
+    private ApplicationStatus status;
 
     @Column(name = "changed_at", nullable = false)
     private LocalDateTime changedAt;
@@ -32,7 +40,7 @@ public class ApplicationStatusHistory {
     public ApplicationStatusHistory() {
     }
 
-    public ApplicationStatusHistory(Application application, String status, String changedBy) {
+    public ApplicationStatusHistory(Application application, ApplicationStatus status, String changedBy) {
         this.application = application;
         this.status = status;
         this.changedBy = changedBy;
@@ -55,11 +63,11 @@ public class ApplicationStatusHistory {
         this.application = application;
     }
 
-    public String getStatus() {
+    public ApplicationStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(ApplicationStatus status) {
         this.status = status;
     }
 
@@ -84,5 +92,9 @@ public class ApplicationStatusHistory {
         if (changedAt == null) {
             changedAt = LocalDateTime.now();
         }
+        // Keep the progression columns of the application in step with its history
+        if (application != null && status != null) {
+            application.statusReached(status, changedAt);
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The columns of an application that list, Kanban and calendar views render.
+ *
+ * <p>Read directly by a constructor expression, so no entity is loaded and neither the
+ * interviews nor the status history can be fetched while it is serialized. Instead of the full
+ * description, which can hold a whole parsed job posting, it carries the first
+ * {@link #DESCRIPTION_PREVIEW_LENGTH} characters; the full text comes from
+ * {@code GET /api/applications/{id}}.
+ */
+public class ApplicationSummary {
+
+    public static final int DESCRIPTION_PREVIEW_LENGTH = 200;
+
+    /**
+     * Select list of the constructor expression, for queries over {@code Application a}.
+     */
+    public static final String SELECT = "SELECT new com.jnleyva.jobtracker_backend.model.ApplicationSummary(" +
+            "a.id, a.company, a.jobTitle, a.location, a.url, SUBSTRING(a.description, 1, " + DESCRIPTION_PREVIEW_LENGTH + "), " +
+            "a.compensation, a.compensationType, a.experienceLevel, a.status, a.offerStatus, a.applicationDate, " +
+            "a.createdAt, a.updatedAt) ";
+
+    private final Long id;
+    private final String company;
+    private final String jobTitle;
+    private final String location;
+    private final String url;
+    private final String descriptionPreview;
+    private final Double compensation;
+    private final String compensationType;
+    private final String experienceLevel;
+    private final ApplicationStatus status;
+    private final String offerStatus;
+    private final LocalDate applicationDate;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ApplicationSummary(Long id, String company, String jobTitle, String location, String url,
+                              String descriptionPreview, Double compensation, String compensationType,
+                              String experienceLevel, ApplicationStatus status, String offerStatus,
+                              LocalDate applicationDate, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.company = company;
+        this.jobTitle = jobTitle;
+        this.location = location;
+        this.url = url;
+        this.descriptionPreview = descriptionPreview;
+        this.compensation = compensation;
+        this.compensationType = compensationType;
+        this.experienceLevel = experienceLevel;
+        this.status = status;
+        this.offerStatus = offerStatus;
+        this.applicationDate = applicationDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Summarizes an application that is already loaded.
+     */
+    public static ApplicationSummary of(Application application) {
+        String description = application.getDescription();
+        if (description != null && description.length() > DESCRIPTION_PREVIEW_LENGTH) {
+            description = description.substring(0, DESCRIPTION_PREVIEW_LENGTH);
+        }
+        return new ApplicationSummary(application.getId(), application.getCompany(), application.getJobTitle(),
+                application.getLocation(), application.getUrl(), description, application.getCompensation(),
+                application.getCompensationType(), application.getExperienceLevel(), application.getStatus(),
+                application.getOfferStatus(), application.getApplicationDate(), application.getCreatedAt(),
+                application.getUpdatedAt());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getDescriptionPreview() {
+        return descriptionPreview;
+    }
+
+    public Double getCompensation() {
+        return compensation;
+    }
+
+    public String getCompensationType() {
+        return compensationType;
+    }
+
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public String getOfferStatus() {
+        return offerStatus;
+    }
+
+    public LocalDate getApplicationDate() {
+        return applicationDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,45 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import com.jnleyva.jobtracker_backend.model.UserStatistic.Metric;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One counter of what a user's archived applications contributed to the statistics projection.
+ * Archived applications no longer exist in the tables the projection is rebuilt from, so their
+ * counters are kept here when they are archived and added back on every rebuild.
+ */
+@Entity
+@Table(name = "archived_statistics",
+       uniqueConstraints = @UniqueConstraint(name = "uk_archived_statistics_user_metric_bucket",
+                                             columnNames = {"user_id", "metric", "bucket"}))
+@Data
+@NoArgsConstructor
+public class ArchivedStatistic {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "statistic_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 50)
+    private Metric metric;
+
+    @Column(name = "bucket", nullable = false, length = 100)
+    private String bucket;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+
+    public ArchivedStatistic(Long userId, Metric metric, String bucket, long value) {
+        this.userId = userId;
+        this.metric = metric;
+        this.bucket = bucket;
+        this.value = value;
+    }
+}
@@ -0,0 +1,97 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An ordered list of create, update, patch and delete operations on applications, interviews and
+ * contacts, executed together by {@code POST /api/batch}.
+ */
+public class BatchRequest {
+
+    private List<Operation> operations = new ArrayList<>();
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<Operation> operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * One operation. {@code id} names the application, interview or contact to update, patch or
+     * delete; interviews and contacts also need the {@code applicationId} they belong to.
+     * {@code body} is the JSON the single-resource endpoint takes for a create or update, or a
+     * JSON Merge Patch for a patch.
+     */
+    public static class Operation {
+        public static final String CREATE = "create";
+        public static final String UPDATE = "update";
+        public static final String PATCH = "patch";
+        public static final String DELETE = "delete";
+
+        public static final String APPLICATION = "application";
+        public static final String INTERVIEW = "interview";
+        public static final String CONTACT = "contact";
+
+        private String op;
+        private String resource;
+        private Long id;
+        private Long applicationId;
+        private JsonNode body;
+
+        public Operation() {
+        }
+
+        public Operation(String op, String resource, Long id, Long applicationId, JsonNode body) {
+            this.op = op;
+            this.resource = resource;
+            this.id = id;
+            this.applicationId = applicationId;
+            this.body = body;
+        }
+
+        public String getOp() {
+            return op;
+        }
+
+        public void setOp(String op) {
+            this.op = op;
+        }
+
+        public String getResource() {
+            return resource;
+        }
+
+        public void setResource(String resource) {
+            this.resource = resource;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Long getApplicationId() {
+            return applicationId;
+        }
+
+        public void setApplicationId(Long applicationId) {
+            this.applicationId = applicationId;
+        }
+
+        public JsonNode getBody() {
+            return body;
+        }
+
+        public void setBody(JsonNode body) {
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a batch: whether it was committed, and the result of each operation that ran, in
+ * order. When an operation fails the batch stops there and nothing is committed; the failed
+ * operation is the last result and carries the error.
+ */
+public class BatchResponse {
+
+    private boolean committed;
+    private final List<OperationResult> results = new ArrayList<>();
+
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    public void setCommitted(boolean committed) {
+        this.committed = committed;
+    }
+
+    public List<OperationResult> getResults() {
+        return results;
+    }
+
+    /**
+     * The HTTP status of the failed operation, or 200 for a committed batch.
+     */
+    public int status() {
+        return committed || results.isEmpty() ? 200 : results.get(results.size() - 1).getStatus();
+    }
+
+    /**
+     * What one operation did, with the status its single-resource endpoint would have answered.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class OperationResult {
+        private final int index;
+        private final int status;
+        private final Long id;
+        private Object body;
+        private final String error;
+
+        public OperationResult(int index, int status, Long id, Object body, String error) {
+            this.index = index;
+            this.status = status;
+            this.id = id;
+            this.body = body;
+            this.error = error;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public Object getBody() {
+            return body;
+        }
+
+        public void setBody(Object body) {
+            this.body = body;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The secret that lets calendar clients, which cannot send a JWT, subscribe to a user's
+ * interview feed by URL. A user has at most one; issuing a new one revokes the previous one.
+ *
+ * <p>Only the SHA-256 hash of the token is stored, so the feed URL cannot be read back from the
+ * database.
+ */
+@Entity
+@Table(name = "calendar_feed_tokens")
+@Data
+@NoArgsConstructor
+public class CalendarFeedToken {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public CalendarFeedToken(Long userId, String tokenHash) {
+        this.userId = userId;
+        this.tokenHash = tokenHash;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,98 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * An interview as the calendar views and the ICS feed show it, together with the application it
+ * belongs to.
+ *
+ * <p>Read directly by a constructor expression over the interview joined with its application,
+ * so the interviews of all of a user's applications come from one query and no entity is loaded.
+ */
+public class CalendarInterview {
+
+    /**
+     * Select list of the constructor expression, for queries over {@code Interview i JOIN i.application a}.
+     */
+    public static final String SELECT = "SELECT new com.jnleyva.jobtracker_backend.model.CalendarInterview(" +
+            "i.id, a.id, a.company, a.jobTitle, i.type, i.interviewDate, i.durationMinutes, i.status, " +
+            "i.location, i.meetingLink, i.interviewerName, i.updatedAt) ";
+
+    private final Long id;
+    private final Long applicationId;
+    private final String company;
+    private final String jobTitle;
+    private final String type;
+    private final LocalDateTime interviewDate;
+    private final Integer durationMinutes;
+    private final String status;
+    private final String location;
+    private final String meetingLink;
+    private final String interviewerName;
+    private final LocalDateTime updatedAt;
+
+    public CalendarInterview(Long id, Long applicationId, String company, String jobTitle, String type,
+                             LocalDateTime interviewDate, Integer durationMinutes, String status, String location,
+                             String meetingLink, String interviewerName, LocalDateTime updatedAt) {
+        this.id = id;
+        this.applicationId = applicationId;
+        this.company = company;
+        this.jobTitle = jobTitle;
+        this.type = type;
+        this.interviewDate = interviewDate;
+        this.durationMinutes = durationMinutes;
+        this.status = status;
+        this.location = location;
+        this.meetingLink = meetingLink;
+        this.interviewerName = interviewerName;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public LocalDateTime getInterviewDate() {
+        return interviewDate;
+    }
+
+    public Integer getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getMeetingLink() {
+        return meetingLink;
+    }
+
+    public String getInterviewerName() {
+        return interviewerName;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -1,12 +1,22 @@
 package com.jnleyva.jobtracker_backend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "contacts")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "contacts")
+@Table(name = "contacts", indexes = {
+    @Index(name = "idx_contacts_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,4 +40,23 @@ public class Contact {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "application_id", nullable = false)
     private Application application;
+
+    // Nullable so the column can be added to existing rows; DatabaseMigration backfills it
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public Contact(Long id, String name, String email, String phone, String position, Application application) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.phone = phone;
+        this.position = position;
+        this.application = application;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: how many rows were imported, how many were rejected, and why.
+ * Only the first {@link #MAX_REPORTED_ERRORS} rejected rows are listed.
+ */
+public class ImportResult {
+
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private int imported;
+    private int failed;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public void addImported(int rows) {
+        imported += rows;
+    }
+
+    public void addError(int line, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * A rejected row, by the line of the input it starts on.
+     */
+    public static class RowError {
+        private final int line;
+        private final String message;
+
+        public RowError(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
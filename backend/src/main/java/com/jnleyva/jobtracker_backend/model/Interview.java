@@ -2,6 +2,9 @@ package com.jnleyva.jobtracker_backend.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -11,7 +14,14 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "interviews")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "interviews")
+@Table(name = "interviews", indexes = {
+    @Index(name = "idx_interviews_interview_date", columnList = "interview_date"),
+    @Index(name = "idx_interviews_application_interview_date", columnList = "application_id, interview_date"),
+    @Index(name = "idx_interviews_updated_at", columnList = "updated_at")
+})
 @EqualsAndHashCode(exclude = "application")
 @ToString(exclude = "application")
 public class Interview {
@@ -0,0 +1,68 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A domain event written in the same transaction as the application, interview or contact change
+ * it describes, and removed once {@code OutboxRelay} has applied it to the downstream projections.
+ * The payload holds the statistics deltas of the change as JSON (empty for contacts), so applying
+ * it later needs no access to the state before the change. The user's data version after the
+ * change orders the events of a user by commit, see {@code UserStatisticsProjection}.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_user_id", columnList = "user_id, event_id")
+})
+@Data
+@NoArgsConstructor
+public class OutboxEvent {
+
+    public enum Type {
+        APPLICATION_CREATED,
+        APPLICATION_UPDATED,
+        APPLICATION_DELETED,
+        INTERVIEW_CREATED,
+        INTERVIEW_UPDATED,
+        INTERVIEW_DELETED,
+        CONTACT_CREATED,
+        CONTACT_UPDATED,
+        CONTACT_DELETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private Type type;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId; // The application, interview or contact id
+
+    @Column(name = "data_version", nullable = false)
+    private long dataVersion;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxEvent(Long userId, Type type, Long aggregateId, long dataVersion, String payload) {
+        this.userId = userId;
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.dataVersion = dataVersion;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,60 @@
+package com.jnleyva.jobtracker_backend.model;
+
+/**
+ * A search hit: an application, an interview or a contact, with the application it belongs to.
+ *
+ * <p>{@code title} is the job title of an application, the type of an interview or the name of
+ * a contact. Results are ordered by {@code rank}, highest first; ranks are only comparable
+ * within one response.
+ */
+public class SearchResult {
+
+    public static final String APPLICATION = "application";
+    public static final String INTERVIEW = "interview";
+    public static final String CONTACT = "contact";
+
+    private final String type;
+    private final Long id;
+    private final Long applicationId;
+    private final String title;
+    private final String company;
+    private final double rank;
+
+    public SearchResult(String type, Long id, Long applicationId, String title, String company, double rank) {
+        this.type = type;
+        this.id = id;
+        this.applicationId = applicationId;
+        this.title = title;
+        this.company = company;
+        this.rank = rank;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public double getRank() {
+        return rank;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchResult{type=" + type + ", id=" + id + ", applicationId=" + applicationId + ", rank=" + rank + "}";
+    }
+}
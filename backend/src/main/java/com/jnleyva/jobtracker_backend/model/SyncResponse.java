@@ -0,0 +1,92 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Answer of {@code GET /api/sync}: the rows of a user written since a sync token, the deletions
+ * since then, and the token to send next time.
+ *
+ * <p>When {@code reset} is true the response is a full snapshot and the client replaces its
+ * replica; otherwise it upserts the rows by id and then drops the deleted ones. A delta can repeat
+ * rows the client already has. Empty lists are left out, so a sync without changes is only the
+ * token.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class SyncResponse {
+
+    private final String token;
+    private final boolean reset;
+
+    // Children are listed on their own, so they are not repeated inside their application
+    @JsonIgnoreProperties({"interviews", "statusHistory"})
+    private final List<Application> applications = new ArrayList<>();
+    private final List<Child<Interview>> interviews = new ArrayList<>();
+    private final List<Child<Contact>> contacts = new ArrayList<>();
+    private final List<Child<ApplicationStatusHistory>> statusHistory = new ArrayList<>();
+    private final List<SyncTombstone> deleted = new ArrayList<>();
+
+    public SyncResponse(String token, boolean reset) {
+        this.token = token;
+        this.reset = reset;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    @JsonInclude(JsonInclude.Include.ALWAYS)
+    public boolean isReset() {
+        return reset;
+    }
+
+    public List<Application> getApplications() {
+        return applications;
+    }
+
+    public List<Child<Interview>> getInterviews() {
+        return interviews;
+    }
+
+    public List<Child<Contact>> getContacts() {
+        return contacts;
+    }
+
+    public List<Child<ApplicationStatusHistory>> getStatusHistory() {
+        return statusHistory;
+    }
+
+    public List<SyncTombstone> getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * A row that belongs to an application, serialized with the id of its application next to
+     * its own fields.
+     */
+    public static class Child<T> {
+
+        private final Long applicationId;
+
+        @JsonUnwrapped
+        @JsonIgnoreProperties({"application", "hibernateLazyInitializer"})
+        private final T row;
+
+        public Child(Long applicationId, T row) {
+            this.applicationId = applicationId;
+            this.row = row;
+        }
+
+        public Long getApplicationId() {
+            return applicationId;
+        }
+
+        public T getRow() {
+            return row;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records that an application, interview or contact was deleted, so that {@code GET /api/sync}
+ * can tell clients which rows of their replica to drop. Deleting an application also deletes its
+ * interviews, contacts and status history; only the application gets a tombstone.
+ *
+ * <p>Tombstones are kept for {@code sync.tombstone-retention-days}; a client whose token is older
+ * than that receives a full snapshot instead of a delta.
+ */
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+    @Index(name = "idx_sync_tombstones_user_deleted_at", columnList = "user_id, deleted_at")
+})
+@Data
+@NoArgsConstructor
+public class SyncTombstone {
+
+    public static final String APPLICATION = "application";
+    public static final String INTERVIEW = "interview";
+    public static final String CONTACT = "contact";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tombstone_id")
+    @JsonIgnore
+    private Long tombstoneId;
+
+    @Column(name = "user_id", nullable = false)
+    @JsonIgnore
+    private Long userId;
+
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private String type;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public SyncTombstone(Long userId, String type, Long id, Long applicationId) {
+        this.userId = userId;
+        this.type = type;
+        this.id = id;
+        this.applicationId = applicationId;
+        this.deletedAt = LocalDateTime.now();
+    }
+}
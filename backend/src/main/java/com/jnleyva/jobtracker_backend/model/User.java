@@ -2,6 +2,9 @@ package com.jnleyva.jobtracker_backend.model;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -9,9 +12,20 @@ import lombok.Data;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@BatchSize(size = Application.FETCH_BATCH_SIZE)
+@NamedEntityGraph(name = User.WITH_APPLICATIONS_GRAPH, attributeNodes = {
+    @NamedAttributeNode("applications"),
+    @NamedAttributeNode("profile")
+})
 @Table(name = "users")
 public class User {
 
+    // Fetch plan of the admin user list, which serializes every user with their applications;
+    // the interviews and status history of those applications are then loaded in batches
+    public static final String WITH_APPLICATIONS_GRAPH = "User.withApplications";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id")
@@ -40,6 +54,7 @@ public class User {
 
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
+    @BatchSize(size = Application.FETCH_BATCH_SIZE)
     private List<Application> applications = new ArrayList<>();
 
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
@@ -0,0 +1,32 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-user counter that is incremented by every write to the user's applications, interviews,
+ * contacts or status history. Used to build ETags, so an unchanged resource can be answered with
+ * 304 Not Modified after a single lookup.
+ *
+ * <p>Rows are kept when their user is deleted, so the sum over all rows never decreases and can
+ * serve as the version of the admin views.
+ */
+@Entity
+@Table(name = "user_data_versions")
+@Data
+@NoArgsConstructor
+public class UserDataVersion {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "data_version", nullable = false)
+    private long dataVersion;
+
+    public UserDataVersion(Long userId, long dataVersion) {
+        this.userId = userId;
+        this.dataVersion = dataVersion;
+    }
+}
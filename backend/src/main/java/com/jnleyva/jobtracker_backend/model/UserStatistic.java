@@ -0,0 +1,64 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One counter of the per-user statistics projection. Scalar metrics use an empty bucket,
+ * bucketed metrics (status, month, interview type, ...) store one row per bucket value.
+ * Duration metrics store one row per {@code DurationSketch} bucket; stage durations prefix the
+ * bucket with the status label ("Applied:42").
+ */
+@Entity
+@Table(name = "user_statistics",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_statistics_user_metric_bucket",
+                                             columnNames = {"user_id", "metric", "bucket"}))
+@Data
+@NoArgsConstructor
+public class UserStatistic {
+
+    public enum Metric {
+        TOTAL_APPLICATIONS,
+        CURRENT_STATUS,
+        REACHED_STATUS,
+        OFFER_STATUS,
+        APPLICATION_MONTH,
+        RESPONDED_APPLICATIONS,
+        FIRST_RESPONSE_MINUTES,
+        FIRST_RESPONSE_TIME,
+        STAGE_DURATION,
+        TOTAL_INTERVIEWS,
+        INTERVIEW_TYPE,
+        INTERVIEW_STATUS,
+        INTERVIEW_MONTH,
+        APPLICATIONS_WITH_INTERVIEWS,
+        // Not a statistic: the user's data version of the newest change the counters include
+        APPLIED_VERSION
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "statistic_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 50)
+    private Metric metric;
+
+    @Column(name = "bucket", nullable = false, length = 100)
+    private String bucket;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+
+    public UserStatistic(Long userId, Metric metric, String bucket, long value) {
+        this.userId = userId;
+        this.metric = metric;
+        this.bucket = bucket;
+        this.value = value;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jnleyva.jobtracker_backend.repository;
+
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.ApplicationSummary;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keyset pages of applications - a null userId lists every user (admin view), a null status or
+ * company does not filter, and a null afterId reads the first page. Each sort order walks an
+ * index on (user_id, sort column, application_id) from the cursor on; the redundant "<=" / ">="
+ * bound on the sort column is what lets the database start the scan at the cursor instead of
+ * filtering up to it. Pass PageRequest.of(0, n) to read n rows; no count query is issued.
+ * Pages hold summaries.
+ */
+public interface ApplicationPageRepository {
+
+    List<ApplicationSummary> findPageByApplicationDateDesc(Long userId, ApplicationStatus status, String company,
+                                                           LocalDate fromDate, LocalDate toDate, LocalDate afterDate,
+                                                           Long afterId, Pageable pageable);
+
+    List<ApplicationSummary> findPageByApplicationDateAsc(Long userId, ApplicationStatus status, String company,
+                                                          LocalDate fromDate, LocalDate toDate, LocalDate afterDate,
+                                                          Long afterId, Pageable pageable);
+
+    List<ApplicationSummary> findPageByCompanyAsc(Long userId, ApplicationStatus status, String company,
+                                                  LocalDate fromDate, LocalDate toDate, String afterCompany,
+                                                  Long afterId, Pageable pageable);
+
+    List<ApplicationSummary> findPageByCompanyDesc(Long userId, ApplicationStatus status, String company,
+                                                   LocalDate fromDate, LocalDate toDate, String afterCompany,
+                                                   Long afterId, Pageable pageable);
+}
@@ -0,0 +1,91 @@
+package com.jnleyva.jobtracker_backend.repository;
+
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.ApplicationSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds each page query with only the conditions the request uses. A condition made optional
+ * with ":x IS NULL OR" in a single statement hides from the database which index fits, so the
+ * first page and the pages after a cursor, and one user's and every user's applications, each
+ * get a statement of their own.
+ */
+class ApplicationPageRepositoryImpl implements ApplicationPageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ApplicationSummary> findPageByApplicationDateDesc(Long userId, ApplicationStatus status, String company,
+                                                                  LocalDate fromDate, LocalDate toDate, LocalDate afterDate,
+                                                                  Long afterId, Pageable pageable) {
+        return findPage(userId, status, company, fromDate, toDate, "applicationDate", true, afterDate, afterId, pageable);
+    }
+
+    @Override
+    public List<ApplicationSummary> findPageByApplicationDateAsc(Long userId, ApplicationStatus status, String company,
+                                                                 LocalDate fromDate, LocalDate toDate, LocalDate afterDate,
+                                                                 Long afterId, Pageable pageable) {
+        return findPage(userId, status, company, fromDate, toDate, "applicationDate", false, afterDate, afterId, pageable);
+    }
+
+    @Override
+    public List<ApplicationSummary> findPageByCompanyAsc(Long userId, ApplicationStatus status, String company,
+                                                         LocalDate fromDate, LocalDate toDate, String afterCompany,
+                                                         Long afterId, Pageable pageable) {
+        return findPage(userId, status, company, fromDate, toDate, "company", false, afterCompany, afterId, pageable);
+    }
+
+    @Override
+    public List<ApplicationSummary> findPageByCompanyDesc(Long userId, ApplicationStatus status, String company,
+                                                          LocalDate fromDate, LocalDate toDate, String afterCompany,
+                                                          Long afterId, Pageable pageable) {
+        return findPage(userId, status, company, fromDate, toDate, "company", true, afterCompany, afterId, pageable);
+    }
+
+    private List<ApplicationSummary> findPage(Long userId, ApplicationStatus status, String company,
+                                              LocalDate fromDate, LocalDate toDate, String sortColumn, boolean descending,
+                                              Object after, Long afterId, Pageable pageable) {
+        StringBuilder jpql = new StringBuilder(ApplicationSummary.SELECT)
+                .append("FROM Application a WHERE a.applicationDate >= :fromDate AND a.applicationDate <= :toDate");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("fromDate", fromDate);
+        parameters.put("toDate", toDate);
+        if (userId != null) {
+            jpql.append(" AND a.user.id = :userId");
+            parameters.put("userId", userId);
+        }
+        if (status != null) {
+            jpql.append(" AND a.status = :status");
+            parameters.put("status", status);
+        }
+        if (company != null) {
+            jpql.append(" AND LOWER(a.company) LIKE :company ESCAPE '\\'");
+            parameters.put("company", company);
+        }
+        String sortKey = "a." + sortColumn;
+        if (afterId != null) {
+            String before = descending ? "<" : ">";
+            jpql.append(" AND ").append(sortKey).append(' ').append(before).append("= :after AND (")
+                    .append(sortKey).append(' ').append(before).append(" :after OR a.id ").append(before).append(" :afterId)");
+            parameters.put("after", after);
+            parameters.put("afterId", afterId);
+        }
+        String direction = descending ? " DESC" : " ASC";
+        jpql.append(" ORDER BY ").append(sortKey).append(direction).append(", a.id").append(direction);
+
+        TypedQuery<ApplicationSummary> query = entityManager.createQuery(jpql.toString(), ApplicationSummary.class);
+        parameters.forEach(query::setParameter);
+        return query.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+}
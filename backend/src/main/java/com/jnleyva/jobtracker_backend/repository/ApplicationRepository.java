@@ -1,18 +1,188 @@
 package com.jnleyva.jobtracker_backend.repository;
 
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.ApplicationSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, ApplicationPageRepository {
+    // Full applications are serialized with their interviews and status history, see
+    // Application.LIST_GRAPH; list views should prefer the summaries below
+    @EntityGraph(Application.LIST_GRAPH)
     List<Application> findByUserId(Long userId);
+
+    @Override
+    @EntityGraph(Application.LIST_GRAPH)
+    List<Application> findAll();
+
+    // GET /api/applications/{id} - the application and its interviews in one query, the status history in a second.
+    // The detail view serializes the same children as a list, so it shares the list graph; the status history
+    // cannot join too, both are bags. Ownership checks only need the user id, so the user is not loaded
+    @EntityGraph(Application.LIST_GRAPH)
+    Optional<Application> findDetailById(Long id);
     
     Long countByUserId(Long userId);
     
-    List<Application> findByCreatedAtBefore(LocalDateTime date);
-    // You can add custom query methods here if needed
+    // [applicationId, userId] of closed applications - rejected or offer declined - last written
+    // before the cutoff, locked until the archive chunk that moves them commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id, a.user.id FROM Application a WHERE (a.status = :rejected OR a.offerStatus = 'DECLINED') "
+            + "AND a.updatedAt < :cutoff ORDER BY a.id")
+    List<Object[]> findArchiveCandidates(@Param("rejected") ApplicationStatus rejected,
+                                         @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // [applicationId, userId] of the given applications, to authorize a batch with one query
+    @Query("SELECT a.id, a.user.id FROM Application a WHERE a.id IN :ids")
+    List<Object[]> findOwnerIds(@Param("ids") Collection<Long> ids);
+
+    // Delta sync - rows written after a point in time, see SyncService
+    @Query("SELECT a FROM Application a WHERE a.user.id = :userId AND a.updatedAt > :since ORDER BY a.updatedAt")
+    List<Application> findChangedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    // Summaries for list views - see ApplicationSummary
+
+    @Query(ApplicationSummary.SELECT + "FROM Application a WHERE a.user.id = :userId")
+    List<ApplicationSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    @Query(ApplicationSummary.SELECT + "FROM Application a")
+    List<ApplicationSummary> findAllSummaries();
+
+    /**
+     * Returns a single row of [min id, max id]; both are null when there are no applications.
+     */
+    @Query("SELECT MIN(a.id), MAX(a.id) FROM Application a")
+    List<Object[]> findIdRange();
+
+    // Statistics aggregations - a null userId aggregates over every user (admin view),
+    // [fromId, toId) restricts them to a range of application ids so they can be partitioned
+    // and [fromDate, toDate) to the applications submitted in a time window. Each one has a
+    // statement for one user and one for every user, which the default method picks: an
+    // optional ":userId IS NULL OR" condition would keep the database from using the user_id
+    // indexes
+
+    String OF_USER = "a.user.id = :userId AND ";
+    String IN_RANGE = "a.id >= :fromId AND a.id < :toId AND a.applicationDate >= :fromDate AND a.applicationDate < :toDate ";
+    String IN_WINDOW = "a.applicationDate >= :fromDate AND a.applicationDate < :toDate ";
+
+    default long countForStatistics(Long userId, long fromId, long toId, LocalDate fromDate, LocalDate toDate) {
+        return userId == null
+                ? countForStatistics(fromId, toId, fromDate, toDate)
+                : countForStatisticsOfUser(userId, fromId, toId, fromDate, toDate);
+    }
+
+    @Query("SELECT COUNT(a) FROM Application a WHERE " + OF_USER + IN_RANGE)
+    long countForStatisticsOfUser(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId,
+                                  @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Query("SELECT COUNT(a) FROM Application a WHERE " + IN_RANGE)
+    long countForStatistics(@Param("fromId") long fromId, @Param("toId") long toId,
+                            @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    default List<Object[]> countByCurrentStatus(Long userId, long fromId, long toId, LocalDate fromDate, LocalDate toDate) {
+        return userId == null
+                ? countByCurrentStatus(fromId, toId, fromDate, toDate)
+                : countByCurrentStatusOfUser(userId, fromId, toId, fromDate, toDate);
+    }
+
+    @Query("SELECT a.status, COUNT(a) FROM Application a WHERE " + OF_USER + IN_RANGE + "GROUP BY a.status")
+    List<Object[]> countByCurrentStatusOfUser(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId,
+                                              @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Query("SELECT a.status, COUNT(a) FROM Application a WHERE " + IN_RANGE + "GROUP BY a.status")
+    List<Object[]> countByCurrentStatus(@Param("fromId") long fromId, @Param("toId") long toId,
+                                        @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    // [reachedStatusMask, status, count]; an application reached the statuses of its mask and its current one
+    default List<Object[]> countByReachedStatuses(Long userId, long fromId, long toId, LocalDate fromDate, LocalDate toDate) {
+        return userId == null
+                ? countByReachedStatuses(fromId, toId, fromDate, toDate)
+                : countByReachedStatusesOfUser(userId, fromId, toId, fromDate, toDate);
+    }
+
+    @Query("SELECT a.reachedStatusMask, a.status, COUNT(a) FROM Application a WHERE " + OF_USER + IN_RANGE +
+           "GROUP BY a.reachedStatusMask, a.status")
+    List<Object[]> countByReachedStatusesOfUser(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId,
+                                                @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Query("SELECT a.reachedStatusMask, a.status, COUNT(a) FROM Application a WHERE " + IN_RANGE +
+           "GROUP BY a.reachedStatusMask, a.status")
+    List<Object[]> countByReachedStatuses(@Param("fromId") long fromId, @Param("toId") long toId,
+                                          @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    default List<Object[]> countByOfferStatus(Long userId, long fromId, long toId, LocalDate fromDate, LocalDate toDate) {
+        return userId == null
+                ? countByOfferStatus(fromId, toId, fromDate, toDate)
+                : countByOfferStatusOfUser(userId, fromId, toId, fromDate, toDate);
+    }
+
+    @Query("SELECT a.offerStatus, COUNT(a) FROM Application a WHERE " + OF_USER + IN_RANGE +
+           "AND a.offerStatus IS NOT NULL AND a.offerStatus <> '' GROUP BY a.offerStatus")
+    List<Object[]> countByOfferStatusOfUser(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId,
+                                            @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Query("SELECT a.offerStatus, COUNT(a) FROM Application a WHERE " + IN_RANGE +
+           "AND a.offerStatus IS NOT NULL AND a.offerStatus <> '' GROUP BY a.offerStatus")
+    List<Object[]> countByOfferStatus(@Param("fromId") long fromId, @Param("toId") long toId,
+                                      @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    default List<Object[]> countByApplicationMonth(Long userId, long fromId, long toId, LocalDate fromDate, LocalDate toDate) {
+        return userId == null
+                ? countByApplicationMonth(fromId, toId, fromDate, toDate)
+                : countByApplicationMonthOfUser(userId, fromId, toId, fromDate, toDate);
+    }
+
+    @Query("SELECT YEAR(a.applicationDate), MONTH(a.applicationDate), COUNT(a) FROM Application a WHERE " + OF_USER + IN_RANGE +
+           "GROUP BY YEAR(a.applicationDate), MONTH(a.applicationDate)")
+    List<Object[]> countByApplicationMonthOfUser(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId,
+                                                 @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Query("SELECT YEAR(a.applicationDate), MONTH(a.applicationDate), COUNT(a) FROM Application a WHERE " + IN_RANGE +
+           "GROUP BY YEAR(a.applicationDate), MONTH(a.applicationDate)")
+    List<Object[]> countByApplicationMonth(@Param("fromId") long fromId, @Param("toId") long toId,
+                                           @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    default List<Object[]> countByApplicationDay(Long userId, LocalDate fromDate, LocalDate toDate) {
+        return userId == null
+                ? countByApplicationDay(fromDate, toDate)
+                : countByApplicationDayOfUser(userId, fromDate, toDate);
+    }
+
+    @Query("SELECT a.applicationDate, COUNT(a) FROM Application a WHERE " + OF_USER + IN_WINDOW + "GROUP BY a.applicationDate")
+    List<Object[]> countByApplicationDayOfUser(@Param("userId") Long userId,
+                                               @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Query("SELECT a.applicationDate, COUNT(a) FROM Application a WHERE " + IN_WINDOW + "GROUP BY a.applicationDate")
+    List<Object[]> countByApplicationDay(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * Counts applications per ISO week, keyed by the Monday the week starts on.
+     */
+    default List<Object[]> countByApplicationWeek(Long userId, LocalDate fromDate, LocalDate toDate) {
+        return userId == null
+                ? countByApplicationWeek(fromDate, toDate)
+                : countByApplicationWeekOfUser(userId, fromDate, toDate);
+    }
+
+    @Query("SELECT trunc(a.applicationDate, week), COUNT(a) FROM Application a WHERE " + OF_USER + IN_WINDOW +
+           "GROUP BY trunc(a.applicationDate, week)")
+    List<Object[]> countByApplicationWeekOfUser(@Param("userId") Long userId,
+                                                @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @Query("SELECT trunc(a.applicationDate, week), COUNT(a) FROM Application a WHERE " + IN_WINDOW +
+           "GROUP BY trunc(a.applicationDate, week)")
+    List<Object[]> countByApplicationWeek(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 }
@@ -1,28 +1,119 @@
 package com.jnleyva.jobtracker_backend.repository;
 
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
 import com.jnleyva.jobtracker_backend.model.ApplicationStatusHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ApplicationStatusHistoryRepository extends JpaRepository<ApplicationStatusHistory, Long> {
     
     List<ApplicationStatusHistory> findByApplicationIdOrderByChangedAtAsc(Long applicationId);
+
+    // Delta sync - history rows are never updated, so changed_at is when they were written
+    @Query("SELECT ash FROM ApplicationStatusHistory ash WHERE ash.application.user.id = :userId AND ash.changedAt > :since " +
+           "ORDER BY ash.changedAt")
+    List<ApplicationStatusHistory> findChangedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
     
-    List<ApplicationStatusHistory> findByApplicationIdAndStatus(Long applicationId, String status);
+    List<ApplicationStatusHistory> findByApplicationIdAndStatus(Long applicationId, ApplicationStatus status);
     
     @Query("SELECT ash FROM ApplicationStatusHistory ash WHERE ash.application.user.username = :username ORDER BY ash.changedAt DESC")
     List<ApplicationStatusHistory> findByUsernameOrderByChangedAtDesc(@Param("username") String username);
     
     @Query("SELECT ash FROM ApplicationStatusHistory ash WHERE ash.application.user.username = :username AND ash.status = :status")
-    List<ApplicationStatusHistory> findByUsernameAndStatus(@Param("username") String username, @Param("status") String status);
+    List<ApplicationStatusHistory> findByUsernameAndStatus(@Param("username") String username, @Param("status") ApplicationStatus status);
+    
+    @Query("SELECT ash.status, ash.changedAt FROM ApplicationStatusHistory ash WHERE ash.application.id = :applicationId " +
+           "ORDER BY ash.changedAt, ash.id")
+    List<Object[]> findStatusChangesByApplicationId(@Param("applicationId") Long applicationId);
     
+    /**
+     * Streams (application id, application date, status, changed at) of every status change,
+     * ordered by application and time, so durations can be derived one application at a time.
+     * A null userId streams the changes of every user.
+     */
+    default Stream<Object[]> streamStatusChanges(Long userId, long fromId, long toId, LocalDate fromDate, LocalDate toDate) {
+        return userId == null
+                ? streamStatusChanges(fromId, toId, fromDate, toDate)
+                : streamStatusChangesOfUser(userId, fromId, toId, fromDate, toDate);
+    }
+
+    String STATUS_CHANGES = "SELECT ash.application.id, ash.application.applicationDate, ash.status, ash.changedAt " +
+            "FROM ApplicationStatusHistory ash WHERE ";
+    String STATUS_CHANGES_IN_RANGE = "ash.application.id >= :fromId AND ash.application.id < :toId " +
+            "AND ash.application.applicationDate >= :fromDate AND ash.application.applicationDate < :toDate " +
+            "ORDER BY ash.application.id, ash.changedAt, ash.id";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(STATUS_CHANGES + "ash.application.user.id = :userId AND " + STATUS_CHANGES_IN_RANGE)
+    Stream<Object[]> streamStatusChangesOfUser(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId,
+                                               @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(STATUS_CHANGES + STATUS_CHANGES_IN_RANGE)
+    Stream<Object[]> streamStatusChanges(@Param("fromId") long fromId, @Param("toId") long toId,
+                                         @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    // Per-stage dwell times over the active and the archived applications: how long applications
+    // stayed in each status before the next status change, derived in the database with LEAD()
+    // over each application's history, which walks the (application_id, changed_at) indexes.
+    // The history of both tiers is selected by HISTORY_OF_ACTIVE and HISTORY_OF_ARCHIVED with
+    // the same extra condition, and STAGE_DURATIONS aggregates it
+    String HISTORY_OF_ACTIVE = "SELECT h.application_id, h.status, h.changed_at, h.history_id FROM application_status_history h " +
+            "JOIN applications a ON a.application_id = h.application_id " +
+            "WHERE a.application_date >= :fromDate AND a.application_date < :toDate";
+    String HISTORY_OF_ARCHIVED = "SELECT h.application_id, h.status, h.changed_at, h.history_id FROM archived_status_history h " +
+            "JOIN archived_applications a ON a.application_id = h.application_id " +
+            "WHERE a.application_date >= :fromDate AND a.application_date < :toDate";
+    String STAGE_DURATIONS = "), stays AS (" +
+            "SELECT status, changed_at AS entered_at, " +
+            "LEAD(changed_at) OVER (PARTITION BY application_id ORDER BY changed_at, history_id) AS left_at FROM history), " +
+            "dwell AS (SELECT status, EXTRACT(EPOCH FROM (left_at - entered_at)) AS seconds FROM stays) " +
+            "SELECT status, COUNT(seconds), COUNT(*) - COUNT(seconds), AVG(seconds), MIN(seconds), MAX(seconds), " +
+            "PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY seconds), PERCENTILE_CONT(0.9) WITHIN GROUP (ORDER BY seconds), " +
+            "SUM(CASE WHEN seconds < 86400 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN seconds >= 86400 AND seconds < 259200 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN seconds >= 259200 AND seconds < 604800 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN seconds >= 604800 AND seconds < 1209600 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN seconds >= 1209600 AND seconds < 2592000 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN seconds >= 2592000 THEN 1 ELSE 0 END) " +
+            "FROM dwell GROUP BY status";
+
+    /**
+     * Returns the dwell times of a user's applications submitted in [fromDate, toDate), one row
+     * per status code: [status, left, still in it, average, minimum, maximum, median, 90th
+     * percentile, and the number of stays in each of STAGE_DURATION_BUCKETS]; durations are in
+     * seconds.
+     */
+    @Query(nativeQuery = true, value = "WITH history AS (" +
+           HISTORY_OF_ACTIVE + " AND a.user_id = :userId UNION ALL " +
+           HISTORY_OF_ARCHIVED + " AND a.user_id = :userId" + STAGE_DURATIONS)
+    List<Object[]> findStageDurationsOfUser(@Param("userId") Long userId,
+                                            @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * Returns the dwell times like {@link #findStageDurationsOfUser}, over every user.
+     */
+    @Query(nativeQuery = true, value = "WITH history AS (" +
+           HISTORY_OF_ACTIVE + " UNION ALL " + HISTORY_OF_ARCHIVED + STAGE_DURATIONS)
+    List<Object[]> findStageDurations(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    // Labels of the distribution columns of findStageDurations: under 1 day, 1-3 days, 3-7 days,
+    // 1-2 weeks, 2 weeks to 30 days, 30 days or more
+    List<String> STAGE_DURATION_BUCKETS = List.of("<1d", "1-3d", "3-7d", "1-2w", "2w-30d", "30d+");
+
     @Modifying
     @Transactional
     void deleteByApplicationId(Long applicationId);
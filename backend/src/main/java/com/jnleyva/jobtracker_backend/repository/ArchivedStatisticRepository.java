@@ -0,0 +1,42 @@
+package com.jnleyva.jobtracker_backend.repository;
+
+import com.jnleyva.jobtracker_backend.model.ArchivedStatistic;
+import com.jnleyva.jobtracker_backend.model.UserStatistic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedStatisticRepository extends JpaRepository<ArchivedStatistic, Long> {
+
+    /**
+     * Returns [metric, bucket, value] rows of a user.
+     */
+    @Query("SELECT s.metric, s.bucket, s.value FROM ArchivedStatistic s WHERE s.userId = :userId")
+    List<Object[]> findCountersByUserId(@Param("userId") Long userId);
+
+    /**
+     * Returns [metric, bucket, value] rows summed over every user (admin view).
+     */
+    @Query("SELECT s.metric, s.bucket, SUM(s.value) FROM ArchivedStatistic s GROUP BY s.metric, s.bucket")
+    List<Object[]> sumCounters();
+
+    /**
+     * Adds {@code delta} to an existing counter; returns 0 when the counter row does not exist yet.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ArchivedStatistic s SET s.value = s.value + :delta " +
+           "WHERE s.userId = :userId AND s.metric = :metric AND s.bucket = :bucket")
+    int increment(@Param("userId") Long userId,
+                  @Param("metric") UserStatistic.Metric metric,
+                  @Param("bucket") String bucket,
+                  @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ArchivedStatistic s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
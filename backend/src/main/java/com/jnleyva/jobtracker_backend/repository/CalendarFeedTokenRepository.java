@@ -0,0 +1,21 @@
+package com.jnleyva.jobtracker_backend.repository;
+
+import com.jnleyva.jobtracker_backend.model.CalendarFeedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CalendarFeedTokenRepository extends JpaRepository<CalendarFeedToken, Long> {
+
+    @Query("SELECT t.userId FROM CalendarFeedToken t WHERE t.tokenHash = :tokenHash")
+    Optional<Long> findUserIdByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CalendarFeedToken t WHERE t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
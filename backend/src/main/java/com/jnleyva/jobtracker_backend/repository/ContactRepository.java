@@ -2,12 +2,20 @@ package com.jnleyva.jobtracker_backend.repository;
 
 import com.jnleyva.jobtracker_backend.model.Contact;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ContactRepository extends JpaRepository<Contact, Long> {
     List<Contact> findByApplicationId(Long applicationId);
     boolean existsByApplicationIdAndId(Long applicationId, Long contactId);
+    long countByApplicationId(Long applicationId);
+
+    // Delta sync - rows written after a point in time, see SyncService
+    @Query("SELECT c FROM Contact c WHERE c.application.user.id = :userId AND c.updatedAt > :since ORDER BY c.updatedAt")
+    List<Contact> findChangedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
 } 
\ No newline at end of file
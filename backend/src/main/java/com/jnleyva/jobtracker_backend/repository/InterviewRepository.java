@@ -1,12 +1,183 @@
 package com.jnleyva.jobtracker_backend.repository;
 
+import com.jnleyva.jobtracker_backend.model.CalendarInterview;
 import com.jnleyva.jobtracker_backend.model.Interview;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface InterviewRepository extends JpaRepository<Interview, Long> {
     List<Interview> findByApplicationId(Long applicationId);
-} 
\ No newline at end of file
+
+    long countByApplicationId(Long applicationId);
+
+    // Delta sync - rows written after a point in time, see SyncService
+    @Query("SELECT i FROM Interview i WHERE i.application.user.id = :userId AND i.updatedAt > :since ORDER BY i.updatedAt")
+    List<Interview> findChangedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    // Calendar views - the interviews of all of a user's applications in one query, see CalendarInterview
+
+    @Query(CalendarInterview.SELECT + "FROM Interview i JOIN i.application a WHERE a.user.id = :userId " +
+           "AND i.interviewDate >= :fromTime AND i.interviewDate < :toTime ORDER BY i.interviewDate, i.id")
+    List<CalendarInterview> findCalendar(@Param("userId") Long userId,
+                                         @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    @Query(CalendarInterview.SELECT + "FROM Interview i JOIN i.application a WHERE a.user.id = :userId " +
+           "ORDER BY i.interviewDate, i.id")
+    List<CalendarInterview> findCalendarByUserId(@Param("userId") Long userId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(CalendarInterview.SELECT + "FROM Interview i JOIN i.application a WHERE a.user.id = :userId " +
+           "AND i.interviewDate >= :fromTime ORDER BY i.interviewDate, i.id")
+    Stream<CalendarInterview> streamCalendar(@Param("userId") Long userId, @Param("fromTime") LocalDateTime fromTime);
+
+    // Statistics aggregations - a null userId aggregates over every user (admin view),
+    // [fromId, toId) restricts them to a range of application ids so they can be partitioned
+    // and [fromTime, toTime) to the interviews taking place in a time window. Like those of
+    // ApplicationRepository, each one has a statement for one user and one for every user
+
+    String OF_USER = "i.application.user.id = :userId AND ";
+    String IN_RANGE = "i.application.id >= :fromId AND i.application.id < :toId " +
+            "AND i.interviewDate >= :fromTime AND i.interviewDate < :toTime ";
+    String IN_WINDOW = "i.interviewDate >= :fromTime AND i.interviewDate < :toTime ";
+
+    default long countForStatistics(Long userId, long fromId, long toId, LocalDateTime fromTime, LocalDateTime toTime) {
+        return userId == null
+                ? countForStatistics(fromId, toId, fromTime, toTime)
+                : countForStatisticsOfUser(userId, fromId, toId, fromTime, toTime);
+    }
+
+    @Query("SELECT COUNT(i) FROM Interview i WHERE " + OF_USER + IN_RANGE)
+    long countForStatisticsOfUser(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId,
+                                  @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    @Query("SELECT COUNT(i) FROM Interview i WHERE " + IN_RANGE)
+    long countForStatistics(@Param("fromId") long fromId, @Param("toId") long toId,
+                            @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    default List<Object[]> countByType(Long userId, long fromId, long toId, LocalDateTime fromTime, LocalDateTime toTime) {
+        return userId == null
+                ? countByType(fromId, toId, fromTime, toTime)
+                : countByTypeOfUser(userId, fromId, toId, fromTime, toTime);
+    }
+
+    @Query("SELECT i.type, COUNT(i) FROM Interview i WHERE " + OF_USER + IN_RANGE + "GROUP BY i.type")
+    List<Object[]> countByTypeOfUser(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId,
+                                     @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    @Query("SELECT i.type, COUNT(i) FROM Interview i WHERE " + IN_RANGE + "GROUP BY i.type")
+    List<Object[]> countByType(@Param("fromId") long fromId, @Param("toId") long toId,
+                               @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    default List<Object[]> countByStatus(Long userId, long fromId, long toId, LocalDateTime fromTime, LocalDateTime toTime) {
+        return userId == null
+                ? countByStatus(fromId, toId, fromTime, toTime)
+                : countByStatusOfUser(userId, fromId, toId, fromTime, toTime);
+    }
+
+    @Query("SELECT i.status, COUNT(i) FROM Interview i WHERE " + OF_USER + IN_RANGE + "GROUP BY i.status")
+    List<Object[]> countByStatusOfUser(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId,
+                                       @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    @Query("SELECT i.status, COUNT(i) FROM Interview i WHERE " + IN_RANGE + "GROUP BY i.status")
+    List<Object[]> countByStatus(@Param("fromId") long fromId, @Param("toId") long toId,
+                                 @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    String TIMING = "SELECT SUM(CASE WHEN i.interviewDate >= :startOfTomorrow THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN i.interviewDate < :startOfToday THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN i.interviewDate >= :startOfToday AND i.interviewDate < :startOfTomorrow THEN 1 ELSE 0 END) " +
+            "FROM Interview i WHERE ";
+
+    /**
+     * Returns a single row of [upcoming, past, today] counts relative to the given day boundaries.
+     */
+    default List<Object[]> countByTiming(Long userId, LocalDateTime startOfToday, LocalDateTime startOfTomorrow,
+                                         LocalDateTime fromTime, LocalDateTime toTime) {
+        return userId == null
+                ? countByTiming(startOfToday, startOfTomorrow, fromTime, toTime)
+                : countByTimingOfUser(userId, startOfToday, startOfTomorrow, fromTime, toTime);
+    }
+
+    @Query(TIMING + OF_USER + IN_WINDOW)
+    List<Object[]> countByTimingOfUser(@Param("userId") Long userId,
+                                       @Param("startOfToday") LocalDateTime startOfToday,
+                                       @Param("startOfTomorrow") LocalDateTime startOfTomorrow,
+                                       @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    @Query(TIMING + IN_WINDOW)
+    List<Object[]> countByTiming(@Param("startOfToday") LocalDateTime startOfToday,
+                                 @Param("startOfTomorrow") LocalDateTime startOfTomorrow,
+                                 @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    default List<Object[]> countByInterviewMonth(Long userId, long fromId, long toId, LocalDateTime fromTime, LocalDateTime toTime) {
+        return userId == null
+                ? countByInterviewMonth(fromId, toId, fromTime, toTime)
+                : countByInterviewMonthOfUser(userId, fromId, toId, fromTime, toTime);
+    }
+
+    @Query("SELECT YEAR(i.interviewDate), MONTH(i.interviewDate), COUNT(i) FROM Interview i WHERE " + OF_USER + IN_RANGE +
+           "GROUP BY YEAR(i.interviewDate), MONTH(i.interviewDate)")
+    List<Object[]> countByInterviewMonthOfUser(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId,
+                                               @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    @Query("SELECT YEAR(i.interviewDate), MONTH(i.interviewDate), COUNT(i) FROM Interview i WHERE " + IN_RANGE +
+           "GROUP BY YEAR(i.interviewDate), MONTH(i.interviewDate)")
+    List<Object[]> countByInterviewMonth(@Param("fromId") long fromId, @Param("toId") long toId,
+                                         @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    default long countApplicationsWithInterviews(Long userId, long fromId, long toId, LocalDateTime fromTime, LocalDateTime toTime) {
+        return userId == null
+                ? countApplicationsWithInterviews(fromId, toId, fromTime, toTime)
+                : countApplicationsWithInterviewsOfUser(userId, fromId, toId, fromTime, toTime);
+    }
+
+    @Query("SELECT COUNT(DISTINCT i.application.id) FROM Interview i WHERE " + OF_USER + IN_RANGE)
+    long countApplicationsWithInterviewsOfUser(@Param("userId") Long userId, @Param("fromId") long fromId, @Param("toId") long toId,
+                                               @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    @Query("SELECT COUNT(DISTINCT i.application.id) FROM Interview i WHERE " + IN_RANGE)
+    long countApplicationsWithInterviews(@Param("fromId") long fromId, @Param("toId") long toId,
+                                         @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    /**
+     * Counts interviews per day, or per ISO week keyed by the Monday the week starts on.
+     */
+    default List<Object[]> countByInterviewDay(Long userId, LocalDateTime fromTime, LocalDateTime toTime) {
+        return userId == null
+                ? countByInterviewDay(fromTime, toTime)
+                : countByInterviewDayOfUser(userId, fromTime, toTime);
+    }
+
+    @Query("SELECT trunc(i.interviewDate, day), COUNT(i) FROM Interview i WHERE " + OF_USER + IN_WINDOW +
+           "GROUP BY trunc(i.interviewDate, day)")
+    List<Object[]> countByInterviewDayOfUser(@Param("userId") Long userId,
+                                             @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    @Query("SELECT trunc(i.interviewDate, day), COUNT(i) FROM Interview i WHERE " + IN_WINDOW +
+           "GROUP BY trunc(i.interviewDate, day)")
+    List<Object[]> countByInterviewDay(@Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    default List<Object[]> countByInterviewWeek(Long userId, LocalDateTime fromTime, LocalDateTime toTime) {
+        return userId == null
+                ? countByInterviewWeek(fromTime, toTime)
+                : countByInterviewWeekOfUser(userId, fromTime, toTime);
+    }
+
+    @Query("SELECT trunc(i.interviewDate, week), COUNT(i) FROM Interview i WHERE " + OF_USER + IN_WINDOW +
+           "GROUP BY trunc(i.interviewDate, week)")
+    List<Object[]> countByInterviewWeekOfUser(@Param("userId") Long userId,
+                                              @Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    @Query("SELECT trunc(i.interviewDate, week), COUNT(i) FROM Interview i WHERE " + IN_WINDOW +
+           "GROUP BY trunc(i.interviewDate, week)")
+    List<Object[]> countByInterviewWeek(@Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+}
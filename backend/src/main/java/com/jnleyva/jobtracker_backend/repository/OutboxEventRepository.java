@@ -0,0 +1,31 @@
+package com.jnleyva.jobtracker_backend.repository;
+
+import com.jnleyva.jobtracker_backend.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Users with pending events, those waiting longest first
+    @Query("SELECT e.userId FROM OutboxEvent e GROUP BY e.userId ORDER BY MIN(e.id)")
+    List<Long> findUserIdsWithPendingEvents(Pageable pageable);
+
+    List<OutboxEvent> findByUserIdOrderById(Long userId);
+
+    boolean existsByUserId(Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM OutboxEvent e WHERE e.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM OutboxEvent e WHERE e.userId = :userId AND e.dataVersion <= :dataVersion")
+    int deleteThroughVersion(@Param("userId") Long userId, @Param("dataVersion") long dataVersion);
+}
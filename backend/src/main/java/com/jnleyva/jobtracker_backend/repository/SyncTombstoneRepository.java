@@ -0,0 +1,35 @@
+package com.jnleyva.jobtracker_backend.repository;
+
+import com.jnleyva.jobtracker_backend.model.SyncTombstone;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    @Query("SELECT t FROM SyncTombstone t WHERE t.userId = :userId AND t.deletedAt > :since ORDER BY t.deletedAt")
+    List<SyncTombstone> findDeletedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * Records a tombstone for every application of a user, before they are deleted in bulk.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sync_tombstones"))
+    @Query(value = "INSERT INTO sync_tombstones (user_id, entity_type, entity_id, application_id, deleted_at) " +
+                   "SELECT user_id, 'application', application_id, application_id, :deletedAt FROM applications " +
+                   "WHERE user_id = :userId", nativeQuery = true)
+    int insertForApplicationsOfUser(@Param("userId") Long userId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("DELETE FROM SyncTombstone t WHERE t.userId = :userId AND t.deletedAt < :before")
+    int deleteExpired(@Param("userId") Long userId, @Param("before") LocalDateTime before);
+}
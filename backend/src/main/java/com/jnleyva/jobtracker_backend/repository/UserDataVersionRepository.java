@@ -0,0 +1,41 @@
+package com.jnleyva.jobtracker_backend.repository;
+
+import com.jnleyva.jobtracker_backend.model.UserDataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserDataVersionRepository extends JpaRepository<UserDataVersion, Long> {
+
+    /**
+     * Increments the version of a user; returns 0 when the user has no version row yet. Pending
+     * changes to other tables are not flushed, so a batch of writes can still be flushed together.
+     */
+    @Modifying
+    @Query("UPDATE UserDataVersion v SET v.dataVersion = v.dataVersion + 1 WHERE v.userId = :userId")
+    int increment(@Param("userId") Long userId);
+
+    /**
+     * Returns [user id, data version] of a user in one lookup; the version is null if the user
+     * has never written any data.
+     */
+    @Query("SELECT u.id, v.dataVersion FROM User u LEFT JOIN UserDataVersion v ON v.userId = u.id " +
+           "WHERE u.username = :username")
+    List<Object[]> findVersionByUsername(@Param("username") String username);
+
+    /**
+     * Reads the version of a user from the database; unlike findById it is not answered from
+     * the persistence context, which {@link #increment(Long)} does not update.
+     */
+    @Query("SELECT v.dataVersion FROM UserDataVersion v WHERE v.userId = :userId")
+    Optional<Long> findVersion(@Param("userId") Long userId);
+
+    @Query("SELECT COALESCE(SUM(v.dataVersion), 0) FROM UserDataVersion v")
+    long sumVersions();
+}
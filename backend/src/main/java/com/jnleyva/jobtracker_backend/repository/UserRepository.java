@@ -1,7 +1,15 @@
 package com.jnleyva.jobtracker_backend.repository;
 
 import com.jnleyva.jobtracker_backend.model.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -10,7 +18,29 @@ import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Runs on every authenticated request, so the result is kept in the query cache until the
+    // users table changes; the user itself then comes from the second-level cache
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "users-by-username")
+    })
     Optional<User> findByUsername(String username);
+
     Optional<User> findByEmail(String email);
     List<User> findByLastLoginBefore(LocalDateTime date);
+
+    /**
+     * Locks the user row so that writes to per-user derived data are serialized.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    // The admin user list - see User.WITH_APPLICATIONS_GRAPH
+    @EntityGraph(User.WITH_APPLICATIONS_GRAPH)
+    @Query("SELECT u FROM User u ORDER BY u.id")
+    List<User> findAllWithApplications();
+
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.jnleyva.jobtracker_backend.repository;
+
+import com.jnleyva.jobtracker_backend.model.UserStatistic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserStatisticRepository extends JpaRepository<UserStatistic, Long> {
+
+    /**
+     * Returns [metric, bucket, value] rows; read as scalars so bulk increments made earlier in
+     * the same transaction are always visible.
+     */
+    @Query("SELECT s.metric, s.bucket, s.value FROM UserStatistic s WHERE s.userId = :userId")
+    List<Object[]> findCountersByUserId(@Param("userId") Long userId);
+
+    boolean existsByUserId(Long userId);
+
+    @Query("SELECT s.value FROM UserStatistic s WHERE s.userId = :userId AND s.metric = :metric AND s.bucket = ''")
+    Optional<Long> findScalar(@Param("userId") Long userId, @Param("metric") UserStatistic.Metric metric);
+
+    /**
+     * Adds {@code delta} to an existing counter; returns 0 when the counter row does not exist yet.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserStatistic s SET s.value = s.value + :delta " +
+           "WHERE s.userId = :userId AND s.metric = :metric AND s.bucket = :bucket")
+    int increment(@Param("userId") Long userId,
+                  @Param("metric") UserStatistic.Metric metric,
+                  @Param("bucket") String bucket,
+                  @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM UserStatistic s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
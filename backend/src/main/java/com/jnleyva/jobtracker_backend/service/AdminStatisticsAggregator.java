@@ -0,0 +1,142 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes the admin-wide statistics counters over every user.
+ *
+ * <p>The applications table is split into ranges of application ids. Each range is aggregated
+ * by the database on its own connection, giving a partial {@link StatisticCounters} whose size
+ * depends only on the number of distinct statuses, months and interview types. Interviews and
+ * status history are partitioned by the id of their application, so partial results of
+ * disjoint ranges can simply be added up. Partitions run in parallel on a dedicated fork-join
+ * pool whose size is kept below the connection pool size.
+ */
+@Service
+public class AdminStatisticsAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminStatisticsAggregator.class);
+
+    @Value("${statistics.admin.partition-size:50000}")
+    private long partitionSize;
+
+    @Value("${statistics.admin.parallelism:2}")
+    private int parallelism;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void initialize() {
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+        logger.info("Admin statistics aggregator initialized - partition size: {}, parallelism: {}",
+                   partitionSize, pool.getParallelism());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Aggregates the statistics counters of all applications, interviews and status history,
+     * archived applications included.
+     */
+    public StatisticCounters aggregate() {
+        StatisticCounters counters = aggregate(StatisticsWindow.ALL_TIME);
+        counters.merge(statisticsProjection.archivedCounters(null));
+        return counters;
+    }
+
+    /**
+     * Aggregates the statistics counters of the active applications and interviews in a time
+     * window.
+     */
+    public StatisticCounters aggregate(StatisticsWindow window) {
+        List<Object[]> idRange = applicationRepository.findIdRange();
+        Object[] bounds = idRange.isEmpty() ? new Object[2] : idRange.get(0);
+        if (bounds[0] == null) {
+            return computePartition(new long[]{0L, Long.MAX_VALUE}, window);
+        }
+
+        List<long[]> partitions = partitions(((Number) bounds[0]).longValue(), ((Number) bounds[1]).longValue(), partitionSize);
+        logger.debug("Aggregating admin statistics over {} partitions", partitions.size());
+        if (partitions.size() == 1) {
+            return computePartition(partitions.get(0), window);
+        }
+        return pool.invoke(new PartitionTask(partitions, 0, partitions.size(), window));
+    }
+
+    /**
+     * Splits [minId, maxId] into half-open ranges of at most {@code size} ids. The first range
+     * starts at 0 and the last one is unbounded, so rows inserted while the aggregation runs
+     * still fall into exactly one partition.
+     */
+    static List<long[]> partitions(long minId, long maxId, long size) {
+        List<long[]> partitions = new ArrayList<>();
+        long step = Math.max(1L, size);
+        long from = 0L;
+        for (long to = minId + step; to <= maxId; to += step) {
+            partitions.add(new long[]{from, to});
+            from = to;
+        }
+        partitions.add(new long[]{from, Long.MAX_VALUE});
+        return partitions;
+    }
+
+    private StatisticCounters computePartition(long[] partition, StatisticsWindow window) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status ->
+            statisticsProjection.computeFromSource(null, partition[0], partition[1], window));
+    }
+
+    private class PartitionTask extends RecursiveTask<StatisticCounters> {
+        private final List<long[]> partitions;
+        private final int from;
+        private final int to;
+        private final StatisticsWindow window;
+
+        PartitionTask(List<long[]> partitions, int from, int to, StatisticsWindow window) {
+            this.partitions = partitions;
+            this.from = from;
+            this.to = to;
+            this.window = window;
+        }
+
+        @Override
+        protected StatisticCounters compute() {
+            if (to - from == 1) {
+                return computePartition(partitions.get(from), window);
+            }
+            int middle = (from + to) >>> 1;
+            PartitionTask left = new PartitionTask(partitions, from, middle, window);
+            left.fork();
+            StatisticCounters result = new PartitionTask(partitions, middle, to, window).compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+}
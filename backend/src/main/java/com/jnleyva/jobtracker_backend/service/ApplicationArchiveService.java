@@ -0,0 +1,329 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatusHistory;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Moves closed applications out of the hot tables into archive tables, and reads them back.
+ *
+ * <p>An application is closed when it was rejected or its offer declined; it is archived once it
+ * has not been written for {@code archive.after-months}. It moves with its interviews, contacts
+ * and status history, {@code archive.chunk-size} applications per transaction, so list, search
+ * and sync queries only ever read active applications. For the clients an archived application
+ * looks deleted from those views, but stays readable, without changes, through the detail and
+ * export endpoints. The statistics keep counting it: what it contributed to the all-time ones is
+ * carried over as archived counters of the {@link UserStatisticsProjection}, and statistics over
+ * a window read the archive tables through the {@link ArchivedStatisticsService}.
+ *
+ * <p>On PostgreSQL the archive tables are partitioned by year of {@code archived_at}, so old
+ * archives can be detached or dropped a partition at a time; elsewhere they are plain tables.
+ */
+@Service
+public class ApplicationArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationArchiveService.class);
+
+    static final String ARCHIVED_APPLICATIONS = "archived_applications";
+    static final String ARCHIVED_INTERVIEWS = "archived_interviews";
+    static final String ARCHIVED_CONTACTS = "archived_contacts";
+    static final String ARCHIVED_STATUS_HISTORY = "archived_status_history";
+
+    private static final String APPLICATION_COLUMNS = "application_id, user_id, company, job_title, location, url, "
+            + "description, compensation, compensation_type, experience_level, status, offer_status, application_date, "
+            + "created_at, updated_at";
+    private static final String INTERVIEW_COLUMNS = "id, application_id, type, interview_date, original_date, notes, "
+            + "status, interviewer_name, interviewer_email, location, duration_minutes, cancellation_reason, "
+            + "meeting_link, interview_feedback, created_at, updated_at";
+    private static final String CONTACT_COLUMNS = "id, application_id, name, email, phone, position, updated_at";
+    private static final String HISTORY_COLUMNS = "history_id, application_id, status, changed_at, changed_by";
+
+    // Column types match the hot tables; the primary keys include archived_at, the partition key
+    private static final Map<String, String> TABLES = new LinkedHashMap<>();
+
+    static {
+        TABLES.put(ARCHIVED_APPLICATIONS, "application_id BIGINT NOT NULL, user_id BIGINT NOT NULL, "
+                + "company VARCHAR(500) NOT NULL, job_title VARCHAR(500) NOT NULL, location VARCHAR(1000), "
+                + "url VARCHAR(2000), description TEXT, compensation DOUBLE PRECISION, compensation_type VARCHAR(100), "
+                + "experience_level VARCHAR(100), status VARCHAR(1) NOT NULL, offer_status VARCHAR(50), "
+                + "application_date DATE NOT NULL, created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, "
+                + "archived_at TIMESTAMP NOT NULL, PRIMARY KEY (application_id, archived_at)");
+        TABLES.put(ARCHIVED_INTERVIEWS, "id BIGINT NOT NULL, application_id BIGINT NOT NULL, "
+                + "type VARCHAR(255) NOT NULL, interview_date TIMESTAMP NOT NULL, original_date TIMESTAMP, notes TEXT, "
+                + "status VARCHAR(255), interviewer_name VARCHAR(255), interviewer_email VARCHAR(255), "
+                + "location VARCHAR(255), duration_minutes INTEGER, cancellation_reason VARCHAR(255), "
+                + "meeting_link VARCHAR(255), interview_feedback VARCHAR(255), created_at TIMESTAMP NOT NULL, "
+                + "updated_at TIMESTAMP NOT NULL, archived_at TIMESTAMP NOT NULL, PRIMARY KEY (id, archived_at)");
+        TABLES.put(ARCHIVED_CONTACTS, "id BIGINT NOT NULL, application_id BIGINT NOT NULL, "
+                + "name VARCHAR(255) NOT NULL, email VARCHAR(255), phone VARCHAR(255), position VARCHAR(255), "
+                + "updated_at TIMESTAMP, archived_at TIMESTAMP NOT NULL, PRIMARY KEY (id, archived_at)");
+        TABLES.put(ARCHIVED_STATUS_HISTORY, "history_id BIGINT NOT NULL, application_id BIGINT NOT NULL, "
+                + "status VARCHAR(1) NOT NULL, changed_at TIMESTAMP NOT NULL, changed_by VARCHAR(255), "
+                + "archived_at TIMESTAMP NOT NULL, PRIMARY KEY (history_id, archived_at)");
+    }
+
+    @Value("${archive.after-months:6}")
+    private int afterMonths;
+
+    @Value("${archive.chunk-size:200}")
+    private int chunkSize;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private boolean partitioned;
+
+    @PostConstruct
+    void createArchiveTables() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            partitioned = "PostgreSQL".equalsIgnoreCase(product);
+            for (Map.Entry<String, String> table : TABLES.entrySet()) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table.getKey() + " (" + table.getValue() + ")"
+                        + (partitioned ? " PARTITION BY RANGE (archived_at)" : ""));
+            }
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_archived_applications_user ON "
+                    + ARCHIVED_APPLICATIONS + " (user_id, application_id)");
+            for (String child : List.of(ARCHIVED_INTERVIEWS, ARCHIVED_CONTACTS, ARCHIVED_STATUS_HISTORY)) {
+                jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + child + "_application ON " + child + " (application_id)");
+            }
+        } catch (Exception e) {
+            // Don't rethrow - the application runs without archiving until the tables exist
+            logger.error("Could not create the archive tables: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Archives every closed application that has not been written since the cutoff, a chunk per
+     * transaction. Returns how many were archived.
+     */
+    public int archiveClosedApplications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(afterMonths);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long started = System.currentTimeMillis();
+        int archived = 0;
+        int chunk;
+        do {
+            chunk = transaction.execute(status -> archiveChunk(cutoff));
+            archived += chunk;
+        } while (chunk == chunkSize);
+
+        if (archived > 0) {
+            logger.info("Archived {} applications last written before {} in {} ms", archived, cutoff,
+                    System.currentTimeMillis() - started);
+        }
+        return archived;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Object[]> candidates = applicationRepository.findArchiveCandidates(ApplicationStatus.REJECTED, cutoff,
+                PageRequest.of(0, chunkSize));
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(candidates.size());
+        Map<Long, List<Long>> idsByUser = new LinkedHashMap<>();
+        for (Object[] row : candidates) {
+            ids.add((Long) row[0]);
+            idsByUser.computeIfAbsent((Long) row[1], userId -> new ArrayList<>()).add((Long) row[0]);
+        }
+
+        for (Map.Entry<Long, List<Long>> user : idsByUser.entrySet()) {
+            statisticsProjection.applicationsArchived(user.getKey(), applicationRepository.findAllById(user.getValue()));
+        }
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        if (partitioned) {
+            createPartitions(archivedAt.getYear());
+        }
+        Map<String, Object> parameters = Map.of("ids", ids, "archivedAt", Timestamp.valueOf(archivedAt));
+        copy(ARCHIVED_APPLICATIONS, APPLICATION_COLUMNS, "applications", parameters);
+        copy(ARCHIVED_INTERVIEWS, INTERVIEW_COLUMNS, "interviews", parameters);
+        copy(ARCHIVED_CONTACTS, CONTACT_COLUMNS, "contacts", parameters);
+        copy(ARCHIVED_STATUS_HISTORY, HISTORY_COLUMNS, "application_status_history", parameters);
+
+        // Bulk deletes through Hibernate, so the affected second-level cache regions are evicted
+        for (String entity : List.of("ApplicationStatusHistory", "Interview", "Contact")) {
+            entityManager.createQuery("DELETE FROM " + entity + " e WHERE e.application.id IN :ids")
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+        }
+        entityManager.createQuery("DELETE FROM Application a WHERE a.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+
+        for (Map.Entry<Long, List<Long>> user : idsByUser.entrySet()) {
+            searchService.userDataChanged(user.getKey());
+            dataVersionService.bump(user.getKey());
+            syncService.recordApplicationsDeleted(user.getKey(), user.getValue());
+        }
+        logger.debug("Archived applications {}", ids);
+        return ids.size();
+    }
+
+    private void copy(String archiveTable, String columns, String table, Map<String, Object> parameters) {
+        namedJdbcTemplate.update("INSERT INTO " + archiveTable + " (" + columns + ", archived_at) SELECT " + columns
+                + ", :archivedAt FROM " + table + " WHERE application_id IN (:ids)", parameters);
+    }
+
+    private void createPartitions(int year) {
+        for (String table : TABLES.keySet()) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + "_" + year + " PARTITION OF " + table
+                    + " FOR VALUES FROM ('" + year + "-01-01') TO ('" + (year + 1) + "-01-01')");
+        }
+    }
+
+    /**
+     * Returns an archived application with its interviews and status history, for reading only.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Application> findArchivedApplication(Long id) {
+        List<Application> applications = jdbcTemplate.query("SELECT " + APPLICATION_COLUMNS + ", archived_at FROM "
+                + ARCHIVED_APPLICATIONS + " WHERE application_id = ?", (rs, rowNum) -> application(rs), id);
+        if (applications.isEmpty()) {
+            return Optional.empty();
+        }
+        Application application = applications.get(0);
+        jdbcTemplate.query("SELECT " + INTERVIEW_COLUMNS + " FROM " + ARCHIVED_INTERVIEWS
+                + " WHERE application_id = ? ORDER BY interview_date, id",
+                (ResultSet rs) -> { application.getInterviews().add(interview(rs, application)); }, id);
+        jdbcTemplate.query("SELECT " + HISTORY_COLUMNS + " FROM " + ARCHIVED_STATUS_HISTORY
+                + " WHERE application_id = ? ORDER BY changed_at, history_id",
+                (ResultSet rs) -> { application.getStatusHistory().add(history(rs, application)); }, id);
+
+        // The progression columns are not archived; they are derived from the archived children
+        for (ApplicationStatusHistory history : application.getStatusHistory()) {
+            application.statusReached(history.getStatus(), history.getChangedAt());
+        }
+        application.setInterviewCount(application.getInterviews().size());
+        application.setContactCount(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + ARCHIVED_CONTACTS
+                + " WHERE application_id = ?", Integer.class, id));
+        return Optional.of(application);
+    }
+
+    /**
+     * Deletes the archived applications of a user together with their children.
+     */
+    @Transactional
+    public void deleteArchivedApplications(Long userId) {
+        String ofUser = " WHERE application_id IN (SELECT application_id FROM " + ARCHIVED_APPLICATIONS
+                + " WHERE user_id = ?)";
+        for (String child : List.of(ARCHIVED_INTERVIEWS, ARCHIVED_CONTACTS, ARCHIVED_STATUS_HISTORY)) {
+            jdbcTemplate.update("DELETE FROM " + child + ofUser, userId);
+        }
+        jdbcTemplate.update("DELETE FROM " + ARCHIVED_APPLICATIONS + " WHERE user_id = ?", userId);
+        statisticsProjection.clearArchived(userId);
+    }
+
+    private static Application application(ResultSet rs) throws SQLException {
+        Application application = new Application();
+        application.setId(rs.getLong("application_id"));
+        User user = new User();
+        user.setId(rs.getLong("user_id"));
+        application.setUser(user);
+        application.setCompany(rs.getString("company"));
+        application.setJobTitle(rs.getString("job_title"));
+        application.setLocation(rs.getString("location"));
+        application.setUrl(rs.getString("url"));
+        application.setDescription(rs.getString("description"));
+        application.setCompensation(rs.getObject("compensation") == null ? null : rs.getDouble("compensation"));
+        application.setCompensationType(rs.getString("compensation_type"));
+        application.setExperienceLevel(rs.getString("experience_level"));
+        application.setStatus(ApplicationStatus.fromCode(rs.getString("status").charAt(0)));
+        application.setOfferStatus(rs.getString("offer_status"));
+        application.setApplicationDate(rs.getDate("application_date").toLocalDate());
+        application.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        application.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+        application.setArchivedAt(rs.getTimestamp("archived_at").toLocalDateTime());
+        return application;
+    }
+
+    private static Interview interview(ResultSet rs, Application application) throws SQLException {
+        Interview interview = new Interview();
+        interview.setId(rs.getLong("id"));
+        interview.setApplication(application);
+        interview.setType(rs.getString("type"));
+        interview.setInterviewDate(localDateTime(rs, "interview_date"));
+        interview.setOriginalDate(localDateTime(rs, "original_date"));
+        interview.setNotes(rs.getString("notes"));
+        interview.setStatus(rs.getString("status"));
+        interview.setInterviewerName(rs.getString("interviewer_name"));
+        interview.setInterviewerEmail(rs.getString("interviewer_email"));
+        interview.setLocation(rs.getString("location"));
+        interview.setDurationMinutes(rs.getObject("duration_minutes") == null ? null : rs.getInt("duration_minutes"));
+        interview.setCancellationReason(rs.getString("cancellation_reason"));
+        interview.setMeetingLink(rs.getString("meeting_link"));
+        interview.setInterviewFeedback(rs.getString("interview_feedback"));
+        interview.setCreatedAt(localDateTime(rs, "created_at"));
+        interview.setUpdatedAt(localDateTime(rs, "updated_at"));
+        return interview;
+    }
+
+    private static ApplicationStatusHistory history(ResultSet rs, Application application) throws SQLException {
+        ApplicationStatusHistory history = new ApplicationStatusHistory();
+        history.setId(rs.getLong("history_id"));
+        history.setApplication(application);
+        history.setStatus(ApplicationStatus.fromCode(rs.getString("status").charAt(0)));
+        history.setChangedAt(localDateTime(rs, "changed_at"));
+        history.setChangedBy(rs.getString("changed_by"));
+        return history;
+    }
+
+    private static LocalDateTime localDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
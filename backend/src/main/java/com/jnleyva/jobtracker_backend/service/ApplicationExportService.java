@@ -0,0 +1,338 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Exports all applications of a user, with their interviews and status history, as CSV or NDJSON.
+ *
+ * <p>The rows are read with a single forward-only query and a JDBC fetch size, so the driver only
+ * holds one fetch of rows at a time, and every application is written to the output as soon as
+ * its last row has been read. Memory use therefore does not depend on the number of applications.
+ *
+ * <p>The CSV has one row per application, with the columns named like the import expects them,
+ * so an export can be imported again; interviews and status history are summarized in a column
+ * each. NDJSON has one JSON object per line with the interviews and status history as arrays.
+ * Archived applications are exported with the active ones.
+ */
+@Service
+public class ApplicationExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationExportService.class);
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Returns the format for a {@code format} request parameter.
+         */
+        public static Format of(String name) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Unsupported export format '" + name + "', expected csv or ndjson");
+        }
+    }
+
+    static final List<String> CSV_HEADER = List.of("id", "company", "jobTitle", "location", "url", "description",
+            "compensation", "compensationType", "experienceLevel", "status", "offerStatus", "applicationDate",
+            "createdAt", "updatedAt", "interviews", "statusHistory");
+
+    /**
+     * Each application joined with its status history (kind H) and interviews (kind I), one row per
+     * child, so the rows of an application are adjacent. The children are filtered by user inside
+     * the union as well, so only the user's rows are read whatever plan the database picks. The
+     * active and the archived applications are read alike, see ApplicationArchiveService.
+     */
+    private static final String EXPORT_QUERY = tierQuery("applications", "application_status_history", "interviews")
+            + " UNION ALL "
+            + tierQuery("archived_applications", "archived_status_history", "archived_interviews")
+            + " ORDER BY application_id, kind, child_at, child_id";
+
+    private static String tierQuery(String applications, String history, String interviews) {
+        return "SELECT a.application_id, a.company, a.job_title, a.location, a.url, "
+                + "a.description, a.compensation, a.compensation_type, a.experience_level, a.status, a.offer_status, "
+                + "a.application_date, a.created_at, a.updated_at, c.kind, c.child_id, c.child_status, c.child_at, "
+                + "c.changed_by, c.type, c.child_location, c.duration_minutes, c.interviewer_name, c.interviewer_email, "
+                + "c.meeting_link, c.notes, c.interview_feedback, c.cancellation_reason, c.original_date "
+                + "FROM " + applications + " a LEFT JOIN ("
+                + "SELECT 'H' AS kind, h.application_id, h.history_id AS child_id, h.status AS child_status, "
+                + "h.changed_at AS child_at, h.changed_by, NULL AS type, NULL AS child_location, NULL AS duration_minutes, "
+                + "NULL AS interviewer_name, NULL AS interviewer_email, NULL AS meeting_link, NULL AS notes, "
+                + "NULL AS interview_feedback, NULL AS cancellation_reason, NULL AS original_date "
+                + "FROM " + history + " h JOIN " + applications + " ha ON ha.application_id = h.application_id "
+                + "WHERE ha.user_id = ? "
+                + "UNION ALL "
+                + "SELECT 'I', i.application_id, i.id, i.status, i.interview_date, NULL, i.type, i.location, "
+                + "i.duration_minutes, i.interviewer_name, i.interviewer_email, i.meeting_link, i.notes, "
+                + "i.interview_feedback, i.cancellation_reason, i.original_date "
+                + "FROM " + interviews + " i JOIN " + applications + " ia ON ia.application_id = i.application_id "
+                + "WHERE ia.user_id = ?"
+                + ") c ON c.application_id = a.application_id "
+                + "WHERE a.user_id = ?";
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${export.fetch-size:500}")
+    private int fetchSize;
+
+    private JdbcTemplate exportTemplate;
+
+    @PostConstruct
+    void init() {
+        // A template of its own, so the fetch size only applies to exports
+        exportTemplate = new JdbcTemplate(dataSource);
+        exportTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Writes the applications of a user to {@code output}. The output is flushed but not closed.
+     */
+    public void exportApplications(Long userId, Format format, OutputStream output) throws IOException {
+        long started = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        ExportWriter exportWriter = format == Format.CSV ? new CsvExportWriter(writer) : new NdjsonExportWriter(writer);
+        exportWriter.start();
+
+        RowReader rows = new RowReader(exportWriter);
+        // PostgreSQL only uses the fetch size with auto-commit off, so the cursor is read in a transaction
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        try {
+            transaction.executeWithoutResult(status ->
+                    exportTemplate.query(EXPORT_QUERY, rows::processRow, userId, userId, userId, userId, userId, userId));
+            rows.finish();
+        } catch (UncheckedIOException e) {
+            // The client went away; the query is abandoned as soon as the failed write surfaces
+            throw e.getCause();
+        }
+        writer.flush();
+
+        logger.info("Exported {} applications of user {} as {} in {} ms", rows.exported, userId, format,
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Collects the rows of one application and hands it to the writer when the next one starts.
+     */
+    private static class RowReader {
+        private final ExportWriter writer;
+        private ExportedApplication current;
+        private int exported;
+
+        RowReader(ExportWriter writer) {
+            this.writer = writer;
+        }
+
+        void processRow(ResultSet rs) throws SQLException {
+            long applicationId = rs.getLong("application_id");
+            if (current == null || current.id != applicationId) {
+                finish();
+                current = new ExportedApplication(applicationId, rs);
+            }
+
+            String kind = rs.getString("kind");
+            if ("H".equals(kind)) {
+                current.statusHistory.add(historyEntry(rs));
+            } else if ("I".equals(kind)) {
+                current.interviews.add(interview(rs));
+            }
+        }
+
+        void finish() {
+            if (current == null) {
+                return;
+            }
+            try {
+                writer.write(current);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            exported++;
+            current = null;
+        }
+    }
+
+    private static Map<String, Object> historyEntry(ResultSet rs) throws SQLException {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("id", rs.getLong("child_id"));
+        entry.put("status", status(rs.getString("child_status")));
+        entry.put("changedAt", rs.getObject("child_at", LocalDateTime.class));
+        entry.put("changedBy", rs.getString("changed_by"));
+        return entry;
+    }
+
+    private static Map<String, Object> interview(ResultSet rs) throws SQLException {
+        Map<String, Object> interview = new LinkedHashMap<>();
+        interview.put("id", rs.getLong("child_id"));
+        interview.put("type", rs.getString("type"));
+        interview.put("interviewDate", rs.getObject("child_at", LocalDateTime.class));
+        interview.put("status", rs.getString("child_status"));
+        interview.put("location", rs.getString("child_location"));
+        int duration = rs.getInt("duration_minutes");
+        interview.put("durationMinutes", rs.wasNull() ? null : duration);
+        interview.put("interviewerName", rs.getString("interviewer_name"));
+        interview.put("interviewerEmail", rs.getString("interviewer_email"));
+        interview.put("meetingLink", rs.getString("meeting_link"));
+        interview.put("notes", rs.getString("notes"));
+        interview.put("interviewFeedback", rs.getString("interview_feedback"));
+        interview.put("cancellationReason", rs.getString("cancellation_reason"));
+        interview.put("originalDate", rs.getObject("original_date", LocalDateTime.class));
+        return interview;
+    }
+
+    private static ApplicationStatus status(String code) {
+        return code == null || code.isEmpty() ? null : ApplicationStatus.fromCode(code.charAt(0));
+    }
+
+    /**
+     * One application with its children, only ever held for the application being read.
+     */
+    private static class ExportedApplication {
+        final long id;
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        final List<Map<String, Object>> interviews = new ArrayList<>();
+        final List<Map<String, Object>> statusHistory = new ArrayList<>();
+
+        ExportedApplication(long id, ResultSet rs) throws SQLException {
+            this.id = id;
+            fields.put("id", id);
+            fields.put("company", rs.getString("company"));
+            fields.put("jobTitle", rs.getString("job_title"));
+            fields.put("location", rs.getString("location"));
+            fields.put("url", rs.getString("url"));
+            fields.put("description", rs.getString("description"));
+            double compensation = rs.getDouble("compensation");
+            fields.put("compensation", rs.wasNull() ? null : compensation);
+            fields.put("compensationType", rs.getString("compensation_type"));
+            fields.put("experienceLevel", rs.getString("experience_level"));
+            fields.put("status", status(rs.getString("status")));
+            fields.put("offerStatus", rs.getString("offer_status"));
+            fields.put("applicationDate", rs.getObject("application_date", LocalDate.class));
+            fields.put("createdAt", rs.getObject("created_at", LocalDateTime.class));
+            fields.put("updatedAt", rs.getObject("updated_at", LocalDateTime.class));
+        }
+    }
+
+    private interface ExportWriter {
+        void start() throws IOException;
+
+        void write(ExportedApplication application) throws IOException;
+    }
+
+    private static class CsvExportWriter implements ExportWriter {
+        private final Writer writer;
+
+        CsvExportWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            Csv.writeRecord(writer, CSV_HEADER);
+        }
+
+        @Override
+        public void write(ExportedApplication application) throws IOException {
+            List<Object> record = new ArrayList<>(CSV_HEADER.size());
+            record.addAll(application.fields.values());
+
+            // "2024-03-04T10:00 Technical (Completed); ..." and "Applied 2024-03-01T09:12:00; ..."
+            List<String> interviews = new ArrayList<>();
+            for (Map<String, Object> interview : application.interviews) {
+                String text = interview.get("interviewDate") + " " + interview.get("type");
+                if (interview.get("status") != null) {
+                    text += " (" + interview.get("status").toString().toLowerCase(Locale.ROOT) + ")";
+                }
+                interviews.add(text);
+            }
+            List<String> history = new ArrayList<>();
+            for (Map<String, Object> entry : application.statusHistory) {
+                history.add(entry.get("status") + " " + entry.get("changedAt"));
+            }
+            record.add(String.join("; ", interviews));
+            record.add(String.join("; ", history));
+            Csv.writeRecord(writer, record);
+        }
+    }
+
+    private class NdjsonExportWriter implements ExportWriter {
+        private final Writer writer;
+        // The writer is shared by all lines, so the generator must not close it after each one
+        private final ObjectWriter jsonWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        NdjsonExportWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void write(ExportedApplication application) throws IOException {
+            Map<String, Object> line = new LinkedHashMap<>(application.fields);
+            line.put("interviews", application.interviews);
+            line.put("statusHistory", application.statusHistory);
+            jsonWriter.writeValue(writer, line);
+            writer.write('\n');
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.ImportResult;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Imports applications in bulk from a CSV or NDJSON stream.
+ *
+ * <p>The input is read one row at a time. Valid rows are written in JDBC batches of
+ * {@link #BATCH_SIZE}, each batch in a transaction of its own together with the initial status
+ * history of its applications, so memory use does not grow with the size of the import and a
+ * failing batch does not undo the ones before it. Invalid rows are skipped and reported with
+ * their line number.
+ *
+ * <p>Fields are named like the JSON properties of an application ({@code company},
+ * {@code jobTitle}, {@code location}, {@code url}, {@code description}, {@code compensation},
+ * {@code compensationType}, {@code experienceLevel}, {@code status}, {@code offerStatus},
+ * {@code applicationDate}), ignoring case, spaces and punctuation, so a spreadsheet header
+ * "Job Title" matches {@code jobTitle}. Company and job title are required; the status defaults
+ * to Applied and the application date to today.
+ */
+@Service
+public class ApplicationImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationImportService.class);
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_APPLICATION = "INSERT INTO applications (company, job_title, location, url, "
+            + "description, compensation, compensation_type, experience_level, status, offer_status, application_date, "
+            + "user_id, created_at, updated_at, reached_status_mask, highest_status_reached, last_status_change_at, "
+            + "interview_count, contact_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0)";
+
+    private static final String INSERT_HISTORY = "INSERT INTO application_status_history "
+            + "(application_id, status, changed_at, changed_by) VALUES (?, ?, ?, ?)";
+
+    private static final List<String> FIELDS = List.of("company", "jobTitle", "location", "url", "description",
+            "compensation", "compensationType", "experienceLevel", "status", "offerStatus", "applicationDate");
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * Returns the format of a request body by its content type.
+         */
+        public static Format of(MediaType contentType) {
+            if (contentType != null && TEXT_CSV.includes(contentType)) {
+                return CSV;
+            }
+            if (contentType != null && (APPLICATION_NDJSON.includes(contentType)
+                    || MediaType.APPLICATION_NDJSON.includes(contentType))) {
+                return NDJSON;
+            }
+            throw new BadRequestException("Unsupported import format " + contentType + ", expected text/csv or application/x-ndjson");
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Imports the applications read from {@code input} for a user.
+     */
+    public ImportResult importApplications(Long userId, InputStream input, Format format) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        long started = System.currentTimeMillis();
+        Batch batch = new Batch(user);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try {
+            if (format == Format.CSV) {
+                readCsv(reader, batch);
+            } else {
+                readNdjson(reader, batch);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the import", e);
+        } finally {
+            // Rows read before a failure are still stored
+            batch.flush();
+        }
+
+        logger.info("Imported {} applications for user {} in {} ms, {} rows rejected", batch.result.getImported(),
+                userId, System.currentTimeMillis() - started, batch.result.getFailed());
+        return batch.result;
+    }
+
+    private void readCsv(BufferedReader reader, Batch batch) throws IOException {
+        Csv.RecordReader records = new Csv.RecordReader(reader);
+        List<String> header = records.next();
+        if (header == null) {
+            throw new BadRequestException("The import is empty");
+        }
+        List<String> columns = new ArrayList<>(header.size());
+        for (String name : header) {
+            columns.add(fieldName(name));
+        }
+        if (!columns.contains("company") || !columns.contains("jobTitle")) {
+            throw new BadRequestException("The CSV header needs at least the columns company and jobTitle");
+        }
+
+        List<String> record;
+        while ((record = records.next()) != null) {
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < record.size() && i < columns.size(); i++) {
+                if (columns.get(i) != null) {
+                    fields.put(columns.get(i), record.get(i));
+                }
+            }
+            batch.add(records.getRecordLine(), fields);
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Batch batch) throws IOException {
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                batch.result.addError(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            if (!node.isObject()) {
+                batch.result.addError(lineNumber, "Expected a JSON object");
+                continue;
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            String invalid = null;
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                String name = fieldName(field.getKey());
+                if (name == null || field.getValue().isNull()) {
+                    continue;
+                }
+                if (!field.getValue().isValueNode()) {
+                    invalid = "'" + field.getKey() + "' must be a string or a number";
+                    break;
+                }
+                fields.put(name, field.getValue().asText());
+            }
+            if (invalid != null) {
+                batch.result.addError(lineNumber, invalid);
+            } else {
+                batch.add(lineNumber, fields);
+            }
+        }
+    }
+
+    /**
+     * Returns the field a CSV column or JSON property stands for, or null if it is not imported.
+     */
+    private static String fieldName(String name) {
+        String normalized = name.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+        for (String field : FIELDS) {
+            if (field.toLowerCase(Locale.ROOT).equals(normalized)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builds the application of a row, or throws IllegalArgumentException saying what is wrong with it.
+     */
+    static Application toApplication(Map<String, String> fields) {
+        Application application = new Application();
+        application.setCompany(value(fields, "company"));
+        application.setJobTitle(value(fields, "jobTitle"));
+        if (application.getCompany() == null) {
+            throw new IllegalArgumentException("'company' is required");
+        }
+        if (application.getJobTitle() == null) {
+            throw new IllegalArgumentException("'jobTitle' is required");
+        }
+        application.setLocation(value(fields, "location"));
+        application.setUrl(value(fields, "url"));
+        application.setDescription(value(fields, "description"));
+        application.setCompensationType(value(fields, "compensationType"));
+        application.setExperienceLevel(value(fields, "experienceLevel"));
+        application.setOfferStatus(value(fields, "offerStatus"));
+
+        String compensation = value(fields, "compensation");
+        if (compensation != null) {
+            try {
+                // Spreadsheets often format amounts as "$120,000"
+                application.setCompensation(Double.parseDouble(compensation.replaceAll("[$,\\s]", "")));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid 'compensation': " + compensation);
+            }
+        }
+
+        ApplicationStatus status = ApplicationStatus.fromValue(value(fields, "status"));
+        application.setStatus(status == null ? ApplicationStatus.APPLIED : status);
+
+        String applicationDate = value(fields, "applicationDate");
+        try {
+            application.setApplicationDate(applicationDate == null ? LocalDate.now() : LocalDate.parse(applicationDate));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid 'applicationDate', expected yyyy-MM-dd: " + applicationDate);
+        }
+
+        application.truncateToColumnLengths();
+        return application;
+    }
+
+    private static String value(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * Valid rows waiting to be written.
+     */
+    private class Batch {
+        private final User user;
+        private final ImportResult result = new ImportResult();
+        private final List<Application> applications = new ArrayList<>(BATCH_SIZE);
+        private final List<Integer> lines = new ArrayList<>(BATCH_SIZE);
+
+        Batch(User user) {
+            this.user = user;
+        }
+
+        void add(int line, Map<String, String> fields) {
+            try {
+                applications.add(toApplication(fields));
+                lines.add(line);
+            } catch (IllegalArgumentException e) {
+                result.addError(line, e.getMessage());
+            }
+            if (applications.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (applications.isEmpty()) {
+                return;
+            }
+            try {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> write());
+                result.addImported(applications.size());
+            } catch (DataAccessException e) {
+                logger.warn("Could not import rows {} to {} for user {}: {}", lines.get(0), lines.get(lines.size() - 1),
+                        user.getId(), e.getMessage());
+                for (Integer line : lines) {
+                    result.addError(line, "Could not be stored: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+            applications.clear();
+            lines.clear();
+        }
+
+        private void write() {
+            LocalDateTime now = LocalDateTime.now();
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_APPLICATION, new String[]{"application_id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Application application = applications.get(i);
+                            ps.setString(1, application.getCompany());
+                            ps.setString(2, application.getJobTitle());
+                            ps.setString(3, application.getLocation());
+                            ps.setString(4, application.getUrl());
+                            ps.setString(5, application.getDescription());
+                            if (application.getCompensation() == null) {
+                                ps.setNull(6, Types.DOUBLE);
+                            } else {
+                                ps.setDouble(6, application.getCompensation());
+                            }
+                            ps.setString(7, application.getCompensationType());
+                            ps.setString(8, application.getExperienceLevel());
+                            ps.setString(9, String.valueOf(application.getStatus().getCode()));
+                            ps.setString(10, application.getOfferStatus());
+                            ps.setObject(11, application.getApplicationDate());
+                            ps.setLong(12, user.getId());
+                            ps.setObject(13, now);
+                            ps.setObject(14, now);
+                            // The only status reached is the one of the single history entry
+                            ps.setInt(15, application.getStatus().getBit());
+                            ps.setString(16, String.valueOf(application.getStatus().getCode()));
+                            ps.setObject(17, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return applications.size();
+                        }
+                    }, keys);
+
+            List<Map<String, Object>> generated = keys.getKeyList();
+            List<Object[]> history = new ArrayList<>(applications.size());
+            for (int i = 0; i < applications.size(); i++) {
+                Number applicationId = (Number) generated.get(i).values().iterator().next();
+                history.add(new Object[]{applicationId.longValue(),
+                        String.valueOf(applications.get(i).getStatus().getCode()), now, user.getUsername()});
+            }
+            jdbcTemplate.batchUpdate(INSERT_HISTORY, history);
+
+            // Counters and the search index are rebuilt from the new rows when next read
+            statisticsProjection.clear(user.getId());
+            searchService.userDataChanged(user.getId());
+            dataVersionService.bump(user.getId());
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.ApplicationSummary;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Page size, sort order, filters and position of a request for a page of applications.
+ *
+ * <p>Pages are addressed by keyset: the cursor holds the sort value and id of the last
+ * application of the previous page, and the next page starts right after it. Unlike an offset,
+ * this costs the same on every page and does not skip or repeat rows when applications are
+ * added or removed between requests.
+ */
+public class ApplicationListQuery {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    public enum Sort {
+        APPLICATION_DATE_DESC("-applicationDate"),
+        APPLICATION_DATE_ASC("applicationDate"),
+        COMPANY_ASC("company"),
+        COMPANY_DESC("-company");
+
+        private final String value;
+
+        Sort(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public boolean isByCompany() {
+            return this == COMPANY_ASC || this == COMPANY_DESC;
+        }
+
+        static Sort fromValue(String value) {
+            for (Sort sort : values()) {
+                if (sort.value.equals(value)) {
+                    return sort;
+                }
+            }
+            throw new BadRequestException("Invalid sort, expected applicationDate, -applicationDate, company or -company: " + value);
+        }
+    }
+
+    // Stand-ins for missing date bounds, so queries can always compare against a date
+    private static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final int limit;
+    private final Sort sort;
+    private final ApplicationStatus status;
+    private final String company;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    // Keyset of the last application of the previous page, null for the first page
+    private final Long afterId;
+    private final String afterValue;
+
+    public ApplicationListQuery(int limit, Sort sort, ApplicationStatus status, String company,
+                                LocalDate from, LocalDate to, Long afterId, String afterValue) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("'limit' must be between 1 and " + MAX_LIMIT);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        this.limit = limit;
+        this.sort = sort == null ? Sort.APPLICATION_DATE_DESC : sort;
+        this.status = status;
+        this.company = company == null || company.isBlank() ? null : company.trim();
+        this.from = from;
+        this.to = to;
+        this.afterId = afterId;
+        this.afterValue = afterValue;
+    }
+
+    /**
+     * Parses the request parameters, any of which may be missing.
+     */
+    public static ApplicationListQuery parse(Integer limit, String cursor, String sort, String status,
+                                             String company, String from, String to) {
+        Sort parsedSort = sort == null || sort.isBlank() ? Sort.APPLICATION_DATE_DESC : Sort.fromValue(sort.trim());
+        ApplicationStatus parsedStatus;
+        try {
+            parsedStatus = ApplicationStatus.fromValue(status);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
+        Long afterId = null;
+        String afterValue = null;
+        if (cursor != null && !cursor.isBlank()) {
+            // "<sort>|<id>|<value>": the value goes last since a company name may contain the separator
+            String[] parts = decode(cursor).split("\\|", 3);
+            if (parts.length != 3 || !parts[0].equals(parsedSort.getValue())) {
+                throw new BadRequestException("Invalid cursor for sort " + parsedSort.getValue());
+            }
+            try {
+                afterId = Long.parseLong(parts[1]);
+                afterValue = parts[2];
+                if (!parsedSort.isByCompany()) {
+                    LocalDate.parse(afterValue);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        return new ApplicationListQuery(limit == null ? DEFAULT_LIMIT : limit, parsedSort, parsedStatus, company,
+                parseDate("from", from), parseDate("to", to), afterId, afterValue);
+    }
+
+    /**
+     * Returns the cursor of the page that starts after the given application.
+     */
+    public String cursorAfter(ApplicationSummary last) {
+        String value = sort.isByCompany() ? last.getCompany() : last.getApplicationDate().toString();
+        String raw = sort.getValue() + "|" + last.getId() + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    /**
+     * Returns the company filter as a case-insensitive LIKE pattern matching it anywhere in the
+     * name, with {@code \} as the escape character, or null if there is no company filter.
+     */
+    public String companyPattern() {
+        if (company == null) {
+            return null;
+        }
+        String escaped = company.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    /** Inclusive lower bound for application dates. */
+    public LocalDate startDate() {
+        return from == null ? MIN_DATE : from;
+    }
+
+    /** Inclusive upper bound for application dates. */
+    public LocalDate endDate() {
+        return to == null ? MAX_DATE : to;
+    }
+
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    public LocalDate getAfterDate() {
+        return afterValue == null || sort.isByCompany() ? null : LocalDate.parse(afterValue);
+    }
+
+    public String getAfterCompany() {
+        return sort.isByCompany() ? afterValue : null;
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private static LocalDate parseDate(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid '" + name + "' date, expected yyyy-MM-dd: " + value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ApplicationListQuery{limit=" + limit + ", sort=" + sort.getValue() + ", status=" + status
+                + ", company=" + company + ", from=" + from + ", to=" + to + ", afterId=" + afterId + "}";
+    }
+}
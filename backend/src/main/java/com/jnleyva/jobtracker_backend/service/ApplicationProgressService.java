@@ -0,0 +1,103 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recomputes the progression summary columns of applications - the statuses reached, the highest
+ * of them, the time of the last status change and the numbers of interviews and contacts - from
+ * their status history, interviews and contacts, with two set-based updates.
+ *
+ * <p>The service layer keeps these columns current on every write through the entities; this is
+ * for rows inserted in bulk with JDBC, and for the one-time backfill of rows written before the
+ * columns existed.
+ */
+@Service
+public class ApplicationProgressService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationProgressService.class);
+
+    private static final String REFRESH_COUNTS = "UPDATE applications a SET reached_status_mask = "
+            + reachedStatusMask() + ", "
+            + "interview_count = (SELECT COUNT(*) FROM interviews i WHERE i.application_id = a.application_id), "
+            + "contact_count = (SELECT COUNT(*) FROM contacts c WHERE c.application_id = a.application_id), "
+            + "last_status_change_at = (SELECT MAX(h.changed_at) FROM application_status_history h "
+            + "WHERE h.application_id = a.application_id)";
+
+    private static final String REFRESH_HIGHEST = "UPDATE applications SET highest_status_reached = "
+            + highestStatusReached();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Recomputes the columns of every application of a user.
+     */
+    @Transactional
+    public int refreshForUser(Long userId) {
+        int updated = jdbcTemplate.update(REFRESH_COUNTS + " WHERE a.user_id = ?", userId);
+        jdbcTemplate.update(REFRESH_HIGHEST + " WHERE user_id = ?", userId);
+        evictCachedApplications();
+        return updated;
+    }
+
+    /**
+     * Computes the columns of the applications written before they existed. Every application has
+     * reached at least its current status, so those are the ones without any status bit.
+     */
+    @Transactional
+    public int backfill() {
+        int updated = jdbcTemplate.update(REFRESH_COUNTS + " WHERE a.reached_status_mask = 0");
+        if (updated == 0) {
+            return 0;
+        }
+        jdbcTemplate.update(REFRESH_HIGHEST + " WHERE highest_status_reached IS NULL");
+        evictCachedApplications();
+        logger.info("Backfilled the progression columns of {} applications", updated);
+        return updated;
+    }
+
+    private void evictCachedApplications() {
+        // The updates bypass Hibernate, so cached copies would still have the old values
+        entityManagerFactory.getCache().evict(Application.class);
+    }
+
+    /**
+     * Sum of the bits of the current status and of every status in the history.
+     */
+    private static String reachedStatusMask() {
+        List<String> bits = new ArrayList<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            String code = "'" + status.getCode() + "'";
+            bits.add("CASE WHEN a.status = " + code + " OR EXISTS (SELECT 1 FROM application_status_history h "
+                    + "WHERE h.application_id = a.application_id AND h.status = " + code + ") THEN "
+                    + status.getBit() + " ELSE 0 END");
+        }
+        return String.join(" + ", bits);
+    }
+
+    /**
+     * The first status of the mask in progression order, like ApplicationStatus.highestReached.
+     */
+    private static String highestStatusReached() {
+        StringBuilder highest = new StringBuilder("CASE");
+        for (ApplicationStatus status : ApplicationStatus.byProgression()) {
+            highest.append(" WHEN MOD(reached_status_mask / ").append(status.getBit()).append(", 2) = 1 THEN '")
+                    .append(status.getCode()).append("'");
+        }
+        return highest.append(" ELSE status END").toString();
+    }
+}
@@ -1,6 +1,8 @@
 package com.jnleyva.jobtracker_backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationPage;
 import java.util.List;
 
 public interface ApplicationService {
@@ -11,9 +13,11 @@ public interface ApplicationService {
     Application getApplicationById(Long id);
     List<Application> getAllApplications();
     List<Application> getApplicationsByUserId(Long userId);
+    ApplicationPage listApplications(Long userId, ApplicationListQuery query);
 
-    // Update operation
+    // Update operations
     Application updateApplication(Long id, Application applicationDetails);
+    Application patchApplication(Long id, JsonNode patch);
 
     // Delete operations
     void deleteApplication(Long id);
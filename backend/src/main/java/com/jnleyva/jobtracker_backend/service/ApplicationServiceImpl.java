@@ -1,13 +1,23 @@
 package com.jnleyva.jobtracker_backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
 import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationPage;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
 import com.jnleyva.jobtracker_backend.model.ApplicationStatusHistory;
+import com.jnleyva.jobtracker_backend.model.ApplicationSummary;
+import com.jnleyva.jobtracker_backend.model.SyncTombstone;
 import com.jnleyva.jobtracker_backend.model.User;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import com.jnleyva.jobtracker_backend.repository.ApplicationStatusHistoryRepository;
+import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
 import com.jnleyva.jobtracker_backend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.EntityManager;
@@ -15,10 +25,17 @@ import jakarta.persistence.PersistenceContext;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class ApplicationServiceImpl implements ApplicationService {
 
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("company", "jobTitle", "location", "url",
+            "description", "compensation", "compensationType", "experienceLevel", "status", "offerStatus",
+            "applicationDate");
+    private static final Set<String> REQUIRED_FIELDS = Set.of("company", "jobTitle", "status", "applicationDate");
+
     @Autowired
     private ApplicationRepository applicationRepository;
 
@@ -28,6 +45,27 @@ public class ApplicationServiceImpl implements ApplicationService {
     @Autowired
     private ApplicationStatusHistoryRepository statusHistoryRepository;
 
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ApplicationArchiveService archiveService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -57,6 +95,10 @@ public class ApplicationServiceImpl implements ApplicationService {
         );
         statusHistoryRepository.save(initialStatus);
 
+        dataVersionService.bump(userId);
+        statisticsProjection.applicationCreated(savedApplication);
+        searchService.applicationSaved(savedApplication);
+
         return savedApplication;
     }
 
@@ -80,15 +122,50 @@ public class ApplicationServiceImpl implements ApplicationService {
         return applicationRepository.findByUserId(userId);
     }
 
+    /**
+     * Returns one keyset page of the applications of a user, or of every user if userId is null.
+     * One row more than the page size is read to tell whether another page follows.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApplicationPage listApplications(Long userId, ApplicationListQuery query) {
+        Pageable rows = PageRequest.of(0, query.getLimit() + 1);
+        List<ApplicationSummary> applications;
+        switch (query.getSort()) {
+            case APPLICATION_DATE_ASC:
+                applications = applicationRepository.findPageByApplicationDateAsc(userId, query.getStatus(),
+                        query.companyPattern(), query.startDate(), query.endDate(), query.getAfterDate(), query.getAfterId(), rows);
+                break;
+            case COMPANY_ASC:
+                applications = applicationRepository.findPageByCompanyAsc(userId, query.getStatus(),
+                        query.companyPattern(), query.startDate(), query.endDate(), query.getAfterCompany(), query.getAfterId(), rows);
+                break;
+            case COMPANY_DESC:
+                applications = applicationRepository.findPageByCompanyDesc(userId, query.getStatus(),
+                        query.companyPattern(), query.startDate(), query.endDate(), query.getAfterCompany(), query.getAfterId(), rows);
+                break;
+            default:
+                applications = applicationRepository.findPageByApplicationDateDesc(userId, query.getStatus(),
+                        query.companyPattern(), query.startDate(), query.endDate(), query.getAfterDate(), query.getAfterId(), rows);
+                break;
+        }
+
+        String nextCursor = null;
+        if (applications.size() > query.getLimit()) {
+            applications = applications.subList(0, query.getLimit());
+            nextCursor = query.cursorAfter(applications.get(applications.size() - 1));
+        }
+        return new ApplicationPage(applications, nextCursor, query.getLimit());
+    }
+
     @Override
     @Transactional
     public Application updateApplication(Long id, Application applicationDetails) {
         Application application = getApplicationById(id);
+        UserStatisticsProjection.ApplicationSnapshot before = statisticsProjection.snapshot(application);
         
-        // Check if status is changing
-        String oldStatus = application.getStatus();
-        String newStatus = applicationDetails.getStatus();
-        boolean statusChanged = !oldStatus.equals(newStatus);
+        // Remember the status, a change is recorded in the history
+        ApplicationStatus oldStatus = application.getStatus();
 
         // Update fields
         application.setCompany(applicationDetails.getCompany());
@@ -102,6 +179,29 @@ public class ApplicationServiceImpl implements ApplicationService {
         application.setStatus(applicationDetails.getStatus());
         application.setApplicationDate(applicationDetails.getApplicationDate());
         
+        return saveChanges(application, before, oldStatus);
+    }
+
+    /**
+     * Applies a JSON Merge Patch: only the fields in the patch change, and only the changed
+     * columns are written. A status change is recorded in the history like a full update.
+     */
+    @Override
+    @Transactional
+    public Application patchApplication(Long id, JsonNode patch) {
+        Application application = getApplicationById(id);
+        UserStatisticsProjection.ApplicationSnapshot before = statisticsProjection.snapshot(application);
+        ApplicationStatus oldStatus = application.getStatus();
+
+        MergePatch.requireKept(patch, REQUIRED_FIELDS, "company, jobTitle, status and applicationDate cannot be removed");
+        MergePatch.apply(objectMapper, patch, application, PATCHABLE_FIELDS);
+        application.truncateToColumnLengths();
+
+        return saveChanges(application, before, oldStatus);
+    }
+
+    private Application saveChanges(Application application, UserStatisticsProjection.ApplicationSnapshot before,
+                                    ApplicationStatus oldStatus) {
         // Update timestamp
         application.setUpdatedAt(LocalDateTime.now());
 
@@ -109,15 +209,19 @@ public class ApplicationServiceImpl implements ApplicationService {
         Application savedApplication = applicationRepository.save(application);
 
         // If status changed, create a new status history entry
-        if (statusChanged) {
+        if (oldStatus != application.getStatus()) {
             ApplicationStatusHistory statusChange = new ApplicationStatusHistory(
                 savedApplication, 
-                newStatus, 
+                application.getStatus(), 
                 savedApplication.getUser().getUsername()
             );
             statusHistoryRepository.save(statusChange);
         }
 
+        dataVersionService.bump(savedApplication.getUser().getId());
+        statisticsProjection.applicationUpdated(savedApplication, before);
+        searchService.applicationSaved(savedApplication);
+
         return savedApplication;
     }
 
@@ -125,6 +229,18 @@ public class ApplicationServiceImpl implements ApplicationService {
     @Transactional
     public void deleteApplication(Long id) {
         Application application = getApplicationById(id);
+        UserStatisticsProjection.ApplicationSnapshot before = statisticsProjection.snapshot(application);
+        List<UserStatisticsProjection.InterviewSnapshot> interviews = interviewRepository.findByApplicationId(id).stream()
+                .map(statisticsProjection::snapshot)
+                .collect(Collectors.toList());
+
+        // Counters are adjusted first; their queries flush the session, which must not happen
+        // between removing the application and the end of the transaction
+        dataVersionService.bump(application.getUser().getId());
+        statisticsProjection.applicationDeleted(before, interviews);
+        searchService.applicationDeleted(application);
+        syncService.recordDeletion(application.getUser().getId(), SyncTombstone.APPLICATION, id, id);
+
         applicationRepository.delete(application);
     }
 
@@ -136,6 +252,8 @@ public class ApplicationServiceImpl implements ApplicationService {
             throw new ResourceNotFoundException("User", "id", userId);
         }
         
+        syncService.recordApplicationsOfUserDeleted(userId);
+
         // Use bulk delete queries in the correct order to avoid foreign key constraint violations
         // First delete all status history entries for applications owned by this user
         entityManager.createQuery(
@@ -154,8 +272,14 @@ public class ApplicationServiceImpl implements ApplicationService {
             "DELETE FROM Application a WHERE a.user.id = :userId")
             .setParameter("userId", userId)
             .executeUpdate();
+        archiveService.deleteArchivedApplications(userId);
         
         // Flush to ensure all deletes are committed
         entityManager.flush();
+
+        // The user has no applications left, so the counters are simply rebuilt on the next read
+        statisticsProjection.clear(userId);
+        searchService.userDataChanged(userId);
+        dataVersionService.bump(userId);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.UserStatistic.Metric;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Aggregates the archive tables of the {@link ApplicationArchiveService} for the statistics over
+ * a window, which are computed from the tables on every call rather than from the projection.
+ * Every result has the shape of its counterpart over the active applications, so the two can
+ * simply be added up.
+ */
+@Service
+public class ArchivedStatisticsService {
+
+    private static final String APPLICATIONS = ApplicationArchiveService.ARCHIVED_APPLICATIONS;
+    private static final String INTERVIEWS = ApplicationArchiveService.ARCHIVED_INTERVIEWS;
+    private static final String STATUS_HISTORY = ApplicationArchiveService.ARCHIVED_STATUS_HISTORY;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Computes the statistics counters of the archived applications submitted and the archived
+     * interviews taking place within a window, of a user or of every user for a null userId, to
+     * be merged with the counters of the active ones. The all-time statistics use the archived
+     * counters of the projection instead.
+     */
+    @Transactional(readOnly = true)
+    public StatisticCounters windowCounters(Long userId, StatisticsWindow window) {
+        Map<String, Object> parameters = windowParameters(userId, window);
+        String applications = " FROM " + APPLICATIONS + " a" + applicationsInWindow(userId);
+        String interviews = " FROM " + INTERVIEWS + " i JOIN " + APPLICATIONS
+                + " a ON a.application_id = i.application_id" + interviewsInWindow(userId);
+        StatisticCounters counters = new StatisticCounters();
+
+        counters.add(Metric.TOTAL_APPLICATIONS, count("SELECT COUNT(*)" + applications, parameters));
+        namedJdbcTemplate.query("SELECT a.status, COUNT(*)" + applications + " GROUP BY a.status", parameters,
+                (ResultSet rs) -> { counters.add(Metric.CURRENT_STATUS, label(rs.getString(1)), rs.getLong(2)); });
+        // The progression columns are not archived; an application reached its current status and
+        // every status of its history
+        namedJdbcTemplate.query("SELECT r.status, COUNT(DISTINCT r.application_id) FROM ("
+                + "SELECT a.application_id, a.status" + applications + " UNION "
+                + "SELECT h.application_id, h.status FROM " + STATUS_HISTORY + " h JOIN " + APPLICATIONS
+                + " a ON a.application_id = h.application_id" + applicationsInWindow(userId) + ") r GROUP BY r.status",
+                parameters,
+                (ResultSet rs) -> { counters.add(Metric.REACHED_STATUS, label(rs.getString(1)), rs.getLong(2)); });
+        namedJdbcTemplate.query("SELECT a.offer_status, COUNT(*)" + applications
+                + " AND a.offer_status IS NOT NULL AND a.offer_status <> '' GROUP BY a.offer_status", parameters,
+                (ResultSet rs) -> { counters.add(Metric.OFFER_STATUS, rs.getString(1), rs.getLong(2)); });
+        namedJdbcTemplate.query("SELECT EXTRACT(YEAR FROM a.application_date), EXTRACT(MONTH FROM a.application_date), COUNT(*)"
+                + applications + " GROUP BY EXTRACT(YEAR FROM a.application_date), EXTRACT(MONTH FROM a.application_date)",
+                parameters, (ResultSet rs) -> {
+                    counters.add(Metric.APPLICATION_MONTH, YearMonth.of(rs.getInt(1), rs.getInt(2)).toString(), rs.getLong(3));
+                });
+        try (Stream<Object[]> statusChanges = namedJdbcTemplate.queryForStream(
+                "SELECT h.application_id, a.application_date, h.status, h.changed_at FROM " + STATUS_HISTORY
+                        + " h JOIN " + APPLICATIONS + " a ON a.application_id = h.application_id"
+                        + applicationsInWindow(userId) + " ORDER BY h.application_id, h.changed_at, h.history_id",
+                parameters, (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getDate(2).toLocalDate(),
+                        ApplicationStatus.fromCode(rs.getString(3).charAt(0)), rs.getTimestamp(4).toLocalDateTime()})) {
+            UserStatisticsProjection.addDurationRows(counters, statusChanges);
+        }
+
+        counters.add(Metric.TOTAL_INTERVIEWS, count("SELECT COUNT(*)" + interviews, parameters));
+        namedJdbcTemplate.query("SELECT i.type, COUNT(*)" + interviews + " GROUP BY i.type", parameters,
+                (ResultSet rs) -> { counters.add(Metric.INTERVIEW_TYPE, rs.getString(1), rs.getLong(2)); });
+        namedJdbcTemplate.query("SELECT i.status, COUNT(*)" + interviews + " GROUP BY i.status", parameters,
+                (ResultSet rs) -> {
+                    counters.add(Metric.INTERVIEW_STATUS, UserStatisticsProjection.interviewStatus(rs.getString(1)), rs.getLong(2));
+                });
+        namedJdbcTemplate.query("SELECT EXTRACT(YEAR FROM i.interview_date), EXTRACT(MONTH FROM i.interview_date), COUNT(*)"
+                + interviews + " GROUP BY EXTRACT(YEAR FROM i.interview_date), EXTRACT(MONTH FROM i.interview_date)",
+                parameters, (ResultSet rs) -> {
+                    counters.add(Metric.INTERVIEW_MONTH, YearMonth.of(rs.getInt(1), rs.getInt(2)).toString(), rs.getLong(3));
+                });
+        counters.add(Metric.APPLICATIONS_WITH_INTERVIEWS,
+                count("SELECT COUNT(DISTINCT i.application_id)" + interviews, parameters));
+        return counters;
+    }
+
+    /**
+     * Counts the archived applications of a user, or of every user, per application day within
+     * a window. Rows are [day, count].
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> countApplicationsByDay(Long userId, StatisticsWindow window) {
+        return namedJdbcTemplate.query("SELECT a.application_date, COUNT(*) FROM " + APPLICATIONS + " a"
+                + applicationsInWindow(userId) + " GROUP BY a.application_date", windowParameters(userId, window),
+                (rs, rowNum) -> new Object[]{rs.getDate(1).toLocalDate(), rs.getLong(2)});
+    }
+
+    /**
+     * Counts the archived interviews of a user, or of every user, per interview day within a
+     * window. Rows are [day, count].
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> countInterviewsByDay(Long userId, StatisticsWindow window) {
+        return namedJdbcTemplate.query("SELECT CAST(i.interview_date AS DATE), COUNT(*) FROM " + INTERVIEWS
+                + " i JOIN " + APPLICATIONS + " a ON a.application_id = i.application_id" + interviewsInWindow(userId)
+                + " GROUP BY CAST(i.interview_date AS DATE)", windowParameters(userId, window),
+                (rs, rowNum) -> new Object[]{rs.getDate(1).toLocalDate(), rs.getLong(2)});
+    }
+
+    /**
+     * Returns [upcoming, past, today] counts of the archived interviews of a user, or of every
+     * user, within a window, relative to the given day boundaries.
+     */
+    @Transactional(readOnly = true)
+    public long[] countInterviewsByTiming(Long userId, StatisticsWindow window, LocalDateTime startOfToday,
+                                          LocalDateTime startOfTomorrow) {
+        Map<String, Object> parameters = windowParameters(userId, window);
+        parameters.put("startOfToday", Timestamp.valueOf(startOfToday));
+        parameters.put("startOfTomorrow", Timestamp.valueOf(startOfTomorrow));
+        return namedJdbcTemplate.queryForObject("SELECT "
+                + "COALESCE(SUM(CASE WHEN i.interview_date >= :startOfTomorrow THEN 1 ELSE 0 END), 0), "
+                + "COALESCE(SUM(CASE WHEN i.interview_date < :startOfToday THEN 1 ELSE 0 END), 0), "
+                + "COALESCE(SUM(CASE WHEN i.interview_date >= :startOfToday AND i.interview_date < :startOfTomorrow THEN 1 ELSE 0 END), 0) "
+                + "FROM " + INTERVIEWS + " i JOIN " + APPLICATIONS + " a ON a.application_id = i.application_id"
+                + interviewsInWindow(userId), parameters,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)});
+    }
+
+    // The user condition is left out for every user rather than made optional, so the
+    // (user_id, application_id) index can serve it
+    private static String applicationsInWindow(Long userId) {
+        return " WHERE a.application_date >= :fromDate AND a.application_date < :toDate"
+                + (userId == null ? "" : " AND a.user_id = :userId");
+    }
+
+    private static String interviewsInWindow(Long userId) {
+        return " WHERE i.interview_date >= :fromTime AND i.interview_date < :toTime"
+                + (userId == null ? "" : " AND a.user_id = :userId");
+    }
+
+    private static Map<String, Object> windowParameters(Long userId, StatisticsWindow window) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("userId", userId);
+        parameters.put("fromDate", java.sql.Date.valueOf(window.startDate()));
+        parameters.put("toDate", java.sql.Date.valueOf(window.endDate()));
+        parameters.put("fromTime", Timestamp.valueOf(window.startTime()));
+        parameters.put("toTime", Timestamp.valueOf(window.endTime()));
+        return parameters;
+    }
+
+    private long count(String sql, Map<String, Object> parameters) {
+        Long count = namedJdbcTemplate.queryForObject(sql, parameters, Long.class);
+        return count == null ? 0L : count;
+    }
+
+    private static String label(String code) {
+        return ApplicationStatus.fromCode(code.charAt(0)).getLabel();
+    }
+}
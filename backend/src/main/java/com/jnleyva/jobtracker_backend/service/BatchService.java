@@ -0,0 +1,333 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.exception.ResourceAlreadyExistsException;
+import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.BatchRequest.Operation;
+import com.jnleyva.jobtracker_backend.model.BatchResponse;
+import com.jnleyva.jobtracker_backend.model.BatchResponse.OperationResult;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.InterviewDTO;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Executes a batch of create, update, patch and delete operations on applications, interviews and
+ * contacts for one user.
+ *
+ * <p>The batch is authorized once: the owners of every application it refers to are read with
+ * a single query before anything runs. The operations then run in order in one transaction,
+ * through the same services as the single-resource endpoints, so status history, statistics,
+ * the search index and the data version are maintained as usual. The first failing operation
+ * rolls the whole batch back.
+ *
+ * <p>The session is flushed once, after the last operation, so the updates and deletes Hibernate
+ * still holds by then go to the database in JDBC batches. Inserts are not batched: their ids come
+ * from identity columns, so each one is executed when its entity is saved. A statement failing
+ * in that flush cannot be traced back to an operation, so only then is the batch run again,
+ * flushing after every operation, to report the operation that caused it.
+ */
+@Service
+public class BatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchService.class);
+
+    @Value("${batch.max-operations:100}")
+    private int maxOperations;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BatchResponse execute(User user, boolean isAdmin, List<Operation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new BadRequestException("The batch has no operations");
+        }
+        if (operations.size() > maxOperations) {
+            throw new BadRequestException("A batch can have at most " + maxOperations + " operations");
+        }
+
+        BatchResponse response = new BatchResponse();
+        for (int i = 0; i < operations.size(); i++) {
+            String invalid = validate(operations.get(i));
+            if (invalid != null) {
+                response.getResults().add(new OperationResult(i, HttpStatus.BAD_REQUEST.value(), null, null, invalid));
+                return response;
+            }
+        }
+        if (!isAdmin) {
+            OperationResult forbidden = authorize(user, operations);
+            if (forbidden != null) {
+                response.getResults().add(forbidden);
+                return response;
+            }
+        }
+
+        long started = System.currentTimeMillis();
+        if (!runInTransaction(user, operations, false, response)) {
+            response.getResults().clear();
+            runInTransaction(user, operations, true, response);
+        }
+
+        if (!response.isCommitted()) {
+            // Nothing was stored, so the entities of the operations before the failure are not returned
+            response.getResults().forEach(result -> result.setBody(null));
+        }
+        logger.debug("Batch of {} operations for user {} {} in {} ms", operations.size(), user.getId(),
+                response.isCommitted() ? "committed" : "rolled back", System.currentTimeMillis() - started);
+        return response;
+    }
+
+    /**
+     * Returns why an operation is malformed, or null if it can run.
+     */
+    private static String validate(Operation operation) {
+        String op = operation.getOp();
+        String resource = operation.getResource();
+        if (!Operation.CREATE.equals(op) && !Operation.UPDATE.equals(op) && !Operation.PATCH.equals(op)
+                && !Operation.DELETE.equals(op)) {
+            return "'op' must be create, update, patch or delete";
+        }
+        if (!Operation.APPLICATION.equals(resource) && !Operation.INTERVIEW.equals(resource) && !Operation.CONTACT.equals(resource)) {
+            return "'resource' must be application, interview or contact";
+        }
+        if (!Operation.CREATE.equals(op) && operation.getId() == null) {
+            return "'id' is required to " + op + " a " + resource;
+        }
+        if (!Operation.APPLICATION.equals(resource) && operation.getApplicationId() == null) {
+            return "'applicationId' is required for a " + resource;
+        }
+        if (!Operation.DELETE.equals(op) && (operation.getBody() == null || !operation.getBody().isObject())) {
+            return "'body' must be an object to " + op + " a " + resource;
+        }
+        return null;
+    }
+
+    /**
+     * Checks with one query that every application the batch refers to belongs to the user.
+     * Applications that do not exist are left to the operation, which answers 404.
+     */
+    private OperationResult authorize(User user, List<Operation> operations) {
+        Set<Long> applicationIds = new HashSet<>();
+        for (Operation operation : operations) {
+            Long applicationId = applicationId(operation);
+            if (applicationId != null) {
+                applicationIds.add(applicationId);
+            }
+        }
+        if (applicationIds.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Long> owners = new HashMap<>();
+        for (Object[] row : applicationRepository.findOwnerIds(applicationIds)) {
+            owners.put((Long) row[0], (Long) row[1]);
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            Long owner = owners.get(applicationId(operations.get(i)));
+            if (owner != null && !owner.equals(user.getId())) {
+                return new OperationResult(i, HttpStatus.FORBIDDEN.value(), null, null, "Access denied");
+            }
+        }
+        return null;
+    }
+
+    private static Long applicationId(Operation operation) {
+        if (Operation.APPLICATION.equals(operation.getResource())) {
+            return operation.getId();
+        }
+        return operation.getApplicationId();
+    }
+
+    /**
+     * Runs the operations in one transaction, which is committed if they all succeed. Returns
+     * false if they succeeded but their writes could not be flushed; the transaction is then
+     * rolled back and the results of the operations are not meaningful.
+     */
+    private boolean runInTransaction(User user, List<Operation> operations, boolean flushEach, BatchResponse response) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Boolean flushed = transaction.execute(status -> {
+            for (int i = 0; i < operations.size(); i++) {
+                OperationResult result = run(i, operations.get(i), user, flushEach);
+                response.getResults().add(result);
+                if (result.getError() != null) {
+                    status.setRollbackOnly();
+                    return true;
+                }
+            }
+            try {
+                entityManager.flush();
+            } catch (PersistenceException | ConstraintViolationException e) {
+                logger.debug("Batch for user {} could not be flushed, running it again operation by operation: {}",
+                        user.getId(), e.getMessage());
+                status.setRollbackOnly();
+                return false;
+            }
+            response.setCommitted(true);
+            return true;
+        });
+        return Boolean.TRUE.equals(flushed);
+    }
+
+    private OperationResult run(int index, Operation operation, User user, boolean flush) {
+        try {
+            OperationResult result = apply(index, operation, user);
+            if (flush) {
+                // Surface constraint violations of deferred updates and deletes on the operation that caused them
+                entityManager.flush();
+            }
+            return result;
+        } catch (ResourceNotFoundException e) {
+            return failure(index, HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (ResourceAlreadyExistsException e) {
+            return failure(index, HttpStatus.CONFLICT, e.getMessage());
+        } catch (ConstraintViolationException e) {
+            return failure(index, HttpStatus.BAD_REQUEST, violations(e.getConstraintViolations()));
+        } catch (DataIntegrityViolationException e) {
+            return failure(index, HttpStatus.BAD_REQUEST, "Could not be stored: " + e.getMostSpecificCause().getMessage());
+        } catch (PersistenceException e) {
+            return failure(index, HttpStatus.BAD_REQUEST, "Could not be stored: " + mostSpecificMessage(e));
+        } catch (BadRequestException | IllegalArgumentException e) {
+            return failure(index, HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private OperationResult apply(int index, Operation operation, User user) {
+        String op = operation.getOp();
+        Long id = operation.getId();
+        Long applicationId = operation.getApplicationId();
+        switch (operation.getResource()) {
+            case Operation.APPLICATION:
+                if (Operation.DELETE.equals(op)) {
+                    applicationService.deleteApplication(id);
+                    return new OperationResult(index, HttpStatus.NO_CONTENT.value(), id, null, null);
+                }
+                if (Operation.PATCH.equals(op)) {
+                    return new OperationResult(index, HttpStatus.OK.value(), id,
+                            applicationService.patchApplication(id, operation.getBody()), null);
+                }
+                Application application = body(operation.getBody(), Application.class);
+                application.truncateToColumnLengths();
+                if (Operation.CREATE.equals(op)) {
+                    Application created = applicationService.createApplication(application, user.getId());
+                    return new OperationResult(index, HttpStatus.CREATED.value(), created.getId(), created, null);
+                }
+                Application updated = applicationService.updateApplication(id, application);
+                return new OperationResult(index, HttpStatus.OK.value(), id, updated, null);
+
+            case Operation.INTERVIEW:
+                if (Operation.DELETE.equals(op)) {
+                    interviewService.deleteInterview(applicationId, id);
+                    return new OperationResult(index, HttpStatus.NO_CONTENT.value(), id, null, null);
+                }
+                if (Operation.PATCH.equals(op)) {
+                    return new OperationResult(index, HttpStatus.OK.value(), id,
+                            interviewService.patchInterview(applicationId, id, operation.getBody()), null);
+                }
+                InterviewDTO interview = body(operation.getBody(), InterviewDTO.class);
+                Set<ConstraintViolation<InterviewDTO>> violations = validator.validate(interview);
+                if (!violations.isEmpty()) {
+                    throw new BadRequestException(violations(violations));
+                }
+                if (Operation.CREATE.equals(op)) {
+                    Interview created = interviewService.createInterview(applicationId, interview);
+                    return new OperationResult(index, HttpStatus.CREATED.value(), created.getId(), created, null);
+                }
+                return new OperationResult(index, HttpStatus.OK.value(), id,
+                        interviewService.updateInterview(applicationId, id, interview), null);
+
+            default:
+                if (Operation.DELETE.equals(op)) {
+                    contactService.deleteContact(applicationId, id);
+                    return new OperationResult(index, HttpStatus.NO_CONTENT.value(), id, null, null);
+                }
+                if (Operation.PATCH.equals(op)) {
+                    return new OperationResult(index, HttpStatus.OK.value(), id,
+                            contactService.patchContact(applicationId, id, operation.getBody()), null);
+                }
+                Contact contact = body(operation.getBody(), Contact.class);
+                if (Operation.CREATE.equals(op)) {
+                    Contact created = contactService.createContact(applicationId, contact);
+                    return new OperationResult(index, HttpStatus.CREATED.value(), created.getId(), created, null);
+                }
+                return new OperationResult(index, HttpStatus.OK.value(), id,
+                        contactService.updateContact(applicationId, id, contact), null);
+        }
+    }
+
+    private <T> T body(JsonNode body, Class<T> type) {
+        try {
+            return objectMapper.treeToValue(body, type);
+        } catch (Exception e) {
+            throw new BadRequestException("Invalid body: " + e.getMessage());
+        }
+    }
+
+    private static String violations(Set<? extends ConstraintViolation<?>> violations) {
+        StringBuilder message = new StringBuilder();
+        for (ConstraintViolation<?> violation : violations) {
+            if (message.length() > 0) {
+                message.append("; ");
+            }
+            message.append(violation.getMessage());
+        }
+        return message.toString();
+    }
+
+    private static String mostSpecificMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private static OperationResult failure(int index, HttpStatus status, String message) {
+        return new OperationResult(index, status.value(), null, null, message);
+    }
+}
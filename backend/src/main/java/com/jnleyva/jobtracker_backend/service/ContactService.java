@@ -1,6 +1,11 @@
 package com.jnleyva.jobtracker_backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jnleyva.jobtracker_backend.model.Application;
 import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.OutboxEvent;
+import com.jnleyva.jobtracker_backend.model.SyncTombstone;
 import com.jnleyva.jobtracker_backend.repository.ContactRepository;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
@@ -9,9 +14,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class ContactService {
+
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("name", "email", "phone", "position");
+    private static final Set<String> REQUIRED_FIELDS = Set.of("name");
     
     @Autowired
     private ContactRepository contactRepository;
@@ -19,6 +28,21 @@ public class ContactService {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private DomainEventOutbox domainEventOutbox;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     public List<Contact> getAllContacts(Long applicationId) {
         if (!applicationRepository.existsById(applicationId)) {
             throw new ResourceNotFoundException("Application", "id", applicationId);
@@ -39,7 +63,13 @@ public class ContactService {
             throw new ResourceNotFoundException("Application", "id", applicationId);
         }
         contact.setApplication(applicationRepository.findById(applicationId).orElseThrow());
-        return contactRepository.save(contact);
+        Contact savedContact = contactRepository.save(contact);
+        Long userId = contact.getApplication().getUser().getId();
+        dataVersionService.bump(userId);
+        domainEventOutbox.record(userId, OutboxEvent.Type.CONTACT_CREATED, savedContact.getId());
+        searchService.contactSaved(savedContact);
+        updateContactCount(contact.getApplication());
+        return savedContact;
     }
 
     @Transactional
@@ -54,7 +84,33 @@ public class ContactService {
         contact.setPhone(contactDetails.getPhone());
         contact.setPosition(contactDetails.getPosition());
         
-        return contactRepository.save(contact);
+        Contact savedContact = contactRepository.save(contact);
+        Long userId = contact.getApplication().getUser().getId();
+        dataVersionService.bump(userId);
+        domainEventOutbox.record(userId, OutboxEvent.Type.CONTACT_UPDATED, contactId);
+        searchService.contactSaved(savedContact);
+        return savedContact;
+    }
+
+    /**
+     * Applies a JSON Merge Patch to a contact; only the changed columns are written.
+     */
+    @Transactional
+    public Contact patchContact(Long applicationId, Long contactId, JsonNode patch) {
+        if (!contactRepository.existsByApplicationIdAndId(applicationId, contactId)) {
+            throw new ResourceNotFoundException("Contact", "id", contactId);
+        }
+
+        Contact contact = contactRepository.findById(contactId).orElseThrow();
+        MergePatch.requireKept(patch, REQUIRED_FIELDS, "name cannot be removed");
+        MergePatch.apply(objectMapper, patch, contact, PATCHABLE_FIELDS);
+
+        Contact savedContact = contactRepository.save(contact);
+        Long userId = contact.getApplication().getUser().getId();
+        dataVersionService.bump(userId);
+        domainEventOutbox.record(userId, OutboxEvent.Type.CONTACT_UPDATED, contactId);
+        searchService.contactSaved(savedContact);
+        return savedContact;
     }
 
     @Transactional
@@ -63,5 +119,20 @@ public class ContactService {
             throw new ResourceNotFoundException("Contact", "id", contactId);
         }
         contactRepository.deleteById(contactId);
+        applicationRepository.findById(applicationId).ifPresent(application -> {
+            dataVersionService.bump(application.getUser().getId());
+            domainEventOutbox.record(application.getUser().getId(), OutboxEvent.Type.CONTACT_DELETED, contactId);
+            searchService.contactDeleted(application.getUser().getId(), contactId);
+            syncService.recordDeletion(application.getUser().getId(), SyncTombstone.CONTACT, contactId, applicationId);
+            updateContactCount(application);
+        });
+    }
+
+    /**
+     * Recounts the contacts of an application. Runs after the data version bump, which holds the
+     * user's row lock until commit, so contacts written concurrently are all counted.
+     */
+    private void updateContactCount(Application application) {
+        application.setContactCount((int) contactRepository.countByApplicationId(application.getId()));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming reader and writer of RFC 4180 CSV: comma separated, fields optionally
+ * enclosed in double quotes, with {@code ""} for a quote and line breaks allowed inside quotes.
+ */
+public final class Csv {
+
+    private Csv() {
+    }
+
+    /**
+     * Writes one record and a CRLF line break, quoting the fields that need it. Null fields are
+     * written empty.
+     */
+    public static void writeRecord(Writer writer, List<?> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object field = fields.get(i);
+            if (field != null) {
+                writer.write(escape(field.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    static String escape(String field) {
+        boolean quote = false;
+        for (int i = 0; i < field.length() && !quote; i++) {
+            char c = field.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + field.replace("\"", "\"\"") + '"' : field;
+    }
+
+    /**
+     * Reads records one at a time, without holding more than the current record in memory.
+     */
+    public static class RecordReader {
+
+        private final Reader reader;
+        private int line = 1;
+        private int recordLine;
+        private int pending = -2;
+
+        public RecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the fields of the next record, or null at the end of the input. Empty lines
+         * are skipped.
+         */
+        public List<String> next() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean started = false;
+            recordLine = line;
+
+            int c;
+            while ((c = read()) != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            unread(following);
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                    started = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    started = true;
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r') {
+                        int following = read();
+                        if (following != '\n') {
+                            unread(following);
+                        }
+                    }
+                    line++;
+                    if (started || field.length() > 0) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    // An empty line
+                    recordLine = line;
+                } else {
+                    field.append((char) c);
+                    started = true;
+                }
+            }
+            if (started || field.length() > 0) {
+                fields.add(field.toString());
+                return fields;
+            }
+            return null;
+        }
+
+        /**
+         * Returns the line the last record returned by {@link #next()} started on, counting from 1.
+         */
+        public int getRecordLine() {
+            return recordLine;
+        }
+
+        private int read() throws IOException {
+            if (pending != -2) {
+                int c = pending;
+                pending = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        private void unread(int c) {
+            pending = c;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
+import com.jnleyva.jobtracker_backend.model.UserDataVersion;
+import com.jnleyva.jobtracker_backend.repository.UserDataVersionRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Tracks a data version per user for conditional GETs.
+ *
+ * <p>Every service write to a user's applications, interviews, contacts or status history calls
+ * {@link #bump(Long)} in its own transaction, so the new version becomes visible together with
+ * the data. Controllers read the version before the data: a write committed in between makes the
+ * response newer than its ETag, which only costs the client one more full response.
+ */
+@Service
+public class DataVersionService {
+
+    @Autowired
+    private UserDataVersionRepository versionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StatisticsStreamService statisticsStreamService;
+
+    /**
+     * Marks the data of a user as changed, and notifies the statistics streams of the user once
+     * the change has committed.
+     */
+    @Transactional
+    public void bump(Long userId) {
+        if (versionRepository.increment(userId) == 0) {
+            // First write of this user: concurrent writers wait on the user row before inserting
+            userRepository.findByIdForUpdate(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+            if (versionRepository.increment(userId) == 0) {
+                versionRepository.save(new UserDataVersion(userId, 1));
+            }
+        }
+        statisticsStreamService.dataChanged(userId);
+    }
+
+    /**
+     * Returns a tag identifying the current data of a user ("&lt;user id&gt;-&lt;version&gt;"),
+     * or null if there is no such user. The user id is part of the tag so that two users sharing
+     * a browser never match each other's cached responses.
+     */
+    @Transactional(readOnly = true)
+    public String userTag(String username) {
+        List<Object[]> rows = versionRepository.findVersionByUsername(username);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        long version = row[1] == null ? 0L : ((Number) row[1]).longValue();
+        return row[0] + "-" + version;
+    }
+
+    /**
+     * Returns a tag identifying the data of all users, for the admin views.
+     */
+    @Transactional(readOnly = true)
+    public String allUsersTag() {
+        return "all-" + versionRepository.sumVersions();
+    }
+}
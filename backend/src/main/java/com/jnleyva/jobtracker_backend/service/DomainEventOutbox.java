@@ -0,0 +1,156 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jnleyva.jobtracker_backend.model.OutboxEvent;
+import com.jnleyva.jobtracker_backend.model.UserStatistic.Metric;
+import com.jnleyva.jobtracker_backend.repository.OutboxEventRepository;
+import com.jnleyva.jobtracker_backend.repository.UserDataVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The transactional outbox of application, interview and contact changes. A service write
+ * records one {@link OutboxEvent} in the caller's transaction instead of updating the statistics
+ * projection itself; {@link OutboxRelay} later applies the pending events of a user together, so
+ * a request only pays for one insert and many changes of one user cost one update per counter.
+ *
+ * <p>Each event is stamped with the user's data version, which the write bumps first: the bump
+ * holds the user's version row until commit, so versions order a user's events by commit, and
+ * {@link UserStatisticsProjection} keeps the newest version its counters include to tell which
+ * events a rebuild already counted.
+ *
+ * <p>The statistics projection is the only write deferred to the relay. The data version and the
+ * sync tombstones stay in the write transaction, because conditional GETs and delta sync read
+ * them as the point a change became visible: a tombstone written later would be missed by a
+ * client whose sync token already carries the new version. The in-memory search index is updated
+ * after commit and writes nothing to the database.
+ */
+@Service
+public class DomainEventOutbox {
+
+    private static final TypeReference<Map<Metric, Map<String, Long>>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserDataVersionRepository versionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Records a change that moves no statistics counter, such as a contact change.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long userId, OutboxEvent.Type type, Long aggregateId) {
+        record(userId, type, aggregateId, new StatisticCounters());
+    }
+
+    /**
+     * Records a change with its statistics deltas. Call after {@link DataVersionService#bump(Long)}
+     * in the same transaction; the event is stamped with the version that bump produced.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long userId, OutboxEvent.Type type, Long aggregateId, StatisticCounters deltas) {
+        Map<Metric, Map<String, Long>> payload = new EnumMap<>(Metric.class);
+        deltas.forEach((metric, bucket, delta) -> {
+            if (delta != 0) {
+                payload.computeIfAbsent(metric, m -> new HashMap<>()).put(bucket, delta);
+            }
+        });
+        long dataVersion = versionRepository.findVersion(userId).orElse(0L);
+        try {
+            outboxEventRepository.save(new OutboxEvent(userId, type, aggregateId, dataVersion,
+                    objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the deltas of " + type, e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasPendingEvents(Long userId) {
+        return outboxEventRepository.existsByUserId(userId);
+    }
+
+    /**
+     * Removes the pending events of a user and returns the sum of the deltas of those newer than
+     * {@code appliedVersion}; older ones are already included in the counters.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public PendingDeltas takePendingDeltas(Long userId, long appliedVersion) {
+        List<OutboxEvent> events = outboxEventRepository.findByUserIdOrderById(userId);
+        StatisticCounters deltas = new StatisticCounters();
+        long version = appliedVersion;
+        for (OutboxEvent event : events) {
+            if (event.getDataVersion() <= appliedVersion) {
+                continue;
+            }
+            version = Math.max(version, event.getDataVersion());
+            try {
+                objectMapper.readValue(event.getPayload(), PAYLOAD_TYPE).forEach((metric, buckets) ->
+                        buckets.forEach((bucket, delta) -> deltas.add(metric, bucket, delta)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not read the payload of outbox event " + event.getId(), e);
+            }
+        }
+        outboxEventRepository.deleteAllInBatch(events);
+        return new PendingDeltas(deltas, version);
+    }
+
+    /**
+     * Drops the pending events of a user whose counters are removed.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int discard(Long userId) {
+        return outboxEventRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * Drops the pending events of a user up to a data version, whose changes a rebuild counted.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int discardThrough(Long userId, long dataVersion) {
+        return outboxEventRepository.deleteThroughVersion(userId, dataVersion);
+    }
+
+    /**
+     * Returns up to {@code limit} users with pending events, those waiting longest first.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findUsersWithPendingEvents(int limit) {
+        return outboxEventRepository.findUserIdsWithPendingEvents(PageRequest.of(0, limit));
+    }
+
+    /**
+     * The summed deltas of a user's pending events, and the data version of the newest of them.
+     */
+    public static class PendingDeltas {
+        private final StatisticCounters deltas;
+        private final long version;
+
+        PendingDeltas(StatisticCounters deltas, long version) {
+            this.deltas = deltas;
+            this.version = version;
+        }
+
+        public StatisticCounters getDeltas() {
+            return deltas;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Quantile sketch for durations in minutes.
+ *
+ * <p>Every duration is counted in a logarithmic bucket, {@code ceil(log_gamma(minutes))}, so a
+ * quantile read from the sketch is within {@link #RELATIVE_ACCURACY} of the exact value while
+ * only one count per bucket is kept. Two sketches are merged by adding their bucket counts,
+ * which is what lets the statistics counters store them as ordinary buckets: the sketch of a
+ * user, of several users or of several admin partitions is the sum of their counters.
+ */
+public class DurationSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.02;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    /** Bucket of durations shorter than a minute. */
+    private static final int ZERO_BUCKET = 0;
+
+    private final TreeMap<Integer, Long> counts = new TreeMap<>();
+    private long count;
+
+    /**
+     * Returns the bucket a duration falls into.
+     */
+    public static int bucketOf(long minutes) {
+        if (minutes < 1) {
+            return ZERO_BUCKET;
+        }
+        // Shifted by one so one minute does not share the zero bucket
+        return 1 + (int) Math.ceil(Math.log(minutes) / LOG_GAMMA);
+    }
+
+    /**
+     * Returns the value that represents a bucket, with at most the relative error of the sketch
+     * for every duration in it.
+     */
+    static double valueOf(int bucket) {
+        if (bucket == ZERO_BUCKET) {
+            return 0.0;
+        }
+        return 2 * Math.pow(GAMMA, bucket - 1) / (GAMMA + 1);
+    }
+
+    /**
+     * Builds a sketch from bucket counters keyed by the bucket number.
+     */
+    public static DurationSketch fromCounters(Map<String, Long> buckets) {
+        DurationSketch sketch = new DurationSketch();
+        buckets.forEach((bucket, value) -> sketch.add(Integer.parseInt(bucket), value));
+        return sketch;
+    }
+
+    public void add(long minutes) {
+        add(bucketOf(minutes), 1);
+    }
+
+    public void add(int bucket, long value) {
+        // Buckets decremented back to zero are kept as counters, but carry no durations
+        if (value > 0) {
+            counts.merge(bucket, value, Long::sum);
+            count += value;
+        }
+    }
+
+    public void merge(DurationSketch other) {
+        other.counts.forEach(this::add);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the q-quantile (0 &lt;= q &lt;= 1) of the durations in minutes by the nearest-rank
+     * method, or 0 if the sketch is empty.
+     */
+    public double quantile(double q) {
+        if (count == 0) {
+            return 0.0;
+        }
+        // The epsilon keeps 0.9 * 10 from rounding up to the next rank
+        long rank = Math.max(0L, (long) Math.ceil(q * count - 1e-9) - 1);
+        long seen = 0;
+        for (Map.Entry<Integer, Long> entry : counts.entrySet()) {
+            seen += entry.getValue();
+            if (seen > rank) {
+                return valueOf(entry.getKey());
+            }
+        }
+        return valueOf(counts.lastKey());
+    }
+
+    @Override
+    public String toString() {
+        return "DurationSketch{count=" + count + ", buckets=" + counts + "}";
+    }
+}
@@ -0,0 +1,331 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.CalendarFeedToken;
+import com.jnleyva.jobtracker_backend.model.CalendarInterview;
+import com.jnleyva.jobtracker_backend.repository.CalendarFeedTokenRepository;
+import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Reads the interviews of all of a user's applications for the calendar views, and writes them
+ * as an iCalendar (RFC 5545) feed that calendar clients can subscribe to.
+ *
+ * <p>Interview dates are stored without a time zone, so the feed uses floating times: a client
+ * shows an interview at the stored wall-clock time in whatever zone it is in.
+ *
+ * <p>Calendar clients subscribe by URL and cannot send a JWT, so the feed can also be read with a
+ * per-user feed token (see {@link CalendarFeedToken}) that the user can replace or revoke.
+ */
+@Service
+public class InterviewCalendarService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterviewCalendarService.class);
+
+    static final DateTimeFormatter ICS_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    // RFC 5545 3.1: lines longer than 75 octets are folded
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private static final int DEFAULT_DURATION_MINUTES = 60;
+
+    private static final int FEED_TOKEN_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private CalendarFeedTokenRepository feedTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${interviews.calendar.max-range-days:366}")
+    private int maxRangeDays;
+
+    @Value("${interviews.calendar.feed-past-days:90}")
+    private int feedPastDays;
+
+    /**
+     * Returns the user's interviews from {@code from} to {@code to} (inclusive, yyyy-MM-dd),
+     * ordered by date. The range may span at most {@code interviews.calendar.max-range-days} days.
+     * Without either bound, returns all of the user's interviews.
+     */
+    @Transactional(readOnly = true)
+    public List<CalendarInterview> getInterviews(Long userId, String fromParam, String toParam) {
+        if (isBlank(fromParam) && isBlank(toParam)) {
+            return interviewRepository.findCalendarByUserId(userId);
+        }
+        LocalDate from = parseDate("from", fromParam);
+        LocalDate to = parseDate("to", toParam);
+        if (from.isAfter(to)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new BadRequestException("The date range must not span more than " + maxRangeDays + " days");
+        }
+        return interviewRepository.findCalendar(userId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static LocalDate parseDate(String name, String value) {
+        if (isBlank(value)) {
+            throw new BadRequestException("'" + name + "' is required");
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid '" + name + "' date, expected yyyy-MM-dd: " + value);
+        }
+    }
+
+    /**
+     * Issues a new feed token for the user, which replaces (and so revokes) the previous one.
+     * Only its hash is stored, so the token can be read only from the return value.
+     */
+    @Transactional
+    public String createFeedToken(Long userId) {
+        byte[] bytes = new byte[FEED_TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String tokenHash = hashFeedToken(token);
+
+        CalendarFeedToken feedToken = feedTokenRepository.findById(userId)
+                .orElseGet(() -> new CalendarFeedToken(userId, tokenHash));
+        feedToken.setTokenHash(tokenHash);
+        feedToken.setCreatedAt(LocalDateTime.now());
+        feedTokenRepository.save(feedToken);
+        logger.info("Issued calendar feed token for user {}", userId);
+        return token;
+    }
+
+    /**
+     * Revokes the user's feed token, if there is one; returns whether there was.
+     */
+    @Transactional
+    public boolean revokeFeedToken(Long userId) {
+        boolean revoked = feedTokenRepository.deleteByUserId(userId) > 0;
+        if (revoked) {
+            logger.info("Revoked calendar feed token for user {}", userId);
+        }
+        return revoked;
+    }
+
+    /**
+     * Returns the id of the user a feed token was issued to, or empty if it is not a current token.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findFeedTokenUser(String token) {
+        if (isBlank(token)) {
+            return Optional.empty();
+        }
+        return feedTokenRepository.findUserIdByTokenHash(hashFeedToken(token));
+    }
+
+    static String hashFeedToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform implements SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes the user's interviews of the last {@code interviews.calendar.feed-past-days} days and
+     * all later ones to {@code output} as an iCalendar feed. The interviews are written as they
+     * are read, so the feed is never held in memory. The output is flushed but not closed.
+     */
+    public void writeFeed(Long userId, OutputStream output) throws IOException {
+        long started = System.currentTimeMillis();
+        IcsWriter ics = new IcsWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+        ics.line("BEGIN:VCALENDAR");
+        ics.line("VERSION:2.0");
+        ics.line("PRODID:-//Job Application Tracker//Interviews//EN");
+        ics.line("CALSCALE:GREGORIAN");
+        ics.line("METHOD:PUBLISH");
+        ics.line("X-WR-CALNAME:Interviews");
+
+        LocalDateTime fromTime = LocalDate.now().minusDays(feedPastDays).atStartOfDay();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        int[] written = {0};
+        try {
+            transaction.executeWithoutResult(status -> {
+                try (Stream<CalendarInterview> interviews = interviewRepository.streamCalendar(userId, fromTime)) {
+                    interviews.forEach(interview -> {
+                        writeEvent(ics, interview);
+                        written[0]++;
+                    });
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // The client went away; the query is abandoned as soon as the failed write surfaces
+            throw e.getCause();
+        }
+        ics.line("END:VCALENDAR");
+        ics.flush();
+
+        logger.info("Wrote calendar feed of {} interviews for user {} in {} ms", written[0], userId,
+                System.currentTimeMillis() - started);
+    }
+
+    private static void writeEvent(IcsWriter ics, CalendarInterview interview) {
+        try {
+            LocalDateTime start = interview.getInterviewDate();
+            int duration = interview.getDurationMinutes() == null || interview.getDurationMinutes() <= 0
+                    ? DEFAULT_DURATION_MINUTES : interview.getDurationMinutes();
+            // DTSTAMP must be UTC; updatedAt is in the server's zone like every other timestamp
+            LocalDateTime stamp = interview.getUpdatedAt() == null ? start : interview.getUpdatedAt();
+
+            ics.line("BEGIN:VEVENT");
+            ics.line("UID:interview-" + interview.getId() + "@jobtracker");
+            ics.line("DTSTAMP:" + stamp.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC)
+                    .format(ICS_DATE_TIME) + "Z");
+            ics.line("DTSTART:" + start.format(ICS_DATE_TIME));
+            ics.line("DTEND:" + start.plusMinutes(duration).format(ICS_DATE_TIME));
+            ics.line("SUMMARY:" + escape(summary(interview)));
+            if (interview.getLocation() != null && !interview.getLocation().isBlank()) {
+                ics.line("LOCATION:" + escape(interview.getLocation()));
+            }
+            String description = description(interview);
+            if (!description.isEmpty()) {
+                ics.line("DESCRIPTION:" + escape(description));
+            }
+            ics.line("STATUS:" + ("CANCELLED".equalsIgnoreCase(interview.getStatus()) ? "CANCELLED" : "CONFIRMED"));
+            ics.line("END:VEVENT");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String summary(CalendarInterview interview) {
+        String type = interview.getType() == null || interview.getType().isBlank() ? "Interview" : interview.getType() + " interview";
+        return interview.getCompany() == null ? type : type + " - " + interview.getCompany();
+    }
+
+    private static String description(CalendarInterview interview) {
+        StringBuilder description = new StringBuilder();
+        if (interview.getJobTitle() != null) {
+            description.append(interview.getJobTitle());
+        }
+        if (interview.getInterviewerName() != null && !interview.getInterviewerName().isBlank()) {
+            appendLine(description, "Interviewer: " + interview.getInterviewerName());
+        }
+        if (interview.getMeetingLink() != null && !interview.getMeetingLink().isBlank()) {
+            appendLine(description, "Meeting link: " + interview.getMeetingLink());
+        }
+        return description.toString();
+    }
+
+    private static void appendLine(StringBuilder text, String line) {
+        if (text.length() > 0) {
+            text.append('\n');
+        }
+        text.append(line);
+    }
+
+    /**
+     * Escapes a TEXT value (RFC 5545 3.3.11).
+     */
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                    // A CRLF becomes one line break
+                    if (i + 1 >= value.length() || value.charAt(i + 1) != '\n') {
+                        escaped.append("\\n");
+                    }
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Writes content lines terminated by CRLF, folding those longer than 75 octets without
+     * splitting a UTF-8 sequence or a surrogate pair.
+     */
+    static class IcsWriter {
+        private final Writer writer;
+
+        IcsWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        void line(String line) throws IOException {
+            int octets = 0;
+            int i = 0;
+            while (i < line.length()) {
+                int codePoint = line.codePointAt(i);
+                int length = utf8Length(codePoint);
+                if (octets + length > MAX_LINE_OCTETS) {
+                    writer.write("\r\n ");
+                    // The leading space of a continuation line counts towards its length
+                    octets = 1;
+                }
+                writer.write(line, i, Character.charCount(codePoint));
+                octets += length;
+                i += Character.charCount(codePoint);
+            }
+            writer.write("\r\n");
+        }
+
+        void flush() throws IOException {
+            writer.flush();
+        }
+
+        private static int utf8Length(int codePoint) {
+            if (codePoint < 0x80) {
+                return 1;
+            }
+            if (codePoint < 0x800) {
+                return 2;
+            }
+            return codePoint < 0x10000 ? 3 : 4;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.jnleyva.jobtracker_backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jnleyva.jobtracker_backend.model.Application;
 import com.jnleyva.jobtracker_backend.model.Interview;
 import com.jnleyva.jobtracker_backend.model.InterviewDTO;
+import com.jnleyva.jobtracker_backend.model.SyncTombstone;
 import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
@@ -12,9 +16,15 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class InterviewService {
+
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("type", "interviewDate", "notes", "status",
+            "interviewerName", "interviewerEmail", "location", "durationMinutes", "cancellationReason",
+            "meetingLink", "interviewFeedback", "originalDate");
+    private static final Set<String> REQUIRED_FIELDS = Set.of("type", "interviewDate");
     
     @Autowired
     private InterviewRepository interviewRepository;
@@ -22,6 +32,21 @@ public class InterviewService {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     public List<Interview> getAllInterviewsByApplicationId(Long applicationId) {
         if (!applicationRepository.existsById(applicationId)) {
             throw new ResourceNotFoundException("Application not found with id: " + applicationId);
@@ -44,7 +69,12 @@ public class InterviewService {
                 .map(application -> {
                     Interview interview = interviewDTO.toEntity();
                     interview.setApplication(application);
-                    return interviewRepository.save(interview);
+                    Interview savedInterview = interviewRepository.save(interview);
+                    dataVersionService.bump(savedInterview.getApplication().getUser().getId());
+                    statisticsProjection.interviewCreated(savedInterview);
+                    searchService.interviewSaved(savedInterview);
+                    updateInterviewCount(application);
+                    return savedInterview;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + applicationId));
     }
@@ -54,7 +84,12 @@ public class InterviewService {
         return applicationRepository.findById(applicationId)
                 .map(application -> {
                     interview.setApplication(application);
-                    return interviewRepository.save(interview);
+                    Interview savedInterview = interviewRepository.save(interview);
+                    dataVersionService.bump(savedInterview.getApplication().getUser().getId());
+                    statisticsProjection.interviewCreated(savedInterview);
+                    searchService.interviewSaved(savedInterview);
+                    updateInterviewCount(application);
+                    return savedInterview;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + applicationId));
     }
@@ -68,6 +103,7 @@ public class InterviewService {
         return interviewRepository.findById(interviewId)
                 .filter(interview -> interview.getApplication().getId().equals(applicationId))
                 .map(interview -> {
+                    UserStatisticsProjection.InterviewSnapshot before = statisticsProjection.snapshot(interview);
                     interview.setType(interviewDTO.getType());
                     interview.setInterviewDate(interviewDTO.getInterviewDate());
                     interview.setNotes(interviewDTO.getNotes());
@@ -80,7 +116,11 @@ public class InterviewService {
                     interview.setMeetingLink(interviewDTO.getMeetingLink());
                     interview.setInterviewFeedback(interviewDTO.getInterviewFeedback());
                     interview.setOriginalDate(interviewDTO.getOriginalDate());
-                    return interviewRepository.save(interview);
+                    Interview savedInterview = interviewRepository.save(interview);
+                    dataVersionService.bump(savedInterview.getApplication().getUser().getId());
+                    statisticsProjection.interviewUpdated(savedInterview, before);
+                    searchService.interviewSaved(savedInterview);
+                    return savedInterview;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Interview not found with id: " + interviewId + " for application: " + applicationId));
     }
@@ -94,6 +134,7 @@ public class InterviewService {
         return interviewRepository.findById(interviewId)
                 .filter(interview -> interview.getApplication().getId().equals(applicationId))
                 .map(interview -> {
+                    UserStatisticsProjection.InterviewSnapshot before = statisticsProjection.snapshot(interview);
                     interview.setType(interviewDetails.getType());
                     interview.setInterviewDate(interviewDetails.getInterviewDate());
                     interview.setNotes(interviewDetails.getNotes());
@@ -124,7 +165,35 @@ public class InterviewService {
                     if (interviewDetails.getOriginalDate() != null) {
                         interview.setOriginalDate(interviewDetails.getOriginalDate());
                     }
-                    return interviewRepository.save(interview);
+                    Interview savedInterview = interviewRepository.save(interview);
+                    dataVersionService.bump(savedInterview.getApplication().getUser().getId());
+                    statisticsProjection.interviewUpdated(savedInterview, before);
+                    searchService.interviewSaved(savedInterview);
+                    return savedInterview;
+                })
+                .orElseThrow(() -> new ResourceNotFoundException("Interview not found with id: " + interviewId + " for application: " + applicationId));
+    }
+
+    /**
+     * Applies a JSON Merge Patch to an interview; only the changed columns are written.
+     */
+    @Transactional
+    public Interview patchInterview(Long applicationId, Long interviewId, JsonNode patch) {
+        if (!applicationRepository.existsById(applicationId)) {
+            throw new ResourceNotFoundException("Application not found with id: " + applicationId);
+        }
+        
+        return interviewRepository.findById(interviewId)
+                .filter(interview -> interview.getApplication().getId().equals(applicationId))
+                .map(interview -> {
+                    MergePatch.requireKept(patch, REQUIRED_FIELDS, "type and interviewDate cannot be removed");
+                    UserStatisticsProjection.InterviewSnapshot before = statisticsProjection.snapshot(interview);
+                    MergePatch.apply(objectMapper, patch, interview, PATCHABLE_FIELDS);
+                    Interview savedInterview = interviewRepository.save(interview);
+                    dataVersionService.bump(savedInterview.getApplication().getUser().getId());
+                    statisticsProjection.interviewUpdated(savedInterview, before);
+                    searchService.interviewSaved(savedInterview);
+                    return savedInterview;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Interview not found with id: " + interviewId + " for application: " + applicationId));
     }
@@ -138,8 +207,13 @@ public class InterviewService {
         return interviewRepository.findById(interviewId)
                 .filter(interview -> interview.getApplication().getId().equals(applicationId))
                 .map(interview -> {
+                    UserStatisticsProjection.InterviewSnapshot before = statisticsProjection.snapshot(interview);
                     interview.cancel(reason);
-                    return interviewRepository.save(interview);
+                    Interview savedInterview = interviewRepository.save(interview);
+                    dataVersionService.bump(savedInterview.getApplication().getUser().getId());
+                    statisticsProjection.interviewUpdated(savedInterview, before);
+                    searchService.interviewSaved(savedInterview);
+                    return savedInterview;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Interview not found with id: " + interviewId + " for application: " + applicationId));
     }
@@ -153,8 +227,13 @@ public class InterviewService {
         return interviewRepository.findById(interviewId)
                 .filter(interview -> interview.getApplication().getId().equals(applicationId))
                 .map(interview -> {
+                    UserStatisticsProjection.InterviewSnapshot before = statisticsProjection.snapshot(interview);
                     interview.reschedule(newDate, reason);
-                    return interviewRepository.save(interview);
+                    Interview savedInterview = interviewRepository.save(interview);
+                    dataVersionService.bump(savedInterview.getApplication().getUser().getId());
+                    statisticsProjection.interviewUpdated(savedInterview, before);
+                    searchService.interviewSaved(savedInterview);
+                    return savedInterview;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Interview not found with id: " + interviewId + " for application: " + applicationId));
     }
@@ -168,8 +247,13 @@ public class InterviewService {
         return interviewRepository.findById(interviewId)
                 .filter(interview -> interview.getApplication().getId().equals(applicationId))
                 .map(interview -> {
+                    UserStatisticsProjection.InterviewSnapshot before = statisticsProjection.snapshot(interview);
                     interview.complete(feedback);
-                    return interviewRepository.save(interview);
+                    Interview savedInterview = interviewRepository.save(interview);
+                    dataVersionService.bump(savedInterview.getApplication().getUser().getId());
+                    statisticsProjection.interviewUpdated(savedInterview, before);
+                    searchService.interviewSaved(savedInterview);
+                    return savedInterview;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Interview not found with id: " + interviewId + " for application: " + applicationId));
     }
@@ -184,7 +268,21 @@ public class InterviewService {
                 .filter(i -> i.getApplication().getId().equals(applicationId))
                 .orElseThrow(() -> new ResourceNotFoundException("Interview not found with id: " + interviewId + " for application: " + applicationId));
         
+        Long userId = interview.getApplication().getUser().getId();
+        dataVersionService.bump(userId);
+        statisticsProjection.interviewDeleted(interview);
+        searchService.interviewDeleted(interview);
+        syncService.recordDeletion(userId, SyncTombstone.INTERVIEW, interviewId, applicationId);
         interviewRepository.delete(interview);
+        updateInterviewCount(interview.getApplication());
+    }
+
+    /**
+     * Recounts the interviews of an application. Runs after the data version bump, which holds the
+     * user's row lock until commit, so interviews written concurrently are all counted.
+     */
+    private void updateInterviewCount(Application application) {
+        application.setInterviewCount((int) interviewRepository.countByApplicationId(application.getId()));
     }
 
     public boolean existsByApplicationIdAndInterviewId(Long applicationId, Long interviewId) {
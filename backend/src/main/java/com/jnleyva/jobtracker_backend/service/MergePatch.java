@@ -0,0 +1,66 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Applies JSON Merge Patch (RFC 7396) documents to entities: every member of the patch replaces
+ * the field of the same name, {@code null} clears it, and fields the patch leaves out are kept.
+ * Only the fields a caller allows can be patched, so ids, owners and child collections cannot be
+ * changed this way.
+ */
+public final class MergePatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private MergePatch() {
+    }
+
+    /**
+     * Applies {@code patch} to {@code target} in place.
+     *
+     * @throws BadRequestException if the patch is not an object, names a field that cannot be
+     *                             patched, or has a value of the wrong type
+     */
+    public static void apply(ObjectMapper objectMapper, JsonNode patch, Object target, Set<String> fields) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("A merge patch must be a JSON object");
+        }
+        for (Iterator<String> names = patch.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!fields.contains(name)) {
+                throw new BadRequestException("'" + name + "' cannot be patched");
+            }
+        }
+
+        try {
+            objectMapper.readerForUpdating(target).readValue(patch);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new BadRequestException("Invalid patch: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rejects a patch that would clear one of the {@code required} fields (set it to null or to
+     * blank text). Checked before the patch is applied, so a rejected patch leaves the entity
+     * unchanged and nothing is written when the session is flushed later on.
+     *
+     * @throws BadRequestException with {@code message} if the patch clears a required field
+     */
+    public static void requireKept(JsonNode patch, Set<String> required, String message) {
+        if (patch == null || !patch.isObject()) {
+            return;
+        }
+        for (String name : required) {
+            JsonNode value = patch.get(name);
+            if (value != null && (value.isNull() || (value.isTextual() && value.asText().isBlank()))) {
+                throw new BadRequestException(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Applies the pending {@link DomainEventOutbox} events to the statistics projection, one user
+ * per transaction so a user's row lock is only held for that user's counter updates. Events that
+ * fail to apply stay in the outbox and are retried on the next run.
+ */
+@Service
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Autowired
+    private DomainEventOutbox domainEventOutbox;
+
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Relays batches of users until no events are pending or a pass makes no progress.
+     *
+     * @return the number of users whose events were applied
+     */
+    public int relayPendingEvents() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int relayed = 0;
+        while (true) {
+            List<Long> userIds = domainEventOutbox.findUsersWithPendingEvents(batchSize);
+            int applied = 0;
+            for (Long userId : userIds) {
+                try {
+                    transaction.executeWithoutResult(status -> statisticsProjection.applyPendingEvents(userId));
+                    applied++;
+                } catch (RuntimeException e) {
+                    logger.warn("Could not apply the outbox events of user {}: {}", userId, e.getMessage());
+                }
+            }
+            relayed += applied;
+            if (userIds.size() < batchSize || applied == 0) {
+                break;
+            }
+        }
+        if (relayed > 0) {
+            logger.debug("Relayed the outbox events of {} users", relayed);
+        }
+        return relayed;
+    }
+}
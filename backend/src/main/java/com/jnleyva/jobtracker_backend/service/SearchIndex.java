@@ -0,0 +1,292 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.model.SearchResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory inverted index of the searchable text of applications, interviews and contacts,
+ * used when the database has no full-text search.
+ *
+ * <p>Each user has an index of their own, loaded on their first search and then kept up to
+ * date by {@link #put}, {@link #remove} and {@link #removeApplication} as their data changes.
+ * At most {@code maxUsers} indexes are kept, least recently searched ones are dropped first and
+ * reloaded when needed.
+ *
+ * <p>Every term of a query has to match, either exactly or as the prefix of a term. Fields are
+ * weighted like the A to D weights of PostgreSQL's {@code ts_rank}, and repeated terms count
+ * logarithmically, so a long description does not outrank a matching company name.
+ */
+public class SearchIndex {
+
+    static final double WEIGHT_A = 1.0;
+    static final double WEIGHT_B = 0.4;
+    static final double WEIGHT_C = 0.2;
+    static final double WEIGHT_D = 0.1;
+
+    // A prefix match counts for less than the exact term
+    private static final double PREFIX_FACTOR = 0.5;
+    private static final int MAX_TERM_LENGTH = 64;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on",
+            "or", "our", "that", "the", "this", "to", "we", "will", "with", "you", "your");
+
+    private final int maxUsers;
+
+    // Access-ordered so the first entry is the least recently used one; guarded by "this"
+    private final LinkedHashMap<Long, UserIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+
+    public SearchIndex(int maxUsers) {
+        this.maxUsers = maxUsers;
+    }
+
+    /**
+     * Searches the documents of a user, loading them with {@code loader} if the user has no
+     * index yet. Concurrent searches of the user wait for a single load.
+     */
+    public List<SearchResult> search(Long userId, String query, int limit, Supplier<List<Document>> loader) {
+        List<String> terms = new ArrayList<>(new HashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        UserIndex index;
+        synchronized (this) {
+            index = indexes.get(userId);
+            if (index == null) {
+                index = new UserIndex();
+                indexes.put(userId, index);
+                evictOverflow();
+            }
+        }
+
+        synchronized (index) {
+            if (!index.loaded) {
+                try {
+                    // Changes committed while loading wait for the lock and are applied afterwards
+                    for (Document document : loader.get()) {
+                        index.put(document);
+                    }
+                    index.loaded = true;
+                } catch (RuntimeException e) {
+                    synchronized (this) {
+                        indexes.remove(userId, index);
+                    }
+                    throw e;
+                }
+            }
+            return index.search(terms, limit);
+        }
+    }
+
+    /**
+     * Adds a document to the index of a user, replacing an earlier version of it.
+     */
+    public void put(Long userId, Document document) {
+        UserIndex index = get(userId);
+        if (index != null) {
+            synchronized (index) {
+                index.put(document);
+            }
+        }
+    }
+
+    public void remove(Long userId, String type, Long id) {
+        UserIndex index = get(userId);
+        if (index != null) {
+            synchronized (index) {
+                index.remove(key(type, id));
+            }
+        }
+    }
+
+    /**
+     * Removes an application together with its interviews and contacts.
+     */
+    public void removeApplication(Long userId, Long applicationId) {
+        UserIndex index = get(userId);
+        if (index != null) {
+            synchronized (index) {
+                Set<String> keys = index.byApplication.get(applicationId);
+                for (String key : keys == null ? List.<String>of() : new ArrayList<>(keys)) {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the index of a user; it is reloaded on their next search.
+     */
+    public synchronized void removeUser(Long userId) {
+        indexes.remove(userId);
+    }
+
+    public synchronized int size() {
+        return indexes.size();
+    }
+
+    private synchronized UserIndex get(Long userId) {
+        // A user without an index reads the change from the database when it is loaded
+        return indexes.get(userId);
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, UserIndex>> eldest = indexes.entrySet().iterator();
+        while (indexes.size() > maxUsers && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Splits text into lower-case terms of letters and digits, without stop words and
+     * single characters.
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (term.length() > 1 && term.length() <= MAX_TERM_LENGTH && !STOP_WORDS.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static String key(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    /**
+     * The weighted terms of one application, interview or contact.
+     */
+    public static class Document {
+        private final String type;
+        private final Long id;
+        private final Long applicationId;
+        private final String title;
+        private final String company;
+        private final Map<String, Double> scores = new HashMap<>();
+
+        private Document(String type, Long id, Long applicationId, String title, String company) {
+            this.type = type;
+            this.id = id;
+            this.applicationId = applicationId;
+            this.title = title;
+            this.company = company;
+        }
+
+        public static Document application(Long id, String company, String jobTitle, String location, String description) {
+            return new Document(SearchResult.APPLICATION, id, id, jobTitle, company)
+                    .field(company, WEIGHT_A)
+                    .field(jobTitle, WEIGHT_A)
+                    .field(location, WEIGHT_B)
+                    .field(description, WEIGHT_D);
+        }
+
+        public static Document interview(Long id, Long applicationId, String type, String notes, String feedback) {
+            return new Document(SearchResult.INTERVIEW, id, applicationId, type, null)
+                    .field(type, WEIGHT_B)
+                    .field(notes, WEIGHT_C)
+                    .field(feedback, WEIGHT_C);
+        }
+
+        public static Document contact(Long id, Long applicationId, String name) {
+            return new Document(SearchResult.CONTACT, id, applicationId, name, null)
+                    .field(name, WEIGHT_A);
+        }
+
+        private Document field(String text, double weight) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (String term : tokenize(text)) {
+                counts.merge(term, 1, Integer::sum);
+            }
+            counts.forEach((term, count) -> scores.merge(term, weight * (1 + Math.log(count)), Double::sum));
+            return this;
+        }
+    }
+
+    private static class UserIndex {
+        private boolean loaded;
+        private final Map<String, Document> documents = new HashMap<>();
+        private final Map<Long, Set<String>> byApplication = new HashMap<>();
+        // Sorted so that the terms starting with a prefix are one range
+        private final TreeMap<String, Map<String, Double>> postings = new TreeMap<>();
+
+        void put(Document document) {
+            String key = key(document.type, document.id);
+            remove(key);
+            documents.put(key, document);
+            byApplication.computeIfAbsent(document.applicationId, id -> new HashSet<>()).add(key);
+            document.scores.forEach((term, score) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, score));
+        }
+
+        void remove(String key) {
+            Document document = documents.remove(key);
+            if (document == null) {
+                return;
+            }
+            Set<String> keys = byApplication.get(document.applicationId);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                byApplication.remove(document.applicationId);
+            }
+            for (String term : document.scores.keySet()) {
+                Map<String, Double> posting = postings.get(term);
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+
+        List<SearchResult> search(List<String> terms, int limit) {
+            Map<String, Double> scores = null;
+            for (String term : terms) {
+                // A document matching several terms with this prefix counts its best match
+                Map<String, Double> termScores = new HashMap<>();
+                for (Map.Entry<String, Map<String, Double>> posting
+                        : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+                    double factor = posting.getKey().equals(term) ? 1.0 : PREFIX_FACTOR;
+                    posting.getValue().forEach((key, score) -> termScores.merge(key, score * factor, Math::max));
+                }
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((key, score) -> score + termScores.get(key));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<SearchResult> results = new ArrayList<>(scores.size());
+            scores.forEach((key, score) -> {
+                Document document = documents.get(key);
+                Document application = documents.get(key(SearchResult.APPLICATION, document.applicationId));
+                String company = application == null ? null : application.company;
+                results.add(new SearchResult(document.type, document.id, document.applicationId, document.title, company, score));
+            });
+            results.sort(Comparator.comparingDouble(SearchResult::getRank).reversed()
+                    .thenComparing(SearchResult::getType)
+                    .thenComparing(SearchResult::getId));
+            return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+        }
+    }
+}
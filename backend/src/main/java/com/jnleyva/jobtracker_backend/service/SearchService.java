@@ -0,0 +1,211 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.SearchResult;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Full-text search over the applications, interview notes and contacts of a user.
+ *
+ * <p>On PostgreSQL the {@code search_vector} columns maintained by the database (see
+ * {@code DatabaseMigration}) are matched with {@code websearch_to_tsquery} through their GIN
+ * indexes and ranked with {@code ts_rank}. On any other database, such as the H2 database of the
+ * tests, an in-memory {@link SearchIndex} is used instead; the write paths report their changes
+ * here so that it stays current without being reloaded.
+ */
+@Service
+public class SearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final String FULL_TEXT_QUERY =
+            "WITH q AS (SELECT websearch_to_tsquery('english', ?) AS query) " +
+            "SELECT * FROM (" +
+            "SELECT 'application' AS type, a.application_id AS id, a.application_id, a.job_title AS title, a.company, " +
+            "ts_rank(a.search_vector, q.query) AS rank " +
+            "FROM applications a CROSS JOIN q WHERE a.user_id = ? AND a.search_vector @@ q.query " +
+            "UNION ALL " +
+            "SELECT 'interview', i.id, i.application_id, i.type, a.company, ts_rank(i.search_vector, q.query) " +
+            "FROM interviews i JOIN applications a ON a.application_id = i.application_id CROSS JOIN q " +
+            "WHERE a.user_id = ? AND i.search_vector @@ q.query " +
+            "UNION ALL " +
+            "SELECT 'contact', c.id, c.application_id, c.name, a.company, ts_rank(c.search_vector, q.query) " +
+            "FROM contacts c JOIN applications a ON a.application_id = c.application_id CROSS JOIN q " +
+            "WHERE a.user_id = ? AND c.search_vector @@ q.query" +
+            ") results ORDER BY rank DESC, type, id LIMIT ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${search.index.max-users:200}")
+    private int maxIndexedUsers;
+
+    private SearchIndex index;
+
+    // Decided on first use, once the startup migration has added the search columns
+    private volatile Boolean fullText;
+
+    @PostConstruct
+    public void initialize() {
+        index = new SearchIndex(maxIndexedUsers);
+    }
+
+    /**
+     * Returns the best matches for a query among the data of a user. Every word of the query
+     * has to match.
+     */
+    public List<SearchResult> search(Long userId, String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("'q' must not be empty");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("'limit' must be between 1 and " + MAX_LIMIT);
+        }
+
+        if (usesFullText()) {
+            return jdbcTemplate.query(FULL_TEXT_QUERY, (rs, rowNum) -> new SearchResult(rs.getString("type"),
+                    rs.getLong("id"), rs.getLong("application_id"), rs.getString("title"), rs.getString("company"),
+                    rs.getDouble("rank")), query, userId, userId, userId, limit);
+        }
+        return index.search(userId, query, limit, () -> loadDocuments(userId));
+    }
+
+    public void applicationSaved(Application application) {
+        Long userId = application.getUser().getId();
+        Long applicationId = application.getId();
+        String company = application.getCompany();
+        String jobTitle = application.getJobTitle();
+        String location = application.getLocation();
+        String description = application.getDescription();
+        afterCommit(() -> index.put(userId,
+                SearchIndex.Document.application(applicationId, company, jobTitle, location, description)));
+    }
+
+    /**
+     * Removes an application together with its interviews and contacts.
+     */
+    public void applicationDeleted(Application application) {
+        Long userId = application.getUser().getId();
+        Long applicationId = application.getId();
+        afterCommit(() -> index.removeApplication(userId, applicationId));
+    }
+
+    /**
+     * Forgets everything indexed for a user after a bulk change to their data, such as an import
+     * or deleting all their applications; the index is reloaded on their next search.
+     */
+    public void userDataChanged(Long userId) {
+        afterCommit(() -> index.removeUser(userId));
+    }
+
+    public void interviewSaved(Interview interview) {
+        Long userId = interview.getApplication().getUser().getId();
+        Long interviewId = interview.getId();
+        Long applicationId = interview.getApplication().getId();
+        String type = interview.getType();
+        String notes = interview.getNotes();
+        String feedback = interview.getInterviewFeedback();
+        afterCommit(() -> index.put(userId,
+                SearchIndex.Document.interview(interviewId, applicationId, type, notes, feedback)));
+    }
+
+    public void interviewDeleted(Interview interview) {
+        Long userId = interview.getApplication().getUser().getId();
+        Long interviewId = interview.getId();
+        afterCommit(() -> index.remove(userId, SearchResult.INTERVIEW, interviewId));
+    }
+
+    public void contactSaved(Contact contact) {
+        Long userId = contact.getApplication().getUser().getId();
+        Long contactId = contact.getId();
+        Long applicationId = contact.getApplication().getId();
+        String name = contact.getName();
+        afterCommit(() -> index.put(userId, SearchIndex.Document.contact(contactId, applicationId, name)));
+    }
+
+    public void contactDeleted(Long userId, Long contactId) {
+        afterCommit(() -> index.remove(userId, SearchResult.CONTACT, contactId));
+    }
+
+    /**
+     * Whether searches run on the database's full-text search rather than the in-memory index.
+     */
+    public boolean usesFullText() {
+        Boolean result = fullText;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equalsIgnoreCase(product) && searchColumnsExist();
+            fullText = result;
+            logger.info("Search uses {}", result ? "PostgreSQL full-text search" : "the in-memory index");
+        }
+        return result;
+    }
+
+    private boolean searchColumnsExist() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE column_name = 'search_vector' " +
+                        "AND table_name IN ('applications', 'interviews', 'contacts')", Integer.class);
+        return count != null && count == 3;
+    }
+
+    private List<SearchIndex.Document> loadDocuments(Long userId) {
+        long started = System.currentTimeMillis();
+        List<SearchIndex.Document> documents = new ArrayList<>();
+        jdbcTemplate.query("SELECT application_id, company, job_title, location, description FROM applications WHERE user_id = ?",
+                (RowCallbackHandler) rs -> documents.add(SearchIndex.Document.application(rs.getLong("application_id"),
+                        rs.getString("company"), rs.getString("job_title"), rs.getString("location"), rs.getString("description"))),
+                userId);
+        jdbcTemplate.query("SELECT i.id, i.application_id, i.type, i.notes, i.interview_feedback FROM interviews i " +
+                        "JOIN applications a ON a.application_id = i.application_id WHERE a.user_id = ?",
+                (RowCallbackHandler) rs -> documents.add(SearchIndex.Document.interview(rs.getLong("id"),
+                        rs.getLong("application_id"), rs.getString("type"), rs.getString("notes"), rs.getString("interview_feedback"))),
+                userId);
+        jdbcTemplate.query("SELECT c.id, c.application_id, c.name FROM contacts c " +
+                        "JOIN applications a ON a.application_id = c.application_id WHERE a.user_id = ?",
+                (RowCallbackHandler) rs -> documents.add(SearchIndex.Document.contact(rs.getLong("id"),
+                        rs.getLong("application_id"), rs.getString("name"))),
+                userId);
+        logger.debug("Indexed {} documents of user {} in {} ms", documents.size(), userId, System.currentTimeMillis() - started);
+        return documents;
+    }
+
+    /**
+     * Applies a change to the in-memory index once the transaction that made it has committed,
+     * so rolled back writes are never searchable. The database maintains its own search columns.
+     */
+    private void afterCommit(Runnable change) {
+        if (usesFullText()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
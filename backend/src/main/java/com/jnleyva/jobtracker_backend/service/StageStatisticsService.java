@@ -0,0 +1,96 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.repository.ApplicationStatusHistoryRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports how long applications stay in each status. A stay starts with a status history entry
+ * and ends with the application's next one; the database aggregates the stays of the active and
+ * the archived applications, so no history row is loaded here.
+ */
+@Service
+public class StageStatisticsService {
+
+    private static final double SECONDS_PER_DAY = 24 * 60 * 60;
+
+    @Autowired
+    private ApplicationStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Returns the dwell times of the user's applications submitted in the window, or of every
+     * user's applications for an admin: per status the number of stays that ended and that are
+     * still ongoing, the average, minimum, maximum, median and 90th percentile of the ended ones
+     * in days, and their distribution over duration buckets.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStageDurations(String username, boolean isAdmin, StatisticsWindow window) {
+        Long userId = null;
+        if (!isAdmin) {
+            userId = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "username", username))
+                    .getId();
+        }
+
+        List<Object[]> durations = userId == null
+                ? statusHistoryRepository.findStageDurations(window.startDate(), window.endDate())
+                : statusHistoryRepository.findStageDurationsOfUser(userId, window.startDate(), window.endDate());
+        Map<ApplicationStatus, Object[]> rows = new EnumMap<>(ApplicationStatus.class);
+        for (Object[] row : durations) {
+            rows.put(ApplicationStatus.fromCode(row[0].toString().charAt(0)), row);
+        }
+
+        List<Map<String, Object>> stages = new ArrayList<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            stages.add(stage(status, rows.get(status)));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scope", isAdmin ? "all" : "user");
+        result.put("stages", stages);
+        return result;
+    }
+
+    private static Map<String, Object> stage(ApplicationStatus status, Object[] row) {
+        Map<String, Object> stage = new LinkedHashMap<>();
+        stage.put("status", status.getLabel());
+        stage.put("completed", row == null ? 0L : count(row[1]));
+        stage.put("current", row == null ? 0L : count(row[2]));
+        stage.put("averageDays", row == null ? null : days(row[3]));
+        stage.put("minDays", row == null ? null : days(row[4]));
+        stage.put("maxDays", row == null ? null : days(row[5]));
+        stage.put("medianDays", row == null ? null : days(row[6]));
+        stage.put("p90Days", row == null ? null : days(row[7]));
+
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        List<String> buckets = ApplicationStatusHistoryRepository.STAGE_DURATION_BUCKETS;
+        for (int i = 0; i < buckets.size(); i++) {
+            distribution.put(buckets.get(i), row == null ? 0L : count(row[8 + i]));
+        }
+        stage.put("distribution", distribution);
+        return stage;
+    }
+
+    private static long count(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static Double days(Object seconds) {
+        if (seconds == null) {
+            return null;
+        }
+        return Math.round(((Number) seconds).doubleValue() / SECONDS_PER_DAY * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,59 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.model.UserStatistic.Metric;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory view of the statistics counters, keyed by metric and bucket. Used both for the
+ * stored per-user projection and for deltas applied to it, so two instances can be merged.
+ */
+public class StatisticCounters {
+
+    /** Bucket used by metrics that hold a single value. */
+    public static final String TOTAL = "";
+
+    private final Map<Metric, Map<String, Long>> counters = new EnumMap<>(Metric.class);
+
+    public void add(Metric metric, String bucket, long delta) {
+        counters.computeIfAbsent(metric, m -> new HashMap<>()).merge(bucket, delta, Long::sum);
+    }
+
+    public void add(Metric metric, long delta) {
+        add(metric, TOTAL, delta);
+    }
+
+    public long get(Metric metric) {
+        return get(metric, TOTAL);
+    }
+
+    public long get(Metric metric, String bucket) {
+        return buckets(metric).getOrDefault(bucket, 0L);
+    }
+
+    public Map<String, Long> buckets(Metric metric) {
+        return Collections.unmodifiableMap(counters.getOrDefault(metric, Collections.emptyMap()));
+    }
+
+    public void merge(StatisticCounters other) {
+        other.forEach(this::add);
+    }
+
+    public void forEach(CounterConsumer consumer) {
+        counters.forEach((metric, buckets) ->
+            buckets.forEach((bucket, value) -> consumer.accept(metric, bucket, value)));
+    }
+
+    @FunctionalInterface
+    public interface CounterConsumer {
+        void accept(Metric metric, String bucket, long value);
+    }
+
+    @Override
+    public String toString() {
+        return counters.toString();
+    }
+}
@@ -0,0 +1,176 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded per-user cache of computed dashboard statistics.
+ *
+ * <p>Entries are evicted whenever the user's applications, interviews or status history change
+ * (see {@link #invalidate(Long)}), when they were computed on an earlier day (the upcoming/past
+ * interview split is relative to today), or when the cache is full, least recently used first.
+ * Concurrent misses for the same user share a single computation. The admin view is cached
+ * under a {@code null} user id and is evicted by a change to any user.
+ *
+ * <p>Hits, misses and evictions are published as the {@code cache.gets} and
+ * {@code cache.evictions} meters tagged {@code cache=statistics}.
+ */
+@Service
+public class StatisticsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsCache.class);
+
+    private static final String CACHE_NAME = "statistics";
+
+    private final int maxEntries;
+
+    // Access-ordered so the first entry is the least recently used one; guarded by "this"
+    private final LinkedHashMap<Long, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+    private final Counter sizeEvictions;
+    private final Counter expirations;
+
+    public StatisticsCache(MeterRegistry meterRegistry,
+                           @Value("${statistics.cache.max-entries:1000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.hits = cacheCounter(meterRegistry, "cache.gets", "result", "hit");
+        this.misses = cacheCounter(meterRegistry, "cache.gets", "result", "miss");
+        this.invalidations = cacheCounter(meterRegistry, "cache.evictions", "cause", "invalidated");
+        this.sizeEvictions = cacheCounter(meterRegistry, "cache.evictions", "cause", "size");
+        this.expirations = cacheCounter(meterRegistry, "cache.evictions", "cause", "expired");
+        Gauge.builder("cache.size", this, StatisticsCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        logger.info("Statistics cache initialized with max {} entries", maxEntries);
+    }
+
+    /**
+     * Returns the cached statistics of a user, computing them with {@code loader} on a miss.
+     * A caller that misses while another thread is computing the same entry waits for that
+     * computation instead of starting its own.
+     */
+    public Map<String, Object> get(Long userId, Supplier<Map<String, Object>> loader) {
+        CacheEntry entry;
+        boolean owner = false;
+        synchronized (this) {
+            entry = entries.get(userId);
+            if (entry != null && entry.isExpired()) {
+                entries.remove(userId);
+                expirations.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new CacheEntry();
+                entries.put(userId, entry);
+                owner = true;
+                evictOverflow();
+            }
+        }
+
+        if (!owner) {
+            hits.increment();
+            logger.debug("Statistics cache hit for user {}", userId);
+            return await(entry);
+        }
+
+        misses.increment();
+        logger.debug("Statistics cache miss for user {}, computing", userId);
+        try {
+            entry.future.complete(loader.get());
+        } catch (RuntimeException | Error e) {
+            // Failed computations are not cached; waiting callers receive the same failure
+            synchronized (this) {
+                entries.remove(userId, entry);
+            }
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+        return await(entry);
+    }
+
+    /**
+     * Evicts the statistics of a user, and the admin view that includes them. Call whenever
+     * the user's applications, interviews or status history change. Inside a transaction the
+     * entry is evicted again once the transaction completes, so a computation that read the
+     * previous state while the transaction was still open does not stay cached.
+     */
+    public void invalidate(Long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void evict(Long userId) {
+        if (entries.remove(userId) != null) {
+            invalidations.increment();
+            logger.debug("Evicted cached statistics for user {}", userId);
+        }
+        if (userId != null && entries.remove(null) != null) {
+            invalidations.increment();
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, CacheEntry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            sizeEvictions.increment();
+        }
+    }
+
+    private static Map<String, Object> await(CacheEntry entry) {
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String name, String tagKey, String tagValue) {
+        return Counter.builder(name)
+                .tag("cache", CACHE_NAME)
+                .tag(tagKey, tagValue)
+                .register(meterRegistry);
+    }
+
+    private static class CacheEntry {
+        private final CompletableFuture<Map<String, Object>> future = new CompletableFuture<>();
+        private final LocalDate computedOn = LocalDate.now();
+
+        boolean isExpired() {
+            return future.isDone() && !computedOn.equals(LocalDate.now());
+        }
+    }
+}
@@ -4,4 +4,6 @@ import java.util.Map;
 
 public interface StatisticsService {
     Map<String, Object> getStatistics(String username, boolean isAdmin);
-} 
\ No newline at end of file
+
+    Map<String, Object> getStatistics(String username, boolean isAdmin, StatisticsWindow window);
+}
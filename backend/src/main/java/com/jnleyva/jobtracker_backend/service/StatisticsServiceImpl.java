@@ -1,8 +1,8 @@
 package com.jnleyva.jobtracker_backend.service;
 
-import com.jnleyva.jobtracker_backend.model.Application;
-import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
 import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.model.UserStatistic.Metric;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
 import com.jnleyva.jobtracker_backend.repository.UserRepository;
@@ -10,38 +10,77 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 
+/**
+ * Builds dashboard statistics from the counters of the {@code user_statistics} projection, which
+ * the service layer keeps up to date on every write, so the cost of a call does not depend on
+ * the number of applications, interviews or status changes stored. The admin view has no stored
+ * projection and aggregates the source tables with grouped queries instead, partitioned and run
+ * in parallel by the {@link AdminStatisticsAggregator}.
+ *
+ * <p>Results are kept in the {@link StatisticsCache} until the user's data changes. Requests for
+ * a {@link StatisticsWindow} restricted to a date range bypass both the projection and the
+ * cache and are aggregated by the database over the range only, from the active and the
+ * archived applications alike.
+ */
 @Service
 public class StatisticsServiceImpl implements StatisticsService {
 
     private static final Logger logger = LoggerFactory.getLogger(StatisticsServiceImpl.class);
 
-    @Autowired
-    private ApplicationRepository applicationRepository;
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMM yyyy");
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    private static final double MINUTES_PER_DAY = 24 * 60;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
     @Autowired
     private InterviewRepository interviewRepository;
 
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private AdminStatisticsAggregator adminStatisticsAggregator;
+
+    @Autowired
+    private StatisticsCache statisticsCache;
+
+    @Autowired
+    private ArchivedStatisticsService archivedStatisticsService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Override
     public Map<String, Object> getStatistics(String username, boolean isAdmin) {
-        logger.info("=== Getting statistics for user: {}, isAdmin: {} ===", username, isAdmin);
+        return getStatistics(username, isAdmin, StatisticsWindow.ALL_TIME);
+    }
+
+    @Override
+    public Map<String, Object> getStatistics(String username, boolean isAdmin, StatisticsWindow window) {
+        logger.info("=== Getting statistics for user: {}, isAdmin: {}, window: {} ===", username, isAdmin, window);
         try {
-            List<Application> applications;
-            List<Interview> interviews;
-            
+            Long userId = null;
+
             if (isAdmin) {
-                logger.info("Admin user - retrieving all applications and interviews");
-                applications = applicationRepository.findAll();
-                interviews = interviewRepository.findAll();
-                logger.info("Found {} total applications and {} total interviews", applications.size(), interviews.size());
+                logger.info("Admin user - aggregating over all applications and interviews");
             } else {
                 logger.info("Regular user - finding user by username: {}", username);
                 Optional<User> user = userRepository.findByUsername(username);
@@ -50,21 +89,12 @@ public class StatisticsServiceImpl implements StatisticsService {
                     throw new RuntimeException("User not found");
                 }
                 logger.info("User found - ID: {}, Username: {}", user.get().getId(), user.get().getUsername());
-                
-                applications = applicationRepository.findByUserId(user.get().getId());
-                logger.info("Found {} applications for user ID: {}", applications.size(), user.get().getId());
-                
-                // Get all interviews for user's applications
-                interviews = new ArrayList<>();
-                for (Application app : applications) {
-                    List<Interview> appInterviews = interviewRepository.findByApplicationId(app.getId());
-                    interviews.addAll(appInterviews);
-                }
-                logger.info("Found {} total interviews for user's applications", interviews.size());
+                userId = user.get().getId();
             }
 
-            logger.info("Calculating statistics for {} applications and {} interviews", applications.size(), interviews.size());
-            Map<String, Object> result = calculateStatistics(applications, interviews);
+            Map<String, Object> result = window.isAllTime()
+                ? getAllTimeStatistics(userId, window.getBucket())
+                : getWindowStatistics(userId, window);
             logger.info("Statistics calculated successfully: {}", result);
             return result;
         } catch (Exception e) {
@@ -73,272 +103,331 @@ public class StatisticsServiceImpl implements StatisticsService {
         }
     }
 
-    private Map<String, Object> calculateStatistics(List<Application> applications, List<Interview> interviews) {
-        logger.debug("Calculating statistics for {} applications and {} interviews", applications.size(), interviews.size());
+    private Map<String, Object> getAllTimeStatistics(Long userId, StatisticsWindow.Bucket bucket) {
+        // Callers that wait on a computation running elsewhere do not hold a transaction.
+        // The admin aggregation runs its partitions on worker threads with their own
+        // connections, so it is started outside the transaction as well.
+        Map<String, Object> result = statisticsCache.get(userId, () -> {
+            StatisticCounters adminCounters = userId == null ? adminStatisticsAggregator.aggregate() : null;
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                StatisticCounters counters = userId == null
+                    ? adminCounters
+                    : statisticsProjection.getCounters(userId);
+                return calculateStatistics(userId, counters, StatisticsWindow.ALL_TIME);
+            });
+        });
+        if (bucket == StatisticsWindow.Bucket.MONTH) {
+            return result;
+        }
+
+        // The cached statistics are bucketed by month; finer buckets are grouped by the database
+        StatisticsWindow window = new StatisticsWindow(null, null, bucket);
+        Map<String, Object> rebucketed = new HashMap<>(result);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> interviewStats = new HashMap<>((Map<String, Object>) result.get("interviewStats"));
+        rebucketed.put("bucket", bucketName(bucket));
+        rebucketed.put("byPeriod", applicationPeriods(userId, null, window));
+        interviewStats.put("byPeriod", interviewPeriods(userId, null, window));
+        rebucketed.put("interviewStats", interviewStats);
+        return rebucketed;
+    }
+
+    private Map<String, Object> getWindowStatistics(Long userId, StatisticsWindow window) {
+        // Windowed statistics are aggregated by the database over the date range on every call,
+        // archived applications included; they are not cached and do not use the stored projection
+        StatisticCounters adminCounters = userId == null ? adminStatisticsAggregator.aggregate(window) : null;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> {
+            StatisticCounters counters = userId == null
+                ? adminCounters
+                : statisticsProjection.computeFromSource(userId, window);
+            counters.merge(archivedStatisticsService.windowCounters(userId, window));
+            Map<String, Object> stats = calculateStatistics(userId, counters, window);
+            stats.put("from", window.getFrom() == null ? null : window.getFrom().toString());
+            stats.put("to", window.getTo() == null ? null : window.getTo().toString());
+            return stats;
+        });
+    }
+
+    private Map<String, Object> calculateStatistics(Long userId, StatisticCounters counters, StatisticsWindow window) {
         Map<String, Object> stats = new HashMap<>();
-        
+
         // Total applications
-        stats.put("total", applications.size());
-        logger.debug("Total applications: {}", applications.size());
-        
-        // Status distribution based on progression (highest status reached)
+        int total = (int) counters.get(Metric.TOTAL_APPLICATIONS);
+        stats.put("total", total);
+        logger.debug("Total applications: {}", total);
+
+        // Status distribution based on progression (every status an application has reached)
         Map<String, Integer> byStatus = new HashMap<>();
-        byStatus.put("Applied", 0);
-        byStatus.put("Interviewing", 0);
-        byStatus.put("Offered", 0);
-        byStatus.put("Rejected", 0);
-        
+        for (ApplicationStatus status : STATUSES) {
+            byStatus.put(status.getLabel(), (int) counters.get(Metric.REACHED_STATUS, status.getLabel()));
+        }
+
         // Track current status distribution separately for comparison
         Map<String, Integer> currentStatusDistribution = new HashMap<>();
-        currentStatusDistribution.put("Applied", 0);
-        currentStatusDistribution.put("Interviewing", 0);
-        currentStatusDistribution.put("Offered", 0);
-        currentStatusDistribution.put("Rejected", 0);
-        
-        for (Application app : applications) {
-            // Count current status
-            String currentStatus = app.getStatus();
-            logger.trace("Processing application ID: {}, Current Status: {}", app.getId(), currentStatus);
-            currentStatusDistribution.put(currentStatus, currentStatusDistribution.getOrDefault(currentStatus, 0) + 1);
-            
-            // Count based on status progression
-            // Each application contributes to ALL statuses it has reached
-            if (app.hasReachedStatus("Applied")) {
-                byStatus.put("Applied", byStatus.get("Applied") + 1);
-            }
-            if (app.hasReachedStatus("Interviewing")) {
-                byStatus.put("Interviewing", byStatus.get("Interviewing") + 1);
-            }
-            if (app.hasReachedStatus("Offered")) {
-                byStatus.put("Offered", byStatus.get("Offered") + 1);
-            }
-            if (app.hasReachedStatus("Rejected")) {
-                byStatus.put("Rejected", byStatus.get("Rejected") + 1);
-            }
-            
-            logger.trace("Application {} has reached: Applied={}, Interviewing={}, Offered={}, Rejected={}", 
-                app.getId(),
-                app.hasReachedStatus("Applied"),
-                app.hasReachedStatus("Interviewing"), 
-                app.hasReachedStatus("Offered"),
-                app.hasReachedStatus("Rejected"));
+        for (ApplicationStatus status : STATUSES) {
+            currentStatusDistribution.put(status.getLabel(), 0);
         }
-        
+        addCounts(currentStatusDistribution, counters.buckets(Metric.CURRENT_STATUS));
+
         stats.put("byStatus", byStatus);
         stats.put("currentStatusDistribution", currentStatusDistribution);
         logger.debug("Status progression distribution: {}", byStatus);
         logger.debug("Current status distribution: {}", currentStatusDistribution);
-        
+
         // Offer status distribution
         Map<String, Integer> offerStatusDistribution = new HashMap<>();
         offerStatusDistribution.put("ACCEPTED", 0);
         offerStatusDistribution.put("DECLINED", 0);
         offerStatusDistribution.put("PENDING", 0);
-        
-        for (Application app : applications) {
-            String offerStatus = app.getOfferStatus();
-            if (offerStatus != null && !offerStatus.isEmpty()) {
-                offerStatusDistribution.put(offerStatus, offerStatusDistribution.getOrDefault(offerStatus, 0) + 1);
-                logger.trace("Application {} has offer status: {}", app.getId(), offerStatus);
-            }
-        }
+        addCounts(offerStatusDistribution, counters.buckets(Metric.OFFER_STATUS));
         stats.put("offerStatusDistribution", offerStatusDistribution);
         logger.debug("Offer status distribution: {}", offerStatusDistribution);
-        
+
         // Applications by month
-        Map<String, Integer> byMonth = new HashMap<>();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM yyyy");
-        
-        for (Application app : applications) {
-            String monthYear = app.getApplicationDate().format(formatter);
-            logger.trace("Processing application date: {} -> {}", app.getApplicationDate(), monthYear);
-            byMonth.put(monthYear, byMonth.getOrDefault(monthYear, 0) + 1);
-        }
+        Map<String, Integer> byMonth = toMonthCounts(counters.buckets(Metric.APPLICATION_MONTH));
         stats.put("byMonth", byMonth);
         logger.debug("Monthly distribution: {}", byMonth);
-        
+
+        // Applications by requested bucket, keyed by the ISO date each bucket starts on
+        stats.put("bucket", bucketName(window.getBucket()));
+        stats.put("byPeriod", applicationPeriods(userId, counters, window));
+
         // Calculate success rate (Offered / Total * 100)
         int offered = byStatus.get("Offered");
-        double successRate = applications.isEmpty() ? 0.0 : (double) offered / applications.size() * 100;
+        double successRate = total == 0 ? 0.0 : (double) offered / total * 100;
         stats.put("successRate", Math.round(successRate * 100.0) / 100.0);
         logger.debug("Success rate: {}%", successRate);
-        
-        // Calculate average response time (simplified calculation)
-        int avgResponseTime = calculateAverageResponseTime(applications);
+
+        // Time to first response and time spent in each status, from the status history
+        int avgResponseTime = calculateAverageResponseTime(counters);
         stats.put("averageResponseTime", avgResponseTime);
+        stats.put("responseTime", durationSummary(DurationSketch.fromCounters(counters.buckets(Metric.FIRST_RESPONSE_TIME))));
+        stats.put("timeInStage", calculateTimeInStage(counters));
         logger.debug("Average response time: {} days", avgResponseTime);
-        
+
         // Add interview statistics - ALWAYS include this, even if no interviews
-        Map<String, Object> interviewStats = calculateInterviewStatistics(interviews, applications);
+        Map<String, Object> interviewStats = calculateInterviewStatistics(userId, counters, window, total, currentStatusDistribution);
         stats.put("interviewStats", interviewStats);
-        logger.info("=== Interview statistics added to response ===");
         logger.info("Interview stats: {}", interviewStats);
-        
+
         return stats;
     }
-    
-    private Map<String, Object> calculateInterviewStatistics(List<Interview> interviews, List<Application> applications) {
-        logger.debug("=== Calculating interview statistics for {} interviews ===", interviews.size());
+
+    private Map<String, Object> calculateInterviewStatistics(Long userId, StatisticCounters counters, StatisticsWindow window, int totalApplications,
+                                                             Map<String, Integer> currentStatusDistribution) {
         Map<String, Object> interviewStats = new HashMap<>();
-        
+
         // Total interviews
-        interviewStats.put("totalInterviews", interviews.size());
-        logger.debug("Total interviews: {}", interviews.size());
-        
+        int totalInterviews = (int) counters.get(Metric.TOTAL_INTERVIEWS);
+        interviewStats.put("totalInterviews", totalInterviews);
+        logger.debug("Total interviews: {}", totalInterviews);
+
         // Interview types distribution
         Map<String, Integer> byType = new HashMap<>();
-        
-        // Interview status distribution
+        addCounts(byType, counters.buckets(Metric.INTERVIEW_TYPE));
+
+        // Interview status distribution - interviews without a status are counted as scheduled
         Map<String, Integer> byInterviewStatus = new HashMap<>();
-        
-        // Upcoming vs past interviews
-        LocalDateTime now = LocalDateTime.now();
-        int upcomingInterviews = 0;
-        int pastInterviews = 0;
-        int todayInterviews = 0;
-        
-        logger.debug("Current date/time for interview comparison: {}", now);
-        
+        addCounts(byInterviewStatus, counters.buckets(Metric.INTERVIEW_STATUS));
+
+        // Upcoming vs past interviews depend on the current time, so they are always queried;
+        // anything later today still counts as "today"
+        LocalDate today = LocalDate.now();
+        List<Object[]> timing = interviewRepository.countByTiming(
+                userId, today.atStartOfDay(), today.plusDays(1).atStartOfDay(), window.startTime(), window.endTime());
+        Object[] timingRow = timing.isEmpty() ? new Object[3] : timing.get(0);
+        long[] archivedTiming = archivedStatisticsService.countInterviewsByTiming(
+                userId, window, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+        int upcomingInterviews = toInt(timingRow[0]) + (int) archivedTiming[0];
+        int pastInterviews = toInt(timingRow[1]) + (int) archivedTiming[1];
+        int todayInterviews = toInt(timingRow[2]) + (int) archivedTiming[2];
+
         // Interview months distribution
-        Map<String, Integer> interviewsByMonth = new HashMap<>();
-        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMM yyyy");
-        
-        for (Interview interview : interviews) {
-            logger.trace("Processing interview ID: {}, Type: {}, Date: {}, Status: {}", 
-                interview.getId(), interview.getType(), interview.getInterviewDate(), interview.getStatus());
-            
-            // Count by type
-            String type = interview.getType();
-            byType.put(type, byType.getOrDefault(type, 0) + 1);
-            
-            // Count by status
-            String status = interview.getStatus() != null ? interview.getStatus() : "SCHEDULED";
-            byInterviewStatus.put(status, byInterviewStatus.getOrDefault(status, 0) + 1);
-            
-            // Count by timing (upcoming vs past) - improved logic
-            LocalDateTime interviewDate = interview.getInterviewDate();
-            LocalDate interviewLocalDate = interviewDate.toLocalDate();
-            LocalDate nowLocalDate = now.toLocalDate();
-            
-            logger.trace("Interview {} date comparison: interview={}, now={}, interviewDate.isAfter(now)={}", 
-                interview.getId(), interviewDate, now, interviewDate.isAfter(now));
-            
-            if (interviewLocalDate.isEqual(nowLocalDate)) {
-                todayInterviews++;
-                logger.trace("Interview {} classified as TODAY", interview.getId());
-            } else if (interviewDate.isAfter(now)) {
-                upcomingInterviews++;
-                logger.trace("Interview {} classified as UPCOMING", interview.getId());
-            } else {
-                pastInterviews++;
-                logger.trace("Interview {} classified as PAST", interview.getId());
-            }
-            
-            // Count by month
-            String monthYear = interviewDate.format(monthFormatter);
-            interviewsByMonth.put(monthYear, interviewsByMonth.getOrDefault(monthYear, 0) + 1);
-        }
-        
+        Map<String, Integer> interviewsByMonth = toMonthCounts(counters.buckets(Metric.INTERVIEW_MONTH));
+
         interviewStats.put("byType", byType);
         interviewStats.put("byStatus", byInterviewStatus);
         interviewStats.put("upcoming", upcomingInterviews);
         interviewStats.put("past", pastInterviews);
         interviewStats.put("today", todayInterviews);
         interviewStats.put("byMonth", interviewsByMonth);
-        
-        logger.info("=== INTERVIEW TIMING SUMMARY ===");
-        logger.info("Current time: {}", now);
-        logger.info("Total interviews processed: {}", interviews.size());
-        logger.info("Upcoming interviews: {}", upcomingInterviews);
-        logger.info("Past interviews: {}", pastInterviews);
-        logger.info("Today's interviews: {}", todayInterviews);
-        logger.info("Interview types distribution: {}", byType);
-        logger.info("Interview status distribution: {}", byInterviewStatus);
-        logger.info("Interviews by month: {}", interviewsByMonth);
-        
-        // Detailed breakdown for debugging
-        if (interviews.isEmpty()) {
-            logger.warn("⚠ NO INTERVIEWS FOUND - This is why upcoming interviews is 0");
-        } else {
-            logger.info("✓ Found {} interviews, calculating timing relative to current time", interviews.size());
-            if (upcomingInterviews == 0) {
-                logger.warn("⚠ No upcoming interviews found - all interviews are in the past or today");
-                for (Interview interview : interviews) {
-                    logger.info("Interview {}: {} at {} ({})", 
-                        interview.getId(), 
-                        interview.getType(), 
-                        interview.getInterviewDate(),
-                        interview.getInterviewDate().isAfter(now) ? "FUTURE" : "PAST/TODAY");
-                }
-            }
-        }
-        
+        interviewStats.put("byPeriod", interviewPeriods(userId, counters, window));
+
+        logger.debug("Interview timing for {}: upcoming={}, past={}, today={}",
+            today, upcomingInterviews, pastInterviews, todayInterviews);
+
         // Calculate interview conversion rate (applications with interviews / total applications)
-        long applicationsWithInterviews = applications.stream()
-                .mapToLong(app -> app.getInterviews().size() > 0 ? 1 : 0)
-                .sum();
-        
-        double interviewConversionRate = applications.isEmpty() ? 0.0 : 
-            (double) applicationsWithInterviews / applications.size() * 100;
+        long applicationsWithInterviews = counters.get(Metric.APPLICATIONS_WITH_INTERVIEWS);
+
+        double interviewConversionRate = totalApplications == 0 ? 0.0 :
+            (double) applicationsWithInterviews / totalApplications * 100;
         interviewStats.put("conversionRate", Math.round(interviewConversionRate * 100.0) / 100.0);
-        logger.debug("Interview conversion rate: {}% ({} applications with interviews out of {})", 
-            interviewConversionRate, applicationsWithInterviews, applications.size());
-        
+        logger.debug("Interview conversion rate: {}% ({} applications with interviews out of {})",
+            interviewConversionRate, applicationsWithInterviews, totalApplications);
+
         // Calculate average interviews per application (for applications that have interviews)
-        double avgInterviewsPerApp = applicationsWithInterviews == 0 ? 0.0 : 
-            (double) interviews.size() / applicationsWithInterviews;
+        double avgInterviewsPerApp = applicationsWithInterviews == 0 ? 0.0 :
+            (double) totalInterviews / applicationsWithInterviews;
         interviewStats.put("averagePerApplication", Math.round(avgInterviewsPerApp * 100.0) / 100.0);
         logger.debug("Average interviews per application (with interviews): {}", avgInterviewsPerApp);
-        
-        // Applications in interviewing status should have interview data
-        int interviewingApplications = applications.stream()
-                .mapToInt(app -> "Interviewing".equals(app.getStatus()) ? 1 : 0)
-                .sum();
-        
-        logger.info("=== Interview Data Verification ===");
-        logger.info("Applications with 'Interviewing' status: {}", interviewingApplications);
-        logger.info("Applications that have interview records: {}", applicationsWithInterviews);
-        logger.info("Total interview records: {}", interviews.size());
-        
-        if (interviewingApplications > 0) {
-            logger.info("✓ Found applications in 'Interviewing' status - interview data is showing up in stats");
-        } else {
-            logger.warn("⚠ No applications found with 'Interviewing' status");
+
+        logger.debug("Applications with 'Interviewing' status: {}, with interview records: {}, interview records: {}",
+            currentStatusDistribution.getOrDefault("Interviewing", 0), applicationsWithInterviews, totalInterviews);
+
+        return interviewStats;
+    }
+
+    private int calculateAverageResponseTime(StatisticCounters counters) {
+        // An application got its first response when its history first moved past "Applied";
+        // the counters keep the number of such applications and the sum of their response times
+        long respondedApplications = counters.get(Metric.RESPONDED_APPLICATIONS);
+        long totalMinutes = counters.get(Metric.FIRST_RESPONSE_MINUTES);
+
+        int result = respondedApplications == 0 ? 0 : (int) (totalMinutes / respondedApplications / MINUTES_PER_DAY);
+        logger.debug("Average response time calculated: {} days (from {} responded applications)", result, respondedApplications);
+        return result;
+    }
+
+    private Map<String, Object> calculateTimeInStage(StatisticCounters counters) {
+        Map<String, DurationSketch> sketches = new HashMap<>();
+        for (ApplicationStatus status : STATUSES) {
+            sketches.put(status.getLabel(), new DurationSketch());
         }
-        
-        if (interviews.size() > 0) {
-            logger.info("✓ Interview records found and included in statistics");
-        } else {
-            logger.warn("⚠ No interview records found in the system");
+        // Stage duration buckets are "<status>:<sketch bucket>"
+        counters.buckets(Metric.STAGE_DURATION).forEach((bucket, count) -> {
+            int separator = bucket.lastIndexOf(':');
+            DurationSketch sketch = sketches.computeIfAbsent(bucket.substring(0, separator), stage -> new DurationSketch());
+            sketch.add(Integer.parseInt(bucket.substring(separator + 1)), count);
+        });
+
+        Map<String, Object> timeInStage = new HashMap<>();
+        sketches.forEach((stage, sketch) -> timeInStage.put(stage, durationSummary(sketch)));
+        return timeInStage;
+    }
+
+    /**
+     * Summarizes a duration sketch as its count and p50/p90/p99 in days.
+     */
+    private static Map<String, Object> durationSummary(DurationSketch sketch) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("count", sketch.getCount());
+        summary.put("p50", toDays(sketch.quantile(0.50)));
+        summary.put("p90", toDays(sketch.quantile(0.90)));
+        summary.put("p99", toDays(sketch.quantile(0.99)));
+        return summary;
+    }
+
+    private static double toDays(double minutes) {
+        return Math.round(minutes / MINUTES_PER_DAY * 100.0) / 100.0;
+    }
+
+    /**
+     * Counts applications per bucket. Months come from the counters; days and weeks are grouped
+     * by the database over the window, and the archived applications are added per day.
+     */
+    private Map<String, Integer> applicationPeriods(Long userId, StatisticCounters counters, StatisticsWindow window) {
+        Map<String, Integer> byPeriod;
+        switch (window.getBucket()) {
+            case DAY:
+                byPeriod = toPeriodCounts(applicationRepository.countByApplicationDay(userId, window.startDate(), window.endDate()));
+                break;
+            case WEEK:
+                byPeriod = toPeriodCounts(applicationRepository.countByApplicationWeek(userId, window.startDate(), window.endDate()));
+                break;
+            default:
+                return toMonthPeriodCounts(counters.buckets(Metric.APPLICATION_MONTH));
         }
-        
-        return interviewStats;
+        addArchivedDays(byPeriod, archivedStatisticsService.countApplicationsByDay(userId, window), window.getBucket());
+        return byPeriod;
     }
-    
-    private int calculateAverageResponseTime(List<Application> applications) {
-        logger.debug("Calculating average response time for {} applications", applications.size());
-        // Simplified calculation - in reality, you'd need response dates
-        // For now, return an average based on application dates and current status
-        if (applications.isEmpty()) {
-            return 0;
+
+    private Map<String, Integer> interviewPeriods(Long userId, StatisticCounters counters, StatisticsWindow window) {
+        Map<String, Integer> byPeriod;
+        switch (window.getBucket()) {
+            case DAY:
+                byPeriod = toPeriodCounts(interviewRepository.countByInterviewDay(userId, window.startTime(), window.endTime()));
+                break;
+            case WEEK:
+                byPeriod = toPeriodCounts(interviewRepository.countByInterviewWeek(userId, window.startTime(), window.endTime()));
+                break;
+            default:
+                return toMonthPeriodCounts(counters.buckets(Metric.INTERVIEW_MONTH));
         }
-        
-        long totalDays = 0;
-        int respondedApplications = 0;
-        LocalDate today = LocalDate.now();
-        
-        for (Application app : applications) {
-            if (!"Applied".equals(app.getStatus())) {
-                // Assuming applications that moved past "Applied" got a response
-                long daysBetween = java.time.temporal.ChronoUnit.DAYS.between(app.getApplicationDate(), today);
-                totalDays += daysBetween;
-                respondedApplications++;
-                logger.trace("Application {} responded in {} days", app.getId(), daysBetween);
+        addArchivedDays(byPeriod, archivedStatisticsService.countInterviewsByDay(userId, window), window.getBucket());
+        return byPeriod;
+    }
+
+    // Weeks are keyed by their Monday, like the week buckets of the database
+    private static void addArchivedDays(Map<String, Integer> byPeriod, List<Object[]> days, StatisticsWindow.Bucket bucket) {
+        for (Object[] row : days) {
+            LocalDate day = (LocalDate) row[0];
+            LocalDate period = bucket == StatisticsWindow.Bucket.WEEK
+                ? day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : day;
+            byPeriod.merge(period.toString(), ((Number) row[1]).intValue(), Integer::sum);
+        }
+    }
+
+    private static String bucketName(StatisticsWindow.Bucket bucket) {
+        return bucket.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Integer> toPeriodCounts(List<Object[]> rows) {
+        Map<String, Integer> byPeriod = new TreeMap<>();
+        for (Object[] row : rows) {
+            byPeriod.merge(toLocalDate(row[0]).toString(), ((Number) row[1]).intValue(), Integer::sum);
+        }
+        return byPeriod;
+    }
+
+    private static Map<String, Integer> toMonthPeriodCounts(Map<String, Long> counts) {
+        Map<String, Integer> byPeriod = new TreeMap<>();
+        counts.forEach((month, count) -> {
+            if (count != 0) {
+                byPeriod.merge(YearMonth.parse(month).atDay(1).toString(), count.intValue(), Integer::sum);
             }
+        });
+        return byPeriod;
+    }
+
+    // Truncated dates come back as a date or a timestamp depending on the column and database
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
         }
-        
-        int result = respondedApplications == 0 ? 0 : (int) (totalDays / respondedApplications);
-        logger.debug("Average response time calculated: {} days (from {} responded applications)", result, respondedApplications);
-        return result;
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).toLocalDate();
+        }
+        if (value instanceof java.sql.Timestamp) {
+            return ((java.sql.Timestamp) value).toLocalDateTime().toLocalDate();
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate();
+        }
+        return LocalDate.parse(value.toString().substring(0, 10));
+    }
+
+    private static void addCounts(Map<String, Integer> target, Map<String, Long> counts) {
+        counts.forEach((key, count) -> {
+            if (count != 0) {
+                target.merge(key, count.intValue(), Integer::sum);
+            }
+        });
+    }
+
+    private static Map<String, Integer> toMonthCounts(Map<String, Long> counts) {
+        Map<String, Integer> byMonth = new HashMap<>();
+        counts.forEach((month, count) -> {
+            if (count != 0) {
+                byMonth.merge(YearMonth.parse(month).format(MONTH_FORMATTER), count.intValue(), Integer::sum);
+            }
+        });
+        return byMonth;
+    }
+
+    private static int toInt(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
     }
-} 
\ No newline at end of file
+}
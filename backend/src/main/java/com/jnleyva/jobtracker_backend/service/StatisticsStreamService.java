@@ -0,0 +1,347 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
+import com.jnleyva.jobtracker_backend.exception.TooManyRequestsException;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes dashboard statistics to clients connected over server-sent events.
+ *
+ * <p>A new connection receives the full statistics as a {@code statistics} event. Whenever a
+ * write to the user's data commits (see {@link #dataChanged(Long)}), the statistics are
+ * recomputed once for all connections of the user and only the top-level entries that changed
+ * are sent as a {@code delta} event. Changes that arrive while a push is waiting are coalesced
+ * into it. Admin connections share one subscription, registered under a {@code null} user id,
+ * since their statistics do not depend on the admin; the connection limit still applies to each
+ * admin separately. Admin connections are pushed on a change to any user, but at most once every {@code statistics.stream.admin-push-interval-seconds}:
+ * every write invalidates the admin statistics, so pushing after each one would recompute the
+ * aggregation over all users for every commit.
+ *
+ * <p>Snapshots and pushes are computed on a bounded pool of workers; the work of one user's
+ * connections runs one task at a time, so their events are never interleaved and each delta is
+ * computed against the previous one. Heartbeats run on a scheduler of their own, so a slow
+ * computation never delays them: every connection receives a heartbeat comment at a fixed rate,
+ * which keeps proxies from closing idle streams and detects clients that went away.
+ */
+@Service
+public class StatisticsStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsStreamService.class);
+
+    static final String STATISTICS_EVENT = "statistics";
+    static final String DELTA_EVENT = "delta";
+
+    @Value("${statistics.stream.max-connections-per-user:3}")
+    private int maxConnectionsPerUser;
+
+    @Value("${statistics.stream.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+
+    @Value("${statistics.stream.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${statistics.stream.worker-threads:4}")
+    private int workerThreads;
+
+    @Value("${statistics.stream.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${statistics.stream.admin-push-interval-seconds:10}")
+    private long adminPushIntervalSeconds;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // Keyed by user id, admin connections under null; guarded by "this"
+    private final Map<Long, Subscription> subscriptions = new HashMap<>();
+
+    // Heartbeats and delayed admin pushes, which it only hands to the workers
+    private ScheduledExecutorService scheduler;
+
+    private ThreadPoolExecutor workers;
+
+    @PostConstruct
+    public void initialize() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("statistics-stream-heartbeat"));
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads("statistics-stream-worker"));
+        scheduler.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        logger.info("Statistics stream initialized - max {} connections per user, heartbeat every {}s, "
+                   + "{} workers, admin pushes at most every {}s",
+                   maxConnectionsPerUser, heartbeatSeconds, workerThreads, adminPushIntervalSeconds);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+        for (SseEmitter emitter : allEmitters()) {
+            emitter.complete();
+        }
+    }
+
+    /**
+     * Opens a statistics stream for a user, or for the admin view.
+     *
+     * @throws TooManyRequestsException if the user already has the maximum number of streams open
+     */
+    public SseEmitter subscribe(String username, boolean isAdmin) {
+        Long userId = isAdmin ? null : userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username))
+                .getId();
+
+        SseEmitter emitter = createEmitter();
+        Subscription subscription;
+        synchronized (this) {
+            subscription = subscriptions.computeIfAbsent(userId, id -> new Subscription(username, isAdmin));
+            if (subscription.connectionCount(username) >= maxConnectionsPerUser) {
+                throw new TooManyRequestsException("At most " + maxConnectionsPerUser
+                        + " statistics streams can be open per user");
+            }
+            subscription.emitters.put(emitter, username);
+        }
+        emitter.onCompletion(() -> unsubscribe(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(userId, emitter));
+        logger.debug("Statistics stream opened for user {}", username);
+
+        try {
+            workers.execute(() -> sendSnapshot(subscription, emitter));
+        } catch (RejectedExecutionException e) {
+            unsubscribe(userId, emitter);
+            throw new TooManyRequestsException("Statistics streams are busy, try again later");
+        }
+        return emitter;
+    }
+
+    /**
+     * Schedules a push of the statistics of a user, and of the admin view that includes them.
+     * Inside a transaction the push waits until the transaction has committed, after the
+     * statistics cache has dropped the entries computed from the previous state; a rolled back
+     * transaction pushes nothing.
+     */
+    public void dataChanged(Long userId) {
+        if (!hasSubscribers(userId) && !hasSubscribers(null)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        schedulePush(userId);
+                    }
+                }
+            });
+        } else {
+            schedulePush(userId);
+        }
+    }
+
+    public synchronized int getConnectionCount(Long userId) {
+        Subscription subscription = subscriptions.get(userId);
+        return subscription == null ? 0 : subscription.emitters.size();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(TimeUnit.MINUTES.toMillis(timeoutMinutes));
+    }
+
+    private synchronized boolean hasSubscribers(Long userId) {
+        return subscriptions.containsKey(userId);
+    }
+
+    private synchronized void unsubscribe(Long userId, SseEmitter emitter) {
+        Subscription subscription = subscriptions.get(userId);
+        String username = subscription == null ? null : subscription.emitters.remove(emitter);
+        if (username != null) {
+            if (subscription.emitters.isEmpty()) {
+                subscriptions.remove(userId);
+            }
+            logger.debug("Statistics stream closed for user {}", username);
+        }
+    }
+
+    private void schedulePush(Long userId) {
+        List<Subscription> targets = new ArrayList<>(2);
+        synchronized (this) {
+            for (Long key : userId == null ? new Long[]{null} : new Long[]{userId, null}) {
+                Subscription subscription = subscriptions.get(key);
+                if (subscription != null) {
+                    targets.add(subscription);
+                }
+            }
+        }
+        for (Subscription subscription : targets) {
+            // A push already waiting will read the new state as well
+            if (subscription.pushPending.compareAndSet(false, true)) {
+                long delay = subscription.nextPushAt - System.nanoTime();
+                if (delay > 0) {
+                    scheduler.schedule(() -> submitPush(subscription), delay, TimeUnit.NANOSECONDS);
+                } else {
+                    submitPush(subscription);
+                }
+            }
+        }
+    }
+
+    private void submitPush(Subscription subscription) {
+        try {
+            workers.execute(() -> push(subscription));
+        } catch (RejectedExecutionException e) {
+            // The next change retries; the statistics of this one are part of it
+            subscription.pushPending.set(false);
+            logger.warn("Statistics stream workers are saturated, skipped a push to user {}", subscription.username);
+        }
+    }
+
+    private void sendSnapshot(Subscription subscription, SseEmitter emitter) {
+        synchronized (subscription) {
+            sendSnapshotInOrder(subscription, emitter);
+        }
+    }
+
+    private void sendSnapshotInOrder(Subscription subscription, SseEmitter emitter) {
+        try {
+            Map<String, Object> statistics = statisticsService.getStatistics(subscription.username, subscription.admin);
+            send(emitter, SseEmitter.event().name(STATISTICS_EVENT).data(statistics));
+            // Only the first snapshot becomes the base of the deltas: the other connections of
+            // the user have not seen a newer one, and a delta repeating an entry is harmless
+            if (subscription.lastSent == null) {
+                subscription.lastSent = statistics;
+            }
+        } catch (RuntimeException e) {
+            logger.error("Error computing statistics for stream of user {}: {}", subscription.username, e.getMessage(), e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void push(Subscription subscription) {
+        synchronized (subscription) {
+            pushInOrder(subscription);
+        }
+    }
+
+    private void pushInOrder(Subscription subscription) {
+        subscription.pushPending.set(false);
+        if (subscription.admin) {
+            subscription.nextPushAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(adminPushIntervalSeconds);
+        }
+        List<SseEmitter> emitters;
+        synchronized (this) {
+            emitters = new ArrayList<>(subscription.emitters.keySet());
+        }
+        if (emitters.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Object> statistics = statisticsService.getStatistics(subscription.username, subscription.admin);
+            Map<String, Object> delta = new LinkedHashMap<>();
+            statistics.forEach((key, value) -> {
+                if (subscription.lastSent == null || !Objects.equals(subscription.lastSent.get(key), value)) {
+                    delta.put(key, value);
+                }
+            });
+            subscription.lastSent = statistics;
+            if (delta.isEmpty()) {
+                return;
+            }
+            logger.debug("Pushing statistics delta {} to {} streams of user {}",
+                        delta.keySet(), emitters.size(), subscription.username);
+            for (SseEmitter emitter : emitters) {
+                send(emitter, SseEmitter.event().name(DELTA_EVENT).data(delta));
+            }
+        } catch (ResourceNotFoundException e) {
+            logger.debug("User {} no longer exists, closing statistics streams", subscription.username);
+            emitters.forEach(SseEmitter::complete);
+        } catch (RuntimeException e) {
+            logger.error("Error pushing statistics to user {}: {}", subscription.username, e.getMessage(), e);
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (SseEmitter emitter : allEmitters()) {
+            send(emitter, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private synchronized List<SseEmitter> allEmitters() {
+        List<SseEmitter> emitters = new ArrayList<>();
+        subscriptions.values().forEach(subscription -> emitters.addAll(subscription.emitters.keySet()));
+        return emitters;
+    }
+
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the stream is already complete; the error callback
+            // removes the connection
+            logger.debug("Could not send to statistics stream: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static class Subscription {
+        // The user whose statistics are computed; for the admin subscription, the first admin
+        private final String username;
+        private final boolean admin;
+        // Each connection with the user who opened it; guarded by the service
+        private final Map<SseEmitter, String> emitters = new LinkedHashMap<>();
+        private final AtomicBoolean pushPending = new AtomicBoolean();
+
+        // Earliest System.nanoTime() of the next push; only admin pushes are spaced out
+        private volatile long nextPushAt = System.nanoTime();
+
+        // Statistics the deltas are computed against; only used while holding the subscription
+        private Map<String, Object> lastSent;
+
+        Subscription(String username, boolean admin) {
+            this.username = username;
+            this.admin = admin;
+        }
+
+        int connectionCount(String connectionUsername) {
+            return (int) emitters.values().stream().filter(connectionUsername::equals).count();
+        }
+    }
+}
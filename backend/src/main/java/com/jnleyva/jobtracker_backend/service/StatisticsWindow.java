@@ -0,0 +1,122 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Date range and bucket size of a statistics request. Applications are selected by their
+ * application date and interviews by their interview date; both bounds are inclusive days.
+ */
+public class StatisticsWindow {
+
+    public enum Bucket { DAY, WEEK, MONTH }
+
+    /** Every application and interview, bucketed by month. */
+    public static final StatisticsWindow ALL_TIME = new StatisticsWindow(null, null, Bucket.MONTH);
+
+    // Stand-ins for missing bounds, so queries can always compare against a date
+    private static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Bucket bucket;
+
+    public StatisticsWindow(LocalDate from, LocalDate to, Bucket bucket) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        this.from = from;
+        this.to = to;
+        this.bucket = bucket == null ? Bucket.MONTH : bucket;
+    }
+
+    /**
+     * Parses the {@code from}, {@code to} (ISO dates) and {@code bucket} request parameters,
+     * any of which may be missing.
+     */
+    public static StatisticsWindow parse(String from, String to, String bucket) {
+        return new StatisticsWindow(parseDate("from", from), parseDate("to", to), parseBucket(bucket));
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public Bucket getBucket() {
+        return bucket;
+    }
+
+    public boolean isAllTime() {
+        return from == null && to == null;
+    }
+
+    /** Inclusive lower bound for application dates. */
+    public LocalDate startDate() {
+        return from == null ? MIN_DATE : from;
+    }
+
+    /** Exclusive upper bound for application dates. */
+    public LocalDate endDate() {
+        return to == null ? MAX_DATE : to.plusDays(1);
+    }
+
+    /** Inclusive lower bound for interview dates. */
+    public LocalDateTime startTime() {
+        return startDate().atStartOfDay();
+    }
+
+    /** Exclusive upper bound for interview dates. */
+    public LocalDateTime endTime() {
+        return endDate().atStartOfDay();
+    }
+
+    private static LocalDate parseDate(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid '" + name + "' date, expected yyyy-MM-dd: " + value);
+        }
+    }
+
+    private static Bucket parseBucket(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Bucket.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid bucket, expected day, week or month: " + value);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StatisticsWindow)) return false;
+        StatisticsWindow other = (StatisticsWindow) o;
+        return Objects.equals(from, other.from) && Objects.equals(to, other.to) && bucket == other.bucket;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, bucket);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + (from == null ? "" : from) + ".." + (to == null ? "" : to) + "] by " + bucket;
+    }
+}
@@ -0,0 +1,182 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatusHistory;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.SyncResponse;
+import com.jnleyva.jobtracker_backend.model.SyncTombstone;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.ApplicationStatusHistoryRepository;
+import com.jnleyva.jobtracker_backend.repository.ContactRepository;
+import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
+import com.jnleyva.jobtracker_backend.repository.SyncTombstoneRepository;
+import com.jnleyva.jobtracker_backend.repository.UserDataVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Delta sync of a user's applications, interviews, contacts and status history, so clients can
+ * keep a local replica instead of refetching everything after each change.
+ *
+ * <p>A sync token holds the user's data version and the time it was issued. A token whose
+ * version is still current answers with no rows after a single lookup. Otherwise the rows whose
+ * {@code updated_at} (history: {@code changed_at}) is after the token time are read through
+ * their {@code updated_at} indexes, together with the tombstones the delete paths record.
+ * Timestamps are taken when a row is written, not when it commits, so each delta reaches back
+ * {@code sync.overlap-seconds} further to pick up transactions that were still running when the
+ * previous token was issued; clients upsert by id, so the repeated rows are harmless.
+ *
+ * <p>Tombstones are kept for {@code sync.tombstone-retention-days}. Without a token, or with one
+ * older than that, the response is a full snapshot with {@code reset} set.
+ */
+@Service
+public class SyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncService.class);
+
+    private static final LocalDateTime EVERYTHING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Value("${sync.overlap-seconds:30}")
+    private long overlapSeconds;
+
+    @Value("${sync.tombstone-retention-days:30}")
+    private long tombstoneRetentionDays;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private ApplicationStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private SyncTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private UserDataVersionRepository versionRepository;
+
+    /**
+     * Returns what changed for a user since {@code token}, or a full snapshot if the token is
+     * null, empty or too old.
+     *
+     * @throws BadRequestException if the token was not issued by this service
+     */
+    @Transactional(readOnly = true)
+    public SyncResponse changesSince(Long userId, String token) {
+        // Time first, then version, then rows: anything the rows miss is newer than both
+        LocalDateTime now = LocalDateTime.now();
+        long version = versionRepository.findVersion(userId).orElse(0L);
+        Token since = token == null || token.isBlank() ? null : Token.parse(token);
+
+        if (since != null && since.version == version) {
+            // Nothing was written since the token, which stays valid
+            return new SyncResponse(token, false);
+        }
+
+        boolean reset = since == null || since.issuedAt.isBefore(now.minusDays(tombstoneRetentionDays));
+        LocalDateTime from = reset ? EVERYTHING : since.issuedAt.minusSeconds(overlapSeconds);
+        SyncResponse response = new SyncResponse(new Token(version, now).encode(), reset);
+
+        response.getApplications().addAll(applicationRepository.findChangedSince(userId, from));
+        for (Interview interview : interviewRepository.findChangedSince(userId, from)) {
+            response.getInterviews().add(new SyncResponse.Child<>(interview.getApplication().getId(), interview));
+        }
+        for (Contact contact : contactRepository.findChangedSince(userId, from)) {
+            response.getContacts().add(new SyncResponse.Child<>(contact.getApplication().getId(), contact));
+        }
+        for (ApplicationStatusHistory history : statusHistoryRepository.findChangedSince(userId, from)) {
+            response.getStatusHistory().add(new SyncResponse.Child<>(history.getApplication().getId(), history));
+        }
+        if (!reset) {
+            response.getDeleted().addAll(tombstoneRepository.findDeletedSince(userId, from));
+        }
+
+        logger.debug("Sync for user {} from {}: {} applications, {} interviews, {} contacts, {} history rows, {} deletions",
+                userId, reset ? "scratch" : from, response.getApplications().size(), response.getInterviews().size(),
+                response.getContacts().size(), response.getStatusHistory().size(), response.getDeleted().size());
+        return response;
+    }
+
+    /**
+     * Records the deletion of an application (whose children go with it), interview or contact,
+     * in the transaction that deletes it, and drops the user's expired tombstones.
+     */
+    @Transactional
+    public void recordDeletion(Long userId, String type, Long id, Long applicationId) {
+        tombstoneRepository.save(new SyncTombstone(userId, type, id, applicationId));
+        tombstoneRepository.deleteExpired(userId, LocalDateTime.now().minusDays(tombstoneRetentionDays));
+    }
+
+    /**
+     * Records the deletion of every application of a user, before they are deleted in bulk.
+     */
+    @Transactional
+    public void recordApplicationsOfUserDeleted(Long userId) {
+        tombstoneRepository.insertForApplicationsOfUser(userId, LocalDateTime.now());
+        tombstoneRepository.deleteExpired(userId, LocalDateTime.now().minusDays(tombstoneRetentionDays));
+    }
+
+    /**
+     * Records the removal of some applications of a user, such as when they are archived.
+     */
+    @Transactional
+    public void recordApplicationsDeleted(Long userId, List<Long> applicationIds) {
+        List<SyncTombstone> tombstones = new ArrayList<>(applicationIds.size());
+        for (Long applicationId : applicationIds) {
+            tombstones.add(new SyncTombstone(userId, SyncTombstone.APPLICATION, applicationId, applicationId));
+        }
+        tombstoneRepository.saveAll(tombstones);
+        tombstoneRepository.deleteExpired(userId, LocalDateTime.now().minusDays(tombstoneRetentionDays));
+    }
+
+    /**
+     * The data version and issue time of a sync token. Encoded opaquely, so clients only store
+     * and return it.
+     */
+    static final class Token {
+
+        final long version;
+        final LocalDateTime issuedAt;
+
+        Token(long version, LocalDateTime issuedAt) {
+            this.version = version;
+            this.issuedAt = issuedAt;
+        }
+
+        String encode() {
+            String value = version + "." + issuedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        static Token parse(String token) {
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+                int dot = value.indexOf('.');
+                long version = Long.parseLong(value.substring(0, dot));
+                long millis = Long.parseLong(value.substring(dot + 1));
+                return new Token(version, LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new BadRequestException("Invalid sync token");
+            }
+        }
+    }
+}
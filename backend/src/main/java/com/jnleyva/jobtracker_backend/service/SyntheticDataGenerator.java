@@ -0,0 +1,306 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Loads a reproducible synthetic dataset of users, applications, status history and interviews,
+ * for sizing and benchmarking the statistics against H2 or PostgreSQL.
+ *
+ * <p>The same seed, size and reference date always produce the same rows. Distributions follow
+ * a typical job search rather than uniform noise:
+ * <ul>
+ *   <li>applications per user are skewed, a few heavy users holding a large share of them;</li>
+ *   <li>application dates are spread over the two years before the reference date;</li>
+ *   <li>about a third of the applications get a response, after a log-normal delay with a
+ *       median of a week; responses are rejections or interviews, interviews lead to offers,
+ *       rejections or nothing yet;</li>
+ *   <li>applications that reached the interview stage have one to four interviews.</li>
+ * </ul>
+ *
+ * <p>Rows are written with JDBC batches, one transaction per user, and bypass the service
+ * layer: the statistics projection of the generated users is missing until it is rebuilt,
+ * which {@link UserStatisticsProjection} does on the first read or through
+ * {@link UserStatisticsProjection#rebuildAll()}.
+ */
+@Service
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    static final String PASSWORD = "Synthetic123!";
+
+    private static final String[] COMPANIES = {
+            "Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries", "Wayne Enterprises",
+            "Cyberdyne", "Soylent", "Tyrell", "Wonka", "Aperture", "Black Mesa", "Vandelay", "Pied Piper"};
+    private static final String[] JOB_TITLES = {
+            "Software Engineer", "Senior Software Engineer", "Backend Developer", "Frontend Developer",
+            "Full Stack Developer", "Data Engineer", "DevOps Engineer", "Engineering Manager"};
+    private static final String[] LOCATIONS = {"Remote", "New York, NY", "Austin, TX", "Seattle, WA", "Chicago, IL"};
+    private static final String[] INTERVIEW_TYPES = {"Phone Screen", "Technical", "Behavioral", "Onsite", "Final"};
+
+    private static final double RESPONSE_RATE = 0.35;
+    private static final double INTERVIEW_RATE = 0.45;
+    private static final double OFFER_RATE = 0.30;
+    private static final double REJECTION_AFTER_INTERVIEW_RATE = 0.50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ApplicationProgressService progressService;
+
+    /**
+     * Generates {@code applications} applications spread over
+     * {@code applications / applicationsPerUser} users named {@code synthetic-<seed>-<n>}.
+     *
+     * @param today reference date; application dates lie in the two years before it
+     */
+    public SyntheticDataset generate(long seed, int applications, int applicationsPerUser, LocalDate today) {
+        long started = System.nanoTime();
+        Random random = new Random(seed);
+        int users = Math.max(1, applications / Math.max(1, applicationsPerUser));
+        int[] perUser = distribute(random, applications, users);
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        LocalDateTime now = today.atStartOfDay();
+
+        SyntheticDataset dataset = new SyntheticDataset();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int n = 0; n < users; n++) {
+            String username = "synthetic-" + seed + "-" + n;
+            int count = perUser[n];
+            transactionTemplate.executeWithoutResult(status ->
+                    generateUser(random, username, passwordHash, count, today, now, dataset));
+            if ((n + 1) % 100 == 0) {
+                logger.info("Generated {} of {} synthetic users ({} applications)", n + 1, users, dataset.getApplications());
+            }
+        }
+
+        logger.info("Generated synthetic dataset (seed {}) in {} ms: {}",
+                   seed, (System.nanoTime() - started) / 1_000_000, dataset);
+        return dataset;
+    }
+
+    /**
+     * Splits the applications over the users with a quadratic skew: user {@code n} of {@code N}
+     * receives an application with probability {@code (sqrt((n+1)/N) - sqrt(n/N))}.
+     */
+    private static int[] distribute(Random random, int applications, int users) {
+        int[] perUser = new int[users];
+        for (int i = 0; i < applications; i++) {
+            double r = random.nextDouble();
+            perUser[Math.min(users - 1, (int) (users * r * r))]++;
+        }
+        return perUser;
+    }
+
+    private void generateUser(Random random, String username, String passwordHash, int count,
+                              LocalDate today, LocalDateTime now, SyntheticDataset dataset) {
+        jdbcTemplate.update("INSERT INTO users (username, password, email, role, failed_login_attempts, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, 'ROLE_USER', 0, ?, ?)",
+                username, passwordHash, username + "@example.com", now, now);
+        Long userId = jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE username = ?", Long.class, username);
+        dataset.addUser(userId, username, count);
+        if (count == 0) {
+            return;
+        }
+
+        // Histories are drawn first so that the current status of each application is known
+        List<List<Object[]>> histories = new ArrayList<>(count);
+        List<Object[]> applicationRows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate applicationDate = today.minusDays(random.nextInt(730));
+            List<Object[]> history = drawHistory(random, applicationDate, now, username);
+            histories.add(history);
+            ApplicationStatus current = ApplicationStatus.fromCode((Character) history.get(history.size() - 1)[0]);
+            LocalDateTime createdAt = applicationDate.atTime(9, 0);
+            applicationRows.add(new Object[]{
+                    pick(random, COMPANIES) + " " + random.nextInt(1000), pick(random, JOB_TITLES),
+                    pick(random, LOCATIONS), String.valueOf(current.getCode()), applicationDate,
+                    userId, createdAt, createdAt});
+        }
+        batchUpdate("INSERT INTO applications (company, job_title, location, status, application_date, user_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", applicationRows);
+
+        // Identity values are assigned in insertion order within the transaction
+        List<Long> applicationIds = jdbcTemplate.queryForList(
+                "SELECT application_id FROM applications WHERE user_id = ? ORDER BY application_id", Long.class, userId);
+
+        List<Object[]> historyRows = new ArrayList<>();
+        List<Object[]> interviewRows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Long applicationId = applicationIds.get(i);
+            LocalDateTime interviewingSince = null;
+            for (Object[] change : histories.get(i)) {
+                historyRows.add(new Object[]{applicationId, String.valueOf(change[0]), change[1], change[2]});
+                if ((Character) change[0] == ApplicationStatus.INTERVIEWING.getCode()) {
+                    interviewingSince = (LocalDateTime) change[1];
+                }
+            }
+            if (interviewingSince != null) {
+                addInterviews(random, applicationId, interviewingSince, now, interviewRows);
+            }
+        }
+        batchUpdate("INSERT INTO application_status_history (application_id, status, changed_at, changed_by) "
+                + "VALUES (?, ?, ?, ?)", historyRows);
+        batchUpdate("INSERT INTO interviews (type, interview_date, status, duration_minutes, application_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", interviewRows);
+
+        progressService.refreshForUser(userId);
+
+        dataset.addRows(count, historyRows.size(), interviewRows.size());
+    }
+
+    /**
+     * Draws the status changes of an application as {status code, changed at, changed by}.
+     * Changes that would fall after {@code now} are dropped, so recent applications are more
+     * often still waiting for an answer.
+     */
+    private static List<Object[]> drawHistory(Random random, LocalDate applicationDate, LocalDateTime now, String username) {
+        List<Object[]> history = new ArrayList<>(3);
+        LocalDateTime changedAt = applicationDate.atTime(9, 0);
+        history.add(new Object[]{ApplicationStatus.APPLIED.getCode(), changedAt, username});
+        if (random.nextDouble() >= RESPONSE_RATE) {
+            return history;
+        }
+
+        changedAt = changedAt.plusMinutes(logNormalMinutes(random, 7));
+        if (!changedAt.isBefore(now)) {
+            return history;
+        }
+        if (random.nextDouble() >= INTERVIEW_RATE) {
+            history.add(new Object[]{ApplicationStatus.REJECTED.getCode(), changedAt, username});
+            return history;
+        }
+        history.add(new Object[]{ApplicationStatus.INTERVIEWING.getCode(), changedAt, username});
+
+        double outcome = random.nextDouble();
+        ApplicationStatus next = outcome < OFFER_RATE ? ApplicationStatus.OFFERED
+                : outcome < OFFER_RATE + REJECTION_AFTER_INTERVIEW_RATE ? ApplicationStatus.REJECTED
+                : null;
+        changedAt = changedAt.plusMinutes(logNormalMinutes(random, 14));
+        if (next != null && changedAt.isBefore(now)) {
+            history.add(new Object[]{next.getCode(), changedAt, username});
+        }
+        return history;
+    }
+
+    private static void addInterviews(Random random, Long applicationId, LocalDateTime interviewingSince,
+                                      LocalDateTime now, List<Object[]> interviewRows) {
+        int interviews = 1 + random.nextInt(4);
+        LocalDateTime interviewDate = interviewingSince;
+        for (int i = 0; i < interviews; i++) {
+            interviewDate = interviewDate.plusDays(1 + random.nextInt(10)).withHour(9 + random.nextInt(8));
+            String status = interviewDate.isBefore(now) ? "COMPLETED" : "SCHEDULED";
+            LocalDateTime createdAt = interviewingSince.isBefore(now) ? interviewingSince : now;
+            interviewRows.add(new Object[]{
+                    INTERVIEW_TYPES[Math.min(i + random.nextInt(2), INTERVIEW_TYPES.length - 1)],
+                    interviewDate, status, 30 + 15 * random.nextInt(4), applicationId, createdAt, createdAt});
+        }
+    }
+
+    /**
+     * Returns a log-normal duration in minutes with the given median in days.
+     */
+    private static long logNormalMinutes(Random random, double medianDays) {
+        return Math.max(1L, (long) (medianDays * 24 * 60 * Math.exp(0.8 * random.nextGaussian())));
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Summary of a generated dataset.
+     */
+    public static class SyntheticDataset {
+        private final List<Long> userIds = new ArrayList<>();
+        private final List<String> usernames = new ArrayList<>();
+        private long applications;
+        private long statusChanges;
+        private long interviews;
+        private String heaviestUsername;
+        private int heaviestCount = -1;
+
+        void addUser(Long userId, String username, int applicationCount) {
+            userIds.add(userId);
+            usernames.add(username);
+            if (applicationCount > heaviestCount) {
+                heaviestCount = applicationCount;
+                heaviestUsername = username;
+            }
+        }
+
+        void addRows(long applications, long statusChanges, long interviews) {
+            this.applications += applications;
+            this.statusChanges += statusChanges;
+            this.interviews += interviews;
+        }
+
+        public List<Long> getUserIds() {
+            return Collections.unmodifiableList(userIds);
+        }
+
+        public List<String> getUsernames() {
+            return Collections.unmodifiableList(usernames);
+        }
+
+        public long getApplications() {
+            return applications;
+        }
+
+        public long getStatusChanges() {
+            return statusChanges;
+        }
+
+        public long getInterviews() {
+            return interviews;
+        }
+
+        /**
+         * Returns the user with the most applications, the worst case of the per-user statistics.
+         */
+        public String getHeaviestUsername() {
+            return heaviestUsername;
+        }
+
+        public int getHeaviestApplicationCount() {
+            return heaviestCount;
+        }
+
+        @Override
+        public String toString() {
+            return "SyntheticDataset{users=" + userIds.size() + ", applications=" + applications
+                    + ", statusChanges=" + statusChanges + ", interviews=" + interviews
+                    + ", heaviestUser=" + heaviestUsername + " (" + heaviestCount + ")}";
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.jnleyva.jobtracker_backend.exception.ResourceAlreadyExistsException;
 import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
 import com.jnleyva.jobtracker_backend.model.User;
 import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.hibernate.query.NativeQuery;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -33,6 +34,18 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private UserProfileService userProfileService;
 
+    @Autowired
+    private StatisticsCache statisticsCache;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private ApplicationArchiveService archiveService;
+
     @Override
     public User createUser(User user) {
         logger.debug("Creating new user with username: {}", user.getUsername());
@@ -130,7 +143,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<User> getAllUsers() {
-        return userRepository.findAll();
+        return userRepository.findAllWithApplications();
     }
 
     @Override
@@ -192,6 +205,8 @@ public class UserServiceImpl implements UserService {
         query.setParameter("lastLogin", lastLogin);
         query.setParameter("updatedAt", LocalDateTime.now());
         query.setParameter("id", id);
+        // Only the users region of the second-level cache is stale after this update
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(User.class);
         
         int updatedRows = query.executeUpdate();
         if (updatedRows == 0) {
@@ -206,6 +221,9 @@ public class UserServiceImpl implements UserService {
     @Transactional
     public void deleteUser(Long id) {
         User user = getUserById(id);
+        // The version row outlives the user so the admin views see the deletion as a change
+        dataVersionService.bump(id);
+        searchService.userDataChanged(id);
         
         // Use bulk delete operations in the correct order to avoid ALL foreign key constraint violations
         
@@ -226,14 +244,29 @@ public class UserServiceImpl implements UserService {
             "DELETE FROM Application a WHERE a.user.id = :userId")
             .setParameter("userId", id)
             .executeUpdate();
+        archiveService.deleteArchivedApplications(id);
+        
+        // 4. Delete the user's statistics projection counters, sync tombstones and calendar feed token
+        entityManager.createQuery(
+            "DELETE FROM UserStatistic s WHERE s.userId = :userId")
+            .setParameter("userId", id)
+            .executeUpdate();
+        entityManager.createQuery(
+            "DELETE FROM SyncTombstone t WHERE t.userId = :userId")
+            .setParameter("userId", id)
+            .executeUpdate();
+        entityManager.createQuery(
+            "DELETE FROM CalendarFeedToken t WHERE t.userId = :userId")
+            .setParameter("userId", id)
+            .executeUpdate();
         
-        // 4. Delete UserProfile (depends only on User)
+        // 5. Delete UserProfile (depends only on User)
         int profileDeleted = entityManager.createQuery(
             "DELETE FROM UserProfile up WHERE up.user.id = :userId")
             .setParameter("userId", id)
             .executeUpdate();
         
-        // 5. Finally delete the User
+        // 6. Finally delete the User
         entityManager.createQuery(
             "DELETE FROM User u WHERE u.id = :userId")
             .setParameter("userId", id)
@@ -241,6 +274,7 @@ public class UserServiceImpl implements UserService {
         
         // Clear the session cache to ensure subsequent queries don't find the deleted entities
         entityManager.clear();
+        statisticsCache.invalidate(id);
         
         logger.info("User deleted successfully: {} (deleted {} applications, {} interviews, {} status histories, {} profile)", 
                     user.getUsername(), applicationsDeleted, interviewsDeleted, statusHistoryDeleted, profileDeleted);
@@ -0,0 +1,608 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ArchivedStatistic;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.OutboxEvent;
+import com.jnleyva.jobtracker_backend.model.UserStatistic;
+import com.jnleyva.jobtracker_backend.model.UserStatistic.Metric;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.ApplicationStatusHistoryRepository;
+import com.jnleyva.jobtracker_backend.repository.ArchivedStatisticRepository;
+import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
+import com.jnleyva.jobtracker_backend.repository.UserDataVersionRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.repository.UserStatisticRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the {@code user_statistics} projection: per-user counters, so reading the dashboard
+ * never has to scan applications, interviews or status history. The write hooks compute the
+ * deltas of an application or interview change and record them in the {@link DomainEventOutbox}
+ * inside the same transaction; {@link OutboxRelay} applies them in the background, and reading
+ * a user's counters applies that user's pending deltas first.
+ *
+ * <p>The projection can always be recomputed from the source tables with {@link #rebuild(Long)}
+ * or {@link #rebuildAll()}; a user without any counter rows is rebuilt on first access. Writes do
+ * not wait for rebuilds: every event carries the user's data version after its change, and the
+ * projection stores the newest version it includes as {@link Metric#APPLIED_VERSION}, so events
+ * a rebuild already counted are skipped when the relay applies them.
+ *
+ * <p>Archiving moves closed applications out of the source tables without changing the
+ * projection: their counters are kept as {@link ArchivedStatistic} rows, which every rebuild and
+ * the all-time admin aggregate add back. Windowed statistics are computed from the source tables,
+ * to which {@link ArchivedStatisticsService} adds the archived applications.
+ */
+@Service
+public class UserStatisticsProjection {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatisticsProjection.class);
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+    private static final String DEFAULT_INTERVIEW_STATUS = "SCHEDULED";
+    private static final int REBUILD_ATTEMPTS = 3;
+
+    private static final List<Metric> SCALAR_METRICS = List.of(
+        Metric.TOTAL_APPLICATIONS, Metric.RESPONDED_APPLICATIONS, Metric.FIRST_RESPONSE_MINUTES,
+        Metric.TOTAL_INTERVIEWS, Metric.APPLICATIONS_WITH_INTERVIEWS);
+
+    @Autowired
+    private UserStatisticRepository statisticRepository;
+
+    @Autowired
+    private ArchivedStatisticRepository archivedStatisticRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private UserDataVersionRepository versionRepository;
+
+    @Autowired
+    private StatisticsCache statisticsCache;
+
+    @Autowired
+    private DomainEventOutbox domainEventOutbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Returns the stored counters of a user, building them from the source tables if the
+     * user has none yet.
+     */
+    @Transactional
+    public StatisticCounters getCounters(Long userId) {
+        if (domainEventOutbox.hasPendingEvents(userId)) {
+            // A user always reads their own writes, even before the relay got to them
+            applyPendingEvents(userId);
+        }
+        List<Object[]> rows = statisticRepository.findCountersByUserId(userId);
+        if (rows.isEmpty()) {
+            logger.info("No statistics projection for user {}, building it", userId);
+            return rebuild(userId);
+        }
+        StatisticCounters counters = new StatisticCounters();
+        for (Object[] row : rows) {
+            if (row[0] != Metric.APPLIED_VERSION) {
+                counters.add((Metric) row[0], (String) row[1], ((Number) row[2]).longValue());
+            }
+        }
+        return counters;
+    }
+
+    /**
+     * Computes the counters directly from the source tables with grouped aggregate queries.
+     * A null userId aggregates over every user (admin view).
+     */
+    @Transactional(readOnly = true)
+    public StatisticCounters computeFromSource(Long userId) {
+        return computeFromSource(userId, StatisticsWindow.ALL_TIME);
+    }
+
+    /**
+     * Computes the counters of the applications submitted and the interviews taking place
+     * within a time window.
+     */
+    @Transactional(readOnly = true)
+    public StatisticCounters computeFromSource(Long userId, StatisticsWindow window) {
+        return computeFromSource(userId, 0L, Long.MAX_VALUE, window);
+    }
+
+    /**
+     * Computes the counters of the applications with ids in [fromId, toId), together with their
+     * status history and interviews. Counters of disjoint id ranges can be merged.
+     */
+    @Transactional(readOnly = true)
+    public StatisticCounters computeFromSource(Long userId, long fromId, long toId, StatisticsWindow window) {
+        LocalDate fromDate = window.startDate();
+        LocalDate toDate = window.endDate();
+        LocalDateTime fromTime = window.startTime();
+        LocalDateTime toTime = window.endTime();
+        StatisticCounters counters = new StatisticCounters();
+
+        counters.add(Metric.TOTAL_APPLICATIONS, applicationRepository.countForStatistics(userId, fromId, toId, fromDate, toDate));
+        addStatusRows(counters, Metric.CURRENT_STATUS, applicationRepository.countByCurrentStatus(userId, fromId, toId, fromDate, toDate));
+        // An application reached every status of its reached mask, and its current status
+        for (Object[] row : applicationRepository.countByReachedStatuses(userId, fromId, toId, fromDate, toDate)) {
+            int reached = (Integer) row[0] | ((ApplicationStatus) row[1]).getBit();
+            for (ApplicationStatus status : STATUSES) {
+                if ((reached & status.getBit()) != 0) {
+                    counters.add(Metric.REACHED_STATUS, status.getLabel(), ((Number) row[2]).longValue());
+                }
+            }
+        }
+        addRows(counters, Metric.OFFER_STATUS, applicationRepository.countByOfferStatus(userId, fromId, toId, fromDate, toDate));
+        addMonthRows(counters, Metric.APPLICATION_MONTH, applicationRepository.countByApplicationMonth(userId, fromId, toId, fromDate, toDate));
+
+        try (Stream<Object[]> statusChanges = statusHistoryRepository.streamStatusChanges(userId, fromId, toId, fromDate, toDate)) {
+            addDurationRows(counters, statusChanges);
+        }
+
+        counters.add(Metric.TOTAL_INTERVIEWS, interviewRepository.countForStatistics(userId, fromId, toId, fromTime, toTime));
+        addRows(counters, Metric.INTERVIEW_TYPE, interviewRepository.countByType(userId, fromId, toId, fromTime, toTime));
+        for (Object[] row : interviewRepository.countByStatus(userId, fromId, toId, fromTime, toTime)) {
+            counters.add(Metric.INTERVIEW_STATUS, interviewStatus((String) row[0]), ((Number) row[1]).longValue());
+        }
+        addMonthRows(counters, Metric.INTERVIEW_MONTH, interviewRepository.countByInterviewMonth(userId, fromId, toId, fromTime, toTime));
+        counters.add(Metric.APPLICATIONS_WITH_INTERVIEWS, interviewRepository.countApplicationsWithInterviews(userId, fromId, toId, fromTime, toTime));
+
+        return counters;
+    }
+
+    /**
+     * Returns the counters of the archived applications of a user, or of every user for a null
+     * userId.
+     */
+    @Transactional(readOnly = true)
+    public StatisticCounters archivedCounters(Long userId) {
+        StatisticCounters counters = new StatisticCounters();
+        List<Object[]> rows = userId == null
+            ? archivedStatisticRepository.sumCounters()
+            : archivedStatisticRepository.findCountersByUserId(userId);
+        for (Object[] row : rows) {
+            counters.add((Metric) row[0], (String) row[1], ((Number) row[2]).longValue());
+        }
+        return counters;
+    }
+
+    /**
+     * Discards the stored counters of a user and recomputes them from the source tables and the
+     * counters of the user's archived applications.
+     */
+    @Transactional
+    public StatisticCounters rebuild(Long userId) {
+        // Serializes with the relay, which writes the counters too; writers never take this lock
+        lockUser(userId);
+
+        // Every write bumps the data version in its transaction, so an unchanged version means the
+        // source tables were read as of that version: its events and all older ones are counted
+        long version = 0;
+        StatisticCounters counters = null;
+        for (int attempt = 0; attempt < REBUILD_ATTEMPTS && counters == null; attempt++) {
+            version = dataVersion(userId);
+            StatisticCounters computed = computeWithArchived(userId);
+            if (dataVersion(userId) == version) {
+                counters = computed;
+            }
+        }
+        if (counters == null) {
+            // The user kept writing; holding the version row makes the writers wait this one out
+            versionRepository.increment(userId);
+            version = dataVersion(userId);
+            counters = computeWithArchived(userId);
+            logger.info("Rebuilt statistics projection for user {} while holding their data version", userId);
+        }
+
+        statisticRepository.deleteByUserId(userId);
+        // Newer events are not counted yet and stay for the relay
+        domainEventOutbox.discardThrough(userId, version);
+
+        // Scalar rows are always written so an empty projection is distinguishable from a missing one
+        for (Metric metric : SCALAR_METRICS) {
+            counters.add(metric, 0);
+        }
+        List<UserStatistic> rows = new ArrayList<>();
+        counters.forEach((metric, bucket, value) -> rows.add(new UserStatistic(userId, metric, bucket, value)));
+        rows.add(new UserStatistic(userId, Metric.APPLIED_VERSION, StatisticCounters.TOTAL, version));
+        statisticRepository.saveAll(rows);
+        statisticsCache.invalidate(userId);
+
+        logger.info("Rebuilt statistics projection for user {} ({} counters)", userId, rows.size());
+        return counters;
+    }
+
+    private StatisticCounters computeWithArchived(Long userId) {
+        StatisticCounters counters = computeFromSource(userId);
+        counters.merge(archivedCounters(userId));
+        return counters;
+    }
+
+    private long dataVersion(Long userId) {
+        return versionRepository.findVersion(userId).orElse(0L);
+    }
+
+    /**
+     * Rebuilds the projection of every user, one transaction per user.
+     *
+     * @return the number of users rebuilt
+     */
+    public int rebuildAll() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> userIds = userRepository.findAllIds();
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> rebuild(userId));
+        }
+        logger.info("Rebuilt statistics projection for {} users", userIds.size());
+        return userIds.size();
+    }
+
+    /**
+     * Removes the stored counters of a user; they are rebuilt on the next read.
+     */
+    @Transactional
+    public void clear(Long userId) {
+        statisticRepository.deleteByUserId(userId);
+        domainEventOutbox.discard(userId);
+        statisticsCache.invalidate(userId);
+    }
+
+    /**
+     * Removes the counters of the archived applications of a user, when those are deleted.
+     */
+    @Transactional
+    public void clearArchived(Long userId) {
+        archivedStatisticRepository.deleteByUserId(userId);
+        statisticsCache.invalidate(userId);
+    }
+
+    // Write hooks, called by the service layer inside its transaction, after it bumped the user's
+    // data version
+
+    /**
+     * Captures the statistics-relevant state of an application, including its status history.
+     */
+    public ApplicationSnapshot snapshot(Application application) {
+        List<StatusChange> history = new ArrayList<>();
+        for (Object[] row : statusHistoryRepository.findStatusChangesByApplicationId(application.getId())) {
+            history.add(new StatusChange((ApplicationStatus) row[0], (LocalDateTime) row[1]));
+        }
+        return new ApplicationSnapshot(application, history);
+    }
+
+    public InterviewSnapshot snapshot(Interview interview) {
+        return new InterviewSnapshot(interview);
+    }
+
+    /**
+     * Call after the application and its initial status history entry were saved.
+     */
+    @Transactional
+    public void applicationCreated(Application application) {
+        StatisticCounters deltas = new StatisticCounters();
+        addApplication(deltas, snapshot(application), 1);
+        record(application.getUser().getId(), OutboxEvent.Type.APPLICATION_CREATED, application.getId(), deltas);
+    }
+
+    /**
+     * Call after the application was updated and, if its status changed, the new status
+     * history entry was saved.
+     */
+    @Transactional
+    public void applicationUpdated(Application application, ApplicationSnapshot before) {
+        // Only a status change adds to the history
+        ApplicationSnapshot after = application.getStatus() != before.status
+            ? snapshot(application)
+            : new ApplicationSnapshot(application, before.history);
+
+        StatisticCounters deltas = new StatisticCounters();
+        addApplication(deltas, before, -1);
+        addApplication(deltas, after, 1);
+        record(before.userId, OutboxEvent.Type.APPLICATION_UPDATED, application.getId(), deltas);
+    }
+
+    /**
+     * Call right before the application, together with its interviews and history, is deleted.
+     */
+    @Transactional
+    public void applicationDeleted(ApplicationSnapshot before, List<InterviewSnapshot> interviews) {
+        StatisticCounters deltas = new StatisticCounters();
+        addApplication(deltas, before, -1);
+        for (InterviewSnapshot interview : interviews) {
+            addInterview(deltas, interview, -1);
+        }
+        if (!interviews.isEmpty()) {
+            deltas.add(Metric.APPLICATIONS_WITH_INTERVIEWS, -1);
+        }
+        record(before.userId, OutboxEvent.Type.APPLICATION_DELETED, before.applicationId, deltas);
+    }
+
+    /**
+     * Call right before the applications of a user, together with their interviews and history,
+     * are moved to the archive tables. The stored counters do not change; what the applications
+     * contribute to them is kept as archived counters, so rebuilds still count them.
+     */
+    @Transactional
+    public void applicationsArchived(Long userId, List<Application> applications) {
+        StatisticCounters counters = new StatisticCounters();
+        for (Application application : applications) {
+            addApplication(counters, snapshot(application), 1);
+            for (Interview interview : application.getInterviews()) {
+                addInterview(counters, new InterviewSnapshot(interview), 1);
+            }
+            if (!application.getInterviews().isEmpty()) {
+                counters.add(Metric.APPLICATIONS_WITH_INTERVIEWS, 1);
+            }
+        }
+        // The archiving transaction bumps the data version, so a rebuild that read the source tables
+        // and the archived counters across it computes again
+        counters.forEach((metric, bucket, value) -> {
+            if (value != 0 && archivedStatisticRepository.increment(userId, metric, bucket, value) == 0) {
+                archivedStatisticRepository.save(new ArchivedStatistic(userId, metric, bucket, value));
+            }
+        });
+    }
+
+    /**
+     * Call after the interview was saved.
+     */
+    @Transactional
+    public void interviewCreated(Interview interview) {
+        InterviewSnapshot created = new InterviewSnapshot(interview);
+        StatisticCounters deltas = new StatisticCounters();
+        addInterview(deltas, created, 1);
+        if (interviewRepository.countByApplicationId(created.applicationId) == 1) {
+            deltas.add(Metric.APPLICATIONS_WITH_INTERVIEWS, 1);
+        }
+        record(created.userId, OutboxEvent.Type.INTERVIEW_CREATED, interview.getId(), deltas);
+    }
+
+    /**
+     * Call after an interview was updated, cancelled, rescheduled or completed.
+     */
+    @Transactional
+    public void interviewUpdated(Interview interview, InterviewSnapshot before) {
+        StatisticCounters deltas = new StatisticCounters();
+        addInterview(deltas, before, -1);
+        addInterview(deltas, new InterviewSnapshot(interview), 1);
+        record(before.userId, OutboxEvent.Type.INTERVIEW_UPDATED, interview.getId(), deltas);
+    }
+
+    /**
+     * Call right before the interview is deleted.
+     */
+    @Transactional
+    public void interviewDeleted(Interview interview) {
+        InterviewSnapshot before = new InterviewSnapshot(interview);
+        StatisticCounters deltas = new StatisticCounters();
+        addInterview(deltas, before, -1);
+        if (interviewRepository.countByApplicationId(before.applicationId) == 1) {
+            deltas.add(Metric.APPLICATIONS_WITH_INTERVIEWS, -1);
+        }
+        record(before.userId, OutboxEvent.Type.INTERVIEW_DELETED, interview.getId(), deltas);
+    }
+
+    /**
+     * Adds the deltas of the user's pending outbox events to the stored counters, one update per
+     * counter however many events there were.
+     */
+    @Transactional
+    public void applyPendingEvents(Long userId) {
+        if (userRepository.findByIdForUpdate(userId).isEmpty()) {
+            // The user was deleted after the events were recorded
+            domainEventOutbox.discard(userId);
+            return;
+        }
+        if (!statisticRepository.existsByUserId(userId)) {
+            // Nothing to update incrementally yet, so derive the counters from the committed state
+            rebuild(userId);
+            return;
+        }
+        // Counters stored before versions were recorded include none of the pending events
+        long appliedVersion = statisticRepository.findScalar(userId, Metric.APPLIED_VERSION).orElse(-1L);
+        DomainEventOutbox.PendingDeltas pending = domainEventOutbox.takePendingDeltas(userId, appliedVersion);
+        StatisticCounters deltas = pending.getDeltas();
+        if (pending.getVersion() > appliedVersion) {
+            deltas.add(Metric.APPLIED_VERSION, pending.getVersion() - Math.max(appliedVersion, 0L));
+        }
+        deltas.forEach((metric, bucket, delta) -> {
+            if (delta != 0 && statisticRepository.increment(userId, metric, bucket, delta) == 0) {
+                statisticRepository.save(new UserStatistic(userId, metric, bucket, delta));
+            }
+        });
+        statisticsCache.invalidate(userId);
+        logger.debug("Applied statistics deltas for user {} through data version {}: {}", userId,
+                pending.getVersion(), deltas);
+    }
+
+    private void record(Long userId, OutboxEvent.Type type, Long aggregateId, StatisticCounters deltas) {
+        domainEventOutbox.record(userId, type, aggregateId, deltas);
+        statisticsCache.invalidate(userId);
+    }
+
+    private void lockUser(Long userId) {
+        userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+    }
+
+    private static void addApplication(StatisticCounters counters, ApplicationSnapshot application, int sign) {
+        counters.add(Metric.TOTAL_APPLICATIONS, sign);
+        counters.add(Metric.CURRENT_STATUS, application.status.getLabel(), sign);
+        // The current status counts as reached even if it was never recorded in the history
+        for (ApplicationStatus status : STATUSES) {
+            if (status == application.status || (application.reachedStatusMask & status.getBit()) != 0) {
+                counters.add(Metric.REACHED_STATUS, status.getLabel(), sign);
+            }
+        }
+        if (application.offerStatus != null && !application.offerStatus.isEmpty()) {
+            counters.add(Metric.OFFER_STATUS, application.offerStatus, sign);
+        }
+        counters.add(Metric.APPLICATION_MONTH, YearMonth.from(application.applicationDate).toString(), sign);
+        addDurations(counters, application.applicationDate, application.history, sign);
+    }
+
+    /**
+     * Adds the durations of one application's status history: the time from the application
+     * date to the first status other than Applied, and the time spent in each status that was
+     * left again. The status an application is currently in has no duration yet.
+     */
+    static void addDurations(StatisticCounters counters, LocalDate applicationDate, List<StatusChange> history, int sign) {
+        boolean responded = false;
+        ApplicationStatus stage = null;
+        LocalDateTime stageStart = null;
+        for (StatusChange change : history) {
+            if (!responded && change.status != ApplicationStatus.APPLIED) {
+                long minutes = minutesBetween(applicationDate.atStartOfDay(), change.changedAt);
+                counters.add(Metric.RESPONDED_APPLICATIONS, sign);
+                counters.add(Metric.FIRST_RESPONSE_MINUTES, sign * minutes);
+                counters.add(Metric.FIRST_RESPONSE_TIME, String.valueOf(DurationSketch.bucketOf(minutes)), sign);
+                responded = true;
+            }
+            if (change.status != stage) {
+                if (stage != null) {
+                    long minutes = minutesBetween(stageStart, change.changedAt);
+                    counters.add(Metric.STAGE_DURATION, stage.getLabel() + ":" + DurationSketch.bucketOf(minutes), sign);
+                }
+                stage = change.status;
+                stageStart = change.changedAt;
+            }
+        }
+    }
+
+    /**
+     * Adds the durations of a stream of [application id, application date, status, changed at]
+     * rows ordered by application and time.
+     */
+    static void addDurationRows(StatisticCounters counters, Stream<Object[]> rows) {
+        // Rows arrive grouped by application, so only one application's history is held at a time
+        Long applicationId = null;
+        LocalDate applicationDate = null;
+        List<StatusChange> history = new ArrayList<>();
+        Iterator<Object[]> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            Object[] row = iterator.next();
+            if (!row[0].equals(applicationId)) {
+                addDurations(counters, applicationDate, history, 1);
+                history.clear();
+                applicationId = (Long) row[0];
+                applicationDate = (LocalDate) row[1];
+            }
+            history.add(new StatusChange((ApplicationStatus) row[2], (LocalDateTime) row[3]));
+        }
+        addDurations(counters, applicationDate, history, 1);
+    }
+
+    private static long minutesBetween(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0L, Duration.between(from, to).toMinutes());
+    }
+
+    private static void addInterview(StatisticCounters counters, InterviewSnapshot interview, int sign) {
+        counters.add(Metric.TOTAL_INTERVIEWS, sign);
+        counters.add(Metric.INTERVIEW_TYPE, interview.type, sign);
+        counters.add(Metric.INTERVIEW_STATUS, interviewStatus(interview.status), sign);
+        counters.add(Metric.INTERVIEW_MONTH, YearMonth.from(interview.interviewDate).toString(), sign);
+    }
+
+    static String interviewStatus(String status) {
+        return status != null ? status : DEFAULT_INTERVIEW_STATUS;
+    }
+
+    private static void addRows(StatisticCounters counters, Metric metric, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            counters.add(metric, (String) row[0], ((Number) row[1]).longValue());
+        }
+    }
+
+    private static void addStatusRows(StatisticCounters counters, Metric metric, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            counters.add(metric, ((ApplicationStatus) row[0]).getLabel(), ((Number) row[1]).longValue());
+        }
+    }
+
+    private static void addMonthRows(StatisticCounters counters, Metric metric, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            YearMonth month = YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+            counters.add(metric, month.toString(), ((Number) row[2]).longValue());
+        }
+    }
+
+    /**
+     * The fields of an application that the projection counts, plus its status history for the
+     * durations.
+     */
+    public static class ApplicationSnapshot {
+        private final Long userId;
+        private final Long applicationId;
+        private final ApplicationStatus status;
+        private final String offerStatus;
+        private final LocalDate applicationDate;
+        private final int reachedStatusMask;
+        private final List<StatusChange> history;
+
+        ApplicationSnapshot(Application application, List<StatusChange> history) {
+            this.userId = application.getUser().getId();
+            this.applicationId = application.getId();
+            this.status = application.getStatus();
+            this.offerStatus = application.getOfferStatus();
+            this.applicationDate = application.getApplicationDate();
+            this.reachedStatusMask = application.getReachedStatusMask();
+            this.history = history;
+        }
+    }
+
+    /**
+     * One entry of an application's status history.
+     */
+    static class StatusChange {
+        private final ApplicationStatus status;
+        private final LocalDateTime changedAt;
+
+        StatusChange(ApplicationStatus status, LocalDateTime changedAt) {
+            this.status = status;
+            this.changedAt = changedAt;
+        }
+    }
+
+    /**
+     * The fields of an interview that the projection counts.
+     */
+    public static class InterviewSnapshot {
+        private final Long userId;
+        private final Long applicationId;
+        private final String type;
+        private final String status;
+        private final LocalDateTime interviewDate;
+
+        InterviewSnapshot(Interview interview) {
+            this.userId = interview.getApplication().getUser().getId();
+            this.applicationId = interview.getApplication().getId();
+            this.type = interview.getType();
+            this.status = interview.getStatus();
+            this.interviewDate = interview.getInterviewDate();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- Response times are now derived from the status history and stored as FIRST_RESPONSE_* and
+-- STAGE_DURATION counters; RESPONDED_EPOCH_DAYS is no longer used.
+-- Projections without the new counters are removed and rebuilt on the next statistics read.
+DELETE FROM user_statistics
+WHERE user_id NOT IN (SELECT user_id FROM user_statistics WHERE metric = 'FIRST_RESPONSE_MINUTES');
@@ -0,0 +1,9 @@
+-- Indexes for keyset pagination of GET /api/applications?limit=&cursor=&sort=&status=&company=&from=&to=
+-- Each sort order walks (user_id, sort column, application_id) from the cursor on; the status
+-- filter has its own index so filtered pages by date do not skip over other statuses
+CREATE INDEX idx_applications_user_date_id ON applications (user_id, application_date, application_id);
+CREATE INDEX idx_applications_user_status_date_id ON applications (user_id, status, application_date, application_id);
+CREATE INDEX idx_applications_user_company_id ON applications (user_id, company, application_id);
+
+-- Superseded by idx_applications_user_date_id, which has the same leading columns
+DROP INDEX IF EXISTS idx_applications_user_application_date;
@@ -0,0 +1,21 @@
+-- Full-text search for GET /api/search?q= (PostgreSQL 12 or later)
+-- The database keeps each search_vector current as rows are written; the weights rank a match
+-- in a company name, job title or contact name (A) above one in a location or interview type (B),
+-- interview notes (C) or a job description (D)
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(company, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(job_title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(location, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'D')) STORED;
+
+ALTER TABLE interviews ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(type, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(notes, '')), 'C') ||
+    setweight(to_tsvector('english', coalesce(interview_feedback, '')), 'C')) STORED;
+
+ALTER TABLE contacts ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(name, '')), 'A')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_applications_search ON applications USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_interviews_search ON interviews USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_contacts_search ON contacts USING GIN (search_vector);
@@ -0,0 +1,21 @@
+-- Delta sync for GET /api/sync?since=
+-- Rows written after a sync token are found through their modification time; contacts get one
+ALTER TABLE contacts ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
+UPDATE contacts SET updated_at = CURRENT_TIMESTAMP WHERE updated_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_applications_user_updated_at ON applications (user_id, updated_at);
+CREATE INDEX IF NOT EXISTS idx_interviews_updated_at ON interviews (updated_at);
+CREATE INDEX IF NOT EXISTS idx_contacts_updated_at ON contacts (updated_at);
+CREATE INDEX IF NOT EXISTS idx_application_status_history_changed_at ON application_status_history (changed_at);
+
+-- Deleted applications, interviews and contacts, kept for sync.tombstone-retention-days
+CREATE TABLE IF NOT EXISTS sync_tombstones (
+    tombstone_id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    application_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_user_deleted_at ON sync_tombstones (user_id, deleted_at);
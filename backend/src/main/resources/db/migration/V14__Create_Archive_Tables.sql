@@ -0,0 +1,70 @@
+-- Archive of closed applications, see ApplicationArchiveService, which also creates these tables on startup
+-- Partitioned by year of archived_at; a partition per year is created before the first chunk is
+-- archived into it, so old archives can be detached or dropped as a whole
+CREATE TABLE IF NOT EXISTS archived_applications (
+    application_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    company VARCHAR(500) NOT NULL,
+    job_title VARCHAR(500) NOT NULL,
+    location VARCHAR(1000),
+    url VARCHAR(2000),
+    description TEXT,
+    compensation DOUBLE PRECISION,
+    compensation_type VARCHAR(100),
+    experience_level VARCHAR(100),
+    status VARCHAR(1) NOT NULL,
+    offer_status VARCHAR(50),
+    application_date DATE NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (application_id, archived_at)
+) PARTITION BY RANGE (archived_at);
+
+CREATE TABLE IF NOT EXISTS archived_interviews (
+    id BIGINT NOT NULL,
+    application_id BIGINT NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    interview_date TIMESTAMP NOT NULL,
+    original_date TIMESTAMP,
+    notes TEXT,
+    status VARCHAR(255),
+    interviewer_name VARCHAR(255),
+    interviewer_email VARCHAR(255),
+    location VARCHAR(255),
+    duration_minutes INTEGER,
+    cancellation_reason VARCHAR(255),
+    meeting_link VARCHAR(255),
+    interview_feedback VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, archived_at)
+) PARTITION BY RANGE (archived_at);
+
+CREATE TABLE IF NOT EXISTS archived_contacts (
+    id BIGINT NOT NULL,
+    application_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255),
+    phone VARCHAR(255),
+    position VARCHAR(255),
+    updated_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, archived_at)
+) PARTITION BY RANGE (archived_at);
+
+CREATE TABLE IF NOT EXISTS archived_status_history (
+    history_id BIGINT NOT NULL,
+    application_id BIGINT NOT NULL,
+    status VARCHAR(1) NOT NULL,
+    changed_at TIMESTAMP NOT NULL,
+    changed_by VARCHAR(255),
+    archived_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (history_id, archived_at)
+) PARTITION BY RANGE (archived_at);
+
+CREATE INDEX IF NOT EXISTS idx_archived_applications_user ON archived_applications (user_id, application_id);
+CREATE INDEX IF NOT EXISTS idx_archived_interviews_application ON archived_interviews (application_id);
+CREATE INDEX IF NOT EXISTS idx_archived_contacts_application ON archived_contacts (application_id);
+CREATE INDEX IF NOT EXISTS idx_archived_status_history_application ON archived_status_history (application_id);
@@ -0,0 +1,28 @@
+-- Progression summary of each application, kept current by the service layer so reading it never
+-- touches the status history, interviews or contacts. Bits of reached_status_mask: Applied 1,
+-- Interviewing 2, Offered 4, Rejected 8
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS reached_status_mask INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS highest_status_reached VARCHAR(1);
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS interview_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS contact_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS last_status_change_at TIMESTAMP;
+
+-- One-time backfill, also run on startup by DatabaseMigration through ApplicationProgressService
+UPDATE applications a SET
+    reached_status_mask =
+        (CASE WHEN a.status = 'A' OR EXISTS (SELECT 1 FROM application_status_history h WHERE h.application_id = a.application_id AND h.status = 'A') THEN 1 ELSE 0 END) +
+        (CASE WHEN a.status = 'I' OR EXISTS (SELECT 1 FROM application_status_history h WHERE h.application_id = a.application_id AND h.status = 'I') THEN 2 ELSE 0 END) +
+        (CASE WHEN a.status = 'O' OR EXISTS (SELECT 1 FROM application_status_history h WHERE h.application_id = a.application_id AND h.status = 'O') THEN 4 ELSE 0 END) +
+        (CASE WHEN a.status = 'R' OR EXISTS (SELECT 1 FROM application_status_history h WHERE h.application_id = a.application_id AND h.status = 'R') THEN 8 ELSE 0 END),
+    interview_count = (SELECT COUNT(*) FROM interviews i WHERE i.application_id = a.application_id),
+    contact_count = (SELECT COUNT(*) FROM contacts c WHERE c.application_id = a.application_id),
+    last_status_change_at = (SELECT MAX(h.changed_at) FROM application_status_history h WHERE h.application_id = a.application_id)
+WHERE a.reached_status_mask = 0;
+
+UPDATE applications SET highest_status_reached = CASE
+    WHEN reached_status_mask & 4 <> 0 THEN 'O'
+    WHEN reached_status_mask & 2 <> 0 THEN 'I'
+    WHEN reached_status_mask & 1 <> 0 THEN 'A'
+    WHEN reached_status_mask & 8 <> 0 THEN 'R'
+    ELSE status END
+WHERE highest_status_reached IS NULL;
@@ -0,0 +1,12 @@
+-- Transactional outbox: statistics deltas of application and interview writes, applied to
+-- user_statistics and removed by the outbox relay
+CREATE TABLE IF NOT EXISTS outbox_events (
+    event_id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    event_type VARCHAR(30) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_user_id ON outbox_events (user_id, event_id);
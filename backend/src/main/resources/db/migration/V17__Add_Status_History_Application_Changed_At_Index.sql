@@ -0,0 +1,4 @@
+-- Stage dwell times (GET /api/statistics/stages) and the per-application history reads walk each
+-- application's status changes in time order
+CREATE INDEX IF NOT EXISTS idx_application_status_history_application_changed_at
+    ON application_status_history (application_id, changed_at);
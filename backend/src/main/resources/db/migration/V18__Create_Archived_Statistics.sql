@@ -0,0 +1,13 @@
+-- What each user's archived applications contributed to the statistics projection; archiving
+-- moves the applications out of the tables user_statistics is rebuilt from, so their counters
+-- are kept here and added back on every rebuild
+CREATE TABLE IF NOT EXISTS archived_statistics (
+    statistic_id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    metric VARCHAR(50) NOT NULL,
+    bucket VARCHAR(100) NOT NULL,
+    counter_value BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT uk_archived_statistics_user_metric_bucket
+        UNIQUE (user_id, metric, bucket)
+);
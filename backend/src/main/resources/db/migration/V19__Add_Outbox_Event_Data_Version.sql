@@ -0,0 +1,3 @@
+-- The user's data version after the change an outbox event describes; the statistics projection
+-- stores the newest version it includes, so rebuilds need not lock out concurrent writers
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS data_version BIGINT NOT NULL DEFAULT 0;
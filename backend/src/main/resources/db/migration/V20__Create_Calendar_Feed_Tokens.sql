@@ -0,0 +1,6 @@
+-- Per-user secrets of the interview calendar feed URLs, stored as SHA-256 hashes
+CREATE TABLE IF NOT EXISTS calendar_feed_tokens (
+    user_id BIGINT PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    created_at TIMESTAMP NOT NULL
+);
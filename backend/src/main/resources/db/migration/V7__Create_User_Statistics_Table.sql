@@ -0,0 +1,15 @@
+-- Create user_statistics table (incrementally maintained statistics projection)
+CREATE TABLE user_statistics (
+    statistic_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    metric VARCHAR(50) NOT NULL,
+    bucket VARCHAR(100) NOT NULL,
+    counter_value BIGINT NOT NULL DEFAULT 0,
+    
+    CONSTRAINT uk_user_statistics_user_metric_bucket 
+        UNIQUE (user_id, metric, bucket)
+);
+
+-- Add comment to table
+ALTER TABLE user_statistics 
+COMMENT = 'Per-user statistics counters, rebuilt from source tables with POST /api/admin/statistics/rebuild';
@@ -0,0 +1,8 @@
+-- Indexes for time-windowed statistics (GET /api/statistics?from=&to=&bucket=)
+-- Per-user windows scan applications by (user_id, application_date); the admin view by application_date
+CREATE INDEX idx_applications_user_application_date ON applications (user_id, application_date);
+CREATE INDEX idx_applications_application_date ON applications (application_date);
+
+-- Interviews are joined to their application and filtered by interview_date
+CREATE INDEX idx_interviews_interview_date ON interviews (interview_date);
+CREATE INDEX idx_interviews_application_interview_date ON interviews (application_id, interview_date);
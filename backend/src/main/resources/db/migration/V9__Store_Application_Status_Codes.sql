@@ -0,0 +1,22 @@
+-- Store application statuses as one-character codes instead of free-form labels
+-- A = Applied, I = Interviewing, O = Offered, R = Rejected (see ApplicationStatus)
+-- Older clients wrote synonyms ("Interview", "INTERVIEW_SCHEDULED", "Offer", "OFFER_RECEIVED"),
+-- so labels are matched like ApplicationStatus.fromLegacyLabel: rejection, then offer, then
+-- interview, and any other label becomes Applied
+UPDATE applications SET status = CASE
+    WHEN UPPER(status) LIKE '%REJECT%' THEN 'R'
+    WHEN UPPER(status) LIKE '%OFFER%' THEN 'O'
+    WHEN UPPER(status) LIKE '%INTERVIEW%' THEN 'I'
+    ELSE 'A' END
+WHERE LENGTH(status) > 1;
+
+UPDATE application_status_history SET status = CASE
+    WHEN UPPER(status) LIKE '%REJECT%' THEN 'R'
+    WHEN UPPER(status) LIKE '%OFFER%' THEN 'O'
+    WHEN UPPER(status) LIKE '%INTERVIEW%' THEN 'I'
+    ELSE 'A' END
+WHERE LENGTH(status) > 1;
+
+-- Every row now holds a code, so the columns can be narrowed
+ALTER TABLE applications ALTER COLUMN status TYPE CHAR(1);
+ALTER TABLE application_status_history ALTER COLUMN status TYPE CHAR(1);
@@ -0,0 +1,65 @@
+package com.jnleyva.jobtracker_backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the status code migrations against a database of its own, since the shared test schema
+ * is created by Hibernate with the codes already in place.
+ */
+class DatabaseMigrationTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration" + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE applications (application_id BIGINT PRIMARY KEY, status VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE application_status_history (history_id BIGINT PRIMARY KEY, status VARCHAR(255))");
+
+        String[] labels = {"Applied", "Interview", "INTERVIEW_SCHEDULED", "Offer", "OFFER_RECEIVED", "Rejected", "Ghosted", "I"};
+        for (int i = 0; i < labels.length; i++) {
+            jdbcTemplate.update("INSERT INTO applications VALUES (?, ?)", i + 1, labels[i]);
+            jdbcTemplate.update("INSERT INTO application_status_history VALUES (?, ?)", i + 101, labels[i]);
+        }
+    }
+
+    @Test
+    void migrateApplicationStatusCodes_ShouldMapSynonymsAndUnknownLabelsInBothTables() {
+        DatabaseMigration migration = new DatabaseMigration();
+        ReflectionTestUtils.setField(migration, "jdbcTemplate", jdbcTemplate);
+
+        migration.migrateApplicationStatusCodes();
+
+        List<String> expected = List.of("A", "I", "I", "O", "O", "R", "A", "I");
+        assertEquals(expected, statuses("applications", "application_id"));
+        assertEquals(expected, statuses("application_status_history", "history_id"));
+    }
+
+    @Test
+    void v9Migration_ShouldMapEveryLabelSoBothColumnsCanBeNarrowed() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V9__Store_Application_Status_Codes.sql"))
+                .execute(dataSource);
+
+        List<String> expected = List.of("A", "I", "I", "O", "O", "R", "A", "I");
+        assertEquals(expected, statuses("applications", "application_id"));
+        assertEquals(expected, statuses("application_status_history", "history_id"));
+    }
+
+    private List<String> statuses(String table, String idColumn) {
+        return jdbcTemplate.queryForList("SELECT status FROM " + table + " ORDER BY " + idColumn, String.class);
+    }
+}
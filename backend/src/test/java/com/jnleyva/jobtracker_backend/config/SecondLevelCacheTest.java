@@ -0,0 +1,152 @@
+package com.jnleyva.jobtracker_backend.config;
+
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.InterviewDTO;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.service.ApplicationService;
+import com.jnleyva.jobtracker_backend.service.InterviewService;
+import com.jnleyva.jobtracker_backend.service.UserService;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction, so entities reach the second-level cache when their
+ * transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private CacheManager entityCacheManager;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User testUser;
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("cacheuser");
+        testUser.setPassword("Password123!");
+        testUser.setEmail("cache@example.com");
+        testUser.setRole("ROLE_USER");
+        testUser = userRepository.save(testUser);
+        application = applicationService.createApplication(new Application("Acme", "Backend Engineer", null, null,
+                null, null, ApplicationStatus.APPLIED, LocalDate.of(2024, 3, 1)), testUser.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.deleteUser(testUser.getId());
+    }
+
+    @Test
+    void repeatReadsById_ShouldBeServedFromTheCache() {
+        applicationRepository.findById(application.getId()).orElseThrow();
+        double hits = hits("applications");
+
+        applicationRepository.findById(application.getId()).orElseThrow();
+        applicationRepository.findById(application.getId()).orElseThrow();
+
+        assertEquals(hits + 2, hits("applications"));
+    }
+
+    @Test
+    void writes_ShouldReplaceTheCachedEntitiesAndCollections() {
+        applicationRepository.findById(application.getId()).orElseThrow();
+        assertEquals(0, interviewCount());
+
+        Application changes = new Application("Acme Corp", "Backend Engineer", null, null, null, null,
+                ApplicationStatus.INTERVIEWING, LocalDate.of(2024, 3, 1));
+        applicationService.updateApplication(application.getId(), changes);
+        interviewService.createInterview(application.getId(),
+                new InterviewDTO("Technical", LocalDateTime.of(2024, 3, 10, 14, 0), null));
+
+        Application cached = applicationRepository.findById(application.getId()).orElseThrow();
+        assertEquals("Acme Corp", cached.getCompany());
+        assertEquals(ApplicationStatus.INTERVIEWING, cached.getStatus());
+        assertEquals(1, interviewCount());
+    }
+
+    @Test
+    void findByUsername_ShouldBeServedFromTheQueryCacheUntilUsersChange() {
+        userRepository.findByUsername("cacheuser").orElseThrow();
+        double hits = hits("users-by-username");
+
+        assertEquals(testUser.getId(), userRepository.findByUsername("cacheuser").orElseThrow().getId());
+        assertEquals(hits + 1, hits("users-by-username"));
+
+        userService.updateUserLoginInfo(testUser.getId(), 2, LocalDateTime.now());
+        assertEquals(2, userRepository.findByUsername("cacheuser").orElseThrow().getFailedLoginAttempts());
+    }
+
+    @Test
+    void regions_ShouldBeBoundedAsConfigured() {
+        Policy<?, ?> applications = nativeCache("applications").policy();
+        assertEquals(10000, applications.eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofMinutes(10), applications.expireAfterWrite().orElseThrow().getExpiresAfter());
+
+        Policy<?, ?> lookups = nativeCache("users-by-username").policy();
+        assertEquals(1000, lookups.eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofMinutes(5), lookups.expireAfterWrite().orElseThrow().getExpiresAfter());
+
+        Policy<?, ?> timestamps = nativeCache("default-update-timestamps-region").policy();
+        assertTrue(timestamps.eviction().isEmpty());
+        assertTrue(timestamps.expireAfterWrite().isEmpty());
+    }
+
+    private double hits(String region) {
+        return meterRegistry.get("cache.gets").tag("cache", region).tag("result", "hit").functionCounter().count();
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache(String region) {
+        return entityCacheManager.getCache(region).unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+    }
+
+    private int interviewCount() {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                applicationRepository.findById(application.getId()).orElseThrow().getInterviews().size());
+    }
+}
@@ -0,0 +1,22 @@
+package com.jnleyva.jobtracker_backend.config;
+
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+
+/**
+ * Users for database tests: a plain ROLE_USER account named after the username.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static User save(UserRepository userRepository, String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("Password123!");
+        user.setEmail(username + "@example.com");
+        user.setRole("ROLE_USER");
+        return userRepository.save(user);
+    }
+}
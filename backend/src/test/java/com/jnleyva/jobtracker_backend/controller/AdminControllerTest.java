@@ -2,6 +2,7 @@ package com.jnleyva.jobtracker_backend.controller;
 
 import com.jnleyva.jobtracker_backend.config.TestSecurityConfig;
 import com.jnleyva.jobtracker_backend.service.TokenBlacklistService;
+import com.jnleyva.jobtracker_backend.service.UserStatisticsProjection;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
@@ -14,6 +15,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(value = AdminController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class)
@@ -26,6 +28,9 @@ class AdminControllerTest {
     @MockitoBean
     private TokenBlacklistService tokenBlacklistService;
 
+    @MockitoBean
+    private UserStatisticsProjection statisticsProjection;
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void testGetBlacklistSize() throws Exception {
@@ -135,4 +140,40 @@ class AdminControllerTest {
 
         verifyNoInteractions(tokenBlacklistService);
     }
-} 
\ No newline at end of file
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testRebuildStatisticsForOneUser() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/admin/statistics/rebuild").param("userId", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usersRebuilt").value(1));
+
+        verify(statisticsProjection).rebuild(7L);
+        verify(statisticsProjection, never()).rebuildAll();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testRebuildStatisticsForAllUsers() throws Exception {
+        // Arrange
+        when(statisticsProjection.rebuildAll()).thenReturn(3);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/admin/statistics/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usersRebuilt").value(3));
+
+        verify(statisticsProjection).rebuildAll();
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testRebuildStatisticsWithUserRole() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/admin/statistics/rebuild"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(statisticsProjection);
+    }
+}
@@ -3,9 +3,19 @@ package com.jnleyva.jobtracker_backend.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jnleyva.jobtracker_backend.config.TestSecurityConfig;
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationPage;
+import com.jnleyva.jobtracker_backend.model.ApplicationSummary;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.ImportResult;
 import com.jnleyva.jobtracker_backend.model.User;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.service.ApplicationArchiveService;
+import com.jnleyva.jobtracker_backend.service.ApplicationExportService;
+import com.jnleyva.jobtracker_backend.service.ApplicationImportService;
+import com.jnleyva.jobtracker_backend.service.ApplicationListQuery;
+import com.jnleyva.jobtracker_backend.service.ApplicationService;
+import com.jnleyva.jobtracker_backend.service.DataVersionService;
 import com.jnleyva.jobtracker_backend.service.JwtService;
 import com.jnleyva.jobtracker_backend.service.MyUserDetailsService;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,14 +27,22 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,6 +60,21 @@ public class ApplicationControllerTest {
     @MockitoBean
     private UserRepository userRepository;
 
+    @MockitoBean
+    private ApplicationService applicationService;
+
+    @MockitoBean
+    private DataVersionService dataVersionService;
+
+    @MockitoBean
+    private ApplicationImportService applicationImportService;
+
+    @MockitoBean
+    private ApplicationExportService applicationExportService;
+
+    @MockitoBean
+    private ApplicationArchiveService applicationArchiveService;
+
     @MockitoBean
     private JwtService jwtService;
 
@@ -77,7 +110,7 @@ public class ApplicationControllerTest {
         testApplication.setUrl("https://example.com/job");
         testApplication.setDescription("Test job description");
         testApplication.setCompensation(100000.0);
-        testApplication.setStatus("APPLIED");
+        testApplication.setStatus(ApplicationStatus.APPLIED);
         testApplication.setApplicationDate(LocalDate.now());
         testApplication.setUser(testUser);
     }
@@ -87,18 +120,67 @@ public class ApplicationControllerTest {
     void getAllApplications_AsUser_ShouldReturnUserApplications() throws Exception {
         // Arrange
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(applicationRepository.findByUserId(1L)).thenReturn(Arrays.asList(testApplication));
+        when(applicationRepository.findSummariesByUserId(1L)).thenReturn(Arrays.asList(ApplicationSummary.of(testApplication)));
 
         // Act & Assert
         mockMvc.perform(get("/api/applications"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].company").value("Test Company"))
-                .andExpect(jsonPath("$[0].jobTitle").value("Software Engineer"));
+                .andExpect(jsonPath("$[0].jobTitle").value("Software Engineer"))
+                .andExpect(jsonPath("$[0].descriptionPreview").value("Test job description"))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].interviews").doesNotExist());
 
         verify(userRepository).findByUsername("testuser");
-        verify(applicationRepository).findByUserId(1L);
-        verify(applicationRepository, never()).findAll();
+        verify(applicationRepository).findSummariesByUserId(1L);
+        verify(applicationRepository, never()).findAllSummaries();
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getAllApplications_ShouldReturnETagOfUserDataVersion() throws Exception {
+        // Arrange
+        when(dataVersionService.userTag("testuser")).thenReturn("1-7");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(applicationRepository.findSummariesByUserId(1L)).thenReturn(Arrays.asList(ApplicationSummary.of(testApplication)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/applications").header("If-None-Match", "\"applications-1-6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"applications-1-7\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(jsonPath("$[0].company").value("Test Company"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getAllApplications_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        // Arrange
+        when(dataVersionService.userTag("testuser")).thenReturn("1-7");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/applications").header("If-None-Match", "\"applications-1-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"applications-1-7\""))
+                .andExpect(content().string(""));
+
+        verify(userRepository, never()).findByUsername(anyString());
+        verify(applicationRepository, never()).findSummariesByUserId(anyLong());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getAllApplications_AsAdmin_ShouldUseVersionOfAllUsers() throws Exception {
+        // Arrange
+        when(dataVersionService.allUsersTag()).thenReturn("all-42");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/applications").header("If-None-Match", "\"applications-all-42\""))
+                .andExpect(status().isNotModified());
+
+        verify(dataVersionService, never()).userTag(anyString());
+        verify(applicationRepository, never()).findAllSummaries();
     }
 
     @Test
@@ -106,7 +188,7 @@ public class ApplicationControllerTest {
     void getAllApplications_AsAdmin_ShouldReturnAllApplications() throws Exception {
         // Arrange
         when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
-        when(applicationRepository.findAll()).thenReturn(Arrays.asList(testApplication));
+        when(applicationRepository.findAllSummaries()).thenReturn(Arrays.asList(ApplicationSummary.of(testApplication)));
 
         // Act & Assert
         mockMvc.perform(get("/api/applications"))
@@ -115,8 +197,8 @@ public class ApplicationControllerTest {
                 .andExpect(jsonPath("$[0].company").value("Test Company"));
 
         verify(userRepository).findByUsername("admin");
-        verify(applicationRepository).findAll();
-        verify(applicationRepository, never()).findByUserId(anyLong());
+        verify(applicationRepository).findAllSummaries();
+        verify(applicationRepository, never()).findSummariesByUserId(anyLong());
     }
 
     @Test
@@ -130,15 +212,75 @@ public class ApplicationControllerTest {
                 .andExpect(status().isUnauthorized());
 
         verify(userRepository).findByUsername("nonexistent");
-        verify(applicationRepository, never()).findByUserId(anyLong());
-        verify(applicationRepository, never()).findAll();
+        verify(applicationRepository, never()).findSummariesByUserId(anyLong());
+        verify(applicationRepository, never()).findAllSummaries();
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getAllApplications_WithPageParameters_ShouldReturnKeysetPage() throws Exception {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(applicationService.listApplications(eq(1L), any(ApplicationListQuery.class)))
+                .thenReturn(new ApplicationPage(Arrays.asList(ApplicationSummary.of(testApplication)), "next-page", 1));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/applications")
+                        .param("limit", "1")
+                        .param("sort", "company")
+                        .param("status", "Applied")
+                        .param("company", "test")
+                        .param("from", "2024-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].company").value("Test Company"))
+                .andExpect(jsonPath("$.nextCursor").value("next-page"))
+                .andExpect(jsonPath("$.limit").value(1));
+
+        verify(applicationService).listApplications(eq(1L), argThat(query -> query.getLimit() == 1
+                && query.getSort() == ApplicationListQuery.Sort.COMPANY_ASC
+                && query.getStatus() == ApplicationStatus.APPLIED
+                && "test".equals(query.getCompany())
+                && LocalDate.of(2024, 1, 1).equals(query.startDate())));
+        verify(applicationRepository, never()).findSummariesByUserId(anyLong());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getAllApplications_PageAsAdmin_ShouldListEveryUser() throws Exception {
+        // Arrange
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
+        when(applicationService.listApplications(isNull(), any(ApplicationListQuery.class)))
+                .thenReturn(new ApplicationPage(Arrays.asList(ApplicationSummary.of(testApplication)), null, 50));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/applications").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].company").value("Test Company"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(applicationRepository, never()).findAllSummaries();
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getAllApplications_WithInvalidPageParameters_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/applications").param("sort", "salary"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/applications").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/applications").param("status", "Ghosted"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/applications").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verify(applicationService, never()).listApplications(any(), any());
     }
 
     @Test
     @WithMockUser(username = "testuser", roles = "USER")
     void getApplicationById_AsOwner_ShouldReturnApplication() throws Exception {
         // Arrange
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        when(applicationRepository.findDetailById(1L)).thenReturn(Optional.of(testApplication));
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
 
         // Act & Assert
@@ -147,7 +289,7 @@ public class ApplicationControllerTest {
                 .andExpect(jsonPath("$.company").value("Test Company"))
                 .andExpect(jsonPath("$.jobTitle").value("Software Engineer"));
 
-        verify(applicationRepository).findById(1L);
+        verify(applicationRepository).findDetailById(1L);
         verify(userRepository).findByUsername("testuser");
     }
 
@@ -155,7 +297,7 @@ public class ApplicationControllerTest {
     @WithMockUser(username = "admin", roles = "ADMIN")
     void getApplicationById_AsAdmin_ShouldReturnApplication() throws Exception {
         // Arrange
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        when(applicationRepository.findDetailById(1L)).thenReturn(Optional.of(testApplication));
         when(userRepository.findByUsername("admin")).thenReturn(Optional.of(adminUser));
 
         // Act & Assert
@@ -163,7 +305,7 @@ public class ApplicationControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.company").value("Test Company"));
 
-        verify(applicationRepository).findById(1L);
+        verify(applicationRepository).findDetailById(1L);
         verify(userRepository).findByUsername("admin");
     }
 
@@ -175,14 +317,14 @@ public class ApplicationControllerTest {
         otherUser.setId(3L);
         otherUser.setUsername("otheruser");
 
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        when(applicationRepository.findDetailById(1L)).thenReturn(Optional.of(testApplication));
         when(userRepository.findByUsername("otheruser")).thenReturn(Optional.of(otherUser));
 
         // Act & Assert
         mockMvc.perform(get("/api/applications/1"))
                 .andExpect(status().isForbidden());
 
-        verify(applicationRepository).findById(1L);
+        verify(applicationRepository).findDetailById(1L);
         verify(userRepository).findByUsername("otheruser");
     }
 
@@ -190,16 +332,36 @@ public class ApplicationControllerTest {
     @WithMockUser(username = "testuser", roles = "USER")
     void getApplicationById_WithNonexistentApplication_ShouldReturnNotFound() throws Exception {
         // Arrange
-        when(applicationRepository.findById(999L)).thenReturn(Optional.empty());
+        when(applicationRepository.findDetailById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         mockMvc.perform(get("/api/applications/999"))
                 .andExpect(status().isNotFound());
 
-        verify(applicationRepository).findById(999L);
+        verify(applicationRepository).findDetailById(999L);
         verify(userRepository, never()).findByUsername(anyString());
     }
 
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getApplicationById_WithArchivedApplication_ShouldReturnItFromTheArchive() throws Exception {
+        // Arrange
+        testApplication.setStatus(ApplicationStatus.REJECTED);
+        testApplication.setArchivedAt(LocalDateTime.of(2024, 9, 1, 3, 30));
+        when(applicationRepository.findDetailById(1L)).thenReturn(Optional.empty());
+        when(applicationArchiveService.findArchivedApplication(1L)).thenReturn(Optional.of(testApplication));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/applications/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.company").value("Test Company"))
+                .andExpect(jsonPath("$.status").value("Rejected"))
+                .andExpect(jsonPath("$.archivedAt").value("2024-09-01T03:30:00"));
+
+        verify(applicationArchiveService).findArchivedApplication(1L);
+    }
+
     @Test
     @WithMockUser(username = "testuser", roles = "USER")
     void createApplication_WithValidData_ShouldCreateApplication() throws Exception {
@@ -211,7 +373,7 @@ public class ApplicationControllerTest {
         newApplication.setUrl("https://newcompany.com/job");
         newApplication.setDescription("New job description");
         newApplication.setCompensation(120000.0);
-        newApplication.setStatus("APPLIED");
+        newApplication.setStatus(ApplicationStatus.APPLIED);
         newApplication.setApplicationDate(LocalDate.now());
 
         Application savedApplication = new Application();
@@ -221,7 +383,7 @@ public class ApplicationControllerTest {
         savedApplication.setUser(testUser);
 
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(applicationRepository.save(any(Application.class))).thenReturn(savedApplication);
+        when(applicationService.createApplication(any(Application.class), eq(1L))).thenReturn(savedApplication);
 
         // Act & Assert
         mockMvc.perform(post("/api/applications")
@@ -233,7 +395,7 @@ public class ApplicationControllerTest {
                 .andExpect(jsonPath("$.jobTitle").value("Developer"));
 
         verify(userRepository).findByUsername("testuser");
-        verify(applicationRepository).save(any(Application.class));
+        verify(applicationService).createApplication(any(Application.class), eq(1L));
     }
 
     @Test
@@ -252,7 +414,19 @@ public class ApplicationControllerTest {
                 .andExpect(status().isUnauthorized());
 
         verify(userRepository).findByUsername("nonexistent");
-        verify(applicationRepository, never()).save(any(Application.class));
+        verify(applicationService, never()).createApplication(any(Application.class), anyLong());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void createApplication_WithUnknownStatus_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/applications")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"company\":\"New Company\",\"jobTitle\":\"Developer\",\"status\":\"Ghosted\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(applicationService, never()).createApplication(any(Application.class), anyLong());
     }
 
     @Test
@@ -263,19 +437,19 @@ public class ApplicationControllerTest {
         updateData.setCompany("Updated Company");
         updateData.setJobTitle("Senior Developer");
         updateData.setLocation("New York");
-        updateData.setStatus("INTERVIEWING");
+        updateData.setStatus(ApplicationStatus.INTERVIEWING);
 
         Application updatedApplication = new Application();
         updatedApplication.setId(1L);
         updatedApplication.setCompany("Updated Company");
         updatedApplication.setJobTitle("Senior Developer");
         updatedApplication.setLocation("New York");
-        updatedApplication.setStatus("INTERVIEWING");
+        updatedApplication.setStatus(ApplicationStatus.INTERVIEWING);
         updatedApplication.setUser(testUser);
 
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(applicationRepository.save(any(Application.class))).thenReturn(updatedApplication);
+        when(applicationService.updateApplication(eq(1L), any(Application.class))).thenReturn(updatedApplication);
 
         // Act & Assert
         mockMvc.perform(put("/api/applications/1")
@@ -287,7 +461,7 @@ public class ApplicationControllerTest {
 
         verify(applicationRepository).findById(1L);
         verify(userRepository).findByUsername("testuser");
-        verify(applicationRepository).save(any(Application.class));
+        verify(applicationService).updateApplication(eq(1L), any(Application.class));
     }
 
     @Test
@@ -312,7 +486,7 @@ public class ApplicationControllerTest {
 
         verify(applicationRepository).findById(1L);
         verify(userRepository).findByUsername("otheruser");
-        verify(applicationRepository, never()).save(any(Application.class));
+        verify(applicationService, never()).updateApplication(anyLong(), any(Application.class));
     }
 
     @Test
@@ -332,7 +506,7 @@ public class ApplicationControllerTest {
 
         verify(applicationRepository).findById(999L);
         verify(userRepository, never()).findByUsername(anyString());
-        verify(applicationRepository, never()).save(any(Application.class));
+        verify(applicationService, never()).updateApplication(anyLong(), any(Application.class));
     }
 
     @Test
@@ -348,7 +522,7 @@ public class ApplicationControllerTest {
 
         verify(applicationRepository).findById(1L);
         verify(userRepository).findByUsername("testuser");
-        verify(applicationRepository).deleteById(1L);
+        verify(applicationService).deleteApplication(1L);
     }
 
     @Test
@@ -364,7 +538,7 @@ public class ApplicationControllerTest {
 
         verify(applicationRepository).findById(1L);
         verify(userRepository).findByUsername("admin");
-        verify(applicationRepository).deleteById(1L);
+        verify(applicationService).deleteApplication(1L);
     }
 
     @Test
@@ -384,7 +558,7 @@ public class ApplicationControllerTest {
 
         verify(applicationRepository).findById(1L);
         verify(userRepository).findByUsername("otheruser");
-        verify(applicationRepository, never()).deleteById(anyLong());
+        verify(applicationService, never()).deleteApplication(anyLong());
     }
 
     @Test
@@ -399,7 +573,7 @@ public class ApplicationControllerTest {
 
         verify(applicationRepository).findById(999L);
         verify(userRepository, never()).findByUsername(anyString());
-        verify(applicationRepository, never()).deleteById(anyLong());
+        verify(applicationService, never()).deleteApplication(anyLong());
     }
 
     @Test
@@ -408,8 +582,8 @@ public class ApplicationControllerTest {
         mockMvc.perform(get("/api/applications"))
                 .andExpect(status().isUnauthorized());
 
-        verify(applicationRepository, never()).findAll();
-        verify(applicationRepository, never()).findByUserId(anyLong());
+        verify(applicationRepository, never()).findAllSummaries();
+        verify(applicationRepository, never()).findSummariesByUserId(anyLong());
     }
 
     @Test
@@ -424,6 +598,109 @@ public class ApplicationControllerTest {
                 .content(objectMapper.writeValueAsString(newApplication)))
                 .andExpect(status().isUnauthorized());
 
-        verify(applicationRepository, never()).save(any(Application.class));
+        verify(applicationService, never()).createApplication(any(Application.class), anyLong());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void importApplications_WithCsv_ShouldReturnImportResult() throws Exception {
+        // Arrange
+        ImportResult result = new ImportResult();
+        result.addImported(2);
+        result.addError(3, "company is required");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(applicationImportService.importApplications(eq(1L), any(), eq(ApplicationImportService.Format.CSV)))
+                .thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/applications/import")
+                .contentType("text/csv; charset=UTF-8")
+                .content("company,jobTitle\nAcme,Engineer\nGlobex,Analyst\n,Missing\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("company is required"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void importApplications_WithUnsupportedContentType_ShouldReturnUnsupportedMediaType() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/applications/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verify(applicationImportService, never()).importApplications(anyLong(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void exportApplications_AsNdjson_ShouldStreamTheExport() throws Exception {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(applicationExportService).exportApplications(eq(1L), eq(ApplicationExportService.Format.NDJSON), any());
+
+        // Act & Assert
+        MvcResult result = mockMvc.perform(get("/api/applications/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"applications.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void exportApplications_WithUnknownFormat_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/applications/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+
+        verify(applicationExportService, never()).exportApplications(anyLong(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void patchApplication_WithMergePatch_ShouldPatchOnlyGivenFields() throws Exception {
+        // Arrange
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(applicationService.patchApplication(eq(1L), argThat(patch -> patch.size() == 1
+                && patch.get("status").asText().equals("Offered")))).thenReturn(testApplication);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/applications/1")
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"Offered\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+
+        verify(applicationService, never()).updateApplication(anyLong(), any(Application.class));
+    }
+
+    @Test
+    @WithMockUser(username = "otheruser", roles = "USER")
+    void patchApplication_OfAnotherUser_ShouldReturnForbidden() throws Exception {
+        // Arrange
+        User otherUser = new User();
+        otherUser.setId(3L);
+        otherUser.setUsername("otheruser");
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        when(userRepository.findByUsername("otheruser")).thenReturn(Optional.of(otherUser));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/applications/1")
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"Offered\"}"))
+                .andExpect(status().isForbidden());
+
+        verify(applicationService, never()).patchApplication(anyLong(), any());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+package com.jnleyva.jobtracker_backend.controller;
+
+import com.jnleyva.jobtracker_backend.model.BatchResponse;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.service.BatchService;
+import com.jnleyva.jobtracker_backend.service.JwtService;
+import com.jnleyva.jobtracker_backend.service.TokenBlacklistService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BatchController.class)
+public class BatchControllerTest {
+
+    private static final String BATCH = "{\"operations\": ["
+            + "{\"op\": \"update\", \"resource\": \"application\", \"id\": 7, \"body\": {\"company\": \"Acme\"}},"
+            + "{\"op\": \"delete\", \"resource\": \"interview\", \"applicationId\": 7, \"id\": 3}]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BatchService batchService;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void executeBatch_WhenCommitted_ShouldReturnOk() throws Exception {
+        // Arrange
+        User user = user();
+        BatchResponse response = new BatchResponse();
+        response.getResults().add(new BatchResponse.OperationResult(0, 200, 7L, null, null));
+        response.getResults().add(new BatchResponse.OperationResult(1, 204, 3L, null, null));
+        response.setCommitted(true);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(batchService.execute(eq(user), eq(false), any())).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/batch").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BATCH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.results[1].status").value(204))
+                .andExpect(jsonPath("$.results[1].error").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void executeBatch_WhenAnOperationFails_ShouldReturnItsStatus() throws Exception {
+        // Arrange
+        User user = user();
+        BatchResponse response = new BatchResponse();
+        response.getResults().add(new BatchResponse.OperationResult(0, 200, 7L, null, null));
+        response.getResults().add(new BatchResponse.OperationResult(1, 404, null, null, "Interview not found"));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(batchService.execute(eq(user), eq(false), any())).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/batch").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BATCH))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.committed").value(false))
+                .andExpect(jsonPath("$.results[1].error").value("Interview not found"));
+    }
+
+    @Test
+    @WithMockUser(username = "unknown", roles = "USER")
+    void executeBatch_WithUnknownUser_ShouldReturnUnauthorized() throws Exception {
+        // Arrange
+        when(userRepository.findByUsername("unknown")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/batch").with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BATCH))
+                .andExpect(status().isUnauthorized());
+
+        verify(batchService, never()).execute(any(), anyBoolean(), any());
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+        return user;
+    }
+}
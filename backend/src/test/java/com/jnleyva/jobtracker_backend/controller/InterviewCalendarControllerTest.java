@@ -0,0 +1,208 @@
+package com.jnleyva.jobtracker_backend.controller;
+
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.CalendarInterview;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.service.DataVersionService;
+import com.jnleyva.jobtracker_backend.service.InterviewCalendarService;
+import com.jnleyva.jobtracker_backend.service.JwtService;
+import com.jnleyva.jobtracker_backend.service.TokenBlacklistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(InterviewCalendarController.class)
+public class InterviewCalendarControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private InterviewCalendarService interviewCalendarService;
+
+    @MockitoBean
+    private DataVersionService dataVersionService;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getInterviews_ShouldReturnInterviewsWithTheirApplication() throws Exception {
+        // Arrange
+        CalendarInterview interview = new CalendarInterview(5L, 2L, "Acme", "Engineer", "Technical",
+                LocalDateTime.of(2024, 3, 15, 9, 0), 45, "SCHEDULED", null, null, null, LocalDateTime.of(2024, 3, 1, 0, 0));
+        when(dataVersionService.userTag("testuser")).thenReturn("1-3");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(interviewCalendarService.getInterviews(1L, "2024-03-01", "2024-03-31")).thenReturn(List.of(interview));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/interviews").param("from", "2024-03-01").param("to", "2024-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"interviews-1-3\""))
+                .andExpect(jsonPath("$[0].id").value(5))
+                .andExpect(jsonPath("$[0].applicationId").value(2))
+                .andExpect(jsonPath("$[0].company").value("Acme"))
+                .andExpect(jsonPath("$[0].interviewDate").value("2024-03-15T09:00:00"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getInterviews_WithInvalidRange_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(interviewCalendarService.getInterviews(1L, null, "2024-03-31"))
+                .thenThrow(new BadRequestException("'from' is required"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/interviews").param("to", "2024-03-31"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getCalendarFeed_ShouldStreamTheFeed() throws Exception {
+        // Arrange
+        when(dataVersionService.userTag("testuser")).thenReturn("1-3");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("BEGIN:VCALENDAR\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(interviewCalendarService).writeFeed(eq(1L), any());
+
+        // Act & Assert
+        MvcResult result = mockMvc.perform(get("/api/interviews/calendar.ics"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/calendar;charset=UTF-8"))
+                .andExpect(header().string("ETag", "\"interviews-ics-1-3-" + LocalDate.now() + "\""))
+                .andExpect(content().string("BEGIN:VCALENDAR\r\n"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getCalendarFeed_WithMatchingETag_ShouldReturnNotModifiedWithoutQuerying() throws Exception {
+        // Arrange
+        String etag = "\"interviews-ics-1-3-" + LocalDate.now() + "\"";
+        when(dataVersionService.userTag("testuser")).thenReturn("1-3");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/interviews/calendar.ics").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(userRepository, never()).findByUsername(anyString());
+        verify(interviewCalendarService, never()).writeFeed(anyLong(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void getCalendarFeedByToken_ShouldStreamTheFeedOfTheTokensUser() throws Exception {
+        // Arrange
+        when(interviewCalendarService.findFeedTokenUser("secret")).thenReturn(Optional.of(1L));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(dataVersionService.userTag("testuser")).thenReturn("1-3");
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("BEGIN:VCALENDAR\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(interviewCalendarService).writeFeed(eq(1L), any());
+
+        // Act & Assert
+        MvcResult result = mockMvc.perform(get("/api/interviews/calendar/secret.ics"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"interviews-ics-1-3-" + LocalDate.now() + "\""))
+                .andExpect(content().string("BEGIN:VCALENDAR\r\n"));
+    }
+
+    @Test
+    @WithMockUser
+    void getCalendarFeedByToken_WithUnknownToken_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(interviewCalendarService.findFeedTokenUser("revoked")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/interviews/calendar/revoked.ics"))
+                .andExpect(status().isNotFound());
+
+        verify(interviewCalendarService, never()).writeFeed(anyLong(), any());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void createCalendarFeedToken_ShouldReturnTheTokenAndFeedPath() throws Exception {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(interviewCalendarService.createFeedToken(1L)).thenReturn("secret");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/interviews/calendar/token").with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.token").value("secret"))
+                .andExpect(jsonPath("$.path").value("/api/interviews/calendar/secret.ics"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void revokeCalendarFeedToken_ShouldRevokeTheUsersToken() throws Exception {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/interviews/calendar/token").with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(interviewCalendarService).revokeFeedToken(1L);
+    }
+}
@@ -2,6 +2,7 @@ package com.jnleyva.jobtracker_backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
 import com.jnleyva.jobtracker_backend.model.Interview;
 import com.jnleyva.jobtracker_backend.model.User;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
@@ -99,7 +100,7 @@ public class InterviewControllerAuthorizationTest {
         user1Application.setJobTitle("Developer");
         user1Application.setUser(user1);
         user1Application.setApplicationDate(LocalDate.now());
-        user1Application.setStatus("Applied");
+        user1Application.setStatus(ApplicationStatus.APPLIED);
         user1Application.setLocation("Remote");
         user1Application.setUrl("http://example.com");
         user1Application.setDescription("Test job");
@@ -111,7 +112,7 @@ public class InterviewControllerAuthorizationTest {
         user2Application.setJobTitle("Engineer");
         user2Application.setUser(user2);
         user2Application.setApplicationDate(LocalDate.now());
-        user2Application.setStatus("Applied");
+        user2Application.setStatus(ApplicationStatus.APPLIED);
         user2Application.setLocation("Remote");
         user2Application.setUrl("http://example.com");
         user2Application.setDescription("Test job 2");
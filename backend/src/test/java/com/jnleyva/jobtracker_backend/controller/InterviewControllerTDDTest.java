@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.jnleyva.jobtracker_backend.config.TestSecurityConfig;
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
 import com.jnleyva.jobtracker_backend.model.Interview;
 import com.jnleyva.jobtracker_backend.model.InterviewDTO;
 import com.jnleyva.jobtracker_backend.model.User;
@@ -86,7 +87,7 @@ public class InterviewControllerTDDTest {
         testApplication.setId(applicationId);
         testApplication.setCompany("Test Company");
         testApplication.setJobTitle("Software Engineer");
-        testApplication.setStatus("APPLIED");
+        testApplication.setStatus(ApplicationStatus.APPLIED);
         testApplication.setApplicationDate(LocalDate.now());
         testApplication.setUser(testUser);
 
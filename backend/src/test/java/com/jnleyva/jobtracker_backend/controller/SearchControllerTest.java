@@ -0,0 +1,95 @@
+package com.jnleyva.jobtracker_backend.controller;
+
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.SearchResult;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.service.JwtService;
+import com.jnleyva.jobtracker_backend.service.SearchService;
+import com.jnleyva.jobtracker_backend.service.TokenBlacklistService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SearchController.class)
+public class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void search_ShouldReturnResultsOfCurrentUser() throws Exception {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user(1L)));
+        when(searchService.search(1L, "kubernetes", SearchService.DEFAULT_LIMIT)).thenReturn(List.of(
+                new SearchResult(SearchResult.INTERVIEW, 7L, 3L, "Technical", "Acme", 0.2),
+                new SearchResult(SearchResult.APPLICATION, 3L, 3L, "Backend Engineer", "Acme", 0.1)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/search").param("q", "kubernetes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("interview"))
+                .andExpect(jsonPath("$[0].applicationId").value(3))
+                .andExpect(jsonPath("$[0].company").value("Acme"))
+                .andExpect(jsonPath("$[1].title").value("Backend Engineer"));
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void search_WithInvalidQuery_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user(1L)));
+        when(searchService.search(1L, " ", 500)).thenThrow(new BadRequestException("'q' must not be empty"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/search").param("q", " ").param("limit", "500"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void search_WithoutAuthentication_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", "acme"))
+                .andExpect(status().isUnauthorized());
+
+        verify(searchService, never()).search(anyLong(), any(), anyInt());
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("testuser");
+        return user;
+    }
+}
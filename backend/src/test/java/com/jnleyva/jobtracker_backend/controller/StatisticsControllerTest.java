@@ -1,6 +1,11 @@
 package com.jnleyva.jobtracker_backend.controller;
 
+import com.jnleyva.jobtracker_backend.exception.TooManyRequestsException;
+import com.jnleyva.jobtracker_backend.service.DataVersionService;
+import com.jnleyva.jobtracker_backend.service.StageStatisticsService;
 import com.jnleyva.jobtracker_backend.service.StatisticsService;
+import com.jnleyva.jobtracker_backend.service.StatisticsStreamService;
+import com.jnleyva.jobtracker_backend.service.StatisticsWindow;
 import com.jnleyva.jobtracker_backend.service.JwtService;
 import com.jnleyva.jobtracker_backend.service.TokenBlacklistService;
 import org.junit.jupiter.api.Test;
@@ -10,12 +15,18 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -30,6 +41,15 @@ public class StatisticsControllerTest {
     @MockitoBean
     private StatisticsService statisticsService;
 
+    @MockitoBean
+    private DataVersionService dataVersionService;
+
+    @MockitoBean
+    private StatisticsStreamService statisticsStreamService;
+
+    @MockitoBean
+    private StageStatisticsService stageStatisticsService;
+
     @MockitoBean
     private JwtService jwtService;
 
@@ -44,7 +64,7 @@ public class StatisticsControllerTest {
     void getStatistics_AsUser_ShouldReturnUserStatistics() throws Exception {
         // Arrange
         Map<String, Object> mockStats = createMockStatistics();
-        when(statisticsService.getStatistics("testuser", false)).thenReturn(mockStats);
+        when(statisticsService.getStatistics("testuser", false, StatisticsWindow.ALL_TIME)).thenReturn(mockStats);
 
         // Act & Assert
         mockMvc.perform(get("/api/statistics"))
@@ -58,7 +78,70 @@ public class StatisticsControllerTest {
                 .andExpect(jsonPath("$.byStatus.Offered").value(1))
                 .andExpect(jsonPath("$.byStatus.Rejected").value(0));
 
-        verify(statisticsService).getStatistics("testuser", false);
+        verify(statisticsService).getStatistics("testuser", false, StatisticsWindow.ALL_TIME);
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getStatistics_WithMatchingETag_ShouldReturnNotModifiedWithoutComputing() throws Exception {
+        // Arrange
+        String etag = "\"statistics-1-3-" + LocalDate.now() + "\"";
+        when(dataVersionService.userTag("testuser")).thenReturn("1-3");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/statistics").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        verify(statisticsService, never()).getStatistics(anyString(), anyBoolean(), any());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getStageDurations_AsUser_ShouldReturnUserStages() throws Exception {
+        // Arrange
+        Map<String, Object> stages = Map.of("scope", "user",
+                "stages", List.of(Map.of("status", "Applied", "completed", 3, "medianDays", 4.5)));
+        when(dataVersionService.userTag("testuser")).thenReturn("1-3");
+        when(stageStatisticsService.getStageDurations(eq("testuser"), eq(false), any())).thenReturn(stages);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/statistics/stages").param("from", "2024-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"stages-1-3\""))
+                .andExpect(jsonPath("$.scope").value("user"))
+                .andExpect(jsonPath("$.stages[0].status").value("Applied"))
+                .andExpect(jsonPath("$.stages[0].medianDays").value(4.5));
+
+        verify(stageStatisticsService).getStageDurations("testuser", false,
+                StatisticsWindow.parse("2024-01-01", null, null));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getStageDurations_WithMatchingETag_ShouldReturnNotModifiedWithoutComputing() throws Exception {
+        // Arrange
+        when(dataVersionService.allUsersTag()).thenReturn("7");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/statistics/stages").header("If-None-Match", "\"stages-7\""))
+                .andExpect(status().isNotModified());
+
+        verify(stageStatisticsService, never()).getStageDurations(anyString(), anyBoolean(), any());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getStatistics_AfterWrite_ShouldReturnNewETag() throws Exception {
+        // Arrange - the version moved on since the client's copy
+        when(dataVersionService.userTag("testuser")).thenReturn("1-4");
+        when(statisticsService.getStatistics("testuser", false, StatisticsWindow.ALL_TIME)).thenReturn(createMockStatistics());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/statistics").header("If-None-Match", "\"statistics-1-3-" + LocalDate.now() + "\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"statistics-1-4-" + LocalDate.now() + "\""))
+                .andExpect(jsonPath("$.total").value(5));
     }
 
     @Test
@@ -67,7 +150,7 @@ public class StatisticsControllerTest {
         // Arrange
         Map<String, Object> mockStats = createMockStatistics();
         mockStats.put("total", 25); // Admin sees more applications
-        when(statisticsService.getStatistics("admin", true)).thenReturn(mockStats);
+        when(statisticsService.getStatistics("admin", true, StatisticsWindow.ALL_TIME)).thenReturn(mockStats);
 
         // Act & Assert
         mockMvc.perform(get("/api/statistics"))
@@ -75,7 +158,41 @@ public class StatisticsControllerTest {
                 .andExpect(content().contentType("application/json"))
                 .andExpect(jsonPath("$.total").value(25));
 
-        verify(statisticsService).getStatistics("admin", true);
+        verify(statisticsService).getStatistics("admin", true, StatisticsWindow.ALL_TIME);
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getStatistics_WithWindow_ShouldPassRangeAndBucketToService() throws Exception {
+        // Arrange
+        StatisticsWindow window = new StatisticsWindow(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31), StatisticsWindow.Bucket.WEEK);
+        Map<String, Object> mockStats = createMockStatistics();
+        mockStats.put("bucket", "week");
+        when(statisticsService.getStatistics("testuser", false, window)).thenReturn(mockStats);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/statistics")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-03-31")
+                        .param("bucket", "week"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bucket").value("week"));
+
+        verify(statisticsService).getStatistics("testuser", false, window);
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void getStatistics_WithInvalidWindow_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/statistics").param("bucket", "year"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/statistics").param("from", "01/02/2024"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/statistics").param("from", "2024-03-01").param("to", "2024-02-01"))
+                .andExpect(status().isBadRequest());
+
+        verify(statisticsService, never()).getStatistics(anyString(), anyBoolean(), any(StatisticsWindow.class));
     }
 
     @Test
@@ -89,7 +206,7 @@ public class StatisticsControllerTest {
     @WithMockUser(username = "testuser", roles = "USER")
     void getStatistics_WhenServiceThrowsException_ShouldReturnInternalServerError() throws Exception {
         // Arrange
-        when(statisticsService.getStatistics(anyString(), anyBoolean()))
+        when(statisticsService.getStatistics(anyString(), anyBoolean(), any(StatisticsWindow.class)))
                 .thenThrow(new RuntimeException("Database error"));
 
         // Act & Assert
@@ -97,6 +214,53 @@ public class StatisticsControllerTest {
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void streamStatistics_AsUser_ShouldOpenEventStream() throws Exception {
+        // Arrange
+        when(statisticsStreamService.subscribe("testuser", false)).thenReturn(new SseEmitter());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/statistics/stream").accept("text/event-stream"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        verify(statisticsStreamService).subscribe("testuser", false);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void streamStatistics_AsAdmin_ShouldSubscribeToAdminView() throws Exception {
+        // Arrange
+        when(statisticsStreamService.subscribe("admin", true)).thenReturn(new SseEmitter());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/statistics/stream").accept("text/event-stream"))
+                .andExpect(request().asyncStarted());
+
+        verify(statisticsStreamService).subscribe("admin", true);
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void streamStatistics_OverConnectionLimit_ShouldReturnTooManyRequests() throws Exception {
+        // Arrange
+        when(statisticsStreamService.subscribe("testuser", false))
+                .thenThrow(new TooManyRequestsException("At most 3 statistics streams can be open per user"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/statistics/stream"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void streamStatistics_WithoutAuthentication_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/statistics/stream"))
+                .andExpect(status().isUnauthorized());
+
+        verify(statisticsStreamService, never()).subscribe(anyString(), anyBoolean());
+    }
+
     private Map<String, Object> createMockStatistics() {
         Map<String, Object> stats = new HashMap<>();
         stats.put("total", 5);
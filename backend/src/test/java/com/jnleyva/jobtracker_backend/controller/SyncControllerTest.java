@@ -0,0 +1,122 @@
+package com.jnleyva.jobtracker_backend.controller;
+
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.SyncResponse;
+import com.jnleyva.jobtracker_backend.model.SyncTombstone;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.service.JwtService;
+import com.jnleyva.jobtracker_backend.service.SyncService;
+import com.jnleyva.jobtracker_backend.service.TokenBlacklistService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SyncController.class)
+public class SyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SyncService syncService;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void sync_ShouldReturnChangedRowsWithTheirApplicationIds() throws Exception {
+        // Arrange
+        Application application = new Application("Acme", "Backend Engineer", null, null, null, null,
+                ApplicationStatus.INTERVIEWING, LocalDate.of(2024, 3, 1));
+        application.setId(3L);
+        Interview interview = new Interview("Technical", LocalDateTime.of(2024, 3, 10, 14, 0), null);
+        interview.setId(7L);
+        interview.setApplication(application);
+        application.getInterviews().add(interview);
+        Contact contact = new Contact(9L, "Jane Recruiter", null, null, null, application);
+
+        SyncResponse response = new SyncResponse("next-token", false);
+        response.getApplications().add(application);
+        response.getInterviews().add(new SyncResponse.Child<>(3L, interview));
+        response.getContacts().add(new SyncResponse.Child<>(3L, contact));
+        response.getDeleted().add(new SyncTombstone(1L, SyncTombstone.INTERVIEW, 8L, 3L));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user(1L)));
+        when(syncService.changesSince(1L, "token")).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/sync").param("since", "token"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.token").value("next-token"))
+                .andExpect(jsonPath("$.reset").value(false))
+                .andExpect(jsonPath("$.applications[0].company").value("Acme"))
+                .andExpect(jsonPath("$.applications[0].interviews").doesNotExist())
+                .andExpect(jsonPath("$.interviews[0].applicationId").value(3))
+                .andExpect(jsonPath("$.interviews[0].id").value(7))
+                .andExpect(jsonPath("$.interviews[0].type").value("Technical"))
+                .andExpect(jsonPath("$.contacts[0].name").value("Jane Recruiter"))
+                .andExpect(jsonPath("$.contacts[0].application").doesNotExist())
+                .andExpect(jsonPath("$.statusHistory").doesNotExist())
+                .andExpect(jsonPath("$.deleted[0].type").value("interview"))
+                .andExpect(jsonPath("$.deleted[0].id").value(8))
+                .andExpect(jsonPath("$.deleted[0].userId").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    void sync_WithInvalidToken_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user(1L)));
+        when(syncService.changesSince(1L, "garbage")).thenThrow(new BadRequestException("Invalid sync token"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/sync").param("since", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void sync_WithoutAuthentication_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/sync"))
+                .andExpect(status().isUnauthorized());
+
+        verify(syncService, never()).changesSince(anyLong(), any());
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("testuser");
+        return user;
+    }
+}
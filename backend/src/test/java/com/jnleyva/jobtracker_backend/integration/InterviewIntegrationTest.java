@@ -3,6 +3,7 @@ package com.jnleyva.jobtracker_backend.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
 import com.jnleyva.jobtracker_backend.model.Interview;
 import com.jnleyva.jobtracker_backend.model.InterviewDTO;
 import com.jnleyva.jobtracker_backend.model.User;
@@ -19,11 +20,14 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -74,7 +78,7 @@ public class InterviewIntegrationTest {
         testApplication = new Application();
         testApplication.setCompany("Test Company");
         testApplication.setJobTitle("Software Engineer");
-        testApplication.setStatus("APPLIED");
+        testApplication.setStatus(ApplicationStatus.APPLIED);
         testApplication.setApplicationDate(LocalDate.now());
         testApplication.setUser(testUser);
         testApplication = applicationRepository.save(testApplication);
@@ -206,4 +210,28 @@ public class InterviewIntegrationTest {
                 .content(objectMapper.writeValueAsString(invalidDTO)))
                 .andExpect(status().isBadRequest());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "testuser", roles = "USER")
+    @DisplayName("Should serve the calendar feed without a login only to its current token")
+    void shouldServeCalendarFeedByTokenWithoutLogin() throws Exception {
+        String response = mockMvc.perform(post("/api/interviews/calendar/token").with(csrf()))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String path = objectMapper.readTree(response).get("path").asText();
+
+        MvcResult result = mockMvc.perform(get(path).with(anonymous()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("BEGIN:VCALENDAR")));
+        mockMvc.perform(get("/api/interviews/calendar.ics").with(anonymous()))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(delete("/api/interviews/calendar/token").with(csrf()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get(path).with(anonymous()))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,230 @@
+package com.jnleyva.jobtracker_backend.integration;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.service.StatisticsCache;
+import com.jnleyva.jobtracker_backend.service.StatisticsService;
+import com.jnleyva.jobtracker_backend.service.StatisticsWindow;
+import com.jnleyva.jobtracker_backend.service.SyntheticDataGenerator;
+import com.jnleyva.jobtracker_backend.service.SyntheticDataGenerator.SyntheticDataset;
+import com.jnleyva.jobtracker_backend.service.UserStatisticsProjection;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the statistics at growing data volumes: latency, JDBC statements and heap allocated
+ * per call, for the heaviest user and for the admin view.
+ *
+ * <p>Not part of the regular test run; run it with {@code mvn test -Pbenchmark}, optionally
+ * with {@code -Dbenchmark.scales=10000,100000}. Each scale adds synthetic applications to the
+ * previous one, results are logged and written to {@code target/benchmarks/statistics-scaling.csv}.
+ *
+ * <p>Timings depend on the machine and are only recorded. The number of statements is not: a
+ * projection read and a cached read have to issue the same number of statements at every scale,
+ * otherwise the benchmark fails.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.com.jnleyva.jobtracker_backend=INFO",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class StatisticsScalingBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsScalingBenchmark.class);
+
+    private static final long SEED = 42;
+    private static final int APPLICATIONS_PER_USER = 100;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int ITERATIONS = 5;
+
+    @Value("${benchmark.scales:10000,100000,1000000}")
+    private String scales;
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private StatisticsCache statisticsCache;
+
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void statisticsAtGrowingScales() throws IOException {
+        Statistics hibernateStatistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDate today = LocalDate.now();
+        StatisticsWindow lastQuarter = new StatisticsWindow(today.minusDays(90), today, StatisticsWindow.Bucket.WEEK);
+
+        List<Result> results = new ArrayList<>();
+        Map<String, Long> statementsAtFirstScale = new LinkedHashMap<>();
+        String heaviestUsername = null;
+        int heaviestCount = -1;
+        int generated = 0;
+
+        for (int scale : Arrays.stream(scales.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray()) {
+            // Each scale adds to the previous one, under its own seed so the usernames differ
+            SyntheticDataset dataset = generator.generate(SEED + scale, scale - generated, APPLICATIONS_PER_USER, today);
+            generated = scale;
+            if (dataset.getHeaviestApplicationCount() > heaviestCount) {
+                heaviestCount = dataset.getHeaviestApplicationCount();
+                heaviestUsername = dataset.getHeaviestUsername();
+            }
+            String username = heaviestUsername;
+            Long userId = jdbcTemplate.queryForObject("SELECT user_id FROM users WHERE username = ?", Long.class, username);
+            long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM applications", Long.class);
+            logger.info("=== Scale {}: {} applications, heaviest user {} with {} ===", scale, total, username, heaviestCount);
+
+            Map<String, Scenario> scenarios = new LinkedHashMap<>();
+            scenarios.put("user-rebuild", new Scenario(() -> statisticsProjection.clear(userId),
+                    () -> statisticsService.getStatistics(username, false)));
+            scenarios.put("user-projection", new Scenario(() -> statisticsCache.invalidate(userId),
+                    () -> statisticsService.getStatistics(username, false)));
+            scenarios.put("user-cached", new Scenario(() -> { },
+                    () -> statisticsService.getStatistics(username, false)));
+            scenarios.put("user-window-90d", new Scenario(() -> { },
+                    () -> statisticsService.getStatistics(username, false, lastQuarter)));
+            scenarios.put("admin", new Scenario(() -> statisticsCache.invalidate(null),
+                    () -> statisticsService.getStatistics("admin", true)));
+
+            for (Map.Entry<String, Scenario> scenario : scenarios.entrySet()) {
+                Result result = measure(scale, heaviestCount, scenario.getKey(), scenario.getValue(), hibernateStatistics);
+                results.add(result);
+                logger.info("{}", result);
+                statementsAtFirstScale.putIfAbsent(result.scenario, result.statements);
+            }
+        }
+
+        writeCsv(results);
+
+        for (Result result : results) {
+            if (result.scenario.equals("user-projection") || result.scenario.equals("user-cached")) {
+                assertEquals(statementsAtFirstScale.get(result.scenario), result.statements,
+                        result.scenario + " issues more statements at " + result.scale + " applications");
+            }
+        }
+    }
+
+    private Result measure(int scale, int userApplications, String name, Scenario scenario, Statistics hibernateStatistics) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            scenario.setup.run();
+            scenario.call.get();
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        long statements = 0;
+        long allocated = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            scenario.setup.run();
+            long statementsBefore = hibernateStatistics.getPrepareStatementCount();
+            long allocatedBefore = allocatedBytes();
+            long started = System.nanoTime();
+
+            assertNotNull(scenario.call.get());
+
+            nanos[i] = System.nanoTime() - started;
+            allocated += allocatedBytes() - allocatedBefore;
+            statements += hibernateStatistics.getPrepareStatementCount() - statementsBefore;
+        }
+        Arrays.sort(nanos);
+        return new Result(scale, userApplications, name, nanos[ITERATIONS / 2] / 1_000_000.0,
+                nanos[ITERATIONS - 1] / 1_000_000.0, statements / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    /**
+     * Heap allocated so far by every live thread, including the admin partition workers.
+     */
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(0, allocated);
+        }
+        return total;
+    }
+
+    private static void writeCsv(List<Result> results) throws IOException {
+        Path file = Paths.get("target", "benchmarks", "statistics-scaling.csv");
+        Files.createDirectories(file.getParent());
+        List<String> lines = new ArrayList<>();
+        lines.add("scale,user_applications,scenario,median_ms,max_ms,statements,allocated_bytes");
+        for (Result result : results) {
+            lines.add(String.format(Locale.ROOT, "%d,%d,%s,%.3f,%.3f,%d,%d", result.scale, result.userApplications,
+                    result.scenario, result.medianMillis, result.maxMillis, result.statements, result.allocatedBytes));
+        }
+        Files.write(file, lines);
+        logger.info("Benchmark results written to {}", file.toAbsolutePath());
+    }
+
+    private static class Scenario {
+        private final Runnable setup;
+        private final Supplier<Map<String, Object>> call;
+
+        Scenario(Runnable setup, Supplier<Map<String, Object>> call) {
+            this.setup = setup;
+            this.call = call;
+        }
+    }
+
+    private static class Result {
+        private final int scale;
+        private final int userApplications;
+        private final String scenario;
+        private final double medianMillis;
+        private final double maxMillis;
+        private final long statements;
+        private final long allocatedBytes;
+
+        Result(int scale, int userApplications, String scenario, double medianMillis, double maxMillis,
+               long statements, long allocatedBytes) {
+            this.scale = scale;
+            this.userApplications = userApplications;
+            this.scenario = scenario;
+            this.medianMillis = medianMillis;
+            this.maxMillis = maxMillis;
+            this.statements = statements;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-16s scale=%-8d median=%9.3f ms  max=%9.3f ms  statements=%3d  allocated=%,d bytes",
+                    scenario, scale, medianMillis, maxMillis, statements, allocatedBytes);
+        }
+    }
+}
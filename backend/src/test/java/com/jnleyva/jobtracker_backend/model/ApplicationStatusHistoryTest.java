@@ -31,7 +31,7 @@ class ApplicationStatusHistoryTest {
 
     @Test
     void testParameterizedConstructor() {
-        String status = "APPLIED";
+        ApplicationStatus status = ApplicationStatus.APPLIED;
         String changedBy = "testuser";
         
         ApplicationStatusHistory history = new ApplicationStatusHistory(testApplication, status, changedBy);
@@ -57,7 +57,7 @@ class ApplicationStatusHistoryTest {
         assertEquals(testApplication, history.getApplication());
         
         // Test Status
-        String status = "INTERVIEW_SCHEDULED";
+        ApplicationStatus status = ApplicationStatus.INTERVIEWING;
         history.setStatus(status);
         assertEquals(status, history.getStatus());
         
@@ -102,9 +102,7 @@ class ApplicationStatusHistoryTest {
 
     @Test
     void testStatusHistoryWithDifferentStatuses() {
-        String[] statuses = {"APPLIED", "INTERVIEW_SCHEDULED", "INTERVIEW_COMPLETED", "OFFER_RECEIVED", "REJECTED"};
-        
-        for (String status : statuses) {
+        for (ApplicationStatus status : ApplicationStatus.values()) {
             ApplicationStatusHistory history = new ApplicationStatusHistory(testApplication, status, "testuser");
             assertEquals(status, history.getStatus());
             assertEquals(testApplication, history.getApplication());
@@ -131,17 +129,15 @@ class ApplicationStatusHistoryTest {
     void testStatusHistoryWithEmptyStrings() {
         ApplicationStatusHistory history = new ApplicationStatusHistory();
         
-        history.setStatus("");
         history.setChangedBy("");
         
-        assertEquals("", history.getStatus());
         assertEquals("", history.getChangedBy());
     }
 
     @Test
     void testEqualsAndHashCodeFromLombok() {
-        ApplicationStatusHistory history1 = new ApplicationStatusHistory(testApplication, "APPLIED", "user1");
-        ApplicationStatusHistory history2 = new ApplicationStatusHistory(testApplication, "APPLIED", "user1");
+        ApplicationStatusHistory history1 = new ApplicationStatusHistory(testApplication, ApplicationStatus.APPLIED, "user1");
+        ApplicationStatusHistory history2 = new ApplicationStatusHistory(testApplication, ApplicationStatus.APPLIED, "user1");
         
         // Set same ID for both
         history1.setId(1L);
@@ -159,7 +155,7 @@ class ApplicationStatusHistoryTest {
 
     @Test
     void testToStringFromLombok() {
-        ApplicationStatusHistory history = new ApplicationStatusHistory(testApplication, "APPLIED", "user1");
+        ApplicationStatusHistory history = new ApplicationStatusHistory(testApplication, ApplicationStatus.APPLIED, "user1");
         history.setId(1L);
         
         String toString = history.toString();
@@ -167,7 +163,7 @@ class ApplicationStatusHistoryTest {
         // Should contain class name and field values (provided by Lombok @Data)
         assertNotNull(toString);
         assertTrue(toString.contains("ApplicationStatusHistory"));
-        assertTrue(toString.contains("APPLIED"));
+        assertTrue(toString.contains("Applied"));
         assertTrue(toString.contains("user1"));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.jnleyva.jobtracker_backend.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationStatusTest {
+
+    private final ApplicationStatusConverter converter = new ApplicationStatusConverter();
+
+    @Test
+    void testFromValueAcceptsLabelsAndNamesIgnoringCase() {
+        assertEquals(ApplicationStatus.APPLIED, ApplicationStatus.fromValue("Applied"));
+        assertEquals(ApplicationStatus.INTERVIEWING, ApplicationStatus.fromValue("INTERVIEWING"));
+        assertEquals(ApplicationStatus.OFFERED, ApplicationStatus.fromValue(" offered "));
+        assertNull(ApplicationStatus.fromValue(null));
+        assertNull(ApplicationStatus.fromValue(""));
+    }
+
+    @Test
+    void testFromValueRejectsUnknownStatus() {
+        assertThrows(IllegalArgumentException.class, () -> ApplicationStatus.fromValue("Ghosted"));
+    }
+
+    @Test
+    void testCodesAreUniqueAndRoundTrip() {
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            assertEquals(status, ApplicationStatus.fromCode(status.getCode()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ApplicationStatus.fromCode('X'));
+    }
+
+    @Test
+    void testConverterWritesCodesAndReadsLegacyLabels() {
+        assertEquals("I", converter.convertToDatabaseColumn(ApplicationStatus.INTERVIEWING));
+        assertNull(converter.convertToDatabaseColumn(null));
+
+        assertEquals(ApplicationStatus.INTERVIEWING, converter.convertToEntityAttribute("I"));
+        assertEquals(ApplicationStatus.REJECTED, converter.convertToEntityAttribute("Rejected"));
+        assertEquals(ApplicationStatus.INTERVIEWING, converter.convertToEntityAttribute("Interview"));
+        assertEquals(ApplicationStatus.APPLIED, converter.convertToEntityAttribute("Ghosted"));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void testFromLegacyLabelMapsSynonymsAndFallsBackToApplied() {
+        assertEquals(ApplicationStatus.APPLIED, ApplicationStatus.fromLegacyLabel("Applied"));
+        assertEquals(ApplicationStatus.INTERVIEWING, ApplicationStatus.fromLegacyLabel("Interview"));
+        assertEquals(ApplicationStatus.INTERVIEWING, ApplicationStatus.fromLegacyLabel("INTERVIEW_SCHEDULED"));
+        assertEquals(ApplicationStatus.OFFERED, ApplicationStatus.fromLegacyLabel("Offer"));
+        assertEquals(ApplicationStatus.OFFERED, ApplicationStatus.fromLegacyLabel("OFFER_RECEIVED"));
+        assertEquals(ApplicationStatus.REJECTED, ApplicationStatus.fromLegacyLabel("Rejected after interview"));
+        assertEquals(ApplicationStatus.APPLIED, ApplicationStatus.fromLegacyLabel("Ghosted"));
+        assertNull(ApplicationStatus.fromLegacyLabel(" "));
+    }
+
+    @Test
+    void testBitsAreStableAndHighestReachedFollowsTheProgression() {
+        // The bits are stored in reached_status_mask
+        assertEquals(1, ApplicationStatus.APPLIED.getBit());
+        assertEquals(2, ApplicationStatus.INTERVIEWING.getBit());
+        assertEquals(4, ApplicationStatus.OFFERED.getBit());
+        assertEquals(8, ApplicationStatus.REJECTED.getBit());
+
+        assertNull(ApplicationStatus.highestReached(0));
+        assertEquals(ApplicationStatus.REJECTED, ApplicationStatus.highestReached(8));
+        assertEquals(ApplicationStatus.APPLIED, ApplicationStatus.highestReached(1 | 8));
+        assertEquals(ApplicationStatus.INTERVIEWING, ApplicationStatus.highestReached(1 | 2 | 8));
+        assertEquals(ApplicationStatus.OFFERED, ApplicationStatus.highestReached(1 | 2 | 4));
+    }
+
+    @Test
+    void testToStringReturnsLabel() {
+        assertEquals("Offered", ApplicationStatus.OFFERED.toString());
+    }
+}
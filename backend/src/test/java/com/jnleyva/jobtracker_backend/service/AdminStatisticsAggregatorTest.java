@@ -0,0 +1,137 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.model.UserStatistic.Metric;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the partitioned admin aggregation adds up to the same counters as a single
+ * aggregation over the source tables. Not transactional: the partitions are read by worker
+ * threads on their own connections, so the test data has to be committed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class AdminStatisticsAggregatorTest {
+
+    @Autowired
+    private AdminStatisticsAggregator aggregator;
+
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("aggregatoruser");
+        testUser.setPassword("Password123!");
+        testUser.setEmail("aggregator@example.com");
+        testUser.setRole("ROLE_USER");
+        testUser = userRepository.save(testUser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(aggregator, "partitionSize", 50000L);
+        userService.deleteUser(testUser.getId());
+    }
+
+    @Test
+    void aggregate_WithManyPartitions_ShouldMatchSingleAggregation() {
+        // Given: applications, interviews and status changes spread over several id ranges
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        for (int i = 0; i < 9; i++) {
+            Application application = applicationService.createApplication(
+                    newApplication("Company " + i, ApplicationStatus.APPLIED, 2024, 1 + i % 3), testUser.getId());
+            applicationService.updateApplication(application.getId(),
+                    newApplication("Company " + i, statuses[i % statuses.length], 2024, 1 + i % 3));
+            if (i % 2 == 0) {
+                interviewService.createInterview(application.getId(), newInterview(i % 4 == 0 ? "Technical" : "HR", 2024, 4));
+                interviewService.createInterview(application.getId(), newInterview("Onsite", 2024, 5));
+            }
+        }
+        ReflectionTestUtils.setField(aggregator, "partitionSize", 2L);
+
+        // When
+        StatisticCounters partitioned = aggregator.aggregate();
+
+        // Then
+        assertEquals(nonZero(statisticsProjection.computeFromSource(null)), nonZero(partitioned));
+        assertTrue(partitioned.get(Metric.TOTAL_APPLICATIONS) >= 9);
+        assertTrue(partitioned.get(Metric.APPLICATIONS_WITH_INTERVIEWS) >= 5);
+    }
+
+    @Test
+    void partitions_ShouldCoverEveryIdExactlyOnce() {
+        List<long[]> partitions = AdminStatisticsAggregator.partitions(10, 25, 5);
+
+        assertEquals(4, partitions.size());
+        assertEquals(0L, partitions.get(0)[0]);
+        for (int i = 1; i < partitions.size(); i++) {
+            assertEquals(partitions.get(i - 1)[1], partitions.get(i)[0]);
+        }
+        assertEquals(Long.MAX_VALUE, partitions.get(partitions.size() - 1)[1]);
+        assertEquals(1, AdminStatisticsAggregator.partitions(7, 7, 50000).size());
+    }
+
+    private static Map<Metric, Map<String, Long>> nonZero(StatisticCounters counters) {
+        Map<Metric, Map<String, Long>> values = new EnumMap<>(Metric.class);
+        counters.forEach((metric, bucket, value) -> {
+            if (value != 0) {
+                values.computeIfAbsent(metric, m -> new HashMap<>()).put(bucket, value);
+            }
+        });
+        return values;
+    }
+
+    private Application newApplication(String company, ApplicationStatus status, int year, int month) {
+        Application app = new Application();
+        app.setCompany(company);
+        app.setJobTitle("Software Developer");
+        app.setStatus(status);
+        app.setApplicationDate(LocalDate.of(year, month, 10));
+        return app;
+    }
+
+    private Interview newInterview(String type, int year, int month) {
+        Interview interview = new Interview();
+        interview.setType(type);
+        interview.setInterviewDate(LocalDateTime.of(year, month, 15, 9, 0));
+        return interview;
+    }
+}
@@ -0,0 +1,260 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.InterviewDTO;
+import com.jnleyva.jobtracker_backend.model.SyncTombstone;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.SyncTombstoneRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class ApplicationArchiveServiceTest {
+
+    @Autowired
+    private ApplicationArchiveService archiveService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationExportService exportService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private AdminStatisticsAggregator adminStatisticsAggregator;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private StageStatisticsService stageStatisticsService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private SyncTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private Application rejected;
+    private Application declined;
+    private Application recentlyRejected;
+    private Application open;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("archiveuser");
+        testUser.setPassword("Password123!");
+        testUser.setEmail("archive@example.com");
+        testUser.setRole("ROLE_USER");
+        testUser = userRepository.save(testUser);
+
+        rejected = create("Acme", ApplicationStatus.REJECTED, null);
+        declined = create("Globex", ApplicationStatus.OFFERED, "DECLINED");
+        recentlyRejected = create("Initech", ApplicationStatus.REJECTED, null);
+        open = create("Hooli", ApplicationStatus.APPLIED, null);
+        interviewService.createInterview(rejected.getId(),
+                new InterviewDTO("Technical", LocalDateTime.of(2024, 3, 10, 14, 0), "Whiteboard"));
+        Contact contact = new Contact();
+        contact.setName("Jane Recruiter");
+        contactService.createContact(rejected.getId(), contact);
+        entityManager.flush();
+
+        // Only the recently rejected application was written within the last six months
+        for (Application application : List.of(rejected, declined, open)) {
+            jdbcTemplate.update("UPDATE applications SET updated_at = ? WHERE application_id = ?",
+                    LocalDateTime.now().minusMonths(7), application.getId());
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    void archiveClosedApplications_ShouldMoveOldClosedApplicationsWithTheirChildren() {
+        int archived = archiveService.archiveClosedApplications();
+        entityManager.clear();
+
+        assertEquals(2, archived);
+        assertFalse(applicationRepository.existsById(rejected.getId()));
+        assertFalse(applicationRepository.existsById(declined.getId()));
+        assertTrue(applicationRepository.existsById(recentlyRejected.getId()));
+        assertTrue(applicationRepository.existsById(open.getId()));
+        assertEquals(0, count("interviews", rejected.getId()));
+        assertEquals(0, count("contacts", rejected.getId()));
+        assertEquals(0, count("application_status_history", rejected.getId()));
+        assertEquals(1, count("archived_interviews", rejected.getId()));
+        assertEquals(1, count("archived_contacts", rejected.getId()));
+        assertEquals(1, count("archived_status_history", rejected.getId()));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM archived_applications WHERE user_id = ?", Integer.class, testUser.getId()));
+
+        // Sync clients drop the archived applications like deleted ones
+        List<Long> tombstones = tombstoneRepository.findDeletedSince(testUser.getId(), LocalDateTime.now().minusMinutes(1))
+                .stream().filter(t -> SyncTombstone.APPLICATION.equals(t.getType()))
+                .map(SyncTombstone::getId).collect(Collectors.toList());
+        assertTrue(tombstones.containsAll(List.of(rejected.getId(), declined.getId())));
+    }
+
+    @Test
+    void archiveClosedApplications_ShouldKeepTheApplicationsInTheStatistics() {
+        Map<String, Long> before = counters(statisticsProjection.getCounters(testUser.getId()));
+        Map<String, Long> adminBefore = counters(adminStatisticsAggregator.aggregate());
+
+        archiveService.archiveClosedApplications();
+        entityManager.clear();
+
+        assertEquals(4L, before.get("TOTAL_APPLICATIONS:"));
+        assertEquals(2L, before.get("CURRENT_STATUS:Rejected"));
+        assertEquals(1L, before.get("TOTAL_INTERVIEWS:"));
+        assertEquals(before, counters(statisticsProjection.getCounters(testUser.getId())));
+        // Rebuilds only read active applications from the source tables
+        assertEquals(before, counters(statisticsProjection.rebuild(testUser.getId())));
+        assertEquals(adminBefore, counters(adminStatisticsAggregator.aggregate()));
+    }
+
+    @Test
+    void archiveClosedApplications_ShouldKeepTheApplicationsInWindowedAndStageStatistics() {
+        StatisticsWindow byDay = new StatisticsWindow(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31), StatisticsWindow.Bucket.DAY);
+        StatisticsWindow byWeek = new StatisticsWindow(null, null, StatisticsWindow.Bucket.WEEK);
+        Map<String, Object> windowBefore = statisticsService.getStatistics("archiveuser", false, byDay);
+        Map<String, Object> weeksBefore = statisticsService.getStatistics("archiveuser", false, byWeek);
+        Map<String, Object> adminBefore = statisticsService.getStatistics("admin", true, byDay);
+        Map<String, Object> stagesBefore = stageStatisticsService.getStageDurations("archiveuser", false, byDay);
+        Map<String, Object> adminStagesBefore = stageStatisticsService.getStageDurations("admin", true, byDay);
+
+        assertEquals(2, archiveService.archiveClosedApplications());
+        entityManager.clear();
+
+        assertEquals(4, windowBefore.get("total"));
+        assertEquals(Map.of("2024-01-15", 4), windowBefore.get("byPeriod"));
+        assertEquals(windowBefore, statisticsService.getStatistics("archiveuser", false, byDay));
+        assertEquals(weeksBefore, statisticsService.getStatistics("archiveuser", false, byWeek));
+        assertEquals(adminBefore, statisticsService.getStatistics("admin", true, byDay));
+        assertEquals(stagesBefore, stageStatisticsService.getStageDurations("archiveuser", false, byDay));
+        assertEquals(adminStagesBefore, stageStatisticsService.getStageDurations("admin", true, byDay));
+    }
+
+    @Test
+    void archiveClosedApplications_ShouldWorkInChunks() {
+        ApplicationArchiveService target = AopTestUtils.getTargetObject(archiveService);
+        ReflectionTestUtils.setField(target, "chunkSize", 1);
+        try {
+            assertEquals(2, archiveService.archiveClosedApplications());
+        } finally {
+            ReflectionTestUtils.setField(target, "chunkSize", 200);
+        }
+        assertEquals(0, archiveService.archiveClosedApplications());
+    }
+
+    @Test
+    void findArchivedApplication_ShouldReadTheApplicationBackWithItsChildren() {
+        assertTrue(archiveService.findArchivedApplication(rejected.getId()).isEmpty());
+        archiveService.archiveClosedApplications();
+
+        Application archived = archiveService.findArchivedApplication(rejected.getId()).orElseThrow();
+
+        assertEquals("Acme", archived.getCompany());
+        assertEquals(ApplicationStatus.REJECTED, archived.getStatus());
+        assertEquals(testUser.getId(), archived.getUser().getId());
+        assertNotNull(archived.getArchivedAt());
+        assertEquals(1, archived.getInterviews().size());
+        assertEquals("Whiteboard", archived.getInterviews().get(0).getNotes());
+        assertEquals(1, archived.getStatusHistory().size());
+        assertEquals(ApplicationStatus.REJECTED, archived.getStatusHistory().get(0).getStatus());
+    }
+
+    @Test
+    void exportApplications_ShouldIncludeArchivedApplications() throws Exception {
+        archiveService.archiveClosedApplications();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        exportService.exportApplications(testUser.getId(), ApplicationExportService.Format.NDJSON, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].contains("\"company\":\"Acme\""));
+        assertTrue(lines[0].contains("\"type\":\"Technical\""));
+    }
+
+    @Test
+    void deleteUser_ShouldDeleteTheArchivedApplications() {
+        archiveService.archiveClosedApplications();
+
+        userService.deleteUser(testUser.getId());
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM archived_applications WHERE user_id = ?", Integer.class, testUser.getId()));
+        assertEquals(0, count("archived_interviews", rejected.getId()));
+    }
+
+    private Application create(String company, ApplicationStatus status, String offerStatus) {
+        Application application = new Application(company, "Engineer", null, null, null, null, status,
+                LocalDate.of(2024, 1, 15));
+        application.setOfferStatus(offerStatus);
+        return applicationService.createApplication(application, testUser.getId());
+    }
+
+    private static Map<String, Long> counters(StatisticCounters counters) {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((metric, bucket, value) -> {
+            if (value != 0) {
+                values.put(metric + ":" + bucket, value);
+            }
+        });
+        return values;
+    }
+
+    private int count(String table, Long applicationId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE application_id = ?",
+                Integer.class, applicationId);
+    }
+}
@@ -0,0 +1,182 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.config.TestUsers;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.ImportResult;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class ApplicationExportServiceTest {
+
+    @Autowired
+    private ApplicationExportService exportService;
+
+    @Autowired
+    private ApplicationImportService importService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User testUser;
+    private Application acme;
+
+    @BeforeEach
+    void setUp() {
+        testUser = TestUsers.save(userRepository, "exportuser");
+        User otherUser = TestUsers.save(userRepository, "otherexportuser");
+
+        acme = applicationService.createApplication(new Application("Acme", "Backend Engineer", "Remote, US",
+                null, "Kotlin \"and\" Kubernetes\nHybrid", 120000.0, ApplicationStatus.APPLIED, LocalDate.of(2024, 3, 1)),
+                testUser.getId());
+        Application changes = new Application("Acme", "Backend Engineer", "Remote, US", null,
+                "Kotlin \"and\" Kubernetes\nHybrid", 120000.0, ApplicationStatus.INTERVIEWING, LocalDate.of(2024, 3, 1));
+        applicationService.updateApplication(acme.getId(), changes);
+        addInterview(acme, "Technical", LocalDateTime.of(2024, 3, 10, 14, 0));
+        addInterview(acme, "Phone Screen", LocalDateTime.of(2024, 3, 5, 9, 30));
+
+        applicationService.createApplication(new Application("Globex", "Data Scientist", null, null, null, null,
+                ApplicationStatus.APPLIED, LocalDate.of(2024, 4, 2)), testUser.getId());
+        applicationService.createApplication(new Application("Hidden", "Not Mine", null, null, null, null,
+                ApplicationStatus.APPLIED, LocalDate.of(2024, 4, 2)), otherUser.getId());
+        entityManager.flush();
+    }
+
+    @Test
+    void exportApplications_AsNdjson_ShouldWriteOneObjectPerApplicationWithChildren() throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : export(ApplicationExportService.Format.NDJSON).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+
+        assertEquals(2, lines.size());
+        JsonNode first = lines.get(0);
+        assertEquals(acme.getId().longValue(), first.get("id").asLong());
+        assertEquals("Interviewing", first.get("status").asText());
+        assertEquals("2024-03-01", first.get("applicationDate").asText());
+        assertEquals("Kotlin \"and\" Kubernetes\nHybrid", first.get("description").asText());
+        assertEquals(120000.0, first.get("compensation").asDouble());
+        // Children are ordered by date
+        assertEquals("Phone Screen", first.get("interviews").get(0).get("type").asText());
+        assertEquals("Technical", first.get("interviews").get(1).get("type").asText());
+        assertEquals(2, first.get("statusHistory").size());
+        assertEquals("Applied", first.get("statusHistory").get(0).get("status").asText());
+        assertEquals("Interviewing", first.get("statusHistory").get(1).get("status").asText());
+
+        JsonNode second = lines.get(1);
+        assertEquals("Globex", second.get("company").asText());
+        assertTrue(second.get("compensation").isNull());
+        assertEquals(0, second.get("interviews").size());
+        assertEquals(1, second.get("statusHistory").size());
+    }
+
+    @Test
+    void exportApplications_AsCsv_ShouldWriteOneRowPerApplication() throws Exception {
+        Csv.RecordReader reader = new Csv.RecordReader(new StringReader(export(ApplicationExportService.Format.CSV)));
+
+        assertEquals(ApplicationExportService.CSV_HEADER, reader.next());
+        List<String> first = reader.next();
+        assertEquals("Acme", first.get(1));
+        assertEquals("Remote, US", first.get(3));
+        assertEquals("Kotlin \"and\" Kubernetes\nHybrid", first.get(5));
+        assertEquals("Interviewing", first.get(9));
+        assertEquals("2024-03-05T09:30 Phone Screen (scheduled); 2024-03-10T14:00 Technical (scheduled)", first.get(14));
+        assertTrue(first.get(15).startsWith("Applied "));
+        assertEquals("Globex", reader.next().get(1));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void exportApplications_AsCsv_ShouldImportAgain() throws Exception {
+        User copyUser = TestUsers.save(userRepository, "copyuser");
+
+        ImportResult result = importService.importApplications(copyUser.getId(),
+                new ByteArrayInputStream(export(ApplicationExportService.Format.CSV).getBytes(StandardCharsets.UTF_8)),
+                ApplicationImportService.Format.CSV);
+
+        assertEquals(2, result.getImported());
+        assertEquals(0, result.getFailed());
+        List<Application> copies = applicationRepository.findByUserId(copyUser.getId());
+        assertTrue(copies.stream().anyMatch(a -> a.getCompany().equals("Acme")
+                && a.getStatus() == ApplicationStatus.INTERVIEWING
+                && a.getApplicationDate().equals(LocalDate.of(2024, 3, 1))));
+    }
+
+    @Test
+    void exportApplications_WithoutApplications_ShouldOnlyWriteTheHeader() throws Exception {
+        User emptyUser = TestUsers.save(userRepository, "emptyuser");
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+
+        exportService.exportApplications(emptyUser.getId(), ApplicationExportService.Format.CSV, csv);
+        exportService.exportApplications(emptyUser.getId(), ApplicationExportService.Format.NDJSON, ndjson);
+
+        assertEquals(String.join(",", ApplicationExportService.CSV_HEADER) + "\r\n", csv.toString(StandardCharsets.UTF_8));
+        assertEquals(0, ndjson.size());
+    }
+
+    @Test
+    void format_ShouldRejectUnknownNames() {
+        assertEquals(ApplicationExportService.Format.NDJSON, ApplicationExportService.Format.of("NDJSON"));
+        assertThrows(BadRequestException.class, () -> ApplicationExportService.Format.of("xlsx"));
+    }
+
+    private String export(ApplicationExportService.Format format) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.exportApplications(testUser.getId(), format, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private void addInterview(Application application, String type, LocalDateTime date) {
+        Interview interview = new Interview();
+        interview.setType(type);
+        interview.setInterviewDate(date);
+        interview.setApplication(application);
+        interviewRepository.save(interview);
+    }
+}
@@ -0,0 +1,156 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.ImportResult;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class ApplicationImportServiceTest {
+
+    @Autowired
+    private ApplicationImportService importService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("importuser");
+        testUser.setPassword("Password123!");
+        testUser.setEmail("import@example.com");
+        testUser.setRole("ROLE_USER");
+        testUser = userRepository.save(testUser);
+    }
+
+    @Test
+    void importApplications_FromCsv_ShouldStoreValidRowsAndReportInvalidOnes() {
+        String csv = "Company,Job Title,Location,Status,Application Date,Compensation,Description,Notes\r\n"
+                + "Acme,Backend Engineer,Remote,Interviewing,2024-03-01,\"$120,000\",\"Kotlin, Kubernetes\n2 days onsite\",ignored\r\n"
+                + ",Missing Company,,,,,,\r\n"
+                + "\r\n"
+                + "Globex,Data Scientist,\"Berlin, DE\",Ghosted,,,,\r\n"
+                + "Initech,Platform Engineer,,,03/01/2024,,,\r\n"
+                + "Umbrella,\"Site \"\"Reliability\"\" Engineer\"\r\n";
+
+        ImportResult result = importService.importApplications(testUser.getId(), stream(csv), ApplicationImportService.Format.CSV);
+
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(4, 6, 7), result.getErrors().stream().map(ImportResult.RowError::getLine).collect(Collectors.toList()));
+        assertTrue(result.getErrors().get(1).getMessage().contains("Ghosted"));
+
+        List<Application> applications = applications();
+        Application acme = applications.get(0);
+        assertEquals("Acme", acme.getCompany());
+        assertEquals(ApplicationStatus.INTERVIEWING, acme.getStatus());
+        assertEquals(LocalDate.of(2024, 3, 1), acme.getApplicationDate());
+        assertEquals(120000.0, acme.getCompensation());
+        assertEquals("Kotlin, Kubernetes\n2 days onsite", acme.getDescription());
+        Application umbrella = applications.get(1);
+        assertEquals("Site \"Reliability\" Engineer", umbrella.getJobTitle());
+        assertEquals(ApplicationStatus.APPLIED, umbrella.getStatus());
+        assertEquals(LocalDate.now(), umbrella.getApplicationDate());
+
+        // Every application starts with its current status in the history, and counts in the statistics
+        assertEquals(List.of("I", "A"), jdbcTemplate.queryForList("SELECT h.status FROM application_status_history h "
+                + "JOIN applications a ON a.application_id = h.application_id WHERE a.user_id = ? ORDER BY a.application_id",
+                String.class, testUser.getId()));
+        Map<String, Object> statistics = statisticsService.getStatistics("importuser", false);
+        assertEquals(2, ((Number) statistics.get("total")).intValue());
+    }
+
+    @Test
+    void importApplications_FromNdjson_ShouldStoreValidLinesAndReportInvalidOnes() {
+        String longCompany = "C".repeat(600);
+        String ndjson = "{\"company\":\"Acme\",\"jobTitle\":\"Backend Engineer\",\"compensation\":95000,\"status\":\"Offered\",\"offerStatus\":\"PENDING\"}\n"
+                + "not json\n"
+                + "\n"
+                + "[1, 2]\n"
+                + "{\"company\":\"Globex\",\"jobTitle\":{\"name\":\"Data Scientist\"}}\n"
+                + "{\"company\":\"" + longCompany + "\",\"job_title\":\"Platform Engineer\",\"unknown\":true,\"url\":null}\n";
+
+        ImportResult result = importService.importApplications(testUser.getId(), stream(ndjson), ApplicationImportService.Format.NDJSON);
+
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(2, 4, 5), result.getErrors().stream().map(ImportResult.RowError::getLine).collect(Collectors.toList()));
+        List<Application> applications = applications();
+        assertEquals(ApplicationStatus.OFFERED, applications.get(0).getStatus());
+        assertEquals("PENDING", applications.get(0).getOfferStatus());
+        assertEquals(95000.0, applications.get(0).getCompensation());
+        // Truncated to the column length like a single create
+        assertEquals(500, applications.get(1).getCompany().length());
+    }
+
+    @Test
+    void importApplications_ShouldWriteInSeveralBatches() {
+        int rows = ApplicationImportService.BATCH_SIZE * 2 + 500;
+        StringBuilder csv = new StringBuilder("company,jobTitle,applicationDate\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("Company ").append(i).append(",Engineer,2024-01-").append(String.format("%02d", 1 + i % 28)).append('\n');
+        }
+
+        ImportResult result = importService.importApplications(testUser.getId(), stream(csv.toString()), ApplicationImportService.Format.CSV);
+
+        assertEquals(rows, result.getImported());
+        assertEquals(0, result.getFailed());
+        assertEquals(rows, applicationRepository.countByUserId(testUser.getId()));
+        assertEquals(rows, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM application_status_history h "
+                + "JOIN applications a ON a.application_id = h.application_id WHERE a.user_id = ?", Integer.class, testUser.getId()));
+    }
+
+    @Test
+    void importApplications_WithoutRequiredColumns_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> importService.importApplications(testUser.getId(),
+                stream("name,title\nAcme,Engineer\n"), ApplicationImportService.Format.CSV));
+        assertThrows(BadRequestException.class, () -> importService.importApplications(testUser.getId(),
+                stream(""), ApplicationImportService.Format.CSV));
+    }
+
+    private List<Application> applications() {
+        return applicationRepository.findByUserId(testUser.getId()).stream()
+                .sorted(Comparator.comparing(Application::getId))
+                .collect(Collectors.toList());
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
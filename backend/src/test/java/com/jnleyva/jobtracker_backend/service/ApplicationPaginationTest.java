@@ -0,0 +1,186 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.config.TestUsers;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationPage;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.ApplicationSummary;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class ApplicationPaginationTest {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User testUser;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = TestUsers.save(userRepository, "pageuser");
+        otherUser = TestUsers.save(userRepository, "otherpageuser");
+
+        // Two applications share 2024-03-01 and two share "Beta", so ties are broken by id
+        save(testUser, "Delta", ApplicationStatus.APPLIED, "2024-01-15");
+        save(testUser, "Alpha", ApplicationStatus.INTERVIEWING, "2024-03-01");
+        save(testUser, "Beta", ApplicationStatus.APPLIED, "2024-03-01");
+        save(testUser, "Beta", ApplicationStatus.REJECTED, "2024-02-10");
+        save(testUser, "Gamma 100%", ApplicationStatus.OFFERED, "2024-04-20");
+        save(testUser, "Epsilon", ApplicationStatus.APPLIED, "2023-12-31");
+        save(testUser, "Zeta", ApplicationStatus.INTERVIEWING, "2024-05-05");
+        save(otherUser, "Other Corp", ApplicationStatus.APPLIED, "2024-03-01");
+    }
+
+    @Test
+    void listApplications_ShouldWalkEveryPageInDateOrderWithoutRepeats() {
+        List<ApplicationSummary> all = readAll(testUser.getId(), null, null);
+
+        assertEquals(7, all.size());
+        assertEquals(List.of("2024-05-05", "2024-04-20", "2024-03-01", "2024-03-01", "2024-02-10", "2024-01-15", "2023-12-31"),
+                all.stream().map(a -> a.getApplicationDate().toString()).collect(Collectors.toList()));
+        // Within the same date the later id comes first
+        assertTrue(all.get(2).getId() > all.get(3).getId());
+    }
+
+    @Test
+    void listApplications_ByCompany_ShouldBreakTiesById() {
+        List<ApplicationSummary> ascending = readAll(testUser.getId(), "company", null);
+        List<ApplicationSummary> descending = readAll(testUser.getId(), "-company", null);
+
+        assertEquals(List.of("Alpha", "Beta", "Beta", "Delta", "Epsilon", "Gamma 100%", "Zeta"), companies(ascending));
+        assertTrue(ascending.get(1).getId() < ascending.get(2).getId());
+        List<Long> reversed = ids(descending);
+        Collections.reverse(reversed);
+        assertEquals(ids(ascending), reversed);
+    }
+
+    @Test
+    void listApplications_ShouldApplyFilters() {
+        ApplicationPage interviewing = applicationService.listApplications(testUser.getId(),
+                ApplicationListQuery.parse(null, null, null, "interviewing", null, null, null));
+        assertEquals(List.of("Zeta", "Alpha"), companies(interviewing.getItems()));
+
+        ApplicationPage beta = applicationService.listApplications(testUser.getId(),
+                ApplicationListQuery.parse(null, null, "company", null, "bET", null, null));
+        assertEquals(List.of("Beta", "Beta"), companies(beta.getItems()));
+
+        // LIKE wildcards in the filter are matched literally
+        ApplicationPage percent = applicationService.listApplications(testUser.getId(),
+                ApplicationListQuery.parse(null, null, null, null, "0%", null, null));
+        assertEquals(List.of("Gamma 100%"), companies(percent.getItems()));
+
+        ApplicationPage february = applicationService.listApplications(testUser.getId(),
+                ApplicationListQuery.parse(null, null, "applicationDate", null, null, "2024-02-01", "2024-03-01"));
+        assertEquals(List.of("2024-02-10", "2024-03-01", "2024-03-01"), february.getItems().stream()
+                .map(a -> a.getApplicationDate().toString()).collect(Collectors.toList()));
+        assertNull(february.getNextCursor());
+    }
+
+    @Test
+    void listApplications_WithoutUser_ShouldListEveryUser() {
+        ApplicationPage page = applicationService.listApplications(null,
+                ApplicationListQuery.parse(100, null, null, null, "corp", null, null));
+
+        assertEquals(List.of("Other Corp"), companies(page.getItems()));
+    }
+
+    @Test
+    void listApplications_ShouldNotRepeatRowsWhenApplicationsAreAddedBetweenPages() {
+        ApplicationPage first = applicationService.listApplications(testUser.getId(),
+                ApplicationListQuery.parse(3, null, null, null, null, null, null));
+        save(testUser, "Newest", ApplicationStatus.APPLIED, "2024-06-01");
+
+        ApplicationPage second = applicationService.listApplications(testUser.getId(),
+                ApplicationListQuery.parse(3, first.getNextCursor(), null, null, null, null, null));
+
+        assertEquals(List.of("Zeta", "Gamma 100%", "Beta"), companies(first.getItems()));
+        assertEquals(List.of("Alpha", "Beta", "Delta"), companies(second.getItems()));
+    }
+
+    @Test
+    void listApplications_ShouldOnlyCarryThePreviewOfTheDescription() {
+        Application application = new Application();
+        application.setCompany("Verbose");
+        application.setJobTitle("Software Developer");
+        application.setDescription("x".repeat(5000));
+        application.setStatus(ApplicationStatus.APPLIED);
+        application.setApplicationDate(LocalDate.parse("2024-07-01"));
+        applicationService.createApplication(application, testUser.getId());
+
+        ApplicationSummary summary = applicationService.listApplications(testUser.getId(),
+                ApplicationListQuery.parse(1, null, null, null, null, null, null)).getItems().get(0);
+
+        assertEquals("Verbose", summary.getCompany());
+        assertEquals("x".repeat(ApplicationSummary.DESCRIPTION_PREVIEW_LENGTH), summary.getDescriptionPreview());
+    }
+
+    @Test
+    void parse_ShouldRejectCursorOfAnotherSort() {
+        ApplicationPage first = applicationService.listApplications(testUser.getId(),
+                ApplicationListQuery.parse(2, null, "company", null, null, null, null));
+
+        assertThrows(BadRequestException.class,
+                () -> ApplicationListQuery.parse(2, first.getNextCursor(), "-applicationDate", null, null, null, null));
+        assertThrows(BadRequestException.class,
+                () -> ApplicationListQuery.parse(ApplicationListQuery.MAX_LIMIT + 1, null, null, null, null, null, null));
+        assertThrows(BadRequestException.class,
+                () -> ApplicationListQuery.parse(null, null, null, null, null, "2024-03-01", "2024-02-01"));
+    }
+
+    private List<ApplicationSummary> readAll(Long userId, String sort, String status) {
+        List<ApplicationSummary> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ApplicationPage page = applicationService.listApplications(userId,
+                    ApplicationListQuery.parse(2, cursor, sort, status, null, null, null));
+            assertTrue(page.getItems().size() <= 2);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            assertTrue(++pages <= 10, "pagination does not terminate");
+        } while (cursor != null);
+        return all;
+    }
+
+    private static List<String> companies(List<ApplicationSummary> applications) {
+        return applications.stream().map(ApplicationSummary::getCompany).collect(Collectors.toList());
+    }
+
+    private static List<Long> ids(List<ApplicationSummary> applications) {
+        return applications.stream().map(ApplicationSummary::getId).collect(Collectors.toList());
+    }
+
+    private void save(User user, String company, ApplicationStatus status, String applicationDate) {
+        Application application = new Application();
+        application.setCompany(company);
+        application.setJobTitle("Software Developer");
+        application.setStatus(status);
+        application.setApplicationDate(LocalDate.parse(applicationDate));
+        applicationService.createApplication(application, user.getId());
+    }
+}
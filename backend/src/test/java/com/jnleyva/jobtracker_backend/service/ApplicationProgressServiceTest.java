@@ -0,0 +1,170 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.InterviewDTO;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the progression summary columns of applications follow every write.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class ApplicationProgressServiceTest {
+
+    @Autowired
+    private ApplicationProgressService progressService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationImportService importService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("progressuser");
+        testUser.setPassword("Password123!");
+        testUser.setEmail("progress@example.com");
+        testUser.setRole("ROLE_USER");
+        testUser = userRepository.save(testUser);
+
+        application = applicationService.createApplication(new Application("Acme", "Backend Engineer", null, null,
+                null, null, ApplicationStatus.APPLIED, LocalDate.of(2024, 3, 1)), testUser.getId());
+    }
+
+    @Test
+    void statusChanges_ShouldMaintainTheReachedStatuses() {
+        Application created = reload();
+        assertEquals(ApplicationStatus.APPLIED.getBit(), created.getReachedStatusMask());
+        assertEquals(ApplicationStatus.APPLIED, created.getHighestStatusReached());
+        assertNotNull(created.getLastStatusChangeAt());
+
+        changeStatus(ApplicationStatus.INTERVIEWING);
+        changeStatus(ApplicationStatus.REJECTED);
+        Application rejected = reload();
+
+        assertEquals(ApplicationStatus.INTERVIEWING, rejected.getHighestStatusReached());
+        assertTrue(rejected.hasReachedStatus(ApplicationStatus.INTERVIEWING));
+        assertTrue(rejected.hasReachedStatus(ApplicationStatus.REJECTED));
+        assertFalse(rejected.hasReachedStatus(ApplicationStatus.OFFERED));
+        assertEquals(jdbcTemplate.queryForObject("SELECT MAX(changed_at) FROM application_status_history "
+                + "WHERE application_id = ?", LocalDateTime.class, application.getId()), rejected.getLastStatusChangeAt());
+    }
+
+    @Test
+    void interviewAndContactWrites_ShouldMaintainTheCounts() {
+        Interview first = interviewService.createInterview(application.getId(),
+                new InterviewDTO("Phone Screen", LocalDateTime.of(2024, 3, 5, 9, 30), null));
+        interviewService.createInterview(application.getId(),
+                new InterviewDTO("Technical", LocalDateTime.of(2024, 3, 10, 14, 0), null));
+        Contact contact = new Contact();
+        contact.setName("Jane Recruiter");
+        contact = contactService.createContact(application.getId(), contact);
+        assertEquals(2, reload().getInterviewCount());
+        assertEquals(1, reload().getContactCount());
+
+        interviewService.deleteInterview(application.getId(), first.getId());
+        contactService.deleteContact(application.getId(), contact.getId());
+        Application after = reload();
+
+        assertEquals(1, after.getInterviewCount());
+        assertEquals(0, after.getContactCount());
+    }
+
+    @Test
+    void backfill_ShouldComputeTheColumnsOfOlderRows() {
+        changeStatus(ApplicationStatus.OFFERED);
+        interviewService.createInterview(application.getId(),
+                new InterviewDTO("Technical", LocalDateTime.of(2024, 3, 10, 14, 0), null));
+        entityManager.flush();
+        Map<String, Object> maintained = progressColumns();
+        // As written before the columns existed
+        jdbcTemplate.update("UPDATE applications SET reached_status_mask = 0, highest_status_reached = NULL, "
+                + "interview_count = 0, contact_count = 0, last_status_change_at = NULL WHERE application_id = ?",
+                application.getId());
+
+        assertTrue(progressService.backfill() >= 1);
+
+        assertEquals(maintained, progressColumns());
+        assertEquals(0, progressService.backfill());
+    }
+
+    @Test
+    void importApplications_ShouldWriteTheColumns() throws Exception {
+        String csv = "company,jobTitle,status,applicationDate\r\nGlobex,Data Scientist,Rejected,2024-04-02\r\n";
+
+        importService.importApplications(testUser.getId(),
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ApplicationImportService.Format.CSV);
+
+        Application imported = applicationRepository.findByUserId(testUser.getId()).stream()
+                .filter(a -> a.getCompany().equals("Globex")).findFirst().orElseThrow();
+        assertEquals(ApplicationStatus.REJECTED.getBit(), imported.getReachedStatusMask());
+        assertEquals(ApplicationStatus.REJECTED, imported.getHighestStatusReached());
+        assertNotNull(imported.getLastStatusChangeAt());
+        assertEquals(0, imported.getInterviewCount());
+    }
+
+    private void changeStatus(ApplicationStatus status) {
+        Application changes = new Application("Acme", "Backend Engineer", null, null, null, null, status,
+                LocalDate.of(2024, 3, 1));
+        applicationService.updateApplication(application.getId(), changes);
+    }
+
+    private Application reload() {
+        entityManager.flush();
+        entityManager.clear();
+        return applicationRepository.findById(application.getId()).orElseThrow();
+    }
+
+    private Map<String, Object> progressColumns() {
+        return jdbcTemplate.queryForMap("SELECT reached_status_mask, highest_status_reached, interview_count, "
+                + "contact_count, last_status_change_at FROM applications WHERE application_id = ?", application.getId());
+    }
+}
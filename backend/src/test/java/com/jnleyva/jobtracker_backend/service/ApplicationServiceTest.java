@@ -3,6 +3,7 @@ package com.jnleyva.jobtracker_backend.service;
 import com.jnleyva.jobtracker_backend.config.TestConfig;
 import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
 import com.jnleyva.jobtracker_backend.model.User;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -65,7 +66,7 @@ class ApplicationServiceTest {
         testApplication.setUrl("https://example.com/job");
         testApplication.setDescription("A great job opportunity");
         testApplication.setCompensation(100000.0);
-        testApplication.setStatus("Applied");
+        testApplication.setStatus(ApplicationStatus.APPLIED);
         testApplication.setApplicationDate(LocalDate.now());
     }
 
@@ -137,7 +138,7 @@ class ApplicationServiceTest {
         Application secondApplication = new Application();
         secondApplication.setCompany("Second Company");
         secondApplication.setJobTitle("Senior Developer");
-        secondApplication.setStatus("Interview");
+        secondApplication.setStatus(ApplicationStatus.INTERVIEWING);
         secondApplication.setApplicationDate(LocalDate.now());
         applicationService.createApplication(secondApplication, testUser.getId());
         
@@ -183,7 +184,7 @@ class ApplicationServiceTest {
         Application secondApp = new Application();
         secondApp.setCompany("Second User Company");
         secondApp.setJobTitle("Manager");
-        secondApp.setStatus("Applied");
+        secondApp.setStatus(ApplicationStatus.APPLIED);
         secondApp.setApplicationDate(LocalDate.now());
         applicationService.createApplication(secondApp, secondUser.getId());
         
@@ -230,7 +231,7 @@ class ApplicationServiceTest {
         updateDetails.setUrl("https://updated.com/job");
         updateDetails.setDescription("Updated description");
         updateDetails.setCompensation(120000.0);
-        updateDetails.setStatus("Offer");
+        updateDetails.setStatus(ApplicationStatus.OFFERED);
         updateDetails.setApplicationDate(LocalDate.now().plusDays(1));
         
         // Update the application
@@ -258,7 +259,7 @@ class ApplicationServiceTest {
         Application updateDetails = new Application();
         updateDetails.setCompany("Updated Company");
         updateDetails.setJobTitle("Updated Position");
-        updateDetails.setStatus("Interviewing");
+        updateDetails.setStatus(ApplicationStatus.INTERVIEWING);
         updateDetails.setApplicationDate(LocalDate.now());
         
         assertThrows(ResourceNotFoundException.class, () -> {
@@ -296,7 +297,7 @@ class ApplicationServiceTest {
         Application secondApp = new Application();
         secondApp.setCompany("Another Company");
         secondApp.setJobTitle("Developer");
-        secondApp.setStatus("Applied");
+        secondApp.setStatus(ApplicationStatus.APPLIED);
         secondApp.setApplicationDate(LocalDate.now());
         applicationService.createApplication(secondApp, testUser.getId());
         
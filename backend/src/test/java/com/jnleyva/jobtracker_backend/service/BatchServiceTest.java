@@ -0,0 +1,236 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.config.TestUsers;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.BatchRequest.Operation;
+import com.jnleyva.jobtracker_backend.model.BatchResponse;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.ApplicationStatusHistoryRepository;
+import com.jnleyva.jobtracker_backend.repository.ContactRepository;
+import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction, so a rolled back batch can be told from a committed one.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class BatchServiceTest {
+
+    @Autowired
+    private BatchService batchService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User testUser;
+    private User otherUser;
+    private Application acme;
+    private Application globex;
+
+    @BeforeEach
+    void setUp() {
+        testUser = TestUsers.save(userRepository, "batchuser");
+        otherUser = TestUsers.save(userRepository, "otherbatchuser");
+        acme = applicationService.createApplication(new Application("Acme", "Backend Engineer", null, null, null, null,
+                ApplicationStatus.APPLIED, LocalDate.of(2024, 3, 1)), testUser.getId());
+        globex = applicationService.createApplication(new Application("Globex", "Data Scientist", null, null, null, null,
+                ApplicationStatus.APPLIED, LocalDate.of(2024, 3, 2)), testUser.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Deleting a user does not delete the contacts of its applications
+        contactRepository.deleteAll(contactRepository.findByApplicationId(acme.getId()));
+        userService.deleteUser(testUser.getId());
+        userService.deleteUser(otherUser.getId());
+    }
+
+    @Test
+    void execute_ShouldRunMixedOperationsInOrderAndCommit() {
+        List<Operation> operations = List.of(
+                new Operation("create", "application", null, null, application("Initech", "Applied")),
+                new Operation("update", "application", acme.getId(), null, application("Acme", "Interviewing")),
+                new Operation("create", "interview", null, acme.getId(),
+                        body("type", "Technical", "interviewDate", "2024-03-10T14:00:00")),
+                new Operation("create", "contact", null, acme.getId(), body("name", "Jane Recruiter")),
+                new Operation("delete", "application", globex.getId(), null, null));
+
+        BatchResponse response = batchService.execute(testUser, false, operations);
+
+        assertTrue(response.isCommitted());
+        assertEquals(200, response.status());
+        assertEquals(List.of(201, 200, 201, 201, 204), statuses(response));
+        assertNotNull(response.getResults().get(0).getBody());
+        assertEquals(2, applicationRepository.countByUserId(testUser.getId()));
+        assertFalse(applicationRepository.existsById(globex.getId()));
+        assertEquals(ApplicationStatus.INTERVIEWING, applicationRepository.findById(acme.getId()).orElseThrow().getStatus());
+        assertEquals(2, statusHistoryRepository.findByApplicationIdOrderByChangedAtAsc(acme.getId()).size());
+        assertEquals(1, interviewRepository.findByApplicationId(acme.getId()).size());
+        assertEquals(1, contactRepository.findByApplicationId(acme.getId()).size());
+    }
+
+    @Test
+    void execute_WithPatches_ShouldOnlyChangeTheGivenFields() {
+        List<Operation> operations = List.of(
+                new Operation("patch", "application", acme.getId(), null, body("status", "Offered")),
+                new Operation("patch", "application", globex.getId(), null, body("location", "Berlin")));
+
+        BatchResponse response = batchService.execute(testUser, false, operations);
+
+        assertTrue(response.isCommitted());
+        Application patchedAcme = applicationRepository.findById(acme.getId()).orElseThrow();
+        assertEquals(ApplicationStatus.OFFERED, patchedAcme.getStatus());
+        assertEquals("Backend Engineer", patchedAcme.getJobTitle());
+        assertEquals("Berlin", applicationRepository.findById(globex.getId()).orElseThrow().getLocation());
+        assertEquals(2, statusHistoryRepository.findByApplicationIdOrderByChangedAtAsc(acme.getId()).size());
+    }
+
+    @Test
+    void execute_WhenAnOperationFails_ShouldRollBackTheWholeBatch() {
+        List<Operation> operations = List.of(
+                new Operation("update", "application", acme.getId(), null, application("Acme Renamed", "Offered")),
+                new Operation("create", "application", null, null, application("Initech", "Applied")),
+                new Operation("delete", "interview", 999999L, acme.getId(), null),
+                new Operation("delete", "application", globex.getId(), null, null));
+
+        BatchResponse response = batchService.execute(testUser, false, operations);
+
+        assertFalse(response.isCommitted());
+        assertEquals(404, response.status());
+        assertEquals(List.of(200, 201, 404), statuses(response));
+        assertNotNull(response.getResults().get(2).getError());
+        assertTrue(response.getResults().stream().allMatch(result -> result.getBody() == null));
+        Application unchanged = applicationRepository.findById(acme.getId()).orElseThrow();
+        assertEquals("Acme", unchanged.getCompany());
+        assertEquals(ApplicationStatus.APPLIED, unchanged.getStatus());
+        assertEquals(2, applicationRepository.countByUserId(testUser.getId()));
+        assertEquals(1, statusHistoryRepository.findByApplicationIdOrderByChangedAtAsc(acme.getId()).size());
+    }
+
+    @Test
+    void execute_WhenAWriteCannotBeStored_ShouldReportTheOperationThatCausedIt() {
+        Contact contact = new Contact();
+        contact.setName("Jane Recruiter");
+        contact = contactService.createContact(acme.getId(), contact);
+        List<Operation> operations = List.of(
+                new Operation("update", "contact", contact.getId(), acme.getId(),
+                        body("name", "Jane Recruiter", "position", "x".repeat(300))),
+                new Operation("patch", "application", globex.getId(), null, body("location", "Berlin")));
+
+        BatchResponse response = batchService.execute(testUser, false, operations);
+
+        // The update only fails when the batch is flushed, after the last operation
+        assertFalse(response.isCommitted());
+        assertEquals(List.of(400), statuses(response));
+        assertTrue(response.getResults().get(0).getError().startsWith("Could not be stored"));
+        assertNull(contactRepository.findById(contact.getId()).orElseThrow().getPosition());
+        assertNull(applicationRepository.findById(globex.getId()).orElseThrow().getLocation());
+    }
+
+    @Test
+    void execute_WithAnotherUsersApplication_ShouldRunNothing() {
+        List<Operation> operations = List.of(
+                new Operation("update", "application", acme.getId(), null, application("Acme", "Offered")),
+                new Operation("create", "contact", null, acme.getId(), body("name", "Jane Recruiter")));
+
+        BatchResponse response = batchService.execute(otherUser, false, operations);
+
+        assertFalse(response.isCommitted());
+        assertEquals(403, response.status());
+        assertEquals(0, response.getResults().get(0).getIndex());
+        assertEquals(ApplicationStatus.APPLIED, applicationRepository.findById(acme.getId()).orElseThrow().getStatus());
+        assertTrue(contactRepository.findByApplicationId(acme.getId()).isEmpty());
+    }
+
+    @Test
+    void execute_WithInvalidOperations_ShouldReportThemBeforeRunningAnything() {
+        BatchResponse malformed = batchService.execute(testUser, false, List.of(
+                new Operation("delete", "application", globex.getId(), null, null),
+                new Operation("update", "contact", 1L, null, body("name", "Jane"))));
+        BatchResponse invalidInterview = batchService.execute(testUser, false, List.of(
+                new Operation("create", "interview", null, acme.getId(), body("notes", "No type or date"))));
+
+        assertEquals(400, malformed.status());
+        assertEquals(1, malformed.getResults().get(0).getIndex());
+        assertTrue(malformed.getResults().get(0).getError().contains("applicationId"));
+        assertTrue(applicationRepository.existsById(globex.getId()));
+        assertEquals(400, invalidInterview.status());
+        assertTrue(invalidInterview.getResults().get(0).getError().contains("Interview type is required"));
+        assertTrue(interviewRepository.findByApplicationId(acme.getId()).isEmpty());
+    }
+
+    @Test
+    void execute_WithTooManyOrNoOperations_ShouldThrowBadRequest() {
+        List<Operation> tooMany = new ArrayList<>(Collections.nCopies(101,
+                new Operation("delete", "application", globex.getId(), null, null)));
+
+        assertThrows(BadRequestException.class, () -> batchService.execute(testUser, false, tooMany));
+        assertThrows(BadRequestException.class, () -> batchService.execute(testUser, false, List.of()));
+    }
+
+    private ObjectNode application(String company, String status) {
+        ObjectNode body = body("company", company, "jobTitle", "Engineer", "status", status);
+        body.put("applicationDate", "2024-03-01");
+        return body;
+    }
+
+    private ObjectNode body(String... fields) {
+        ObjectNode body = objectMapper.createObjectNode();
+        for (int i = 0; i < fields.length; i += 2) {
+            body.put(fields[i], fields[i + 1]);
+        }
+        return body;
+    }
+
+    private static List<Integer> statuses(BatchResponse response) {
+        return response.getResults().stream().map(BatchResponse.OperationResult::getStatus).collect(Collectors.toList());
+    }
+}
@@ -2,6 +2,7 @@ package com.jnleyva.jobtracker_backend.service;
 
 import com.jnleyva.jobtracker_backend.model.Contact;
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.User;
 import com.jnleyva.jobtracker_backend.repository.ContactRepository;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import com.jnleyva.jobtracker_backend.exception.ResourceNotFoundException;
@@ -29,6 +30,18 @@ public class ContactServiceTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private DataVersionService dataVersionService;
+
+    @Mock
+    private DomainEventOutbox domainEventOutbox;
+
+    @Mock
+    private SearchService searchService;
+
+    @Mock
+    private SyncService syncService;
+
     @InjectMocks
     private ContactService contactService;
 
@@ -42,8 +55,12 @@ public class ContactServiceTest {
         applicationId = 1L;
         contactId = 1L;
 
+        User user = new User();
+        user.setId(1L);
+
         application = new Application();
         application.setId(applicationId);
+        application.setUser(user);
 
         contact = new Contact();
         contact.setId(contactId);
@@ -109,6 +126,7 @@ public class ContactServiceTest {
         verify(applicationRepository).existsById(applicationId);
         verify(applicationRepository).findById(applicationId);
         verify(contactRepository).save(contact);
+        verify(dataVersionService).bump(1L);
     }
 
     @Test
@@ -142,6 +160,7 @@ public class ContactServiceTest {
         verify(contactRepository).existsByApplicationIdAndId(applicationId, contactId);
         verify(contactRepository).findById(contactId);
         verify(contactRepository).save(contact);
+        verify(dataVersionService).bump(1L);
     }
 
     @Test
@@ -157,11 +176,14 @@ public class ContactServiceTest {
     @Test
     void deleteContact_WhenContactExists_DeletesContact() {
         when(contactRepository.existsByApplicationIdAndId(applicationId, contactId)).thenReturn(true);
+        when(applicationRepository.findById(applicationId)).thenReturn(Optional.of(application));
 
         contactService.deleteContact(applicationId, contactId);
 
         verify(contactRepository).existsByApplicationIdAndId(applicationId, contactId);
         verify(contactRepository).deleteById(contactId);
+        verify(dataVersionService).bump(1L);
+        verify(searchService).contactDeleted(1L, contactId);
     }
 
     @Test
@@ -171,5 +193,6 @@ public class ContactServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> contactService.deleteContact(applicationId, contactId));
         verify(contactRepository).existsByApplicationIdAndId(applicationId, contactId);
         verify(contactRepository, never()).deleteById(any());
+        verify(dataVersionService, never()).bump(any());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class DataVersionServiceTest {
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("versionuser");
+        testUser.setPassword("Password123!");
+        testUser.setEmail("version@example.com");
+        testUser.setRole("ROLE_USER");
+        testUser = userRepository.save(testUser);
+    }
+
+    @Test
+    void userTag_ShouldChangeOnEveryWriteToTheUsersData() {
+        assertEquals(testUser.getId() + "-0", dataVersionService.userTag("versionuser"));
+
+        Application application = applicationService.createApplication(newApplication(ApplicationStatus.APPLIED), testUser.getId());
+        assertEquals(testUser.getId() + "-1", dataVersionService.userTag("versionuser"));
+
+        applicationService.updateApplication(application.getId(), newApplication(ApplicationStatus.INTERVIEWING));
+        Interview interview = new Interview();
+        interview.setType("Technical");
+        interview.setInterviewDate(LocalDateTime.now().plusDays(1));
+        interviewService.createInterview(application.getId(), interview);
+        Contact contact = new Contact();
+        contact.setName("Jane Recruiter");
+        contactService.createContact(application.getId(), contact);
+        assertEquals(testUser.getId() + "-4", dataVersionService.userTag("versionuser"));
+
+        applicationService.deleteApplication(application.getId());
+        assertEquals(testUser.getId() + "-5", dataVersionService.userTag("versionuser"));
+    }
+
+    @Test
+    void userTag_ForUnknownUser_ShouldBeNull() {
+        assertNull(dataVersionService.userTag("nobody"));
+    }
+
+    @Test
+    void allUsersTag_ShouldChangeWhenAUserIsDeleted() {
+        applicationService.createApplication(newApplication(ApplicationStatus.APPLIED), testUser.getId());
+        String before = dataVersionService.allUsersTag();
+
+        userService.deleteUser(testUser.getId());
+
+        assertNotEquals(before, dataVersionService.allUsersTag());
+    }
+
+    private Application newApplication(ApplicationStatus status) {
+        Application application = new Application();
+        application.setCompany("Version Corp");
+        application.setJobTitle("Software Developer");
+        application.setStatus(status);
+        application.setApplicationDate(LocalDate.of(2024, 5, 1));
+        return application;
+    }
+}
@@ -0,0 +1,70 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationSketchTest {
+
+    @Test
+    void quantile_ShouldStayWithinRelativeAccuracyOfExactValue() {
+        Random random = new Random(42);
+        long[] minutes = new long[10000];
+        DurationSketch sketch = new DurationSketch();
+        for (int i = 0; i < minutes.length; i++) {
+            // Log-uniform between one minute and about 100 days
+            minutes[i] = (long) Math.exp(random.nextDouble() * Math.log(144000));
+            sketch.add(minutes[i]);
+        }
+        Arrays.sort(minutes);
+
+        for (double q : new double[]{0.5, 0.9, 0.99}) {
+            long exact = minutes[(int) Math.ceil(q * minutes.length) - 1];
+            assertEquals(exact, sketch.quantile(q), exact * DurationSketch.RELATIVE_ACCURACY, "q=" + q);
+        }
+        assertEquals(minutes.length, sketch.getCount());
+    }
+
+    @Test
+    void merge_ShouldEqualSketchOfAllDurations() {
+        DurationSketch left = new DurationSketch();
+        DurationSketch right = new DurationSketch();
+        DurationSketch all = new DurationSketch();
+        for (long minutes = 0; minutes < 5000; minutes += 7) {
+            (minutes % 2 == 0 ? left : right).add(minutes);
+            all.add(minutes);
+        }
+
+        left.merge(right);
+
+        assertEquals(all.getCount(), left.getCount());
+        for (double q : new double[]{0.0, 0.25, 0.5, 0.9, 0.99, 1.0}) {
+            assertEquals(all.quantile(q), left.quantile(q));
+        }
+    }
+
+    @Test
+    void fromCounters_ShouldIgnoreBucketsDecrementedToZero() {
+        DurationSketch sketch = DurationSketch.fromCounters(Map.of(
+                String.valueOf(DurationSketch.bucketOf(60)), 2L,
+                String.valueOf(DurationSketch.bucketOf(6000)), 0L));
+
+        assertEquals(2, sketch.getCount());
+        assertEquals(60.0, sketch.quantile(0.99), 60.0 * DurationSketch.RELATIVE_ACCURACY);
+    }
+
+    @Test
+    void quantile_ForShortAndMissingDurations() {
+        DurationSketch sketch = new DurationSketch();
+        assertEquals(0.0, sketch.quantile(0.5));
+
+        sketch.add(0);
+        sketch.add(1);
+        assertEquals(0.0, sketch.quantile(0.5));
+        assertEquals(1.0, sketch.quantile(1.0), DurationSketch.RELATIVE_ACCURACY + 1e-9);
+    }
+}
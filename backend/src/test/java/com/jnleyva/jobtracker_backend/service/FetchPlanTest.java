@@ -0,0 +1,148 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.config.TestUsers;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements issued while walking lists of applications, with the second-level cache
+ * emptied so that every row has to come from the database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class FetchPlanTest {
+
+    private static final int APPLICATIONS = 150;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+    private User testUser;
+    private Application first;
+
+    @BeforeEach
+    void setUp() {
+        testUser = TestUsers.save(userRepository, "fetchuser");
+        TestUsers.save(userRepository, "otherfetchuser");
+        for (int i = 0; i < APPLICATIONS; i++) {
+            Application application = applicationService.createApplication(new Application("Company " + i, "Engineer",
+                    null, null, null, null, ApplicationStatus.APPLIED, LocalDate.of(2024, 3, 1)), testUser.getId());
+            applicationService.updateApplication(application.getId(), new Application("Company " + i, "Engineer",
+                    null, null, null, null, ApplicationStatus.INTERVIEWING, LocalDate.of(2024, 3, 1)));
+            Interview interview = new Interview();
+            interview.setType("Technical");
+            interview.setInterviewDate(LocalDateTime.of(2024, 3, 10, 14, 0));
+            interview.setApplication(application);
+            interviewRepository.save(interview);
+            if (first == null) {
+                first = application;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void findByUserId_ShouldLoadTheApplicationsAndTheirChildrenInAFewQueries() throws Exception {
+        List<Application> applications = applicationRepository.findByUserId(testUser.getId());
+        JsonNode json = objectMapper.valueToTree(applications);
+
+        assertEquals(APPLICATIONS, json.size());
+        for (JsonNode application : json) {
+            assertEquals(1, application.get("interviews").size());
+            assertEquals(2, application.get("statusHistory").size());
+        }
+        // One query for the applications with their interviews, then one per batch of status histories
+        assertTrue(statistics.getPrepareStatementCount() <= 1 + batches(APPLICATIONS),
+                "Issued " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void findAllWithApplications_ShouldLoadTheUsersAndTheirApplicationsInAFewQueries() throws Exception {
+        JsonNode json = objectMapper.valueToTree(userRepository.findAllWithApplications());
+
+        JsonNode user = null;
+        for (JsonNode candidate : json) {
+            if (candidate.get("username").asText().equals("fetchuser")) {
+                user = candidate;
+            }
+        }
+        assertNotNull(user);
+        assertEquals(APPLICATIONS, user.get("applications").size());
+        assertEquals(1, user.get("applications").get(0).get("interviews").size());
+        // The users with their applications, then batches of interviews and of status histories
+        assertTrue(statistics.getPrepareStatementCount() <= 1 + 2 * batches(APPLICATIONS),
+                "Issued " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void findDetailById_ShouldLoadTheApplicationWithItsChildren() {
+        Application application = applicationRepository.findDetailById(first.getId()).orElseThrow();
+
+        assertEquals(testUser.getId(), application.getUser().getId());
+        assertEquals(1, application.getInterviews().size());
+        assertEquals(2, application.getStatusHistory().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private static long batches(int rows) {
+        return (rows + Application.FETCH_BATCH_SIZE - 1) / Application.FETCH_BATCH_SIZE;
+    }
+}
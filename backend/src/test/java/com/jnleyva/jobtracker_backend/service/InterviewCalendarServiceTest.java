@@ -0,0 +1,167 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.config.TestUsers;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.CalendarInterview;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.CalendarFeedTokenRepository;
+import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class InterviewCalendarServiceTest {
+
+    @Autowired
+    private InterviewCalendarService interviewCalendarService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private CalendarFeedTokenRepository feedTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = TestUsers.save(userRepository, "calendaruser");
+        User otherUser = TestUsers.save(userRepository, "othercalendaruser");
+
+        Application acme = createApplication(user, "Acme, Inc.");
+        Application globex = createApplication(user, "Globex");
+        Application initech = createApplication(otherUser, "Initech");
+
+        createInterview(acme, "Technical", LocalDateTime.of(2024, 3, 20, 14, 0));
+        createInterview(globex, "Phone", LocalDateTime.of(2024, 3, 5, 9, 30));
+        createInterview(acme, "Onsite", LocalDateTime.of(2024, 4, 2, 10, 0));
+        createInterview(initech, "Phone", LocalDateTime.of(2024, 3, 10, 9, 0));
+    }
+
+    @Test
+    void getInterviews_ShouldReturnTheUsersInterviewsOfAllApplicationsInTheRange() {
+        List<CalendarInterview> interviews = interviewCalendarService.getInterviews(user.getId(), "2024-03-01", "2024-03-31");
+
+        assertEquals(List.of("Globex", "Acme, Inc."),
+                interviews.stream().map(CalendarInterview::getCompany).collect(Collectors.toList()));
+        assertEquals("Phone", interviews.get(0).getType());
+        assertEquals(LocalDateTime.of(2024, 3, 5, 9, 30), interviews.get(0).getInterviewDate());
+        assertNotNull(interviews.get(1).getApplicationId());
+        assertEquals("Engineer", interviews.get(1).getJobTitle());
+    }
+
+    @Test
+    void getInterviews_WithoutRange_ShouldReturnAllOfTheUsersInterviews() {
+        List<CalendarInterview> interviews = interviewCalendarService.getInterviews(user.getId(), null, null);
+
+        assertEquals(List.of("Phone", "Technical", "Onsite"),
+                interviews.stream().map(CalendarInterview::getType).collect(Collectors.toList()));
+    }
+
+    @Test
+    void getInterviews_WithInvalidRange_ShouldThrowBadRequest() {
+        Long userId = user.getId();
+
+        assertThrows(BadRequestException.class, () -> interviewCalendarService.getInterviews(userId, null, "2024-03-31"));
+        assertThrows(BadRequestException.class, () -> interviewCalendarService.getInterviews(userId, "2024-03-31", "2024-03-01"));
+        assertThrows(BadRequestException.class, () -> interviewCalendarService.getInterviews(userId, "2020-01-01", "2024-03-01"));
+        assertThrows(BadRequestException.class, () -> interviewCalendarService.getInterviews(userId, "March", "2024-03-01"));
+    }
+
+    @Test
+    void writeFeed_ShouldWriteUpcomingInterviewsAsEscapedAndFoldedEvents() throws Exception {
+        Application application = createApplication(user, "Umbrella; Corp");
+        Interview interview = createInterview(application, "Final", LocalDate.now().plusDays(3).atTime(11, 0));
+        interview.setLocation("Building 7, Room 3");
+        interview.setDurationMinutes(90);
+        interview.setInterviewerName("A very long interviewer name that pushes the description past the limit");
+        interviewRepository.save(interview);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        interviewCalendarService.writeFeed(user.getId(), output);
+        String feed = output.toString(StandardCharsets.UTF_8);
+
+        assertTrue(feed.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(feed.endsWith("END:VCALENDAR\r\n"));
+        // The interviews of 2024 are outside the feed window
+        assertEquals(1, feed.split("BEGIN:VEVENT", -1).length - 1);
+        String start = LocalDate.now().plusDays(3).atTime(11, 0).format(InterviewCalendarService.ICS_DATE_TIME);
+        String end = LocalDate.now().plusDays(3).atTime(12, 30).format(InterviewCalendarService.ICS_DATE_TIME);
+        assertTrue(feed.contains("UID:interview-" + interview.getId() + "@jobtracker\r\n"));
+        assertTrue(feed.contains("DTSTART:" + start + "\r\nDTEND:" + end + "\r\n"));
+        assertTrue(feed.contains("SUMMARY:Final interview - Umbrella\\; Corp\r\n"));
+        assertTrue(feed.contains("LOCATION:Building 7\\, Room 3\r\n"));
+        for (String line : feed.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+        }
+        String unfolded = feed.replace("\r\n ", "");
+        assertTrue(unfolded.contains("DESCRIPTION:Engineer\\nInterviewer: " + interview.getInterviewerName() + "\r\n"));
+    }
+
+    @Test
+    void feedTokens_ShouldOpenTheFeedUntilReplacedOrRevoked() {
+        String first = interviewCalendarService.createFeedToken(user.getId());
+        assertEquals(user.getId(), interviewCalendarService.findFeedTokenUser(first).orElseThrow());
+        assertEquals(InterviewCalendarService.hashFeedToken(first),
+                feedTokenRepository.findById(user.getId()).orElseThrow().getTokenHash());
+
+        String second = interviewCalendarService.createFeedToken(user.getId());
+        assertNotEquals(first, second);
+        assertTrue(interviewCalendarService.findFeedTokenUser(first).isEmpty());
+        assertEquals(user.getId(), interviewCalendarService.findFeedTokenUser(second).orElseThrow());
+
+        assertTrue(interviewCalendarService.revokeFeedToken(user.getId()));
+        assertTrue(interviewCalendarService.findFeedTokenUser(second).isEmpty());
+        assertFalse(interviewCalendarService.revokeFeedToken(user.getId()));
+        assertTrue(interviewCalendarService.findFeedTokenUser("").isEmpty());
+    }
+
+    @Test
+    void escape_ShouldEscapeTextSpecialCharacters() {
+        assertEquals("a\\\\b\\;c\\,d\\ne\\nf", InterviewCalendarService.escape("a\\b;c,d\r\ne\nf"));
+    }
+
+    private Application createApplication(User owner, String company) {
+        Application application = new Application(company, "Engineer", null, null, null, null,
+                ApplicationStatus.INTERVIEWING, LocalDate.of(2024, 3, 1));
+        application.setUser(owner);
+        return applicationRepository.save(application);
+    }
+
+    private Interview createInterview(Application application, String type, LocalDateTime date) {
+        Interview interview = new Interview();
+        interview.setType(type);
+        interview.setInterviewDate(date);
+        interview.setApplication(application);
+        return interviewRepository.save(interview);
+    }
+}
@@ -1,6 +1,7 @@
 package com.jnleyva.jobtracker_backend.service;
 
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
 import com.jnleyva.jobtracker_backend.model.Interview;
 import com.jnleyva.jobtracker_backend.model.InterviewDTO;
 import com.jnleyva.jobtracker_backend.model.User;
@@ -37,6 +38,18 @@ public class InterviewServiceTDDTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private UserStatisticsProjection statisticsProjection;
+
+    @Mock
+    private DataVersionService dataVersionService;
+
+    @Mock
+    private SearchService searchService;
+
+    @Mock
+    private SyncService syncService;
+
     @InjectMocks
     private InterviewService interviewService;
 
@@ -63,7 +76,7 @@ public class InterviewServiceTDDTest {
         testApplication.setId(applicationId);
         testApplication.setCompany("Test Company");
         testApplication.setJobTitle("Software Engineer");
-        testApplication.setStatus("APPLIED");
+        testApplication.setStatus(ApplicationStatus.APPLIED);
         testApplication.setApplicationDate(LocalDate.now());
         testApplication.setUser(testUser);
 
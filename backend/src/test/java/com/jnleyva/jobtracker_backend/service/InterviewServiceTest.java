@@ -2,6 +2,7 @@ package com.jnleyva.jobtracker_backend.service;
 
 import com.jnleyva.jobtracker_backend.model.Application;
 import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.User;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +29,18 @@ public class InterviewServiceTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private UserStatisticsProjection statisticsProjection;
+
+    @Mock
+    private DataVersionService dataVersionService;
+
+    @Mock
+    private SearchService searchService;
+
+    @Mock
+    private SyncService syncService;
+
     @InjectMocks
     private InterviewService interviewService;
 
@@ -41,8 +54,12 @@ public class InterviewServiceTest {
         applicationId = 1L;
         interviewId = 1L;
 
+        User user = new User();
+        user.setId(1L);
+
         application = new Application();
         application.setId(applicationId);
+        application.setUser(user);
 
         interview = new Interview();
         interview.setId(interviewId);
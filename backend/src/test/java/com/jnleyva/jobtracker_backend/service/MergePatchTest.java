@@ -0,0 +1,158 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.InterviewDTO;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationStatusHistoryRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class MergePatchTest {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private ApplicationStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("patchuser");
+        user.setPassword("Password123!");
+        user.setEmail("patch@example.com");
+        user.setRole("ROLE_USER");
+        user = userRepository.save(user);
+
+        application = applicationService.createApplication(new Application("Acme", "Backend Engineer", "Remote",
+                "https://acme.example/jobs/1", "A long description", 120000.0, ApplicationStatus.APPLIED,
+                LocalDate.of(2024, 3, 1)), user.getId());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void patchApplication_ShouldOnlyChangeTheGivenFields() throws Exception {
+        Application patched = applicationService.patchApplication(application.getId(),
+                json("{\"status\": \"Interviewing\", \"location\": null, \"offerStatus\": \"PENDING\"}"));
+
+        assertEquals(ApplicationStatus.INTERVIEWING, patched.getStatus());
+        assertNull(patched.getLocation());
+        assertEquals("PENDING", patched.getOfferStatus());
+        assertEquals("Acme", patched.getCompany());
+        assertEquals("A long description", patched.getDescription());
+        assertEquals(120000.0, patched.getCompensation());
+    }
+
+    @Test
+    void patchApplication_ShouldRecordOneHistoryRowPerStatusChange() throws Exception {
+        applicationService.patchApplication(application.getId(), json("{\"status\": \"Interviewing\"}"));
+        applicationService.patchApplication(application.getId(), json("{\"status\": \"Interviewing\", \"company\": \"Acme Corp\"}"));
+        applicationService.patchApplication(application.getId(), json("{\"url\": null}"));
+        entityManager.flush();
+
+        assertEquals(2, statusHistoryRepository.findByApplicationIdOrderByChangedAtAsc(application.getId()).size());
+    }
+
+    @Test
+    void patchApplication_ShouldOnlyWriteTheChangedColumns() throws Exception {
+        // Load the application, then change the description behind the persistence context
+        applicationService.getApplicationById(application.getId());
+        jdbcTemplate.update("UPDATE applications SET description = ? WHERE application_id = ?",
+                "Edited elsewhere", application.getId());
+
+        applicationService.patchApplication(application.getId(), json("{\"status\": \"Offered\"}"));
+        entityManager.flush();
+
+        // A full-row update would have written back the stale description
+        assertEquals("Edited elsewhere", jdbcTemplate.queryForObject(
+                "SELECT description FROM applications WHERE application_id = ?", String.class, application.getId()));
+        assertEquals("O", jdbcTemplate.queryForObject(
+                "SELECT status FROM applications WHERE application_id = ?", String.class, application.getId()));
+    }
+
+    @Test
+    void patchApplication_WithInvalidPatch_ShouldThrowBadRequest() {
+        Long id = application.getId();
+
+        assertThrows(BadRequestException.class, () -> applicationService.patchApplication(id, json("[]")));
+        assertThrows(BadRequestException.class, () -> applicationService.patchApplication(id, json("{\"user\": {\"id\": 1}}")));
+        assertThrows(BadRequestException.class, () -> applicationService.patchApplication(id, json("{\"status\": \"Ghosted\"}")));
+        assertThrows(BadRequestException.class, () -> applicationService.patchApplication(id, json("{\"company\": null}")));
+    }
+
+    @Test
+    void patchInterviewAndContact_ShouldOnlyChangeTheGivenFields() throws Exception {
+        Interview interview = interviewService.createInterview(application.getId(),
+                new InterviewDTO("Technical", LocalDateTime.of(2024, 3, 10, 14, 0), "Bring laptop"));
+        Contact contact = new Contact();
+        contact.setName("Jane Recruiter");
+        contact.setEmail("jane@acme.example");
+        contact = contactService.createContact(application.getId(), contact);
+
+        Interview patchedInterview = interviewService.patchInterview(application.getId(), interview.getId(),
+                json("{\"status\": \"COMPLETED\", \"interviewFeedback\": \"Went well\"}"));
+        Contact patchedContact = contactService.patchContact(application.getId(), contact.getId(),
+                json("{\"phone\": \"555-0100\"}"));
+
+        assertEquals("COMPLETED", patchedInterview.getStatus());
+        assertEquals("Went well", patchedInterview.getInterviewFeedback());
+        assertEquals("Bring laptop", patchedInterview.getNotes());
+        assertEquals("555-0100", patchedContact.getPhone());
+        assertEquals("jane@acme.example", patchedContact.getEmail());
+        Long interviewId = interview.getId();
+        Long contactId = contact.getId();
+        assertThrows(BadRequestException.class, () -> interviewService.patchInterview(application.getId(), interviewId,
+                json("{\"interviewDate\": null}")));
+        assertThrows(BadRequestException.class, () -> contactService.patchContact(application.getId(), contactId,
+                json("{\"application\": null}")));
+    }
+
+    private JsonNode json(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
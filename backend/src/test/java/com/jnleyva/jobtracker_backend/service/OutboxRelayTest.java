@@ -0,0 +1,190 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.OutboxEvent;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.model.UserStatistic.Metric;
+import com.jnleyva.jobtracker_backend.repository.OutboxEventRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.repository.UserStatisticRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserStatisticRepository statisticRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("outboxuser");
+        testUser.setPassword("Password123!");
+        testUser.setEmail("outbox@example.com");
+        testUser.setRole("ROLE_USER");
+        testUser = userRepository.save(testUser);
+        // Start from stored counters, so writes are applied incrementally
+        statisticsProjection.getCounters(testUser.getId());
+    }
+
+    @Test
+    void serviceWrites_ShouldOnlyRecordEventsUntilTheRelayAppliesThem() {
+        Application application = applicationService.createApplication(newApplication("Acme", ApplicationStatus.APPLIED), testUser.getId());
+        applicationService.updateApplication(application.getId(), newApplication("Acme", ApplicationStatus.INTERVIEWING));
+        interviewService.createInterview(application.getId(), newInterview());
+        applicationService.createApplication(newApplication("Globex", ApplicationStatus.APPLIED), testUser.getId());
+        entityManager.flush();
+
+        assertEquals(List.of(OutboxEvent.Type.APPLICATION_CREATED, OutboxEvent.Type.APPLICATION_UPDATED,
+                        OutboxEvent.Type.INTERVIEW_CREATED, OutboxEvent.Type.APPLICATION_CREATED),
+                outboxEventRepository.findByUserIdOrderById(testUser.getId()).stream()
+                        .map(OutboxEvent::getType).collect(Collectors.toList()));
+        assertEquals(0, storedCounter(Metric.TOTAL_APPLICATIONS));
+
+        assertEquals(1, outboxRelay.relayPendingEvents());
+
+        assertFalse(outboxEventRepository.existsByUserId(testUser.getId()));
+        assertEquals(2, storedCounter(Metric.TOTAL_APPLICATIONS));
+        assertEquals(1, storedCounter(Metric.TOTAL_INTERVIEWS));
+        assertEquals(statisticsProjection.computeFromSource(testUser.getId()).get(Metric.REACHED_STATUS, "Interviewing"),
+                statisticsProjection.getCounters(testUser.getId()).get(Metric.REACHED_STATUS, "Interviewing"));
+        assertEquals(0, outboxRelay.relayPendingEvents());
+    }
+
+    @Test
+    void getCounters_ShouldApplyTheUsersPendingEventsFirst() {
+        Application application = applicationService.createApplication(newApplication("Acme", ApplicationStatus.APPLIED), testUser.getId());
+        applicationService.deleteApplication(application.getId());
+        applicationService.createApplication(newApplication("Globex", ApplicationStatus.OFFERED), testUser.getId());
+
+        StatisticCounters counters = statisticsProjection.getCounters(testUser.getId());
+
+        assertEquals(1, counters.get(Metric.TOTAL_APPLICATIONS));
+        assertEquals(1, counters.get(Metric.CURRENT_STATUS, "Offered"));
+        assertEquals(0, counters.get(Metric.CURRENT_STATUS, "Applied"));
+        assertFalse(outboxEventRepository.existsByUserId(testUser.getId()));
+    }
+
+    @Test
+    void rebuild_ShouldDiscardPendingEventsAlreadyInTheSourceTables() {
+        applicationService.createApplication(newApplication("Acme", ApplicationStatus.APPLIED), testUser.getId());
+        assertTrue(outboxEventRepository.existsByUserId(testUser.getId()));
+
+        statisticsProjection.rebuild(testUser.getId());
+        outboxRelay.relayPendingEvents();
+
+        assertFalse(outboxEventRepository.existsByUserId(testUser.getId()));
+        assertEquals(1, statisticsProjection.getCounters(testUser.getId()).get(Metric.TOTAL_APPLICATIONS));
+    }
+
+    @Test
+    void applyPendingEvents_ShouldOnlyApplyEventsNewerThanTheRebuild() {
+        applicationService.createApplication(newApplication("Acme", ApplicationStatus.APPLIED), testUser.getId());
+        statisticsProjection.rebuild(testUser.getId());
+        long version = storedCounter(Metric.APPLIED_VERSION);
+        assertTrue(version > 0);
+
+        // An event the rebuild already counted, and one of a change committed after it
+        outboxEventRepository.save(new OutboxEvent(testUser.getId(), OutboxEvent.Type.APPLICATION_CREATED, 1L,
+                version, "{\"TOTAL_APPLICATIONS\":{\"\":1}}"));
+        outboxEventRepository.save(new OutboxEvent(testUser.getId(), OutboxEvent.Type.INTERVIEW_CREATED, 2L,
+                version + 1, "{\"TOTAL_INTERVIEWS\":{\"\":1}}"));
+        outboxRelay.relayPendingEvents();
+
+        assertFalse(outboxEventRepository.existsByUserId(testUser.getId()));
+        assertEquals(1, storedCounter(Metric.TOTAL_APPLICATIONS));
+        assertEquals(1, storedCounter(Metric.TOTAL_INTERVIEWS));
+        assertEquals(version + 1, storedCounter(Metric.APPLIED_VERSION));
+    }
+
+    @Test
+    void contactWrites_ShouldRecordEventsInDataVersionOrder() {
+        Application application = applicationService.createApplication(newApplication("Acme", ApplicationStatus.APPLIED), testUser.getId());
+        Contact contact = new Contact();
+        contact.setName("Jane Recruiter");
+        contact = contactService.createContact(application.getId(), contact);
+        contactService.deleteContact(application.getId(), contact.getId());
+        entityManager.flush();
+
+        List<OutboxEvent> events = outboxEventRepository.findByUserIdOrderById(testUser.getId());
+        assertEquals(List.of(OutboxEvent.Type.APPLICATION_CREATED, OutboxEvent.Type.CONTACT_CREATED,
+                        OutboxEvent.Type.CONTACT_DELETED),
+                events.stream().map(OutboxEvent::getType).collect(Collectors.toList()));
+        assertEquals(List.of(1L, 2L, 3L),
+                events.stream().map(OutboxEvent::getDataVersion).collect(Collectors.toList()));
+
+        outboxRelay.relayPendingEvents();
+        assertEquals(1, storedCounter(Metric.TOTAL_APPLICATIONS));
+        assertEquals(3, storedCounter(Metric.APPLIED_VERSION));
+    }
+
+    private long storedCounter(Metric metric) {
+        return statisticRepository.findCountersByUserId(testUser.getId()).stream()
+                .filter(row -> row[0] == metric)
+                .mapToLong(row -> ((Number) row[2]).longValue())
+                .sum();
+    }
+
+    private Application newApplication(String company, ApplicationStatus status) {
+        Application application = new Application();
+        application.setCompany(company);
+        application.setJobTitle("Software Developer");
+        application.setStatus(status);
+        application.setApplicationDate(LocalDate.of(2024, 3, 10));
+        return application;
+    }
+
+    private Interview newInterview() {
+        Interview interview = new Interview();
+        interview.setType("Technical");
+        interview.setInterviewDate(LocalDateTime.of(2024, 3, 15, 9, 0));
+        return interview;
+    }
+}
@@ -0,0 +1,162 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.config.TestUsers;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.SearchResult;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a test transaction, so the in-memory index sees every write commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class SearchServiceTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User testUser;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = TestUsers.save(userRepository, "searchuser");
+        otherUser = TestUsers.save(userRepository, "othersearchuser");
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.deleteUser(testUser.getId());
+        userService.deleteUser(otherUser.getId());
+    }
+
+    @Test
+    void search_OnH2_ShouldUseTheInMemoryIndex() {
+        assertFalse(searchService.usesFullText());
+    }
+
+    @Test
+    void search_ShouldFollowWritesAfterTheIndexIsLoaded() {
+        Application acme = applicationService.createApplication(
+                newApplication("Acme Robotics", "Backend Engineer", null, "Kotlin microservices on Kubernetes"), testUser.getId());
+        Application globex = applicationService.createApplication(
+                newApplication("Globex", "Data Scientist", "Berlin", "Forecasting models"), testUser.getId());
+        applicationService.createApplication(
+                newApplication("Initech", "Platform Engineer", null, "Kubernetes operators"), otherUser.getId());
+
+        // Loads the index of the user
+        assertEquals(List.of("application:" + acme.getId()), keys(search("kubernetes")));
+        assertEquals(List.of("application:" + acme.getId()), keys(search("kube")));
+
+        Interview interview = new Interview();
+        interview.setType("Technical");
+        interview.setInterviewDate(LocalDateTime.now().plusDays(2));
+        interview.setNotes("Discussed their Kubernetes migration");
+        interview = interviewService.createInterview(globex.getId(), interview);
+        Contact contact = new Contact();
+        contact.setName("Jane Recruiter");
+        contact = contactService.createContact(acme.getId(), contact);
+
+        // Interview notes weigh more than a job description
+        assertEquals(List.of("interview:" + interview.getId(), "application:" + acme.getId()), keys(search("kubernetes")));
+        List<SearchResult> jane = search("jane");
+        assertEquals(List.of("contact:" + contact.getId()), keys(jane));
+        assertEquals(acme.getId(), jane.get(0).getApplicationId());
+        assertEquals("Acme Robotics", jane.get(0).getCompany());
+        // Every word has to match
+        assertEquals(List.of("application:" + acme.getId()), keys(search("Kotlin, Kubernetes!")));
+        assertTrue(search("kotlin berlin").isEmpty());
+
+        applicationService.updateApplication(acme.getId(),
+                newApplication("Acme Robotics", "Backend Engineer", "Remote", "Java services"));
+        assertEquals(List.of("interview:" + interview.getId()), keys(search("kubernetes")));
+        assertEquals(List.of("application:" + acme.getId()), keys(search("remote java")));
+
+        applicationService.deleteApplication(globex.getId());
+        assertTrue(search("kubernetes").isEmpty());
+        contactService.deleteContact(acme.getId(), contact.getId());
+        assertTrue(search("jane").isEmpty());
+    }
+
+    @Test
+    void search_ShouldNotSeeRolledBackWrites() {
+        Application acme = applicationService.createApplication(
+                newApplication("Acme Robotics", "Backend Engineer", null, null), testUser.getId());
+        assertEquals(1, search("acme").size());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            applicationService.updateApplication(acme.getId(), newApplication("Umbrella", "Backend Engineer", null, null));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(1, search("acme").size());
+        assertTrue(search("umbrella").isEmpty());
+    }
+
+    @Test
+    void search_WithInvalidParameters_ShouldThrowBadRequest() {
+        assertThrows(BadRequestException.class, () -> searchService.search(testUser.getId(), " ", 10));
+        assertThrows(BadRequestException.class, () -> searchService.search(testUser.getId(), "acme", SearchService.MAX_LIMIT + 1));
+        assertTrue(searchService.search(testUser.getId(), "the and", 10).isEmpty());
+    }
+
+    private List<SearchResult> search(String query) {
+        return searchService.search(testUser.getId(), query, SearchService.DEFAULT_LIMIT);
+    }
+
+    private static List<String> keys(List<SearchResult> results) {
+        return results.stream().map(result -> result.getType() + ":" + result.getId()).collect(Collectors.toList());
+    }
+
+    private static Application newApplication(String company, String jobTitle, String location, String description) {
+        Application application = new Application();
+        application.setCompany(company);
+        application.setJobTitle(jobTitle);
+        application.setLocation(location);
+        application.setDescription(description);
+        application.setStatus(ApplicationStatus.APPLIED);
+        application.setApplicationDate(LocalDate.of(2024, 3, 1));
+        return application;
+    }
+}
@@ -0,0 +1,149 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.config.TestUsers;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatusHistory;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.ApplicationStatusHistoryRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class StageStatisticsServiceTest {
+
+    @Autowired
+    private StageStatisticsService stageStatisticsService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationStatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        User user = TestUsers.save(userRepository, "stageuser");
+        User otherUser = TestUsers.save(userRepository, "otherstageuser");
+
+        // Applied for 2 days, Interviewing for 10 days, then Rejected
+        Application acme = createApplication(user, ApplicationStatus.REJECTED, LocalDate.of(2024, 3, 1));
+        addHistory(acme, ApplicationStatus.APPLIED, LocalDateTime.of(2024, 3, 1, 0, 0));
+        addHistory(acme, ApplicationStatus.INTERVIEWING, LocalDateTime.of(2024, 3, 3, 0, 0));
+        addHistory(acme, ApplicationStatus.REJECTED, LocalDateTime.of(2024, 3, 13, 0, 0));
+
+        // Applied for 4 days, still Interviewing
+        Application globex = createApplication(user, ApplicationStatus.INTERVIEWING, LocalDate.of(2024, 4, 1));
+        addHistory(globex, ApplicationStatus.INTERVIEWING, LocalDateTime.of(2024, 4, 5, 0, 0));
+        addHistory(globex, ApplicationStatus.APPLIED, LocalDateTime.of(2024, 4, 1, 0, 0));
+
+        // Another user's application, Applied for 40 days before an offer
+        Application initech = createApplication(otherUser, ApplicationStatus.OFFERED, LocalDate.of(2024, 3, 1));
+        addHistory(initech, ApplicationStatus.APPLIED, LocalDateTime.of(2024, 3, 1, 0, 0));
+        addHistory(initech, ApplicationStatus.OFFERED, LocalDateTime.of(2024, 4, 10, 0, 0));
+    }
+
+    @Test
+    void getStageDurations_ForUser_ShouldMeasureEachStayUntilTheNextStatus() {
+        Map<String, Object> result = stageStatisticsService.getStageDurations("stageuser", false, StatisticsWindow.ALL_TIME);
+
+        assertEquals("user", result.get("scope"));
+        Map<String, Object> applied = stage(result, "Applied");
+        assertEquals(2L, applied.get("completed"));
+        assertEquals(0L, applied.get("current"));
+        assertEquals(3.0, applied.get("averageDays"));
+        assertEquals(2.0, applied.get("minDays"));
+        assertEquals(4.0, applied.get("maxDays"));
+        assertEquals(3.0, applied.get("medianDays"));
+        assertEquals(Map.of("<1d", 0L, "1-3d", 1L, "3-7d", 1L, "1-2w", 0L, "2w-30d", 0L, "30d+", 0L),
+                applied.get("distribution"));
+
+        Map<String, Object> interviewing = stage(result, "Interviewing");
+        assertEquals(1L, interviewing.get("completed"));
+        assertEquals(1L, interviewing.get("current"));
+        assertEquals(10.0, interviewing.get("averageDays"));
+
+        Map<String, Object> rejected = stage(result, "Rejected");
+        assertEquals(0L, rejected.get("completed"));
+        assertEquals(1L, rejected.get("current"));
+        assertNull(rejected.get("averageDays"));
+        assertEquals(0L, stage(result, "Offered").get("current"));
+    }
+
+    @Test
+    void getStageDurations_ForAdmin_ShouldAggregateEveryUser() {
+        Map<String, Object> result = stageStatisticsService.getStageDurations("admin", true, StatisticsWindow.ALL_TIME);
+
+        assertEquals("all", result.get("scope"));
+        Map<String, Object> applied = stage(result, "Applied");
+        assertEquals(3L, applied.get("completed"));
+        assertEquals(40.0, applied.get("maxDays"));
+        assertEquals(1L, ((Map<?, ?>) applied.get("distribution")).get("30d+"));
+        assertEquals(1L, stage(result, "Offered").get("current"));
+    }
+
+    @Test
+    void getStageDurations_WithWindow_ShouldOnlyCountApplicationsSubmittedInIt() {
+        StatisticsWindow april = StatisticsWindow.parse("2024-04-01", "2024-04-30", null);
+
+        Map<String, Object> result = stageStatisticsService.getStageDurations("stageuser", false, april);
+
+        Map<String, Object> applied = stage(result, "Applied");
+        assertEquals(1L, applied.get("completed"));
+        assertEquals(4.0, applied.get("averageDays"));
+        assertEquals(0L, stage(result, "Rejected").get("current"));
+    }
+
+    @Test
+    void statusLookups_ShouldBindTheStatusEnum() {
+        List<ApplicationStatusHistory> interviewing = statusHistoryRepository.findByUsernameAndStatus("stageuser", ApplicationStatus.INTERVIEWING);
+
+        assertEquals(2, interviewing.size());
+        Long applicationId = interviewing.get(0).getApplication().getId();
+        assertEquals(1, statusHistoryRepository.findByApplicationIdAndStatus(applicationId, ApplicationStatus.INTERVIEWING).size());
+        assertTrue(statusHistoryRepository.findByApplicationIdAndStatus(applicationId, ApplicationStatus.OFFERED).isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> stage(Map<String, Object> result, String status) {
+        for (Map<String, Object> stage : (List<Map<String, Object>>) result.get("stages")) {
+            if (stage.get("status").equals(status)) {
+                return stage;
+            }
+        }
+        throw new AssertionError("No stage " + status);
+    }
+
+    private Application createApplication(User user, ApplicationStatus status, LocalDate applicationDate) {
+        Application application = new Application("Company", "Engineer", null, null, null, null, status, applicationDate);
+        application.setUser(user);
+        return applicationRepository.save(application);
+    }
+
+    private void addHistory(Application application, ApplicationStatus status, LocalDateTime changedAt) {
+        ApplicationStatusHistory history = new ApplicationStatusHistory(application, status, "stageuser");
+        history.setChangedAt(changedAt);
+        statusHistoryRepository.save(history);
+    }
+}
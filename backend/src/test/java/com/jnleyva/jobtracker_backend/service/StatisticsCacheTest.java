@@ -0,0 +1,131 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private StatisticsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new StatisticsCache(meterRegistry, 2);
+    }
+
+    @Test
+    void get_ShouldComputeOnMissAndServeHitsFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Map<String, Object> first = cache.get(1L, () -> stats(loads.incrementAndGet()));
+        Map<String, Object> second = cache.get(1L, () -> stats(loads.incrementAndGet()));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, count("cache.gets", "result", "hit"));
+        assertEquals(1.0, count("cache.gets", "result", "miss"));
+    }
+
+    @Test
+    void invalidate_ShouldEvictUserAndAdminEntriesOnly() {
+        cache.get(1L, () -> stats(1));
+        cache.get(null, () -> stats(0));
+
+        cache.invalidate(1L);
+
+        assertEquals(0, cache.size());
+        assertEquals(2.0, count("cache.evictions", "cause", "invalidated"));
+
+        cache.get(2L, () -> stats(2));
+        cache.invalidate(3L);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_WhenFull_ShouldEvictLeastRecentlyUsedEntry() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, () -> stats(loads.incrementAndGet()));
+        cache.get(2L, () -> stats(loads.incrementAndGet()));
+        cache.get(1L, () -> stats(loads.incrementAndGet()));
+
+        cache.get(3L, () -> stats(loads.incrementAndGet()));
+
+        assertEquals(2, cache.size());
+        assertEquals(1.0, count("cache.evictions", "cause", "size"));
+        cache.get(1L, () -> stats(loads.incrementAndGet()));
+        assertEquals(3, loads.get(), "user 1 was used recently and should still be cached");
+    }
+
+    @Test
+    void get_WithConcurrentMisses_ShouldComputeOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Map<String, Object>> owner = executor.submit(() -> cache.get(1L, () -> {
+                loading.countDown();
+                await(release);
+                return stats(loads.incrementAndGet());
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            Future<Map<String, Object>> waiter1 = executor.submit(() -> cache.get(1L, () -> stats(loads.incrementAndGet())));
+            Future<Map<String, Object>> waiter2 = executor.submit(() -> cache.get(1L, () -> stats(loads.incrementAndGet())));
+            release.countDown();
+
+            Map<String, Object> result = owner.get(5, TimeUnit.SECONDS);
+            assertSame(result, waiter1.get(5, TimeUnit.SECONDS));
+            assertSame(result, waiter2.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_WhenLoaderFails_ShouldNotCacheFailure() {
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(0, cache.size());
+        assertEquals(7, cache.get(1L, () -> stats(7)).get("total"));
+    }
+
+    @Test
+    void invalidate_DuringComputation_ShouldNotCacheResult() {
+        Map<String, Object> result = cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return stats(1);
+        });
+
+        assertEquals(1, result.get("total"));
+        assertEquals(0, cache.size());
+    }
+
+    private double count(String name, String tagKey, String tagValue) {
+        return meterRegistry.get(name).tag("cache", "statistics").tag(tagKey, tagValue).counter().count();
+    }
+
+    private static Map<String, Object> stats(int total) {
+        return Map.of("total", total);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,81 +1,81 @@
 package com.jnleyva.jobtracker_backend.service;
 
-import com.jnleyva.jobtracker_backend.model.Application;
-import com.jnleyva.jobtracker_backend.model.Interview;
 import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.model.UserStatistic.Metric;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import com.jnleyva.jobtracker_backend.repository.InterviewRepository;
 import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class StatisticsServiceTest {
 
     @Mock
-    private ApplicationRepository applicationRepository;
+    private UserRepository userRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private ApplicationRepository applicationRepository;
 
     @Mock
     private InterviewRepository interviewRepository;
 
+    @Mock
+    private UserStatisticsProjection statisticsProjection;
+
+    @Mock
+    private AdminStatisticsAggregator adminStatisticsAggregator;
+
+    @Mock
+    private ArchivedStatisticsService archivedStatisticsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private StatisticsCache statisticsCache = new StatisticsCache(new SimpleMeterRegistry(), 100);
+
     @InjectMocks
     private StatisticsServiceImpl statisticsService;
 
     private User testUser;
-    private List<Application> testApplications;
-    private List<Interview> testInterviews;
 
     @BeforeEach
     void setUp() {
         testUser = new User();
         testUser.setId(1L);
         testUser.setUsername("testuser");
-
-        testApplications = Arrays.asList(
-            createApplication(1L, "Applied", LocalDate.of(2024, 1, 15)),
-            createApplication(2L, "Interviewing", LocalDate.of(2024, 1, 20)),
-            createApplication(3L, "Offered", LocalDate.of(2024, 2, 5)),
-            createApplication(4L, "Applied", LocalDate.of(2024, 2, 10)),
-            createApplication(5L, "Rejected", LocalDate.of(2024, 2, 15))
-        );
-
-        testInterviews = Arrays.asList(
-            createInterview(1L, "Technical", LocalDateTime.of(2024, 1, 25, 10, 0), "SCHEDULED", testApplications.get(1)),
-            createInterview(2L, "HR", LocalDateTime.of(2024, 2, 1, 14, 0), "COMPLETED", testApplications.get(1)),
-            createInterview(3L, "Final", LocalDateTime.of(2024, 2, 8, 16, 0), "COMPLETED", testApplications.get(2))
-        );
+        // No archived applications; ApplicationArchiveServiceTest covers them
+        lenient().when(archivedStatisticsService.windowCounters(any(), any())).thenAnswer(invocation -> new StatisticCounters());
+        lenient().when(archivedStatisticsService.countInterviewsByTiming(any(), any(), any(), any())).thenReturn(new long[3]);
     }
 
     @Test
     void getStatistics_AsRegularUser_ShouldReturnUserSpecificStatistics() {
-        // Arrange
+        // Arrange - five applications: Applied x2, Interviewing, Offered, Rejected
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(applicationRepository.findByUserId(1L)).thenReturn(testApplications);
-        
-        // Mock interview repository calls for each application
-        when(interviewRepository.findByApplicationId(1L)).thenReturn(new ArrayList<>());
-        when(interviewRepository.findByApplicationId(2L)).thenReturn(testInterviews.subList(0, 2)); // 2 interviews
-        when(interviewRepository.findByApplicationId(3L)).thenReturn(testInterviews.subList(2, 3)); // 1 interview
-        when(interviewRepository.findByApplicationId(4L)).thenReturn(new ArrayList<>());
-        when(interviewRepository.findByApplicationId(5L)).thenReturn(new ArrayList<>());
+        StatisticCounters counters = fiveApplications();
+        counters.merge(threeInterviews());
+        when(statisticsProjection.getCounters(1L)).thenReturn(counters);
+        stubInterviewTiming(1L);
 
         // Act
         Map<String, Object> result = statisticsService.getStatistics("testuser", false);
@@ -83,7 +83,7 @@ class StatisticsServiceTest {
         // Assert
         assertEquals(5, result.get("total"));
         assertEquals(20.0, result.get("successRate")); // 1 offered out of 5 applications = 20%
-        
+
         @SuppressWarnings("unchecked")
         Map<String, Integer> byStatus = (Map<String, Integer>) result.get("byStatus");
         assertEquals(2, byStatus.get("Applied"));
@@ -103,16 +103,19 @@ class StatisticsServiceTest {
         assertEquals(3, interviewStats.get("totalInterviews"));
 
         verify(userRepository).findByUsername("testuser");
-        verify(applicationRepository).findByUserId(1L);
-        verify(applicationRepository, never()).findAll();
+        verify(statisticsProjection).getCounters(1L);
+        verify(statisticsProjection, never()).computeFromSource(any());
         verify(interviewRepository, never()).findAll();
+        verify(interviewRepository, never()).findByApplicationId(anyLong());
     }
 
     @Test
     void getStatistics_AsAdmin_ShouldReturnAllApplicationsStatistics() {
-        // Arrange
-        when(applicationRepository.findAll()).thenReturn(testApplications);
-        when(interviewRepository.findAll()).thenReturn(testInterviews);
+        // Arrange - admin aggregations are computed from the source tables by the aggregator
+        StatisticCounters counters = fiveApplications();
+        counters.merge(threeInterviews());
+        when(adminStatisticsAggregator.aggregate()).thenReturn(counters);
+        stubInterviewTiming(null);
 
         // Act
         Map<String, Object> result = statisticsService.getStatistics("admin", true);
@@ -120,17 +123,17 @@ class StatisticsServiceTest {
         // Assert
         assertEquals(5, result.get("total"));
         assertEquals(20.0, result.get("successRate"));
-        
+
         // Verify interview statistics are included
         assertNotNull(result.get("interviewStats"));
         @SuppressWarnings("unchecked")
         Map<String, Object> interviewStats = (Map<String, Object>) result.get("interviewStats");
         assertEquals(3, interviewStats.get("totalInterviews"));
-        
-        verify(applicationRepository).findAll();
-        verify(interviewRepository).findAll();
+
+        verify(adminStatisticsAggregator).aggregate();
+        verify(statisticsProjection, never()).getCounters(any());
+        verify(interviewRepository, never()).findAll();
         verify(userRepository, never()).findByUsername(anyString());
-        verify(applicationRepository, never()).findByUserId(anyLong());
     }
 
     @Test
@@ -139,20 +142,23 @@ class StatisticsServiceTest {
         when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, 
+        RuntimeException exception = assertThrows(RuntimeException.class,
             () -> statisticsService.getStatistics("nonexistent", false));
-        
+
         assertEquals("User not found", exception.getMessage());
-        
+
         verify(userRepository).findByUsername("nonexistent");
-        verify(applicationRepository, never()).findByUserId(anyLong());
+        verify(statisticsProjection, never()).getCounters(any());
     }
 
     @Test
     void getStatistics_WithEmptyApplicationList_ShouldReturnZeroStats() {
-        // Arrange
+        // Arrange - a freshly built projection only holds zero-valued counters
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(applicationRepository.findByUserId(1L)).thenReturn(Arrays.asList());
+        StatisticCounters counters = new StatisticCounters();
+        counters.add(Metric.TOTAL_APPLICATIONS, 0);
+        counters.add(Metric.TOTAL_INTERVIEWS, 0);
+        when(statisticsProjection.getCounters(1L)).thenReturn(counters);
 
         // Act
         Map<String, Object> result = statisticsService.getStatistics("testuser", false);
@@ -161,7 +167,7 @@ class StatisticsServiceTest {
         assertEquals(0, result.get("total"));
         assertEquals(0.0, result.get("successRate"));
         assertEquals(0, result.get("averageResponseTime"));
-        
+
         @SuppressWarnings("unchecked")
         Map<String, Integer> byStatus = (Map<String, Integer>) result.get("byStatus");
         assertEquals(0, byStatus.get("Applied"));
@@ -174,20 +180,19 @@ class StatisticsServiceTest {
         @SuppressWarnings("unchecked")
         Map<String, Object> interviewStats = (Map<String, Object>) result.get("interviewStats");
         assertEquals(0, interviewStats.get("totalInterviews"));
+        assertEquals(0, interviewStats.get("upcoming"));
+        assertEquals(0.0, interviewStats.get("conversionRate"));
     }
 
     @Test
     void getStatistics_WithOnlyAppliedStatus_ShouldCalculateCorrectly() {
         // Arrange
-        List<Application> appliedOnlyApplications = Arrays.asList(
-            createApplication(1L, "Applied", LocalDate.of(2024, 1, 15)),
-            createApplication(2L, "Applied", LocalDate.of(2024, 1, 20)),
-            createApplication(3L, "Applied", LocalDate.of(2024, 2, 5))
-        );
-        
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(applicationRepository.findByUserId(1L)).thenReturn(appliedOnlyApplications);
-        when(interviewRepository.findByApplicationId(anyLong())).thenReturn(new ArrayList<>());
+        StatisticCounters counters = new StatisticCounters();
+        counters.add(Metric.TOTAL_APPLICATIONS, 3);
+        counters.add(Metric.REACHED_STATUS, "Applied", 3);
+        counters.add(Metric.CURRENT_STATUS, "Applied", 3);
+        when(statisticsProjection.getCounters(1L)).thenReturn(counters);
 
         // Act
         Map<String, Object> result = statisticsService.getStatistics("testuser", false);
@@ -196,7 +201,7 @@ class StatisticsServiceTest {
         assertEquals(3, result.get("total"));
         assertEquals(0.0, result.get("successRate")); // No offers = 0% success rate
         assertEquals(0, result.get("averageResponseTime")); // No responses yet
-        
+
         @SuppressWarnings("unchecked")
         Map<String, Integer> byStatus = (Map<String, Integer>) result.get("byStatus");
         assertEquals(3, byStatus.get("Applied"));
@@ -208,14 +213,12 @@ class StatisticsServiceTest {
     @Test
     void getStatistics_WithAllOffered_ShouldShowHundredPercentSuccess() {
         // Arrange
-        List<Application> allOfferedApplications = Arrays.asList(
-            createApplication(1L, "Offered", LocalDate.of(2024, 1, 15)),
-            createApplication(2L, "Offered", LocalDate.of(2024, 1, 20))
-        );
-        
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(applicationRepository.findByUserId(1L)).thenReturn(allOfferedApplications);
-        when(interviewRepository.findByApplicationId(anyLong())).thenReturn(new ArrayList<>());
+        StatisticCounters counters = new StatisticCounters();
+        counters.add(Metric.TOTAL_APPLICATIONS, 2);
+        counters.add(Metric.REACHED_STATUS, "Offered", 2);
+        counters.add(Metric.CURRENT_STATUS, "Offered", 2);
+        when(statisticsProjection.getCounters(1L)).thenReturn(counters);
 
         // Act
         Map<String, Object> result = statisticsService.getStatistics("testuser", false);
@@ -223,7 +226,7 @@ class StatisticsServiceTest {
         // Assert
         assertEquals(2, result.get("total"));
         assertEquals(100.0, result.get("successRate")); // All applications offered = 100%
-        
+
         @SuppressWarnings("unchecked")
         Map<String, Integer> byStatus = (Map<String, Integer>) result.get("byStatus");
         assertEquals(0, byStatus.get("Applied"));
@@ -236,14 +239,10 @@ class StatisticsServiceTest {
     void getStatistics_ShouldIncludeInterviewStatistics() {
         // Arrange
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-        when(applicationRepository.findByUserId(1L)).thenReturn(testApplications);
-        
-        // Mock interview repository calls for each application
-        when(interviewRepository.findByApplicationId(1L)).thenReturn(new ArrayList<>());
-        when(interviewRepository.findByApplicationId(2L)).thenReturn(testInterviews.subList(0, 2)); // 2 interviews
-        when(interviewRepository.findByApplicationId(3L)).thenReturn(testInterviews.subList(2, 3)); // 1 interview
-        when(interviewRepository.findByApplicationId(4L)).thenReturn(new ArrayList<>());
-        when(interviewRepository.findByApplicationId(5L)).thenReturn(new ArrayList<>());
+        StatisticCounters counters = fiveApplications();
+        counters.merge(threeInterviews());
+        when(statisticsProjection.getCounters(1L)).thenReturn(counters);
+        stubInterviewTiming(1L);
 
         // Act
         Map<String, Object> result = statisticsService.getStatistics("testuser", false);
@@ -251,46 +250,211 @@ class StatisticsServiceTest {
         // Assert interview statistics
         @SuppressWarnings("unchecked")
         Map<String, Object> interviewStats = (Map<String, Object>) result.get("interviewStats");
-        
+
         assertNotNull(interviewStats);
         assertEquals(3, interviewStats.get("totalInterviews"));
-        
+
         @SuppressWarnings("unchecked")
         Map<String, Integer> byType = (Map<String, Integer>) interviewStats.get("byType");
         assertEquals(1, byType.get("Technical"));
         assertEquals(1, byType.get("HR"));
         assertEquals(1, byType.get("Final"));
-        
+
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> byInterviewStatus = (Map<String, Integer>) interviewStats.get("byStatus");
+        assertEquals(1, byInterviewStatus.get("SCHEDULED"));
+        assertEquals(2, byInterviewStatus.get("COMPLETED"));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> interviewsByMonth = (Map<String, Integer>) interviewStats.get("byMonth");
+        assertEquals(2, interviewsByMonth.get("Feb 2024"));
+        assertEquals(1, interviewsByMonth.get("Jan 2024"));
+
+        assertEquals(0, interviewStats.get("upcoming"));
+        assertEquals(3, interviewStats.get("past"));
+        assertEquals(0, interviewStats.get("today"));
+
         // Should calculate conversion rate (2 applications with interviews out of 5 = 40%)
         assertEquals(40.0, interviewStats.get("conversionRate"));
-        
+
         // Should calculate average interviews per application with interviews (3 interviews / 2 apps = 1.5)
         assertEquals(1.5, interviewStats.get("averagePerApplication"));
     }
 
-    private Application createApplication(Long id, String status, LocalDate applicationDate) {
-        Application app = new Application();
-        app.setId(id);
-        app.setCompany("Test Company " + id);
-        app.setJobTitle("Software Engineer");
-        app.setStatus(status);
-        app.setApplicationDate(applicationDate);
-        app.setUser(testUser);
-        app.setInterviews(new ArrayList<>()); // Initialize empty interviews list
-        return app;
+    @Test
+    void getStatistics_ShouldReportResponseTimesFromDurationCounters() {
+        // Arrange - first responses after 1, 2 and 6 days; one Applied stage left after 3 days
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        StatisticCounters counters = new StatisticCounters();
+        counters.add(Metric.TOTAL_APPLICATIONS, 3);
+        counters.add(Metric.RESPONDED_APPLICATIONS, 3);
+        for (int days : new int[]{1, 2, 6}) {
+            counters.add(Metric.FIRST_RESPONSE_MINUTES, days * 1440L);
+            counters.add(Metric.FIRST_RESPONSE_TIME, String.valueOf(DurationSketch.bucketOf(days * 1440L)), 1);
+        }
+        counters.add(Metric.STAGE_DURATION, "Applied:" + DurationSketch.bucketOf(3 * 1440L), 1);
+        when(statisticsProjection.getCounters(1L)).thenReturn(counters);
+
+        // Act
+        Map<String, Object> result = statisticsService.getStatistics("testuser", false);
+
+        // Assert - (1 + 2 + 6) / 3 = 3 days
+        assertEquals(3, result.get("averageResponseTime"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> responseTime = (Map<String, Object>) result.get("responseTime");
+        assertEquals(3L, responseTime.get("count"));
+        assertEquals(2.0, (double) responseTime.get("p50"), 0.05);
+        assertEquals(6.0, (double) responseTime.get("p99"), 0.15);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> timeInStage = (Map<String, Map<String, Object>>) result.get("timeInStage");
+        assertEquals(1L, timeInStage.get("Applied").get("count"));
+        assertEquals(3.0, (double) timeInStage.get("Applied").get("p90"), 0.07);
+        assertEquals(0L, timeInStage.get("Interviewing").get("count"));
+        assertEquals(0.0, timeInStage.get("Interviewing").get("p50"));
+    }
+
+    @Test
+    void getStatistics_ShouldIgnoreBucketsDecrementedToZero() {
+        // Arrange - a type whose only interview was deleted keeps a zero-valued counter
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        StatisticCounters counters = threeInterviews();
+        counters.add(Metric.INTERVIEW_TYPE, "Onsite", 0);
+        counters.add(Metric.INTERVIEW_MONTH, "2023-12", 0);
+        when(statisticsProjection.getCounters(1L)).thenReturn(counters);
+
+        // Act
+        Map<String, Object> result = statisticsService.getStatistics("testuser", false);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        Map<String, Object> interviewStats = (Map<String, Object>) result.get("interviewStats");
+        assertFalse(((Map<?, ?>) interviewStats.get("byType")).containsKey("Onsite"));
+        assertFalse(((Map<?, ?>) interviewStats.get("byMonth")).containsKey("Dec 2023"));
+    }
+
+    @Test
+    void getStatistics_CalledTwice_ShouldServeSecondCallFromCache() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(statisticsProjection.getCounters(1L)).thenReturn(fiveApplications());
+
+        // Act
+        Map<String, Object> first = statisticsService.getStatistics("testuser", false);
+        Map<String, Object> second = statisticsService.getStatistics("testuser", false);
+
+        // Assert
+        assertSame(first, second);
+        verify(statisticsProjection, times(1)).getCounters(1L);
+    }
+
+    @Test
+    void getStatistics_AfterInvalidation_ShouldRecompute() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(statisticsProjection.getCounters(1L)).thenReturn(fiveApplications());
+        statisticsService.getStatistics("testuser", false);
+
+        // Act
+        statisticsCache.invalidate(1L);
+        statisticsService.getStatistics("testuser", false);
+
+        // Assert
+        verify(statisticsProjection, times(2)).getCounters(1L);
+    }
+
+    @Test
+    void getStatistics_ShouldBucketByMonthFromCounters() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(statisticsProjection.getCounters(1L)).thenReturn(fiveApplications());
+
+        // Act
+        Map<String, Object> result = statisticsService.getStatistics("testuser", false);
+
+        // Assert
+        assertEquals("month", result.get("bucket"));
+        assertEquals(Map.of("2024-01-01", 2, "2024-02-01", 3), result.get("byPeriod"));
+        verify(applicationRepository, never()).countByApplicationDay(any(), any(), any());
+    }
+
+    @Test
+    void getStatistics_WithWindow_ShouldAggregateRangeWithoutCaching() {
+        // Arrange
+        StatisticsWindow window = new StatisticsWindow(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), StatisticsWindow.Bucket.DAY);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(statisticsProjection.computeFromSource(1L, window)).thenReturn(fiveApplications());
+        when(applicationRepository.countByApplicationDay(1L, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)))
+            .thenReturn(rows(new Object[]{LocalDate.of(2024, 1, 15), 2L}));
+
+        // Act
+        Map<String, Object> first = statisticsService.getStatistics("testuser", false, window);
+        Map<String, Object> second = statisticsService.getStatistics("testuser", false, window);
+
+        // Assert
+        assertEquals(5, first.get("total"));
+        assertEquals("day", first.get("bucket"));
+        assertEquals("2024-01-01", first.get("from"));
+        assertEquals("2024-01-31", first.get("to"));
+        assertEquals(Map.of("2024-01-15", 2), first.get("byPeriod"));
+        assertNotSame(first, second);
+        verify(statisticsProjection, times(2)).computeFromSource(1L, window);
+        verify(statisticsProjection, never()).getCounters(any());
+        assertEquals(0, statisticsCache.size());
+    }
+
+    @Test
+    void getStatistics_AsAdminWithWindow_ShouldUsePartitionedAggregation() {
+        // Arrange
+        StatisticsWindow window = new StatisticsWindow(LocalDate.of(2024, 2, 1), null, StatisticsWindow.Bucket.MONTH);
+        when(adminStatisticsAggregator.aggregate(window)).thenReturn(fiveApplications());
+
+        // Act
+        Map<String, Object> result = statisticsService.getStatistics("admin", true, window);
+
+        // Assert
+        assertEquals(5, result.get("total"));
+        assertNull(result.get("to"));
+        verify(adminStatisticsAggregator, never()).aggregate();
+    }
+
+    private static StatisticCounters fiveApplications() {
+        StatisticCounters counters = new StatisticCounters();
+        counters.add(Metric.TOTAL_APPLICATIONS, 5);
+        counters.add(Metric.REACHED_STATUS, "Applied", 2);
+        counters.add(Metric.REACHED_STATUS, "Interviewing", 1);
+        counters.add(Metric.REACHED_STATUS, "Offered", 1);
+        counters.add(Metric.REACHED_STATUS, "Rejected", 1);
+        counters.add(Metric.CURRENT_STATUS, "Applied", 2);
+        counters.add(Metric.CURRENT_STATUS, "Interviewing", 1);
+        counters.add(Metric.CURRENT_STATUS, "Offered", 1);
+        counters.add(Metric.CURRENT_STATUS, "Rejected", 1);
+        counters.add(Metric.APPLICATION_MONTH, "2024-01", 2);
+        counters.add(Metric.APPLICATION_MONTH, "2024-02", 3);
+        return counters;
+    }
+
+    private static StatisticCounters threeInterviews() {
+        StatisticCounters counters = new StatisticCounters();
+        counters.add(Metric.TOTAL_INTERVIEWS, 3);
+        counters.add(Metric.INTERVIEW_TYPE, "Technical", 1);
+        counters.add(Metric.INTERVIEW_TYPE, "HR", 1);
+        counters.add(Metric.INTERVIEW_TYPE, "Final", 1);
+        counters.add(Metric.INTERVIEW_STATUS, "SCHEDULED", 1);
+        counters.add(Metric.INTERVIEW_STATUS, "COMPLETED", 2);
+        counters.add(Metric.INTERVIEW_MONTH, "2024-01", 1);
+        counters.add(Metric.INTERVIEW_MONTH, "2024-02", 2);
+        counters.add(Metric.APPLICATIONS_WITH_INTERVIEWS, 2);
+        return counters;
+    }
+
+    private void stubInterviewTiming(Long userId) {
+        when(interviewRepository.countByTiming(eq(userId), any(), any(), any(), any()))
+            .thenReturn(rows(new Object[]{0L, 3L, 0L}));
     }
 
-    private Interview createInterview(Long id, String type, LocalDateTime interviewDate, String status, Application application) {
-        Interview interview = new Interview();
-        interview.setId(id);
-        interview.setType(type);
-        interview.setInterviewDate(interviewDate);
-        interview.setStatus(status);
-        interview.setApplication(application);
-        
-        // Add interview to application's interview list
-        application.getInterviews().add(interview);
-        
-        return interview;
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(Arrays.asList(rows));
     }
-} 
\ No newline at end of file
+}
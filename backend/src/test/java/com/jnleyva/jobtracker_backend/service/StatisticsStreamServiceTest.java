@@ -0,0 +1,240 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.exception.TooManyRequestsException;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pushes run on the stream workers, so every test waits for the events it expects with a
+ * timeout instead of asserting right away.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatisticsStreamServiceTest {
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private StatisticsStreamService streamService;
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(streamService, "maxConnectionsPerUser", 2);
+        ReflectionTestUtils.setField(streamService, "heartbeatSeconds", 3600L);
+        ReflectionTestUtils.setField(streamService, "timeoutMinutes", 30L);
+        ReflectionTestUtils.setField(streamService, "workerThreads", 2);
+        ReflectionTestUtils.setField(streamService, "queueCapacity", 100);
+        ReflectionTestUtils.setField(streamService, "adminPushIntervalSeconds", 0L);
+        streamService = spy(streamService);
+        lenient().doAnswer(invocation -> {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        }).when(streamService).createEmitter();
+        streamService.initialize();
+
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+        lenient().when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    void subscribe_ShouldSendFullStatisticsFirst() {
+        when(statisticsService.getStatistics("testuser", false)).thenReturn(statistics(3, 10.0));
+
+        streamService.subscribe("testuser", false);
+
+        RecordingEmitter emitter = emitters.get(0);
+        emitter.awaitEvents(1);
+        assertTrue(emitter.events.get(0).contains("event:statistics\n"));
+        assertEquals(statistics(3, 10.0), emitter.data.get(0));
+        assertEquals(1, streamService.getConnectionCount(1L));
+    }
+
+    @Test
+    void dataChanged_ShouldPushOnlyChangedEntriesToEveryStreamOfTheUser() {
+        when(statisticsService.getStatistics("testuser", false))
+                .thenReturn(statistics(3, 10.0), statistics(3, 10.0), statistics(4, 10.0));
+        streamService.subscribe("testuser", false);
+        streamService.subscribe("testuser", false);
+        emitters.forEach(emitter -> emitter.awaitEvents(1));
+
+        streamService.dataChanged(1L);
+
+        for (RecordingEmitter emitter : emitters) {
+            emitter.awaitEvents(2);
+            assertTrue(emitter.events.get(1).contains("event:delta\n"));
+            assertEquals(Map.of("total", 4), emitter.data.get(1));
+        }
+        // One computation per connection, then one for both pushes
+        verify(statisticsService, times(3)).getStatistics("testuser", false);
+    }
+
+    @Test
+    void dataChanged_ForOtherUser_ShouldNotComputeStatistics() {
+        when(statisticsService.getStatistics("testuser", false)).thenReturn(statistics(3, 10.0));
+        streamService.subscribe("testuser", false);
+        emitters.get(0).awaitEvents(1);
+
+        streamService.dataChanged(2L);
+
+        verify(statisticsService, after(200).times(1)).getStatistics("testuser", false);
+        assertEquals(1, emitters.get(0).events.size());
+    }
+
+    @Test
+    void dataChanged_ShouldPushAdminStreamsForAnyUser() {
+        when(statisticsService.getStatistics("admin", true))
+                .thenReturn(statistics(10, 10.0), statistics(10, 20.0));
+        streamService.subscribe("admin", true);
+        emitters.get(0).awaitEvents(1);
+
+        streamService.dataChanged(2L);
+
+        emitters.get(0).awaitEvents(2);
+        assertEquals(Map.of("successRate", 20.0), emitters.get(0).data.get(1));
+        verify(userRepository, never()).findByUsername(anyString());
+    }
+
+    @Test
+    void dataChanged_ShouldPushAdminStreamsAtMostOncePerInterval() {
+        ReflectionTestUtils.setField(streamService, "adminPushIntervalSeconds", 1L);
+        when(statisticsService.getStatistics("admin", true))
+                .thenReturn(statistics(10, 10.0), statistics(11, 10.0), statistics(13, 10.0));
+        streamService.subscribe("admin", true);
+        emitters.get(0).awaitEvents(1);
+
+        streamService.dataChanged(2L);
+        emitters.get(0).awaitEvents(2);
+        streamService.dataChanged(3L);
+        streamService.dataChanged(4L);
+
+        // The two later writes wait for the interval and are pushed together
+        verify(statisticsService, after(500).times(2)).getStatistics("admin", true);
+        emitters.get(0).awaitEvents(3);
+        assertEquals(Map.of("total", 13), emitters.get(0).data.get(2));
+        verify(statisticsService, times(3)).getStatistics("admin", true);
+    }
+
+    @Test
+    void heartbeats_ShouldNotWaitForSlowComputations() throws Exception {
+        streamService.shutdown();
+        ReflectionTestUtils.setField(streamService, "heartbeatSeconds", 1L);
+        streamService.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        when(statisticsService.getStatistics("testuser", false)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return statistics(3, 10.0);
+        });
+
+        streamService.subscribe("testuser", false);
+
+        // The snapshot is still being computed when the heartbeat is sent
+        RecordingEmitter emitter = emitters.get(0);
+        emitter.awaitEvents(1);
+        assertEquals(":heartbeat\n\n", emitter.events.get(0));
+        release.countDown();
+        emitter.awaitEvents(2);
+        assertTrue(emitter.events.get(1).contains("event:statistics\n"));
+    }
+
+    @Test
+    void subscribe_OverConnectionLimit_ShouldThrowTooManyRequests() {
+        lenient().when(statisticsService.getStatistics("testuser", false)).thenReturn(statistics(3, 10.0));
+        streamService.subscribe("testuser", false);
+        streamService.subscribe("testuser", false);
+
+        assertThrows(TooManyRequestsException.class, () -> streamService.subscribe("testuser", false));
+        assertEquals(2, streamService.getConnectionCount(1L));
+    }
+
+    @Test
+    void subscribe_ShouldLimitTheConnectionsOfEachAdminSeparately() {
+        lenient().when(statisticsService.getStatistics(anyString(), eq(true))).thenReturn(statistics(10, 10.0));
+        streamService.subscribe("admin", true);
+        streamService.subscribe("admin", true);
+
+        assertThrows(TooManyRequestsException.class, () -> streamService.subscribe("admin", true));
+        streamService.subscribe("otheradmin", true);
+        streamService.subscribe("otheradmin", true);
+        assertThrows(TooManyRequestsException.class, () -> streamService.subscribe("otheradmin", true));
+        assertEquals(4, streamService.getConnectionCount(null));
+    }
+
+    private static Map<String, Object> statistics(int total, double successRate) {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("total", total);
+        statistics.put("successRate", successRate);
+        return statistics;
+    }
+
+    /**
+     * Emitter that records what is sent instead of writing to a response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private final List<Object> data = new ArrayList<>();
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            Set<DataWithMediaType> parts = builder.build();
+            StringBuilder text = new StringBuilder();
+            for (DataWithMediaType part : parts) {
+                if (part.getData() instanceof String) {
+                    text.append(part.getData());
+                } else {
+                    data.add(part.getData());
+                }
+            }
+            events.add(text.toString());
+            notifyAll();
+        }
+
+        synchronized void awaitEvents(int count) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                assertTrue(remaining > 0, "Timed out waiting for " + count + " events, got " + events);
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    fail("Interrupted");
+                }
+            }
+        }
+    }
+}
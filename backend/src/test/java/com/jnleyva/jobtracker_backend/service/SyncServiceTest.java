@@ -0,0 +1,168 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.config.TestUsers;
+import com.jnleyva.jobtracker_backend.exception.BadRequestException;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Contact;
+import com.jnleyva.jobtracker_backend.model.InterviewDTO;
+import com.jnleyva.jobtracker_backend.model.SyncResponse;
+import com.jnleyva.jobtracker_backend.model.SyncTombstone;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserDataVersionRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDataVersionRepository versionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private Application acme;
+    private Application globex;
+    private Contact contact;
+
+    @BeforeEach
+    void setUp() {
+        testUser = TestUsers.save(userRepository, "syncuser");
+        User otherUser = TestUsers.save(userRepository, "othersyncuser");
+
+        acme = applicationService.createApplication(new Application("Acme", "Backend Engineer", null, null, null, null,
+                ApplicationStatus.APPLIED, LocalDate.of(2024, 3, 1)), testUser.getId());
+        globex = applicationService.createApplication(new Application("Globex", "Data Scientist", null, null, null, null,
+                ApplicationStatus.APPLIED, LocalDate.of(2024, 3, 2)), testUser.getId());
+        interviewService.createInterview(acme.getId(),
+                new InterviewDTO("Technical", LocalDateTime.of(2024, 3, 10, 14, 0), null));
+        contact = new Contact();
+        contact.setName("Jane Recruiter");
+        contact = contactService.createContact(acme.getId(), contact);
+        applicationService.createApplication(new Application("Hidden", "Not Mine", null, null, null, null,
+                ApplicationStatus.APPLIED, LocalDate.of(2024, 3, 1)), otherUser.getId());
+        entityManager.flush();
+    }
+
+    @Test
+    void changesSince_WithoutToken_ShouldReturnASnapshotOfTheUsersData() {
+        SyncResponse response = syncService.changesSince(testUser.getId(), null);
+
+        assertTrue(response.isReset());
+        assertNotNull(response.getToken());
+        assertEquals(2, response.getApplications().size());
+        assertEquals(1, response.getInterviews().size());
+        assertEquals(acme.getId(), response.getInterviews().get(0).getApplicationId());
+        assertEquals(1, response.getContacts().size());
+        assertEquals(2, response.getStatusHistory().size());
+        assertTrue(response.getDeleted().isEmpty());
+    }
+
+    @Test
+    void changesSince_WithoutWrites_ShouldReturnTheSameTokenAndNoRows() {
+        String token = syncService.changesSince(testUser.getId(), null).getToken();
+
+        SyncResponse response = syncService.changesSince(testUser.getId(), token);
+
+        assertFalse(response.isReset());
+        assertEquals(token, response.getToken());
+        assertTrue(response.getApplications().isEmpty());
+        assertTrue(response.getStatusHistory().isEmpty());
+    }
+
+    @Test
+    void changesSince_ShouldOnlyReturnWhatChangedAfterTheToken() {
+        backdateEverything();
+        String token = syncService.changesSince(testUser.getId(), null).getToken();
+
+        Application changes = new Application("Acme", "Backend Engineer", null, null, null, null,
+                ApplicationStatus.INTERVIEWING, LocalDate.of(2024, 3, 1));
+        applicationService.updateApplication(acme.getId(), changes);
+        contactService.deleteContact(acme.getId(), contact.getId());
+        applicationService.deleteApplication(globex.getId());
+        entityManager.flush();
+        SyncResponse response = syncService.changesSince(testUser.getId(), token);
+
+        assertFalse(response.isReset());
+        assertNotEquals(token, response.getToken());
+        assertEquals(1, response.getApplications().size());
+        assertEquals(ApplicationStatus.INTERVIEWING, response.getApplications().get(0).getStatus());
+        assertTrue(response.getInterviews().isEmpty());
+        assertTrue(response.getContacts().isEmpty());
+        assertEquals(1, response.getStatusHistory().size());
+        assertEquals(ApplicationStatus.INTERVIEWING, response.getStatusHistory().get(0).getRow().getStatus());
+        assertEquals(List.of(SyncTombstone.CONTACT + " " + contact.getId(), SyncTombstone.APPLICATION + " " + globex.getId()),
+                response.getDeleted().stream().map(t -> t.getType() + " " + t.getId()).collect(Collectors.toList()));
+    }
+
+    @Test
+    void changesSince_WithATokenOlderThanTheTombstones_ShouldReturnASnapshot() {
+        long version = versionRepository.findById(testUser.getId()).orElseThrow().getDataVersion();
+        String expired = new SyncService.Token(version - 1, LocalDateTime.now().minusDays(31)).encode();
+
+        SyncResponse response = syncService.changesSince(testUser.getId(), expired);
+
+        assertTrue(response.isReset());
+        assertEquals(2, response.getApplications().size());
+    }
+
+    @Test
+    void changesSince_WithAnInvalidToken_ShouldThrowBadRequest() {
+        Long userId = testUser.getId();
+
+        assertThrows(BadRequestException.class, () -> syncService.changesSince(userId, "not a token"));
+        assertThrows(BadRequestException.class, () -> syncService.changesSince(userId, "MTIz"));
+    }
+
+    /**
+     * Moves every row an hour into the past, so only the writes of the test itself are newer
+     * than the overlap of a delta.
+     */
+    private void backdateEverything() {
+        LocalDateTime hourAgo = LocalDateTime.now().minusHours(1);
+        jdbcTemplate.update("UPDATE applications SET updated_at = ?", hourAgo);
+        jdbcTemplate.update("UPDATE interviews SET updated_at = ?", hourAgo);
+        jdbcTemplate.update("UPDATE contacts SET updated_at = ?", hourAgo);
+        jdbcTemplate.update("UPDATE application_status_history SET changed_at = ?", hourAgo);
+        entityManager.clear();
+    }
+}
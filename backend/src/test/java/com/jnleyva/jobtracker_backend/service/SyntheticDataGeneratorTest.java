@@ -0,0 +1,100 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.service.SyntheticDataGenerator.SyntheticDataset;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class SyntheticDataGeneratorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generate_ShouldLoadConsistentApplicationsHistoryAndInterviews() {
+        SyntheticDataset dataset = generator.generate(7, 600, 30, TODAY);
+
+        assertEquals(20, dataset.getUserIds().size());
+        assertEquals(600, dataset.getApplications());
+        assertEquals(600L, count("SELECT COUNT(*) FROM applications a JOIN users u ON u.user_id = a.user_id WHERE u.username LIKE 'synthetic-7-%'"));
+        assertEquals(dataset.getStatusChanges(), count("SELECT COUNT(*) FROM application_status_history h JOIN applications a ON a.application_id = h.application_id JOIN users u ON u.user_id = a.user_id WHERE u.username LIKE 'synthetic-7-%'"));
+        assertTrue(dataset.getStatusChanges() > 600, "some applications should have moved past Applied");
+        assertTrue(dataset.getInterviews() > 0);
+
+        // Every application starts as Applied on its application date
+        assertEquals(0L, count("SELECT COUNT(*) FROM applications a WHERE NOT EXISTS (SELECT 1 FROM application_status_history h "
+                + "WHERE h.application_id = a.application_id AND h.status = 'A' AND CAST(h.changed_at AS DATE) = a.application_date)"));
+        // The current status is the last one in the history
+        assertEquals(0L, count("SELECT COUNT(*) FROM applications a JOIN application_status_history h ON h.application_id = a.application_id "
+                + "WHERE h.changed_at = (SELECT MAX(h2.changed_at) FROM application_status_history h2 WHERE h2.application_id = a.application_id) "
+                + "AND h.status <> a.status"));
+        // Only applications that reached the interview stage have interviews
+        assertEquals(0L, count("SELECT COUNT(*) FROM interviews i WHERE NOT EXISTS (SELECT 1 FROM application_status_history h "
+                + "WHERE h.application_id = i.application_id AND h.status = 'I')"));
+        // Nothing happens after the reference date except scheduled interviews
+        assertEquals(0L, count("SELECT COUNT(*) FROM application_status_history WHERE changed_at >= '2025-06-01 00:00:00'"));
+        assertEquals(0L, count("SELECT COUNT(*) FROM interviews WHERE interview_date >= '2025-06-01 00:00:00' AND status <> 'SCHEDULED'"));
+    }
+
+    @Test
+    void generate_WithSameSeed_ShouldProduceSameRows() {
+        generator.generate(11, 200, 50, TODAY);
+        List<Map<String, Object>> first = fingerprint();
+
+        String applications = "SELECT a.application_id FROM applications a JOIN users u ON u.user_id = a.user_id "
+                + "WHERE u.username LIKE 'synthetic-11-%'";
+        jdbcTemplate.update("DELETE FROM interviews WHERE application_id IN (" + applications + ")");
+        jdbcTemplate.update("DELETE FROM application_status_history WHERE application_id IN (" + applications + ")");
+        jdbcTemplate.update("DELETE FROM applications WHERE application_id IN (" + applications + ")");
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE 'synthetic-11-%'");
+        generator.generate(11, 200, 50, TODAY);
+
+        assertEquals(first, fingerprint());
+    }
+
+    @Test
+    void generate_ShouldSkewApplicationsTowardsFewUsers() {
+        SyntheticDataset dataset = generator.generate(13, 1000, 50, TODAY);
+
+        // A uniform split would give every user 50 applications
+        assertTrue(dataset.getHeaviestApplicationCount() > 100,
+                "heaviest user has only " + dataset.getHeaviestApplicationCount() + " applications");
+        Map<String, Object> statistics = statisticsService.getStatistics(dataset.getHeaviestUsername(), false);
+        assertEquals(dataset.getHeaviestApplicationCount(), ((Number) statistics.get("total")).intValue());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private List<Map<String, Object>> fingerprint() {
+        return jdbcTemplate.queryForList("SELECT u.username, a.company, a.job_title, a.status, a.application_date, "
+                + "(SELECT COUNT(*) FROM application_status_history h WHERE h.application_id = a.application_id) AS changes, "
+                + "(SELECT COUNT(*) FROM interviews i WHERE i.application_id = a.application_id) AS interviews "
+                + "FROM applications a JOIN users u ON u.user_id = a.user_id WHERE u.username LIKE 'synthetic-11-%' "
+                + "ORDER BY u.username, a.application_id");
+    }
+}
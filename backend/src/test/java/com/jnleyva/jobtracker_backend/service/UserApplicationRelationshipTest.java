@@ -2,6 +2,7 @@ package com.jnleyva.jobtracker_backend.service;
 
 import com.jnleyva.jobtracker_backend.config.TestConfig;
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
 import com.jnleyva.jobtracker_backend.model.User;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import com.jnleyva.jobtracker_backend.repository.UserRepository;
@@ -50,7 +51,7 @@ class UserApplicationRelationshipTest {
         Application application = new Application();
         application.setCompany("Relationship Company");
         application.setJobTitle("Developer");
-        application.setStatus("Applied");
+        application.setStatus(ApplicationStatus.APPLIED);
         application.setApplicationDate(LocalDate.now());
 
         // Add application using service (which should handle the bidirectional relationship)
@@ -84,14 +85,14 @@ class UserApplicationRelationshipTest {
         Application app1 = new Application();
         app1.setCompany("Cascade Company 1");
         app1.setJobTitle("Developer");
-        app1.setStatus("Applied");
+        app1.setStatus(ApplicationStatus.APPLIED);
         app1.setApplicationDate(LocalDate.now());
         app1 = applicationService.createApplication(app1, user.getId());
 
         Application app2 = new Application();
         app2.setCompany("Cascade Company 2");
         app2.setJobTitle("Senior Developer");
-        app2.setStatus("Interview");
+        app2.setStatus(ApplicationStatus.INTERVIEWING);
         app2.setApplicationDate(LocalDate.now());
         app2 = applicationService.createApplication(app2, user.getId());
 
@@ -99,7 +100,7 @@ class UserApplicationRelationshipTest {
         Application updateDetails = new Application();
         updateDetails.setCompany("Updated Cascade Company");
         updateDetails.setJobTitle("Updated Job Title");
-        updateDetails.setStatus("Offer");
+        updateDetails.setStatus(ApplicationStatus.OFFERED);
         updateDetails.setApplicationDate(LocalDate.now().plusDays(7));
         
         applicationService.updateApplication(app1.getId(), updateDetails);
@@ -108,7 +109,7 @@ class UserApplicationRelationshipTest {
         Application updatedApp = applicationService.getApplicationById(app1.getId());
         assertEquals("Updated Cascade Company", updatedApp.getCompany());
         assertEquals("Updated Job Title", updatedApp.getJobTitle());
-        assertEquals("Offer", updatedApp.getStatus());
+        assertEquals(ApplicationStatus.OFFERED, updatedApp.getStatus());
 
         // Verify relationship is still intact
         assertEquals(user.getId(), updatedApp.getUser().getId());
@@ -133,7 +134,7 @@ class UserApplicationRelationshipTest {
         Application app1 = new Application();
         app1.setCompany("Delete Company 1");
         app1.setJobTitle("Developer");
-        app1.setStatus("Applied");
+        app1.setStatus(ApplicationStatus.APPLIED);
         app1.setApplicationDate(LocalDate.now());
         app1 = applicationService.createApplication(app1, user.getId());
         Long app1Id = app1.getId();
@@ -141,7 +142,7 @@ class UserApplicationRelationshipTest {
         Application app2 = new Application();
         app2.setCompany("Delete Company 2");
         app2.setJobTitle("Senior Developer");
-        app2.setStatus("Interview");
+        app2.setStatus(ApplicationStatus.INTERVIEWING);
         app2.setApplicationDate(LocalDate.now());
         app2 = applicationService.createApplication(app2, user.getId());
         Long app2Id = app2.getId();
@@ -181,7 +182,7 @@ class UserApplicationRelationshipTest {
         Application application = new Application();
         application.setCompany("Test Company");
         application.setJobTitle("Developer");
-        application.setStatus("Applied");
+        application.setStatus(ApplicationStatus.APPLIED);
         application.setApplicationDate(LocalDate.now());
         
         // Set up the bidirectional relationship manually
@@ -2,6 +2,7 @@ package com.jnleyva.jobtracker_backend.service;
 
 import com.jnleyva.jobtracker_backend.config.TestConfig;
 import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
 import com.jnleyva.jobtracker_backend.model.User;
 import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
 import org.junit.jupiter.api.Test;
@@ -43,7 +44,7 @@ class UserServiceCascadeDeleteTest {
         Application application = new Application();
         application.setCompany("Test Company");
         application.setJobTitle("Test Position");
-        application.setStatus("Applied");
+        application.setStatus(ApplicationStatus.APPLIED);
         application.setApplicationDate(LocalDate.now());
         application.setUser(user);
         
@@ -0,0 +1,223 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.model.UserStatistic;
+import com.jnleyva.jobtracker_backend.model.UserStatistic.Metric;
+import com.jnleyva.jobtracker_backend.repository.ApplicationRepository;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import com.jnleyva.jobtracker_backend.repository.UserStatisticRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the counters maintained by the service layer always match a recomputation
+ * from the source tables.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class UserStatisticsProjectionTest {
+
+    @Autowired
+    private UserStatisticsProjection statisticsProjection;
+
+    @Autowired
+    private UserStatisticRepository statisticRepository;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("projectionuser");
+        testUser.setPassword("Password123!");
+        testUser.setEmail("projection@example.com");
+        testUser.setRole("ROLE_USER");
+        testUser = userRepository.save(testUser);
+    }
+
+    @Test
+    void serviceWrites_ShouldKeepProjectionEqualToSourceTables() {
+        Application first = applicationService.createApplication(newApplication("Company A", ApplicationStatus.APPLIED, 2024, 1), testUser.getId());
+        Application second = applicationService.createApplication(newApplication("Company B", ApplicationStatus.APPLIED, 2024, 2), testUser.getId());
+        Application third = applicationService.createApplication(newApplication("Company C", ApplicationStatus.APPLIED, 2024, 2), testUser.getId());
+        newRequest();
+
+        applicationService.updateApplication(first.getId(), newApplication("Company A", ApplicationStatus.INTERVIEWING, 2024, 1));
+        applicationService.updateApplication(second.getId(), newApplication("Company B", ApplicationStatus.REJECTED, 2024, 3));
+        applicationService.updateApplication(second.getId(), newApplication("Company B", ApplicationStatus.APPLIED, 2024, 3));
+        newRequest();
+
+        Interview phone = interviewService.createInterview(first.getId(), newInterview("Phone Screen", 2024, 2));
+        Interview technical = interviewService.createInterview(first.getId(), newInterview("Technical", 2024, 3));
+        Interview onsite = interviewService.createInterview(third.getId(), newInterview("Onsite", 2024, 4));
+        newRequest();
+
+        interviewService.completeInterview(first.getId(), phone.getId(), "Went well");
+        interviewService.rescheduleInterview(first.getId(), technical.getId(), LocalDateTime.of(2024, 5, 2, 10, 0), "Conflict");
+        interviewService.cancelInterview(third.getId(), onsite.getId(), "Position filled");
+        newRequest();
+
+        assertProjectionMatchesSource();
+
+        interviewService.deleteInterview(third.getId(), onsite.getId());
+        applicationService.deleteApplication(first.getId());
+        newRequest();
+
+        assertProjectionMatchesSource();
+        StatisticCounters counters = statisticsProjection.getCounters(testUser.getId());
+        assertEquals(2, counters.get(Metric.TOTAL_APPLICATIONS));
+        assertEquals(0, counters.get(Metric.TOTAL_INTERVIEWS));
+        assertEquals(0, counters.get(Metric.APPLICATIONS_WITH_INTERVIEWS));
+        assertEquals(1, counters.get(Metric.REACHED_STATUS, "Rejected"));
+        assertEquals(1, counters.get(Metric.RESPONDED_APPLICATIONS));
+    }
+
+    @Test
+    void interviewDeletion_ShouldOnlyDecrementApplicationsWithInterviewsForTheLastOne() {
+        Application application = applicationService.createApplication(newApplication("Company A", ApplicationStatus.INTERVIEWING, 2024, 1), testUser.getId());
+        Interview first = interviewService.createInterview(application.getId(), newInterview("HR", 2024, 2));
+        Interview second = interviewService.createInterview(application.getId(), newInterview("Technical", 2024, 2));
+        newRequest();
+
+        assertEquals(1, statisticsProjection.getCounters(testUser.getId()).get(Metric.APPLICATIONS_WITH_INTERVIEWS));
+
+        interviewService.deleteInterview(application.getId(), first.getId());
+        assertEquals(1, statisticsProjection.getCounters(testUser.getId()).get(Metric.APPLICATIONS_WITH_INTERVIEWS));
+
+        interviewService.deleteInterview(application.getId(), second.getId());
+        assertEquals(0, statisticsProjection.getCounters(testUser.getId()).get(Metric.APPLICATIONS_WITH_INTERVIEWS));
+        assertProjectionMatchesSource();
+    }
+
+    @Test
+    void getCounters_WithoutProjectionRows_ShouldBuildFromSourceTables() {
+        // Given: data written without going through the service layer
+        Application legacy = newApplication("Legacy Co", ApplicationStatus.OFFERED, 2023, 11);
+        legacy.setUser(testUser);
+        applicationRepository.save(legacy);
+        assertFalse(statisticRepository.existsByUserId(testUser.getId()));
+
+        // When
+        StatisticCounters counters = statisticsProjection.getCounters(testUser.getId());
+
+        // Then
+        assertEquals(1, counters.get(Metric.TOTAL_APPLICATIONS));
+        assertEquals(1, counters.get(Metric.REACHED_STATUS, "Offered"));
+        assertEquals(1, counters.get(Metric.APPLICATION_MONTH, "2023-11"));
+        assertTrue(statisticRepository.existsByUserId(testUser.getId()));
+    }
+
+    @Test
+    void getCounters_ForUserWithoutData_ShouldStoreZeroCounters() {
+        StatisticCounters counters = statisticsProjection.getCounters(testUser.getId());
+
+        assertEquals(0, counters.get(Metric.TOTAL_APPLICATIONS));
+        assertTrue(statisticRepository.existsByUserId(testUser.getId()));
+    }
+
+    @Test
+    void rebuild_ShouldRepairDriftedCounters() {
+        applicationService.createApplication(newApplication("Company A", ApplicationStatus.APPLIED, 2024, 1), testUser.getId());
+        statisticRepository.save(new UserStatistic(testUser.getId(), Metric.CURRENT_STATUS, "Offered", 42));
+        newRequest();
+
+        statisticsProjection.rebuild(testUser.getId());
+        newRequest();
+
+        assertEquals(0, statisticsProjection.getCounters(testUser.getId()).get(Metric.CURRENT_STATUS, "Offered"));
+        assertProjectionMatchesSource();
+    }
+
+    @Test
+    void serviceWrites_ShouldEvictCachedStatistics() {
+        assertEquals(0, statisticsService.getStatistics("projectionuser", false).get("total"));
+
+        Application application = applicationService.createApplication(newApplication("Company A", ApplicationStatus.APPLIED, 2024, 1), testUser.getId());
+        assertEquals(1, statisticsService.getStatistics("projectionuser", false).get("total"));
+
+        interviewService.createInterview(application.getId(), newInterview("HR", 2024, 2));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> interviewStats = (Map<String, Object>) statisticsService
+                .getStatistics("projectionuser", false).get("interviewStats");
+        assertEquals(1, interviewStats.get("totalInterviews"));
+    }
+
+    private void assertProjectionMatchesSource() {
+        newRequest();
+        assertEquals(nonZero(statisticsProjection.computeFromSource(testUser.getId())),
+                     nonZero(statisticsProjection.getCounters(testUser.getId())));
+    }
+
+    private static Map<Metric, Map<String, Long>> nonZero(StatisticCounters counters) {
+        Map<Metric, Map<String, Long>> values = new EnumMap<>(Metric.class);
+        counters.forEach((metric, bucket, value) -> {
+            if (value != 0) {
+                values.computeIfAbsent(metric, m -> new HashMap<>()).put(bucket, value);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Flushes and clears the persistence context, as between two HTTP requests.
+     */
+    private void newRequest() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Application newApplication(String company, ApplicationStatus status, int year, int month) {
+        Application app = new Application();
+        app.setCompany(company);
+        app.setJobTitle("Software Developer");
+        app.setStatus(status);
+        app.setApplicationDate(LocalDate.of(year, month, 10));
+        return app;
+    }
+
+    private Interview newInterview(String type, int year, int month) {
+        Interview interview = new Interview();
+        interview.setType(type);
+        interview.setInterviewDate(LocalDateTime.of(year, month, 15, 9, 0));
+        return interview;
+    }
+}
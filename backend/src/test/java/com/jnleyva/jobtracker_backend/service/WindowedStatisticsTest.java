@@ -0,0 +1,147 @@
+package com.jnleyva.jobtracker_backend.service;
+
+import com.jnleyva.jobtracker_backend.config.TestConfig;
+import com.jnleyva.jobtracker_backend.model.Application;
+import com.jnleyva.jobtracker_backend.model.ApplicationStatus;
+import com.jnleyva.jobtracker_backend.model.Interview;
+import com.jnleyva.jobtracker_backend.model.User;
+import com.jnleyva.jobtracker_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the date-range filters and the day/week/month bucket queries against a real database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestConfig.class)
+class WindowedStatisticsTest {
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setUsername("windowuser");
+        testUser.setPassword("Password123!");
+        testUser.setEmail("window@example.com");
+        testUser.setRole("ROLE_USER");
+        testUser = userRepository.save(testUser);
+
+        // Monday 2024-01-01 and Wednesday 2024-01-03 share an ISO week; 2024-01-08 starts the next one
+        Application first = createApplication("Company A", ApplicationStatus.INTERVIEWING, LocalDate.of(2024, 1, 1));
+        createApplication("Company B", ApplicationStatus.APPLIED, LocalDate.of(2024, 1, 3));
+        createApplication("Company C", ApplicationStatus.OFFERED, LocalDate.of(2024, 1, 8));
+        createApplication("Company D", ApplicationStatus.REJECTED, LocalDate.of(2024, 2, 20));
+        createApplication("Company E", ApplicationStatus.APPLIED, LocalDate.of(2023, 12, 31));
+
+        createInterview(first, LocalDateTime.of(2024, 1, 10, 9, 0));
+        createInterview(first, LocalDateTime.of(2024, 1, 11, 23, 30));
+        createInterview(first, LocalDateTime.of(2024, 3, 1, 9, 0));
+    }
+
+    @Test
+    void getStatistics_WithWindow_ShouldOnlyCountApplicationsAndInterviewsInRange() {
+        StatisticsWindow window = new StatisticsWindow(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), StatisticsWindow.Bucket.WEEK);
+
+        Map<String, Object> stats = statisticsService.getStatistics("windowuser", false, window);
+
+        assertEquals(3, stats.get("total"));
+        assertEquals(Map.of("Jan 2024", 3), stats.get("byMonth"));
+        assertEquals(Map.of("2024-01-01", 2, "2024-01-08", 1), stats.get("byPeriod"));
+        assertEquals(1, byStatus(stats, "currentStatusDistribution").get("Offered"));
+        assertEquals(0, byStatus(stats, "currentStatusDistribution").get("Rejected"));
+
+        Map<String, Object> interviewStats = interviewStats(stats);
+        assertEquals(2, interviewStats.get("totalInterviews"));
+        assertEquals(2, interviewStats.get("past"));
+        assertEquals(Map.of("2024-01-08", 2), interviewStats.get("byPeriod"));
+    }
+
+    @Test
+    void getStatistics_WithDayBucket_ShouldIncludeWholeLastDay() {
+        StatisticsWindow window = new StatisticsWindow(
+                LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 11), StatisticsWindow.Bucket.DAY);
+
+        Map<String, Object> stats = statisticsService.getStatistics("windowuser", false, window);
+
+        assertEquals(Map.of("2024-01-08", 1), stats.get("byPeriod"));
+        assertEquals(Map.of("2024-01-10", 1, "2024-01-11", 1), interviewStats(stats).get("byPeriod"));
+    }
+
+    @Test
+    void getStatistics_WithOpenEndedWindow_ShouldCountEverythingFromStartDate() {
+        StatisticsWindow window = new StatisticsWindow(LocalDate.of(2024, 2, 1), null, StatisticsWindow.Bucket.MONTH);
+
+        Map<String, Object> stats = statisticsService.getStatistics("windowuser", false, window);
+
+        assertEquals(1, stats.get("total"));
+        assertEquals(Map.of("2024-02-01", 1), stats.get("byPeriod"));
+        assertEquals(Map.of("2024-03-01", 1), interviewStats(stats).get("byPeriod"));
+    }
+
+    @Test
+    void getStatistics_AllTimeWithWeekBucket_ShouldKeepTotalsAndRebucket() {
+        Map<String, Object> monthly = statisticsService.getStatistics("windowuser", false);
+        Map<String, Object> weekly = statisticsService.getStatistics("windowuser", false,
+                new StatisticsWindow(null, null, StatisticsWindow.Bucket.WEEK));
+
+        assertEquals(5, monthly.get("total"));
+        assertEquals(5, weekly.get("total"));
+        assertEquals(Map.of("2023-12-01", 1, "2024-01-01", 3, "2024-02-01", 1), monthly.get("byPeriod"));
+        assertEquals(Map.of("2023-12-25", 1, "2024-01-01", 2, "2024-01-08", 1, "2024-02-19", 1), weekly.get("byPeriod"));
+        assertEquals("month", monthly.get("bucket"));
+        assertEquals("week", weekly.get("bucket"));
+    }
+
+    private Application createApplication(String company, ApplicationStatus status, LocalDate applicationDate) {
+        Application app = new Application();
+        app.setCompany(company);
+        app.setJobTitle("Software Developer");
+        app.setStatus(status);
+        app.setApplicationDate(applicationDate);
+        return applicationService.createApplication(app, testUser.getId());
+    }
+
+    private void createInterview(Application application, LocalDateTime interviewDate) {
+        Interview interview = new Interview();
+        interview.setType("Technical");
+        interview.setInterviewDate(interviewDate);
+        interviewService.createInterview(application.getId(), interview);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Integer> byStatus(Map<String, Object> stats, String key) {
+        return (Map<String, Integer>) stats.get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> interviewStats(Map<String, Object> stats) {
+        return (Map<String, Object>) stats.get("interviewStats");
+    }
+}
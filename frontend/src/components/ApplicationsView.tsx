@@ -55,7 +55,7 @@ function ApplicationsView({ applications, onApplicationsChange, isLoading, error
           app.company,
           app.jobTitle,
           app.location,
-          app.description
+          app.descriptionPreview ?? app.description
         ].join(' ').toLowerCase();
         
         if (!searchableText.includes(query)) {
@@ -171,7 +171,7 @@ function ApplicationsView({ applications, onApplicationsChange, isLoading, error
           app.company,
           app.jobTitle,
           app.location,
-          app.description
+          app.descriptionPreview ?? app.description
         ].join(' ').toLowerCase();
         
         if (!searchableText.includes(query)) {
@@ -230,7 +230,7 @@ function ApplicationsView({ applications, onApplicationsChange, isLoading, error
             </div>
             
             <div className="text-sm text-light-text-secondary dark:text-dark-text-secondary">
-              <p className="mb-2 line-clamp-2">{application.description}</p>
+              <p className="mb-2 line-clamp-2">{application.descriptionPreview ?? application.description}</p>
               <div className="flex flex-wrap gap-4">
                 <span>Applied: {new Date(application.applicationDate + 'T00:00:00').toLocaleDateString()}</span>
                 <span>Compensation: ${application.compensation.toLocaleString()}</span>
@@ -288,7 +288,7 @@ function ApplicationsView({ applications, onApplicationsChange, isLoading, error
           
           <div className="mt-4 pt-4 border-t border-light-border dark:border-dark-border">
             <p className="text-sm text-light-text-secondary dark:text-dark-text-secondary line-clamp-2 mb-2">
-              {application.description}
+              {application.descriptionPreview ?? application.description}
             </p>
             <button
               className="text-primary hover:text-primary/80 text-sm font-medium"
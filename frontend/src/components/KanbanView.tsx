@@ -1,4 +1,4 @@
-import React, { useState } from 'react';
+import React, { useEffect, useRef, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import {
   DndContext,
@@ -17,7 +17,7 @@ import {
   verticalListSortingStrategy
 } from '@dnd-kit/sortable';
 import { CSS } from '@dnd-kit/utilities';
-import { JobApplication, applicationService } from '../services/applicationService';
+import { BatchOperation, JobApplication, applicationService } from '../services/applicationService';
 
 interface KanbanViewProps {
   applications: JobApplication[];
@@ -89,7 +89,7 @@ function ApplicationCard({ application, onClick, onJobLinkClick }: ApplicationCa
       
       <div className="mt-3 pt-3 border-t border-light-border dark:border-dark-border">
         <p className="text-xs text-light-text-secondary dark:text-dark-text-secondary line-clamp-2 mb-2">
-          {application.description}
+          {application.descriptionPreview ?? application.description}
         </p>
         <button
           className="text-primary hover:text-primary/80 text-xs font-medium"
@@ -193,11 +193,57 @@ function getColumnBorderColors(status: JobApplication['status']) {
   }
 }
 
+// Status changes made in quick succession are sent together, in one batch request
+const STATUS_BATCH_DELAY_MS = 400;
+
 function KanbanView({ applications, onApplicationsChange, isLoading, error }: KanbanViewProps) {
   const navigate = useNavigate();
   const [activeApplication, setActiveApplication] = useState<JobApplication | null>(null);
   const [isUpdating, setIsUpdating] = useState(false);
 
+  // Moves not sent yet, by application id, with the status to restore if the batch fails
+  const pendingMoves = useRef(new Map<string, { status: JobApplication['status']; previous: JobApplication['status'] }>());
+  const flushTimer = useRef<ReturnType<typeof setTimeout> | null>(null);
+  const latestApplications = useRef(applications);
+  latestApplications.current = applications;
+  const latestOnChange = useRef(onApplicationsChange);
+  latestOnChange.current = onApplicationsChange;
+
+  const flushMoves = async () => {
+    flushTimer.current = null;
+    const moves = Array.from(pendingMoves.current.entries());
+    pendingMoves.current.clear();
+    if (moves.length === 0) return;
+
+    const operations: BatchOperation[] = moves.map(([id, move]) => ({
+      op: 'patch',
+      resource: 'application',
+      id,
+      body: { status: move.status },
+    }));
+    setIsUpdating(true);
+    try {
+      await applicationService.executeBatch(operations);
+    } catch (error) {
+      console.error('Failed to update application statuses:', error);
+      // The batch is all or nothing, so every card goes back to where it was
+      const previous = new Map(moves.map(([id, move]) => [id, move.previous]));
+      latestOnChange.current(latestApplications.current.map(app =>
+        previous.has(app.id) ? { ...app, status: previous.get(app.id)! } : app
+      ));
+    } finally {
+      setIsUpdating(false);
+    }
+  };
+
+  // Moves still waiting when the board goes away are sent right away
+  useEffect(() => () => {
+    if (flushTimer.current) {
+      clearTimeout(flushTimer.current);
+      flushMoves();
+    }
+  }, []);
+
   const sensors = useSensors(
     useSensor(PointerSensor, {
       activationConstraint: {
@@ -248,22 +294,23 @@ function KanbanView({ applications, onApplicationsChange, isLoading, error }: Ka
 
     // Only update if status actually changed
     if (newStatus && newStatus !== activeApplication.status) {
-      setIsUpdating(true);
-      try {
-        const updatedApplication = { ...activeApplication, status: newStatus };
-        await applicationService.updateApplication(activeApplication.id, updatedApplication);
-        
-        // Update local state
-        const updatedApplications = applications.map(app =>
-          app.id === activeApplication.id ? updatedApplication : app
-        );
-        onApplicationsChange(updatedApplications);
-      } catch (error) {
-        console.error('Failed to update application status:', error);
-        // You might want to show a toast notification here
-      } finally {
-        setIsUpdating(false);
+      // The card moves right away; only the status is sent, together with the other moves
+      // made before the batch goes out
+      const pending = pendingMoves.current.get(activeId);
+      const previous = pending ? pending.previous : activeApplication.status;
+      if (newStatus === previous) {
+        pendingMoves.current.delete(activeId);
+      } else {
+        pendingMoves.current.set(activeId, { status: newStatus, previous });
+      }
+      onApplicationsChange(applications.map(app =>
+        app.id === activeId ? { ...app, status: newStatus! } : app
+      ));
+
+      if (flushTimer.current) {
+        clearTimeout(flushTimer.current);
       }
+      flushTimer.current = setTimeout(flushMoves, STATUS_BATCH_DELAY_MS);
     }
   };
 
@@ -232,24 +232,26 @@ describe('InterviewService', () => {
       await expect(interviewService.getAllUserInterviews()).rejects.toThrow('No authentication token found');
     });
 
-    it('should successfully fetch all user interviews', async () => {
+    it('should fetch the interviews of all applications in one request', async () => {
       const { authService } = await import('../authService');
       vi.mocked(authService.getToken).mockReturnValue(mockToken);
 
-      // Force override handlers to mock both endpoints needed
+      const requests: string[] = [];
       server.resetHandlers(
-        http.get('http://localhost:8080/api/applications', () => HttpResponse.json([
-          { id: '123', company: 'Test Company' },
-          { id: '456', company: 'Another Company' }
-        ])),
-        http.get('http://localhost:8080/api/applications/123/interviews', () => HttpResponse.json([mockInterviews[0]])),
-        http.get('http://localhost:8080/api/applications/456/interviews', () => HttpResponse.json([mockInterviews[1]]))
+        http.get('http://localhost:8080/api/interviews', ({ request }) => {
+          requests.push(request.url);
+          return HttpResponse.json(mockInterviews.map(interview => ({
+            ...interview,
+            applicationId: Number(interview.applicationId)
+          })));
+        })
       );
 
       const { interviewService } = await import('../interviewService');
       const result = await interviewService.getAllUserInterviews();
 
       expect(result).toEqual(mockInterviews);
+      expect(requests).toEqual(['http://localhost:8080/api/interviews']);
     });
 
     it('should handle API errors when fetching all user interviews', async () => {
@@ -257,12 +259,50 @@ describe('InterviewService', () => {
       vi.mocked(authService.getToken).mockReturnValue(mockToken);
 
       server.use(
-        http.get('http://localhost:8080/api/applications', () => HttpResponse.json({ error: 'Internal Server Error' }, { status: 500 }))
+        http.get('http://localhost:8080/api/interviews', () => HttpResponse.json({ error: 'Internal Server Error' }, { status: 500 }))
       );
 
       const { interviewService } = await import('../interviewService');
 
-      await expect(interviewService.getAllUserInterviews()).rejects.toThrow('Failed to fetch applications: 500');
+      await expect(interviewService.getAllUserInterviews()).rejects.toThrow('Failed to fetch interviews: 500');
+    });
+  });
+
+  describe('getInterviewsInRange', () => {
+    it('should fetch the interviews of all applications in one request', async () => {
+      const { authService } = await import('../authService');
+      vi.mocked(authService.getToken).mockReturnValue(mockToken);
+
+      const calendarInterviews = [
+        { id: 1, applicationId: 123, company: 'Test Company', jobTitle: 'Engineer', type: 'Technical', interviewDate: '2024-03-15T09:00:00' }
+      ];
+      server.use(
+        http.get('http://localhost:8080/api/interviews', ({ request }) => {
+          const url = new URL(request.url);
+          if (url.searchParams.get('from') !== '2024-03-01' || url.searchParams.get('to') !== '2024-03-31') {
+            return HttpResponse.json({ error: 'Bad Request' }, { status: 400 });
+          }
+          return HttpResponse.json(calendarInterviews);
+        })
+      );
+
+      const { interviewService } = await import('../interviewService');
+      const result = await interviewService.getInterviewsInRange('2024-03-01', '2024-03-31');
+
+      expect(result).toEqual(calendarInterviews);
+    });
+
+    it('should handle API errors when fetching interviews in a range', async () => {
+      const { authService } = await import('../authService');
+      vi.mocked(authService.getToken).mockReturnValue(mockToken);
+
+      server.use(
+        http.get('http://localhost:8080/api/interviews', () => HttpResponse.json({ error: 'Bad Request' }, { status: 400 }))
+      );
+
+      const { interviewService } = await import('../interviewService');
+
+      await expect(interviewService.getInterviewsInRange('2024-03-31', '2024-03-01')).rejects.toThrow('Failed to fetch interviews: 400');
     });
   });
 
@@ -512,7 +552,7 @@ describe('InterviewService', () => {
       server.use(
         http.get('http://localhost:8080/api/interview-options/types', () => HttpResponse.error()),
         http.get('http://localhost:8080/api/interview-options/statuses', () => HttpResponse.error()),
-        http.get('http://localhost:8080/api/applications', () => HttpResponse.error())
+        http.get('http://localhost:8080/api/interviews', () => HttpResponse.error())
       );
 
       const { interviewService } = await import('../interviewService');
@@ -8,11 +8,40 @@ export interface JobApplication {
   applicationDate: string;
   location: string;
   url: string;
-  description: string;
+  // Only returned for a single application; lists carry the first 200 characters as descriptionPreview
+  description?: string;
+  descriptionPreview?: string;
   compensation: number;
   experienceLevel?: string;
 }
 
+export interface BatchOperation {
+  op: 'create' | 'update' | 'patch' | 'delete';
+  resource: 'application' | 'interview' | 'contact';
+  // Required to update or delete; interviews and contacts also need their applicationId
+  id?: string | number;
+  applicationId?: string | number;
+  body?: object;
+}
+
+export interface BatchResponse {
+  committed: boolean;
+  results: { index: number; status: number; id?: number; body?: unknown; error?: string }[];
+}
+
+export interface SyncResponse {
+  // Send back as `since` on the next sync; unchanged when nothing was written
+  token: string;
+  // True for a full snapshot that replaces the local copy
+  reset: boolean;
+  // Empty lists are left out; upsert the rows by id, then drop the deleted ones
+  applications?: JobApplication[];
+  interviews?: ({ applicationId: number } & Record<string, unknown>)[];
+  contacts?: ({ applicationId: number } & Record<string, unknown>)[];
+  statusHistory?: ({ applicationId: number } & Record<string, unknown>)[];
+  deleted?: { type: 'application' | 'interview' | 'contact'; id: number; applicationId: number; deletedAt: string }[];
+}
+
 class ApplicationService {
   private apiUrl = import.meta.env.VITE_API_URL;
 
@@ -108,6 +137,31 @@ class ApplicationService {
     return response.json();
   }
 
+  // Changes only the given fields (JSON Merge Patch); null clears a field
+  async patchApplication(id: string, changes: Partial<Omit<JobApplication, 'id'>>): Promise<JobApplication> {
+    const token = authService.getToken();
+    if (!token) {
+      throw new Error('No authentication token found');
+    }
+
+    const response = await fetch(`${this.apiUrl}/applications/${id}`, {
+      method: 'PATCH',
+      headers: {
+        'Authorization': `Bearer ${token}`,
+        'Content-Type': 'application/merge-patch+json',
+      },
+      body: JSON.stringify(changes),
+    });
+
+    if (!response.ok) {
+      const errorText = await response.text();
+      console.error('Failed to patch application:', response.status, errorText);
+      throw new Error(`Failed to patch application: ${response.status}`);
+    }
+
+    return response.json();
+  }
+
   async deleteApplication(id: string): Promise<void> {
     const token = authService.getToken();
     if (!token) {
@@ -128,6 +182,56 @@ class ApplicationService {
       throw new Error(`Failed to delete application: ${response.status}`);
     }
   }
+
+  // Runs several changes in one request and one transaction; nothing is stored if one fails
+  async executeBatch(operations: BatchOperation[]): Promise<BatchResponse> {
+    const token = authService.getToken();
+    if (!token) {
+      throw new Error('No authentication token found');
+    }
+
+    const response = await fetch(`${this.apiUrl}/batch`, {
+      method: 'POST',
+      headers: {
+        'Authorization': `Bearer ${token}`,
+        'Content-Type': 'application/json',
+      },
+      body: JSON.stringify({ operations }),
+    });
+
+    if (!response.ok) {
+      // The body lists the results up to the operation that failed
+      const errorText = await response.text();
+      console.error('Batch was rolled back:', response.status, errorText);
+      throw new Error(`Failed to run batch: ${response.status}`);
+    }
+
+    return response.json();
+  }
+
+  // Returns what changed since the token of the previous sync, or everything without one
+  async sync(since?: string): Promise<SyncResponse> {
+    const token = authService.getToken();
+    if (!token) {
+      throw new Error('No authentication token found');
+    }
+
+    const query = since ? `?since=${encodeURIComponent(since)}` : '';
+    const response = await fetch(`${this.apiUrl}/sync${query}`, {
+      headers: {
+        'Authorization': `Bearer ${token}`,
+        'Content-Type': 'application/json',
+      },
+    });
+
+    if (!response.ok) {
+      const errorText = await response.text();
+      console.error('Failed to sync:', response.status, errorText);
+      throw new Error(`Failed to sync: ${response.status}`);
+    }
+
+    return response.json();
+  }
 }
 
 export const applicationService = new ApplicationService(); 
\ No newline at end of file
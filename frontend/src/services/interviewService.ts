@@ -19,6 +19,21 @@ interface Interview {
   };
 }
 
+interface CalendarInterview {
+  id: number;
+  applicationId: number;
+  company: string;
+  jobTitle: string;
+  type: string;
+  interviewDate: string;
+  durationMinutes?: number;
+  status?: string;
+  location?: string;
+  meetingLink?: string;
+  interviewerName?: string;
+  updatedAt?: string;
+}
+
 interface InterviewType {
   value: string;
   label: string;
@@ -273,47 +288,45 @@ class InterviewService {
     return response.json();
   }
 
+  /**
+   * Interviews of all of the user's applications dated between from and to (inclusive, yyyy-MM-dd),
+   * read with a single request.
+   */
+  async getInterviewsInRange(from: string, to: string): Promise<CalendarInterview[]> {
+    return this.fetchCalendarInterviews(`?${new URLSearchParams({ from, to })}`);
+  }
+
+  /**
+   * All interviews of all of the user's applications, read with a single request.
+   */
   async getAllUserInterviews(): Promise<Array<Interview & { applicationId: string }>> {
+    const interviews = await this.fetchCalendarInterviews('');
+    return interviews.map(interview => ({
+      ...interview,
+      applicationId: String(interview.applicationId)
+    }));
+  }
+
+  private async fetchCalendarInterviews(query: string): Promise<CalendarInterview[]> {
     const token = authService.getToken();
     if (!token) {
       throw new Error('No authentication token found');
     }
 
-    // First, get all applications for the user
-    const applicationsResponse = await fetch(`${this.apiUrl}/applications`, {
+    const response = await fetch(`${this.apiUrl}/interviews${query}`, {
       headers: {
         'Authorization': `Bearer ${token}`,
         'Content-Type': 'application/json',
       },
     });
 
-    if (!applicationsResponse.ok) {
-      const errorText = await applicationsResponse.text();
-      console.error('Failed to fetch applications:', applicationsResponse.status, errorText);
-      throw new Error(`Failed to fetch applications: ${applicationsResponse.status}`);
-    }
-
-    const applications = await applicationsResponse.json();
-    
-    // Then, fetch interviews for each application
-    const allInterviews: Array<Interview & { applicationId: string }> = [];
-    
-    for (const application of applications) {
-      try {
-        const interviews = await this.getInterviewsByApplicationId(application.id);
-        // Add applicationId to each interview for reference
-        const interviewsWithAppId = interviews.map(interview => ({
-          ...interview,
-          applicationId: application.id
-        }));
-        allInterviews.push(...interviewsWithAppId);
-      } catch (error) {
-        // Continue if an application doesn't have interviews or there's an error
-        console.warn(`Failed to fetch interviews for application ${application.id}:`, error);
-      }
+    if (!response.ok) {
+      const errorText = await response.text();
+      console.error('Failed to fetch interviews:', response.status, errorText);
+      throw new Error(`Failed to fetch interviews: ${response.status}`);
     }
 
-    return allInterviews;
+    return response.json();
   }
 
   async deleteInterview(applicationId: string, interviewId: string): Promise<void> {
@@ -339,4 +352,4 @@ class InterviewService {
 }
 
 export const interviewService = new InterviewService();
-export type { Interview, InterviewType, InterviewStatus, RescheduleRequest }; 
\ No newline at end of file
+export type { Interview, CalendarInterview, InterviewType, InterviewStatus, RescheduleRequest }; 
\ No newline at end of file